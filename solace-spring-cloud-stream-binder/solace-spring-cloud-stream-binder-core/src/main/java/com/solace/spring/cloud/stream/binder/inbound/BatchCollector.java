@@ -2,6 +2,7 @@ package com.solace.spring.cloud.stream.binder.inbound;
 
 import com.solace.spring.cloud.stream.binder.properties.SolaceConsumerProperties;
 import com.solace.spring.cloud.stream.binder.util.MessageContainer;
+import com.solacesystems.jcsmp.BytesXMLMessage;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -10,22 +11,30 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Collector which batches message.
  * Message batches can be retrieved from this collector only when batching requirements have been met.
+ * <p>If a batch target latency is configured, the maximum number of messages per batch is adapted after each
+ * delivered batch based on how long it took to process.</p>
  */
 public class BatchCollector {
 	private final SolaceConsumerProperties consumerProperties;
 	private final List<MessageContainer> batchedMessages;
 	private long timeSentLastBatch = System.currentTimeMillis();
 	private UUID currentFlowReceiverReferenceId;
+	private long batchedBytes = 0;
+	private int effectiveBatchMaxSize;
+	private boolean batchCollected = false;
+	private long batchCollectedNanos;
 
 	private static final Log logger = LogFactory.getLog(BatchCollector.class);
 
 	public BatchCollector(SolaceConsumerProperties consumerProperties) {
 		this.consumerProperties = consumerProperties;
 		this.batchedMessages = new ArrayList<>(consumerProperties.getBatchMaxSize());
+		this.effectiveBatchMaxSize = consumerProperties.getBatchMaxSize();
 	}
 
 	/**
@@ -38,6 +47,9 @@ public class BatchCollector {
 		}
 
 		batchedMessages.add(messageContainer);
+		if (consumerProperties.getBatchMaxBytes() > 0) {
+			batchedBytes += getSize(messageContainer);
+		}
 		UUID flowReceiverReferenceId = messageContainer.getFlowReceiverReferenceId();
 		if (currentFlowReceiverReferenceId != null && !currentFlowReceiverReferenceId.equals(flowReceiverReferenceId)) {
 			if (logger.isTraceEnabled()) {
@@ -59,22 +71,33 @@ public class BatchCollector {
 	}
 
 	public boolean isBatchAvailableInternal() {
-		if (batchedMessages.size() < consumerProperties.getBatchMaxSize()) {
-			long batchTimeDiff = System.currentTimeMillis() - timeSentLastBatch;
-			if (consumerProperties.getBatchTimeout() == 0 || batchTimeDiff < consumerProperties.getBatchTimeout()) {
-				if (logger.isTraceEnabled()) {
-					logger.trace(String.format("Collecting batch... Size: %s, Time since last batch: %s ms",
-							batchedMessages.size(), batchTimeDiff));
-				}
-				return false;
-			} else if (logger.isTraceEnabled()) {
-				logger.trace(String.format(
-						"Batch timeout reached <time since last batch: %s ms>, processing batch of %s messages...",
-						batchTimeDiff, batchedMessages.size()));
+		if (batchedMessages.size() >= effectiveBatchMaxSize) {
+			if (logger.isTraceEnabled()) {
+				logger.trace(String.format("Max batch size reached, processing batch of %s messages...",
+						batchedMessages.size()));
+			}
+			return true;
+		}
+
+		if (consumerProperties.getBatchMaxBytes() > 0 && batchedBytes >= consumerProperties.getBatchMaxBytes()) {
+			if (logger.isTraceEnabled()) {
+				logger.trace(String.format("Max batch bytes reached, processing batch of %s messages <%s bytes>...",
+						batchedMessages.size(), batchedBytes));
 			}
+			return true;
+		}
+
+		long batchTimeDiff = System.currentTimeMillis() - timeSentLastBatch;
+		if (consumerProperties.getBatchTimeout() == 0 || batchTimeDiff < consumerProperties.getBatchTimeout()) {
+			if (logger.isTraceEnabled()) {
+				logger.trace(String.format("Collecting batch... Size: %s, Bytes: %s, Time since last batch: %s ms",
+						batchedMessages.size(), batchedBytes, batchTimeDiff));
+			}
+			return false;
 		} else if (logger.isTraceEnabled()) {
-			logger.trace(String.format("Max batch size reached, processing batch of %s messages...",
-					batchedMessages.size()));
+			logger.trace(String.format(
+					"Batch timeout reached <time since last batch: %s ms>, processing batch of %s messages...",
+					batchTimeDiff, batchedMessages.size()));
 		}
 		return true;
 	}
@@ -85,10 +108,15 @@ public class BatchCollector {
 	 * @return a non-empty batch of messages if available.
 	 */
 	public Optional<List<MessageContainer>> collectBatchIfAvailable() {
-		return isBatchAvailable() ? Optional.of(batchedMessages)
+		Optional<List<MessageContainer>> batch = isBatchAvailable() ? Optional.of(batchedMessages)
 				.filter(b -> !b.isEmpty())
 				.map(Collections::unmodifiableList) :
 				Optional.empty();
+		if (batch.isPresent() && !batchCollected) {
+			batchCollected = true;
+			batchCollectedNanos = System.nanoTime();
+		}
+		return batch;
 	}
 
 	/**
@@ -104,8 +132,22 @@ public class BatchCollector {
 	 * Callback to invoke when batch of messages have been processed.
 	 */
 	public void confirmDelivery() {
+		if (batchCollected && consumerProperties.getBatchTargetLatency() > 0 && !batchedMessages.isEmpty()) {
+			adaptBatchMaxSize(batchedMessages.size(), System.nanoTime() - batchCollectedNanos);
+		}
+		batchCollected = false;
 		resetLastSentTime();
 		batchedMessages.clear();
+		batchedBytes = 0;
+	}
+
+	/**
+	 * Get the current maximum number of messages per batch. This is the configured {@code batchMaxSize} unless
+	 * adaptive batch sizing is enabled.
+	 * @return the maximum number of messages per batch
+	 */
+	public int getEffectiveBatchMaxSize() {
+		return effectiveBatchMaxSize;
 	}
 
 	/**
@@ -115,6 +157,9 @@ public class BatchCollector {
 	private boolean pruneStaleMessages() {
 		int prePrunedBatchSize = batchedMessages.size();
 		boolean pruned = batchedMessages.removeIf(MessageContainer::isStale);
+		if (pruned && consumerProperties.getBatchMaxBytes() > 0) {
+			batchedBytes = batchedMessages.stream().mapToLong(BatchCollector::getSize).sum();
+		}
 		if (logger.isTraceEnabled()) {
 			logger.trace(String.format("Finished pruning stale messages from undelivered batch. Size: %s -> %s",
 					prePrunedBatchSize, batchedMessages.size()));
@@ -128,4 +173,23 @@ public class BatchCollector {
 			logger.trace("Timestamp of last batch sent was reset");
 		}
 	}
+
+	private void adaptBatchMaxSize(int batchSize, long processingNanos) {
+		double nanosPerMessage = Math.max((double) processingNanos / batchSize, 1);
+		double targetSize = TimeUnit.MILLISECONDS.toNanos(consumerProperties.getBatchTargetLatency()) /
+				nanosPerMessage;
+		// Only move halfway towards the target so that a single outlier batch doesn't swing the size
+		double nextSize = (effectiveBatchMaxSize + Math.min(targetSize, consumerProperties.getBatchMaxSize())) / 2;
+		int previousSize = effectiveBatchMaxSize;
+		effectiveBatchMaxSize = (int) Math.max(1, Math.min(Math.round(nextSize), consumerProperties.getBatchMaxSize()));
+		if (logger.isTraceEnabled() && previousSize != effectiveBatchMaxSize) {
+			logger.trace(String.format("Batch of %s messages was processed in %s ms, adapted max batch size %s -> %s",
+					batchSize, TimeUnit.NANOSECONDS.toMillis(processingNanos), previousSize, effectiveBatchMaxSize));
+		}
+	}
+
+	private static long getSize(MessageContainer messageContainer) {
+		BytesXMLMessage message = messageContainer.getMessage();
+		return (long) message.getContentLength() + message.getAttachmentContentLength();
+	}
 }
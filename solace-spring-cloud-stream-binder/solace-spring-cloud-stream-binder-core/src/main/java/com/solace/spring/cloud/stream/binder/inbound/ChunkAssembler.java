@@ -0,0 +1,351 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import com.solace.spring.cloud.stream.binder.messaging.SolaceBinderHeaders;
+import com.solace.spring.cloud.stream.binder.properties.SolaceConsumerProperties;
+import com.solace.spring.cloud.stream.binder.util.MessageContainer;
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.SDTException;
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.XMLMessage;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Reassembles chunked messages, i.e. messages whose payload was split into multiple fragments by the publisher
+ * (see {@link SolaceBinderHeaders#CHUNK_ID}).</p>
+ * <p>The fragments of a chunked message must be received in order by the same flow. e.g. from an exclusive queue.
+ * Fragments which are received out of order are rejected along with the other fragments of their message.</p>
+ * <p>Runs on a listener's chunk worker rather than its receiving thread, so that writing fragments to temporary
+ * files never holds up the flow.</p>
+ * <p>The reassembled payload is a {@code byte[]} if it's at most {@code chunkReassemblyMaxInMemorySize} bytes.
+ * Otherwise, fragments are written to a temporary file as they are received, and the reassembled payload is an
+ * {@link InputStream} which deletes the file once closed.</p>
+ * <p>Not thread-safe.</p>
+ */
+class ChunkAssembler {
+	private final long maxInMemorySize;
+	private final long timeoutNanos;
+	private final Consumer<List<MessageContainer>> discardHandler;
+	private final Map<String, PartialMessage> partialMessages = new LinkedHashMap<>();
+
+	private static final Log logger = LogFactory.getLog(ChunkAssembler.class);
+
+	/**
+	 * @param consumerProperties the consumer properties
+	 * @param discardHandler rejects the non-stale fragments of a message which cannot be reassembled
+	 */
+	ChunkAssembler(SolaceConsumerProperties consumerProperties, Consumer<List<MessageContainer>> discardHandler) {
+		// A byte[] payload can't be larger than this
+		this.maxInMemorySize = Math.min(consumerProperties.getChunkReassemblyMaxInMemorySize(),
+				Integer.MAX_VALUE - 8);
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(consumerProperties.getChunkReassemblyTimeout());
+		this.discardHandler = discardHandler;
+	}
+
+	static boolean isChunk(XMLMessage xmlMessage) {
+		SDTMap metadata = xmlMessage.getProperties();
+		return metadata != null && metadata.containsKey(SolaceBinderHeaders.CHUNK_ID);
+	}
+
+	/**
+	 * Add a received fragment.
+	 * @param messageContainer a fragment of a chunked message
+	 * @return the reassembled message if this was its last fragment, {@code null} otherwise
+	 */
+	@Nullable
+	ChunkedMessage add(MessageContainer messageContainer) {
+		discardExpired();
+
+		BytesXMLMessage xmlMessage = messageContainer.getMessage();
+		String chunkId;
+		Integer chunkIndex;
+		Integer chunkCount;
+		try {
+			SDTMap metadata = xmlMessage.getProperties();
+			chunkId = metadata.getString(SolaceBinderHeaders.CHUNK_ID);
+			chunkIndex = metadata.getInteger(SolaceBinderHeaders.CHUNK_INDEX);
+			chunkCount = metadata.getInteger(SolaceBinderHeaders.CHUNK_COUNT);
+		} catch (SDTException e) {
+			logger.warn(String.format("Failed to read the chunk properties of XMLMessage %s, it will be rejected",
+					xmlMessage.getMessageId()), e);
+			discard(Collections.singletonList(messageContainer));
+			return null;
+		}
+
+		if (chunkId == null || chunkIndex == null || chunkCount == null || chunkIndex < 0 ||
+				chunkIndex >= chunkCount) {
+			logger.warn(String.format("XMLMessage %s has invalid chunk properties <chunk ID: %s, index: %s, " +
+					"count: %s>, it will be rejected", xmlMessage.getMessageId(), chunkId, chunkIndex, chunkCount));
+			discard(Collections.singletonList(messageContainer));
+			return null;
+		}
+
+		PartialMessage partialMessage = partialMessages.get(chunkId);
+		if (partialMessage != null && (chunkIndex == 0 || partialMessage.isStale())) {
+			// Redelivered from the start, e.g. after the flow was rebound
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Restarting reassembly of chunked message %s", chunkId));
+			}
+			discard(partialMessages.remove(chunkId));
+			partialMessage = null;
+		}
+
+		if (partialMessage == null) {
+			if (chunkIndex != 0) {
+				logger.warn(String.format("Received chunk %s of chunked message %s without its preceding chunks, " +
+						"XMLMessage %s will be rejected", chunkIndex, chunkId, xmlMessage.getMessageId()));
+				discard(Collections.singletonList(messageContainer));
+				return null;
+			}
+			partialMessage = new PartialMessage(chunkId, chunkCount);
+			partialMessages.put(chunkId, partialMessage);
+		} else if (chunkIndex != partialMessage.getNextIndex() || chunkCount != partialMessage.chunkCount) {
+			logger.warn(String.format("Received chunk %s of %s of chunked message %s, but expected chunk %s of %s. " +
+							"Its %s received chunks will be rejected", chunkIndex, chunkCount, chunkId,
+					partialMessage.getNextIndex(), partialMessage.chunkCount, partialMessage.getNextIndex() + 1));
+			partialMessages.remove(chunkId);
+			partialMessage.messageContainers.add(messageContainer);
+			discard(partialMessage);
+			return null;
+		}
+
+		try {
+			partialMessage.append(messageContainer, maxInMemorySize);
+		} catch (IOException e) {
+			logger.warn(String.format("Failed to write chunk %s of chunked message %s to %s, its received chunks " +
+					"will be rejected", chunkIndex, chunkId, partialMessage.file), e);
+			partialMessages.remove(chunkId);
+			discard(partialMessage);
+			return null;
+		}
+
+		if (partialMessage.getNextIndex() < chunkCount) {
+			return null;
+		}
+
+		partialMessages.remove(chunkId);
+		try {
+			return partialMessage.complete();
+		} catch (IOException e) {
+			logger.warn(String.format("Failed to reassemble chunked message %s, its chunks will be rejected",
+					chunkId), e);
+			discard(partialMessage);
+			return null;
+		}
+	}
+
+	/**
+	 * Drop all partially reassembled messages without acknowledging their fragments, e.g. because the flow was
+	 * unbound and they will be redelivered.
+	 */
+	void clear() {
+		partialMessages.values().forEach(PartialMessage::deleteFile);
+		partialMessages.clear();
+	}
+
+	int getNumPartialMessages() {
+		return partialMessages.size();
+	}
+
+	/**
+	 * Reject the fragments of the partially reassembled messages which timed out waiting for their next fragment.
+	 */
+	void discardExpired() {
+		if (timeoutNanos <= 0 || partialMessages.isEmpty()) {
+			return;
+		}
+
+		long now = System.nanoTime();
+		Iterator<PartialMessage> iterator = partialMessages.values().iterator();
+		while (iterator.hasNext()) {
+			PartialMessage partialMessage = iterator.next();
+			if (now - partialMessage.lastReceivedNanos >= timeoutNanos) {
+				logger.warn(String.format("Timed out waiting for chunk %s of %s of chunked message %s, its " +
+								"received chunks will be rejected", partialMessage.getNextIndex(),
+						partialMessage.chunkCount, partialMessage.chunkId));
+				iterator.remove();
+				discard(partialMessage);
+			}
+		}
+	}
+
+	private void discard(PartialMessage partialMessage) {
+		partialMessage.deleteFile();
+		discard(partialMessage.messageContainers);
+	}
+
+	private void discard(List<MessageContainer> messageContainers) {
+		List<MessageContainer> nonStale = messageContainers.stream()
+				.filter(m -> !m.isStale())
+				.collect(Collectors.toList());
+		if (!nonStale.isEmpty()) {
+			discardHandler.accept(nonStale);
+		}
+	}
+
+	/**
+	 * A reassembled chunked message.
+	 */
+	static final class ChunkedMessage {
+		private final List<MessageContainer> messageContainers;
+		private final Object payload;
+
+		private ChunkedMessage(List<MessageContainer> messageContainers, Object payload) {
+			this.messageContainers = messageContainers;
+			this.payload = payload;
+		}
+
+		/**
+		 * @return the fragments in order
+		 */
+		List<MessageContainer> getMessageContainers() {
+			return messageContainers;
+		}
+
+		/**
+		 * @return the reassembled payload, either a {@code byte[]} or an {@link InputStream}
+		 */
+		Object getPayload() {
+			return payload;
+		}
+
+		/**
+		 * Release the temporary file backing the payload, if any.
+		 */
+		void close() {
+			if (payload instanceof InputStream) {
+				try {
+					((InputStream) payload).close();
+				} catch (IOException e) {
+					logger.warn("Failed to close reassembled payload", e);
+				}
+			}
+		}
+	}
+
+	private static final class PartialMessage {
+		private final String chunkId;
+		private final int chunkCount;
+		private final List<MessageContainer> messageContainers = new ArrayList<>();
+		private long size = 0;
+		private long lastReceivedNanos = System.nanoTime();
+		@Nullable private Path file;
+		@Nullable private FileChannel fileChannel;
+
+		private PartialMessage(String chunkId, int chunkCount) {
+			this.chunkId = chunkId;
+			this.chunkCount = chunkCount;
+		}
+
+		private int getNextIndex() {
+			return messageContainers.size();
+		}
+
+		private boolean isStale() {
+			return messageContainers.stream().anyMatch(MessageContainer::isStale);
+		}
+
+		private void append(MessageContainer messageContainer, long maxInMemorySize) throws IOException {
+			messageContainers.add(messageContainer);
+			lastReceivedNanos = System.nanoTime();
+			size += messageContainer.getMessage().getAttachmentContentLength();
+			if (fileChannel != null) {
+				write(messageContainer);
+			} else if (size > maxInMemorySize) {
+				file = Files.createTempFile("solace-chunked-", ".tmp");
+				fileChannel = FileChannel.open(file, StandardOpenOption.WRITE);
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Chunked message %s exceeds %s bytes, reassembling it in %s",
+							chunkId, maxInMemorySize, file));
+				}
+				for (MessageContainer received : messageContainers) {
+					write(received);
+				}
+			}
+		}
+
+		private void write(MessageContainer messageContainer) throws IOException {
+			ByteBuffer data = messageContainer.getMessage().getAttachmentByteBuffer();
+			if (data != null) {
+				data = data.duplicate();
+				while (data.hasRemaining()) {
+					fileChannel.write(data);
+				}
+			}
+		}
+
+		private ChunkedMessage complete() throws IOException {
+			if (fileChannel != null) {
+				fileChannel.close();
+				return new ChunkedMessage(messageContainers, new TempFileInputStream(file));
+			}
+
+			byte[] payload = new byte[(int) size];
+			int offset = 0;
+			for (MessageContainer messageContainer : messageContainers) {
+				ByteBuffer data = messageContainer.getMessage().getAttachmentByteBuffer();
+				if (data != null) {
+					data = data.duplicate();
+					int length = data.remaining();
+					data.get(payload, offset, length);
+					offset += length;
+				}
+			}
+			return new ChunkedMessage(messageContainers, payload);
+		}
+
+		private void deleteFile() {
+			if (file == null) {
+				return;
+			}
+			try {
+				if (fileChannel != null) {
+					fileChannel.close();
+				}
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				logger.warn(String.format("Failed to delete %s", file), e);
+			}
+		}
+	}
+
+	/**
+	 * An input stream which deletes the file that it reads from once closed.
+	 */
+	private static final class TempFileInputStream extends FilterInputStream {
+		private final Path file;
+
+		private TempFileInputStream(Path file) throws IOException {
+			super(Files.newInputStream(file));
+			this.file = file;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Decides when a consumer binding should add or remove a consumer flow based on how busy its processing threads
+ * are.</p>
+ * <p>To avoid flapping, the load must cross a threshold for several consecutive samples before a decision is made
+ * (scaling down needs more samples than scaling up), and no decision is made within the cooldown of the previous
+ * one.</p>
+ * <p><b>Note:</b> This class is not thread-safe.</p>
+ */
+class ConcurrencyAutoscaler {
+	static final int SCALE_UP_SAMPLES = 2;
+	static final int SCALE_DOWN_SAMPLES = 3;
+
+	private final int minConcurrency;
+	private final int maxConcurrency;
+	private final double upThreshold;
+	private final double downThreshold;
+	private final long cooldownNanos;
+	private int numHighSamples = 0;
+	private int numLowSamples = 0;
+	private Long lastScaledNanos = null;
+
+	private static final Log logger = LogFactory.getLog(ConcurrencyAutoscaler.class);
+
+	ConcurrencyAutoscaler(int minConcurrency, int maxConcurrency, double upThreshold, double downThreshold,
+						  long cooldownInMillis) {
+		if (minConcurrency < 1 || maxConcurrency < minConcurrency) {
+			throw new IllegalArgumentException(String.format(
+					"Expected 0 < min concurrency <= max concurrency, but was min %s and max %s",
+					minConcurrency, maxConcurrency));
+		}
+		if (downThreshold >= upThreshold) {
+			throw new IllegalArgumentException(String.format(
+					"Scale-down threshold %s must be less than scale-up threshold %s", downThreshold, upThreshold));
+		}
+		this.minConcurrency = minConcurrency;
+		this.maxConcurrency = maxConcurrency;
+		this.upThreshold = upThreshold;
+		this.downThreshold = downThreshold;
+		this.cooldownNanos = TimeUnit.MILLISECONDS.toNanos(cooldownInMillis);
+	}
+
+	/**
+	 * Sample the load and decide whether to scale.
+	 * @param busyRatio the ratio of time the processing threads were busy since the last sample
+	 * @param concurrency the current number of consumer flows
+	 * @param nowNanos the current {@link System#nanoTime()}
+	 * @return the scaling decision
+	 */
+	Decision sample(double busyRatio, int concurrency, long nowNanos) {
+		if (busyRatio >= upThreshold) {
+			numHighSamples++;
+			numLowSamples = 0;
+		} else if (busyRatio <= downThreshold) {
+			numLowSamples++;
+			numHighSamples = 0;
+		} else {
+			numHighSamples = 0;
+			numLowSamples = 0;
+		}
+
+		if (logger.isTraceEnabled()) {
+			logger.trace(String.format("Sampled busy ratio %.3f for concurrency %s <high samples: %s, low samples: %s>",
+					busyRatio, concurrency, numHighSamples, numLowSamples));
+		}
+
+		if (lastScaledNanos != null && nowNanos - lastScaledNanos < cooldownNanos) {
+			return Decision.NONE;
+		}
+
+		Decision decision;
+		if (numHighSamples >= SCALE_UP_SAMPLES && concurrency < maxConcurrency) {
+			decision = Decision.SCALE_UP;
+		} else if (numLowSamples >= SCALE_DOWN_SAMPLES && concurrency > minConcurrency) {
+			decision = Decision.SCALE_DOWN;
+		} else {
+			return Decision.NONE;
+		}
+
+		numHighSamples = 0;
+		numLowSamples = 0;
+		lastScaledNanos = nowNanos;
+		return decision;
+	}
+
+	enum Decision {
+		SCALE_UP,
+		SCALE_DOWN,
+		NONE
+	}
+}
@@ -0,0 +1,82 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>Runs a consumer task (a listener or one of its dispatch workers) and tracks its thread so that it can be
+ * interrupted without needing to own the executor it runs on.</p>
+ * <p>The executor's threads may be reused by unrelated tasks, so the thread is only ever interrupted while it is
+ * running this worker's task.</p>
+ */
+class ConsumerWorker implements Runnable {
+	private final Runnable task;
+	@Nullable private final Runnable onAbandon;
+	private final CountDownLatch terminated = new CountDownLatch(1);
+	private final AtomicBoolean claimed = new AtomicBoolean(false);
+	private final Object threadLock = new Object();
+	@Nullable private Thread thread; // Guarded by threadLock
+
+	/**
+	 * @param task the consumer task
+	 * @param onAbandon run instead of the task if this worker is abandoned before it starts
+	 */
+	ConsumerWorker(Runnable task, @Nullable Runnable onAbandon) {
+		this.task = task;
+		this.onAbandon = onAbandon;
+	}
+
+	@Override
+	public void run() {
+		if (!claimed.compareAndSet(false, true)) {
+			return; // Abandoned before this worker got a thread
+		}
+
+		synchronized (threadLock) {
+			thread = Thread.currentThread();
+		}
+		try {
+			task.run();
+		} finally {
+			synchronized (threadLock) {
+				thread = null;
+				// Don't leak an interrupt which arrived as the task was returning to the thread's next task
+				Thread.interrupted();
+			}
+			terminated.countDown();
+		}
+	}
+
+	/**
+	 * Abandon this worker if it hasn't started running yet. An abandoned worker is considered terminated.
+	 */
+	void abandonIfNotStarted() {
+		if (claimed.compareAndSet(false, true)) {
+			try {
+				if (onAbandon != null) {
+					onAbandon.run();
+				}
+			} finally {
+				terminated.countDown();
+			}
+		}
+	}
+
+	/**
+	 * Interrupt this worker's thread if it is currently running this worker's task.
+	 */
+	void interrupt() {
+		synchronized (threadLock) {
+			if (thread != null) {
+				thread.interrupt();
+			}
+		}
+	}
+
+	boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return terminated.await(timeout, unit);
+	}
+}
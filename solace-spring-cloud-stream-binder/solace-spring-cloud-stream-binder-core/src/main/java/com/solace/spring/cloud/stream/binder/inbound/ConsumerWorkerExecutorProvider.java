@@ -0,0 +1,97 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import com.solace.spring.cloud.stream.binder.properties.SolaceConsumerProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * <p>Selects the executor on which a consumer binding's workers run, and owns the executors which are shared by
+ * the bindings of a binder.</p>
+ * <p>The shared pool is bounded. Since each consumer worker occupies a thread for as long as its binding is
+ * running, a queued worker might never run. Workers are therefore rejected once all of the pool's threads are
+ * busy, rather than being queued.</p>
+ */
+public class ConsumerWorkerExecutorProvider {
+	private final int sharedPoolSize;
+	private final Function<String, Executor> beanResolver;
+	@Nullable private ThreadPoolExecutor sharedExecutor;
+	@Nullable private ExecutorService virtualExecutor;
+
+	/**
+	 * @param sharedPoolSize the maximum number of threads of the shared pool
+	 * @param beanResolver resolves an executor bean by name
+	 */
+	public ConsumerWorkerExecutorProvider(int sharedPoolSize, Function<String, Executor> beanResolver) {
+		if (sharedPoolSize < 1) {
+			throw new IllegalArgumentException(String.format("Shared pool size must be > 0, was %s",
+					sharedPoolSize));
+		}
+		this.sharedPoolSize = sharedPoolSize;
+		this.beanResolver = beanResolver;
+	}
+
+	/**
+	 * Get the executor on which a consumer binding's workers should run.
+	 * @param properties the consumer properties
+	 * @return the executor, or {@code null} if the consumer should create its own dedicated thread pool.
+	 */
+	@Nullable
+	public synchronized Executor getExecutor(SolaceConsumerProperties properties) {
+		if (StringUtils.hasText(properties.getWorkerExecutorBeanName())) {
+			return beanResolver.apply(properties.getWorkerExecutorBeanName());
+		}
+
+		switch (properties.getWorkerExecutorType()) {
+			case SHARED:
+				if (sharedExecutor == null) {
+					sharedExecutor = new ThreadPoolExecutor(0, sharedPoolSize, 60, TimeUnit.SECONDS,
+							new SynchronousQueue<>(), new CustomizableThreadFactory("solace-scst-consumer-"));
+				}
+				return sharedExecutor;
+			case VIRTUAL:
+				if (virtualExecutor == null) {
+					virtualExecutor = createVirtualThreadPerTaskExecutor();
+				}
+				return virtualExecutor;
+			case DEDICATED:
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Shut down the executors created by this provider. Executor beans aren't shut down.
+	 */
+	public synchronized void shutdownNow() {
+		if (sharedExecutor != null) {
+			sharedExecutor.shutdownNow();
+			sharedExecutor = null;
+		}
+		if (virtualExecutor != null) {
+			virtualExecutor.shutdownNow();
+			virtualExecutor = null;
+		}
+	}
+
+	private static ExecutorService createVirtualThreadPerTaskExecutor() {
+		// Looked up reflectively since this binder is still built for Java 8
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(String.format(
+					"Consumer worker executor type %s requires Java 21 or later, but running on Java %s",
+					SolaceConsumerProperties.WorkerExecutorType.VIRTUAL, System.getProperty("java.version")), e);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Failed to create virtual thread executor", e);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>Bounded ring buffer which hands off received messages from a single receiving thread to the processing
+ * workers.</p>
+ * <p>Unlike a regular blocking queue, the producer never blocks on a full buffer. It is instead expected to apply
+ * backpressure upstream and then wait with {@link #awaitDrained(long, TimeUnit)} until the buffer has drained to
+ * its low watermark (half its capacity) before continuing, so that upstream isn't toggled on every consumed
+ * element. A producer which must not block can instead poll {@link #isDrained()}.</p>
+ * @param <E> the element type
+ */
+class DispatchRingBuffer<E> {
+	private final Object[] elements;
+	private final int lowWatermark;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition drained = lock.newCondition();
+	private int head = 0; // next index to poll
+	private int tail = 0; // next index to offer
+	private int count = 0;
+
+	DispatchRingBuffer(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException(String.format("Capacity must be > 0, was %s", capacity));
+		}
+		this.elements = new Object[capacity];
+		this.lowWatermark = capacity / 2;
+	}
+
+	/**
+	 * Add the element if there is space available.
+	 * @param element the element
+	 * @return true if the element was added, false if the buffer is full.
+	 */
+	boolean offer(E element) {
+		lock.lock();
+		try {
+			if (count == elements.length) {
+				return false;
+			}
+			elements[tail] = element;
+			tail = (tail + 1) % elements.length;
+			count++;
+			notEmpty.signal();
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieve and remove the oldest element, waiting if necessary for one to become available.
+	 * @param timeout the maximum wait time
+	 * @param unit the timeout unit
+	 * @return the oldest element, or {@code null} if timed out.
+	 * @throws InterruptedException if the wait was interrupted
+	 */
+	@Nullable
+	E poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			while (count == 0) {
+				if (nanos <= 0) {
+					return null;
+				}
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+			@SuppressWarnings("unchecked")
+			E element = (E) elements[head];
+			elements[head] = null;
+			head = (head + 1) % elements.length;
+			count--;
+			if (count == lowWatermark) {
+				drained.signalAll();
+			}
+			return element;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Wait until the buffer has drained to its low watermark.
+	 * @param timeout the maximum wait time
+	 * @param unit the timeout unit
+	 * @return true if the buffer has drained. False if timed out.
+	 * @throws InterruptedException if the wait was interrupted
+	 */
+	boolean awaitDrained(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			while (count > lowWatermark) {
+				if (nanos <= 0) {
+					return false;
+				}
+				nanos = drained.awaitNanos(nanos);
+			}
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return true if the buffer has drained to its low watermark
+	 * @see #awaitDrained(long, TimeUnit)
+	 */
+	boolean isDrained() {
+		lock.lock();
+		try {
+			return count <= lowWatermark;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int size() {
+		lock.lock();
+		try {
+			return count;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int getCapacity() {
+		return elements.length;
+	}
+}
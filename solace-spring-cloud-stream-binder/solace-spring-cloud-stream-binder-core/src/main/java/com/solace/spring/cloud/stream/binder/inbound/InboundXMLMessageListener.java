@@ -11,6 +11,7 @@ import com.solace.spring.cloud.stream.binder.util.SolaceMessageHeaderErrorMessag
 import com.solace.spring.cloud.stream.binder.util.SolaceStaleMessageException;
 import com.solace.spring.cloud.stream.binder.util.UnboundFlowReceiverContainerException;
 import com.solace.spring.cloud.stream.binder.util.XMLMessageMapper;
+import com.solace.spring.cloud.stream.binder.util.XMLMessageMappingOptions;
 import com.solacesystems.jcsmp.BytesXMLMessage;
 import com.solacesystems.jcsmp.ClosedFacilityException;
 import com.solacesystems.jcsmp.JCSMPException;
@@ -23,20 +24,31 @@ import org.springframework.cloud.stream.binder.ExtendedConsumerProperties;
 import org.springframework.cloud.stream.binder.RequeueCurrentMessageException;
 import org.springframework.cloud.stream.provisioning.ConsumerDestination;
 import org.springframework.core.AttributeAccessor;
+import org.springframework.expression.ExpressionException;
 import org.springframework.integration.StaticMessageHeaderAccessor;
 import org.springframework.integration.acks.AckUtils;
 import org.springframework.integration.acks.AcknowledgmentCallback;
 import org.springframework.integration.support.ErrorMessageUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 abstract class InboundXMLMessageListener implements Runnable {
 	final FlowReceiverContainer flowReceiverContainer;
@@ -44,7 +56,10 @@ abstract class InboundXMLMessageListener implements Runnable {
 	private final ExtendedConsumerProperties<SolaceConsumerProperties> consumerProperties;
 	final ThreadLocal<AttributeAccessor> attributesHolder;
 	private final BatchCollector batchCollector;
+	@Nullable private ChunkAssembler chunkAssembler; // Only used by the chunk worker
 	private final XMLMessageMapper xmlMessageMapper;
+	private final XMLMessageMappingOptions mappingOptions;
+	private final XMLMessageMappingOptions chunkMappingOptions;
 	private final Consumer<Message<?>> messageConsumer;
 	private final JCSMPAcknowledgementCallbackFactory ackCallbackFactory;
 	@Nullable private final SolaceMeterAccessor solaceMeterAccessor;
@@ -52,6 +67,14 @@ abstract class InboundXMLMessageListener implements Runnable {
 	private final boolean needAttributes;
 	private final AtomicBoolean stopFlag = new AtomicBoolean(false);
 	private final Supplier<Boolean> remoteStopFlag;
+	@Nullable private List<DispatchRingBuffer<MessageContainer>> dispatchLanes;
+	@Nullable private OrderingKeyResolver orderingKeyResolver;
+	@Nullable private DispatchRingBuffer<MessageContainer> chunkLane;
+	private volatile boolean backpressured = false;
+	private final Object pushLock = new Object();
+	private final Deque<MessageContainer> pushOverflow = new ArrayDeque<>(); // Guarded by pushLock
+	private final LongAdder busyNanos = new LongAdder();
+	private int numProcessingThreads = 1;
 
 	private static final Log logger = LogFactory.getLog(InboundXMLMessageListener.class);
 
@@ -78,6 +101,10 @@ abstract class InboundXMLMessageListener implements Runnable {
 		this.needHolder = needHolder;
 		this.needAttributes = needAttributes;
 		this.xmlMessageMapper = flowReceiverContainer.getXMLMessageMapper();
+		this.mappingOptions = XMLMessageMappingOptions.forConsumer(consumerProperties.getExtension());
+		// Only the headers of the first chunk are used
+		this.chunkMappingOptions = mappingOptions.copy();
+		chunkMappingOptions.setByteBufferPayload(false);
 	}
 
 	abstract void handleMessage(Supplier<Message<?>> messageSupplier, Consumer<Message<?>> sendToConsumerHandler,
@@ -133,18 +160,62 @@ abstract class InboundXMLMessageListener implements Runnable {
 			return;
 		}
 
+		onReceive(messageContainer);
+	}
+
+	/**
+	 * <p>Push mode entry point: process a message pushed by the flow receiver container.</p>
+	 * <p>Pushed messages are ignored once this listener has been stopped. They will be redelivered once the flow
+	 * is unbound.</p>
+	 * @param messageContainer the pushed message
+	 * @see FlowReceiverContainer#setMessageListener
+	 */
+	void onMessage(MessageContainer messageContainer) {
+		if (!keepPolling()) {
+			return;
+		}
+		synchronized (pushLock) {
+			onReceive(messageContainer);
+		}
+	}
+
+	/**
+	 * Push mode batch timeout: process the current batch if it timed out. Needed since in push mode there is no
+	 * polling thread to notice that a batch has timed out.
+	 */
+	void processBatchIfTimedOut() {
+		if (batchCollector == null || !keepPolling()) {
+			return;
+		}
+		synchronized (pushLock) {
+			onReceive(null);
+		}
+	}
+
+	private void onReceive(@Nullable MessageContainer messageContainer) {
 		if (solaceMeterAccessor != null && messageContainer != null) {
 			solaceMeterAccessor.recordMessage(consumerProperties.getBindingName(), messageContainer.getMessage());
 		}
 
 		try {
-			if (batchCollector != null) {
+			if (messageContainer != null && chunkLane != null &&
+					ChunkAssembler.isChunk(messageContainer.getMessage())) {
+				// Reassembled messages are always processed individually by the chunk worker
+				dispatch(messageContainer);
+				if (batchCollector != null) {
+					processBatchIfAvailable();
+				}
+			} else if (batchCollector != null) {
 				if (messageContainer != null) {
 					batchCollector.addToBatch(messageContainer);
 				}
 				processBatchIfAvailable();
 			} else if (messageContainer != null) {
-				processMessage(messageContainer);
+				if (dispatchLanes != null) {
+					dispatch(messageContainer);
+				} else {
+					processMessage(messageContainer);
+				}
 			}
 		} finally {
 			if (needHolder || needAttributes) {
@@ -153,7 +224,267 @@ abstract class InboundXMLMessageListener implements Runnable {
 		}
 	}
 
+	/**
+	 * Hand off the message to the dispatch workers, or to the chunk worker if it's a chunk. If the selected lane is
+	 * full, then the flow is stopped until its worker has caught up.
+	 */
+	private void dispatch(MessageContainer messageContainer) {
+		if (flowReceiverContainer.isPushMode()) {
+			dispatchPushed(messageContainer);
+			return;
+		}
+
+		DispatchRingBuffer<MessageContainer> dispatchLane = selectLane(messageContainer);
+		boolean drained = false;
+		while (!dispatchLane.offer(messageContainer)) {
+			if (!backpressured) {
+				flowReceiverContainer.pauseForBackpressure();
+				backpressured = true;
+			}
+
+			if (!keepPolling()) {
+				// Message will be redelivered once the flow is unbound
+				return;
+			}
+
+			try {
+				drained = dispatchLane.awaitDrained(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Interrupted while waiting for dispatch buffer of flow receiver " +
+							"container %s to drain", flowReceiverContainer.getId()), e);
+				}
+			}
+		}
+
+		if (backpressured && drained) {
+			try {
+				flowReceiverContainer.resumeFromBackpressure();
+				backpressured = false;
+			} catch (JCSMPException e) {
+				logger.warn(String.format("Failed to relieve backpressure from flow receiver container %s, " +
+						"will try again after the next dispatched message", flowReceiverContainer.getId()), e);
+			}
+		}
+	}
+
+	/**
+	 * Push mode variant of {@link #dispatch(MessageContainer)}, which runs on the JCSMP context thread and so must
+	 * never block. If the selected dispatch lane is full, then the flow is stopped and the message is held back, along
+	 * with any message which was already in flight, until the dispatch workers have caught up.
+	 * @see #relievePushBackpressureIfDrained()
+	 */
+	private void dispatchPushed(MessageContainer messageContainer) {
+		// Caller holds pushLock
+		if (pushOverflow.isEmpty() && selectLane(messageContainer).offer(messageContainer)) {
+			return;
+		}
+
+		pushOverflow.add(messageContainer);
+		if (!backpressured) {
+			flowReceiverContainer.pauseForBackpressure();
+			backpressured = true;
+		}
+	}
+
+	/**
+	 * Push mode: called by the dispatch and chunk workers to hand off the held back messages once their lanes have
+	 * drained to their low watermark, and to restart the flow once all of them have been handed off.
+	 */
+	private void relievePushBackpressureIfDrained() {
+		if (!backpressured || !flowReceiverContainer.isPushMode()) {
+			return;
+		}
+
+		synchronized (pushLock) {
+			while (!pushOverflow.isEmpty()) {
+				MessageContainer messageContainer = pushOverflow.peek();
+				DispatchRingBuffer<MessageContainer> dispatchLane = selectLane(messageContainer);
+				if (!dispatchLane.isDrained() || !dispatchLane.offer(messageContainer)) {
+					return;
+				}
+				pushOverflow.poll();
+			}
+
+			if (backpressured) {
+				try {
+					flowReceiverContainer.resumeFromBackpressure();
+					backpressured = false;
+				} catch (JCSMPException e) {
+					logger.warn(String.format("Failed to relieve backpressure from flow receiver container %s, " +
+							"will try again", flowReceiverContainer.getId()), e);
+				}
+			}
+		}
+	}
+
+	private DispatchRingBuffer<MessageContainer> selectLane(MessageContainer messageContainer) {
+		if (chunkLane != null && ChunkAssembler.isChunk(messageContainer.getMessage())) {
+			return chunkLane;
+		}
+		return dispatchLanes.get(selectDispatchLane(messageContainer));
+	}
+
+	private int selectDispatchLane(MessageContainer messageContainer) {
+		if (orderingKeyResolver == null || dispatchLanes.size() == 1) {
+			return 0;
+		}
+
+		Object key;
+		try {
+			key = orderingKeyResolver.resolve(messageContainer.getMessage());
+		} catch (ExpressionException e) {
+			logger.warn(String.format("Failed to evaluate ordering key expression %s for XMLMessage %s, " +
+							"dispatching it to the first lane", orderingKeyResolver.getExpressionString(),
+					messageContainer.getMessage().getMessageId()), e);
+			return 0;
+		}
+
+		if (key == null) {
+			return 0;
+		}
+		int hash = key instanceof byte[] ? Arrays.hashCode((byte[]) key) : key.hashCode();
+		return Math.floorMod(hash, dispatchLanes.size());
+	}
+
+	/**
+	 * <p>Decouple processing from receiving: received messages are handed off through bounded buffers to
+	 * {@code numWorkers} dispatch workers which process them. Only applicable to non-batched consumers.</p>
+	 * <p>If an {@code orderingKeyExpression} is given, then each dispatch worker gets its own lane (buffer), and
+	 * messages are assigned to lanes by the hash of their ordering key. Messages with the same key are therefore
+	 * processed in the order they were received. Messages without a key are all assigned to the first lane.
+	 * Otherwise, all dispatch workers share a single buffer.</p>
+	 * @param numWorkers the number of dispatch workers
+	 * @param bufferSize the capacity of each hand-off buffer
+	 * @param orderingKeyExpression the SpEL expression which resolves a message's ordering key
+	 * @return the dispatch workers which must be run alongside this listener
+	 * @see OrderingKeyResolver
+	 */
+	List<Runnable> enableDispatchWorkers(int numWorkers, int bufferSize, @Nullable String orderingKeyExpression) {
+		Assert.state(batchCollector == null, "Dispatch workers are not supported for batched consumers");
+		numProcessingThreads = numWorkers;
+		if (StringUtils.hasText(orderingKeyExpression)) {
+			orderingKeyResolver = new OrderingKeyResolver(orderingKeyExpression);
+			dispatchLanes = IntStream.range(0, numWorkers)
+					.mapToObj(i -> new DispatchRingBuffer<MessageContainer>(bufferSize))
+					.collect(Collectors.toList());
+			return dispatchLanes.stream()
+					.map(lane -> (Runnable) () -> runDispatchWorker(lane))
+					.collect(Collectors.toList());
+		} else {
+			DispatchRingBuffer<MessageContainer> dispatchBuffer = new DispatchRingBuffer<>(bufferSize);
+			dispatchLanes = Collections.singletonList(dispatchBuffer);
+			return IntStream.range(0, numWorkers)
+					.mapToObj(i -> (Runnable) () -> runDispatchWorker(dispatchBuffer))
+					.collect(Collectors.toList());
+		}
+	}
+
+	private void runDispatchWorker(DispatchRingBuffer<MessageContainer> dispatchBuffer) {
+		try {
+			while (keepPolling()) {
+				MessageContainer messageContainer;
+				try {
+					messageContainer = dispatchBuffer.poll(1, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					continue; // Let the stop flags decide whether to continue or not
+				}
+
+				relievePushBackpressureIfDrained();
+				if (messageContainer == null) {
+					continue;
+				}
+
+				if (messageContainer.isStale()) {
+					// Flow was rebound or unbound after this was received. It will be redelivered.
+					if (logger.isDebugEnabled()) {
+						logger.debug(String.format("Skipping dispatch of stale message container %s (XMLMessage %s)",
+								messageContainer.getId(), messageContainer.getMessage().getMessageId()));
+					}
+					continue;
+				}
+
+				try {
+					processMessage(messageContainer);
+				} catch (RuntimeException e) {
+					logger.warn(String.format("Exception received while processing messages from destination %s",
+							consumerDestination.getName()), e);
+				} finally {
+					if (needHolder || needAttributes) {
+						attributesHolder.remove();
+					}
+				}
+			}
+		} catch (Throwable t) {
+			logger.error(String.format("Received unexpected error while processing messages from destination %s",
+					consumerDestination.getName()), t);
+			throw t;
+		}
+	}
+
+	/**
+	 * <p>Reassemble chunked messages on a dedicated chunk worker instead of the receiving thread, since large
+	 * messages are reassembled in temporary files. Received chunks are handed off through a bounded buffer.</p>
+	 * <p>All the fragments of a chunked message must be received by this listener's flow.</p>
+	 * @param bufferSize the capacity of the hand-off buffer
+	 * @return the chunk worker which must be run alongside this listener
+	 * @see ChunkAssembler
+	 */
+	Runnable enableChunkReassembly(int bufferSize) {
+		chunkAssembler = new ChunkAssembler(consumerProperties.getExtension(), this::rejectChunks);
+		chunkLane = new DispatchRingBuffer<>(bufferSize);
+		return this::runChunkWorker;
+	}
+
+	private void runChunkWorker() {
+		try {
+			while (keepPolling()) {
+				MessageContainer messageContainer;
+				try {
+					messageContainer = chunkLane.poll(1, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					continue; // Let the stop flags decide whether to continue or not
+				}
+
+				relievePushBackpressureIfDrained();
+				if (messageContainer == null) {
+					chunkAssembler.discardExpired();
+					continue;
+				}
+
+				try {
+					ChunkAssembler.ChunkedMessage chunkedMessage = chunkAssembler.add(messageContainer);
+					if (chunkedMessage != null) {
+						processChunkedMessage(chunkedMessage);
+					}
+				} catch (RuntimeException e) {
+					logger.warn(String.format("Exception received while processing chunked messages from " +
+							"destination %s", consumerDestination.getName()), e);
+				} finally {
+					if (needHolder || needAttributes) {
+						attributesHolder.remove();
+					}
+				}
+			}
+		} catch (Throwable t) {
+			logger.error(String.format("Received unexpected error while processing chunked messages from " +
+					"destination %s", consumerDestination.getName()), t);
+			throw t;
+		} finally {
+			chunkAssembler.clear(); // Partially received chunked messages will be redelivered
+		}
+	}
+
 	private void processMessage(MessageContainer messageContainer) {
+		long startNanos = System.nanoTime();
+		try {
+			doProcessMessage(messageContainer);
+		} finally {
+			busyNanos.add(System.nanoTime() - startNanos);
+		}
+	}
+
+	private void doProcessMessage(MessageContainer messageContainer) {
 		BytesXMLMessage bytesXMLMessage = messageContainer.getMessage();
 		AcknowledgmentCallback acknowledgmentCallback = ackCallbackFactory.createCallback(messageContainer);
 
@@ -184,12 +515,83 @@ abstract class InboundXMLMessageListener implements Runnable {
 		}
 	}
 
+	/**
+	 * Process a reassembled chunked message. Its fragments are acknowledged together once it has been processed.
+	 */
+	private void processChunkedMessage(ChunkAssembler.ChunkedMessage chunkedMessage) {
+		long startNanos = System.nanoTime();
+		List<BytesXMLMessage> xmlMessages = chunkedMessage.getMessageContainers()
+				.stream()
+				.map(MessageContainer::getMessage)
+				.collect(Collectors.toList());
+		AcknowledgmentCallback acknowledgmentCallback = ackCallbackFactory.createBatchCallback(
+				chunkedMessage.getMessageContainers());
+		try {
+			handleMessage(() -> createChunkedMessage(xmlMessages, chunkedMessage.getPayload(),
+							acknowledgmentCallback),
+					m -> sendBatchToConsumer(m, xmlMessages),
+					acknowledgmentCallback,
+					false);
+		} catch (Exception e) {
+			if (isAllStale(e)) {
+				logger.info(String.format("Cannot acknowledge chunked message %s, all chunks are stale",
+						xmlMessages.get(0).getMessageId()), e);
+			} else {
+				try {
+					if (ExceptionUtils.indexOfType(e, RequeueCurrentMessageException.class) > -1) {
+						logger.warn(String.format("Exception thrown while processing chunked message %s. " +
+								"Its chunks will be requeued.", xmlMessages.get(0).getMessageId()), e);
+						AckUtils.requeue(acknowledgmentCallback);
+					} else {
+						logger.warn(String.format("Exception thrown while processing chunked message %s. " +
+								"Its chunks will be rejected.", xmlMessages.get(0).getMessageId()), e);
+						AckUtils.reject(acknowledgmentCallback);
+					}
+				} catch (SolaceAcknowledgmentException e1) {
+					e1.addSuppressed(e);
+					if (isAllStale(e1)) {
+						logger.info(String.format("Cannot acknowledge chunked message %s, all chunks are stale",
+								xmlMessages.get(0).getMessageId()), e1);
+					} else {
+						throw e1;
+					}
+				}
+			}
+		} finally {
+			if (acknowledgmentCallback.isAcknowledged()) {
+				// Otherwise, the consumer is responsible for closing the payload once it's done with it
+				chunkedMessage.close();
+			}
+			busyNanos.add(System.nanoTime() - startNanos);
+		}
+	}
+
+	private void rejectChunks(List<MessageContainer> messageContainers) {
+		try {
+			AckUtils.reject(ackCallbackFactory.createBatchCallback(messageContainers));
+		} catch (SolaceAcknowledgmentException e) {
+			if (isAllStale(e)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Cannot reject chunks, all of them are stale", e);
+				}
+			} else {
+				logger.warn("Failed to reject chunks", e);
+			}
+		}
+	}
+
+	private boolean isAllStale(Exception e) {
+		return e instanceof SolaceBatchAcknowledgementException &&
+				((SolaceBatchAcknowledgementException) e).isAllStaleExceptions();
+	}
+
 	private void processBatchIfAvailable() {
 		Optional<List<MessageContainer>> batchedMessages = batchCollector.collectBatchIfAvailable();
 		if (!batchedMessages.isPresent()) {
 			return;
 		}
 
+		long startNanos = System.nanoTime();
 		AcknowledgmentCallback acknowledgmentCallback = ackCallbackFactory.createBatchCallback(batchedMessages.get());
 		try {
 			List<BytesXMLMessage> xmlMessages = batchedMessages.get()
@@ -231,18 +633,28 @@ abstract class InboundXMLMessageListener implements Runnable {
 			}
 		} finally {
 			batchCollector.confirmDelivery();
+			busyNanos.add(System.nanoTime() - startNanos);
 		}
 	}
 
 	Message<?> createOneMessage(BytesXMLMessage bytesXMLMessage, AcknowledgmentCallback acknowledgmentCallback) {
 		setAttributesIfNecessary(bytesXMLMessage, acknowledgmentCallback);
-		return xmlMessageMapper.map(bytesXMLMessage, acknowledgmentCallback);
+		return xmlMessageMapper.map(bytesXMLMessage, acknowledgmentCallback, mappingOptions);
 	}
 
 	Message<?> createBatchMessage(List<BytesXMLMessage> bytesXMLMessages,
 								  AcknowledgmentCallback acknowledgmentCallback) {
 		setAttributesIfNecessary(bytesXMLMessages, acknowledgmentCallback);
-		return xmlMessageMapper.mapBatchMessage(bytesXMLMessages, acknowledgmentCallback);
+		return xmlMessageMapper.mapBatchMessage(bytesXMLMessages, acknowledgmentCallback, mappingOptions);
+	}
+
+	Message<?> createChunkedMessage(List<BytesXMLMessage> bytesXMLMessages, Object payload,
+									AcknowledgmentCallback acknowledgmentCallback) {
+		setAttributesIfNecessary(bytesXMLMessages, acknowledgmentCallback);
+		// Headers are only taken from the first chunk since every chunk carries the same headers
+		Message<?> firstChunk = xmlMessageMapper.map(bytesXMLMessages.get(0), acknowledgmentCallback,
+				chunkMappingOptions);
+		return new GenericMessage<>(payload, firstChunk.getHeaders());
 	}
 
 	void sendOneToConsumer(final Message<?> message, final BytesXMLMessage bytesXMLMessage)
@@ -310,6 +722,22 @@ abstract class InboundXMLMessageListener implements Runnable {
 		}
 	}
 
+	/**
+	 * Get the total time spent processing messages across all of this listener's processing threads.
+	 * @return the busy time in nanoseconds
+	 */
+	long getBusyNanos() {
+		return busyNanos.sum();
+	}
+
+	/**
+	 * Get the number of threads which process this listener's messages.
+	 * @return 1, or the number of dispatch workers if enabled.
+	 */
+	int getNumProcessingThreads() {
+		return numProcessingThreads;
+	}
+
 	public AtomicBoolean getStopFlag() {
 		return stopFlag;
 	}
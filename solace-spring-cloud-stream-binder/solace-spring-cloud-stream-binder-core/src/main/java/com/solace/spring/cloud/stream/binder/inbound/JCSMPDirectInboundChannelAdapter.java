@@ -0,0 +1,379 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import com.solace.spring.cloud.stream.binder.meter.SolaceMeterAccessor;
+import com.solace.spring.cloud.stream.binder.properties.SolaceConsumerProperties;
+import com.solace.spring.cloud.stream.binder.provisioning.SolaceConsumerDestination;
+import com.solace.spring.cloud.stream.binder.util.JCSMPSessionConsumerManager;
+import com.solace.spring.cloud.stream.binder.util.SolaceMessageHeaderErrorMessageStrategy;
+import com.solace.spring.cloud.stream.binder.util.XMLMessageMapper;
+import com.solace.spring.cloud.stream.binder.util.XMLMessageMappingOptions;
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.XMLMessageListener;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.cloud.stream.binder.ExtendedConsumerProperties;
+import org.springframework.core.AttributeAccessor;
+import org.springframework.integration.acks.AckUtils;
+import org.springframework.integration.acks.AcknowledgmentCallback;
+import org.springframework.integration.context.OrderlyShutdownCapable;
+import org.springframework.integration.endpoint.MessageProducerSupport;
+import org.springframework.integration.support.ErrorMessageUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.retry.RecoveryCallback;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Consumes messages through direct topic subscriptions on the session instead of a queue.</p>
+ * <p>There's no endpoint, consumer flow, acknowledgement tracking or rebinding involved, so messages are delivered
+ * at most once. Messages which fail to be processed are discarded after being sent to the error channel.</p>
+ * <p>If a {@code directBufferSize} is configured, received messages are handed off from the JCSMP context thread to
+ * a worker through a bounded buffer. Once full, a message is dropped according to the {@code directDropPolicy}.
+ * Otherwise, messages are processed on the context thread.</p>
+ */
+public class JCSMPDirectInboundChannelAdapter extends MessageProducerSupport implements OrderlyShutdownCapable {
+	private final String id = UUID.randomUUID().toString();
+	private final SolaceConsumerDestination consumerDestination;
+	private final JCSMPSessionConsumerManager consumerManager;
+	private final ExtendedConsumerProperties<SolaceConsumerProperties> consumerProperties;
+	@Nullable private final SolaceMeterAccessor solaceMeterAccessor;
+	private final XMLMessageMapper xmlMessageMapper = new XMLMessageMapper();
+	private final XMLMessageMappingOptions mappingOptions;
+	private final LongAdder droppedCount = new LongAdder();
+	@Nullable private BlockingQueue<BytesXMLMessage> buffer;
+	@Nullable private Executor workerExecutor;
+	@Nullable private ExecutorService executorService;
+	@Nullable private CountDownLatch workerTerminated;
+	private volatile boolean stopped = true;
+	private boolean needAttributes;
+	private boolean dropping = false; // Only accessed by the JCSMP context thread
+	private RetryTemplate retryTemplate;
+	private RecoveryCallback<?> recoveryCallback;
+
+	private static final Log logger = LogFactory.getLog(JCSMPDirectInboundChannelAdapter.class);
+	private static final ThreadLocal<AttributeAccessor> attributesHolder = new ThreadLocal<>();
+
+	public JCSMPDirectInboundChannelAdapter(SolaceConsumerDestination consumerDestination,
+											JCSMPSessionConsumerManager consumerManager,
+											ExtendedConsumerProperties<SolaceConsumerProperties> consumerProperties,
+											@Nullable SolaceMeterAccessor solaceMeterAccessor) {
+		this.consumerDestination = consumerDestination;
+		this.consumerManager = consumerManager;
+		this.consumerProperties = consumerProperties;
+		this.mappingOptions = XMLMessageMappingOptions.forConsumer(consumerProperties.getExtension());
+		this.solaceMeterAccessor = solaceMeterAccessor;
+	}
+
+	@Override
+	protected void doStart() {
+		List<String> topics = new ArrayList<>();
+		topics.add(consumerDestination.getBindingDestinationName());
+		topics.addAll(consumerDestination.getAdditionalSubscriptions());
+		logger.info(String.format("Creating direct subscriptions to topics %s <inbound adapter %s>", topics, id));
+
+		if (retryTemplate != null) {
+			Assert.state(getErrorChannel() == null,
+					"Cannot have an 'errorChannel' property when a 'RetryTemplate' is provided; " +
+							"use an 'ErrorMessageSendingRecoverer' in the 'recoveryCallback' property to send " +
+							"an error message when retries are exhausted");
+		}
+		needAttributes = retryTemplate != null || getErrorChannel() != null;
+
+		int bufferSize = consumerProperties.getExtension().getDirectBufferSize();
+		stopped = false;
+		if (bufferSize > 0) {
+			BlockingQueue<BytesXMLMessage> buffer = new ArrayBlockingQueue<>(bufferSize);
+			CountDownLatch workerTerminated = new CountDownLatch(1);
+			this.buffer = buffer;
+			this.workerTerminated = workerTerminated;
+			if (workerExecutor == null) {
+				executorService = Executors.newSingleThreadExecutor();
+			}
+			try {
+				(workerExecutor != null ? workerExecutor : executorService).execute(() ->
+						runWorker(buffer, workerTerminated));
+			} catch (RejectedExecutionException e) {
+				String msg = String.format("Worker executor rejected the worker of inbound adapter %s", id);
+				logger.warn(msg, e);
+				workerTerminated.countDown(); // Never started
+				stopWorker();
+				throw new MessagingException(msg, e);
+			}
+		}
+
+		if (solaceMeterAccessor != null) {
+			solaceMeterAccessor.registerDirectDroppedMessages(consumerProperties.getBindingName(), droppedCount,
+					LongAdder::sum);
+		}
+
+		try {
+			consumerManager.subscribe(id, topics, new DirectMessageListener());
+		} catch (Exception e) {
+			String msg = String.format("Failed to create direct subscriptions for inbound adapter %s", id);
+			logger.warn(msg, e);
+			stopWorker();
+			throw new MessagingException(msg, e);
+		}
+	}
+
+	@Override
+	protected void doStop() {
+		logger.info(String.format("Removing direct subscriptions <inbound adapter %s>", id));
+		consumerManager.unsubscribe(id);
+		stopWorker();
+	}
+
+	private void stopWorker() {
+		stopped = true;
+		try {
+			if (workerTerminated != null && !workerTerminated.await(1, TimeUnit.MINUTES)) {
+				logger.warn(String.format("Timed out waiting for the worker of inbound adapter %s to stop", id));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.warn(String.format("Interrupted while waiting for the worker of inbound adapter %s to stop", id));
+		}
+
+		if (executorService != null) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+
+		if (buffer != null) {
+			if (!buffer.isEmpty()) {
+				logger.info(String.format("Discarding %s unprocessed direct messages <inbound adapter %s>",
+						buffer.size(), id));
+			}
+			buffer = null;
+		}
+		workerTerminated = null;
+	}
+
+	private void runWorker(BlockingQueue<BytesXMLMessage> buffer, CountDownLatch workerTerminated) {
+		try {
+			while (!stopped) {
+				BytesXMLMessage message = buffer.poll(100, TimeUnit.MILLISECONDS);
+				if (message != null) {
+					process(message);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			workerTerminated.countDown();
+		}
+	}
+
+	/**
+	 * Buffer a received message. Only called by the JCSMP context thread, so the buffer has a single producer.
+	 */
+	private void enqueue(BlockingQueue<BytesXMLMessage> buffer, BytesXMLMessage message) {
+		if (buffer.offer(message)) {
+			dropping = false;
+			return;
+		}
+
+		if (consumerProperties.getExtension().getDirectDropPolicy() ==
+				SolaceConsumerProperties.DirectDropPolicy.DROP_NEWEST) {
+			drop(message);
+			return;
+		}
+
+		do {
+			BytesXMLMessage oldest = buffer.poll();
+			if (oldest != null) {
+				drop(oldest);
+			}
+		} while (!buffer.offer(message));
+	}
+
+	private void drop(BytesXMLMessage message) {
+		droppedCount.increment();
+		if (!dropping) {
+			dropping = true;
+			logger.warn(String.format("Direct message buffer of inbound adapter %s is full, dropping messages " +
+					"according to the %s drop policy", id, consumerProperties.getExtension().getDirectDropPolicy()));
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Dropped direct message %s <inbound adapter %s>", message.getMessageId(), id));
+		}
+	}
+
+	private void process(BytesXMLMessage xmlMessage) {
+		if (solaceMeterAccessor != null) {
+			solaceMeterAccessor.recordMessage(consumerProperties.getBindingName(), xmlMessage);
+		}
+
+		AcknowledgmentCallback acknowledgmentCallback = new DirectAcknowledgementCallback(xmlMessage);
+		try {
+			if (retryTemplate != null) {
+				retryTemplate.execute((context) -> {
+					attributesHolder.set(context);
+					sendMessage(createMessage(xmlMessage, acknowledgmentCallback));
+					AckUtils.autoAck(acknowledgmentCallback);
+					return null;
+				}, (context) -> {
+					Object toReturn = recoveryCallback.recover(context);
+					AckUtils.autoAck(acknowledgmentCallback);
+					return toReturn;
+				});
+			} else {
+				if (needAttributes) {
+					attributesHolder.set(ErrorMessageUtils.getAttributeAccessor(null, null));
+				}
+				Message<?> message;
+				try {
+					message = createMessage(xmlMessage, acknowledgmentCallback);
+				} catch (RuntimeException e) {
+					if (!sendErrorMessageIfNecessary(null, e)) {
+						throw e;
+					}
+					return;
+				}
+				sendMessage(message);
+				AckUtils.autoAck(acknowledgmentCallback);
+			}
+		} catch (Exception e) {
+			logger.warn(String.format("Failed to process direct message %s, it will be discarded " +
+					"<inbound adapter %s>", xmlMessage.getMessageId(), id), e);
+		} finally {
+			if (needAttributes) {
+				attributesHolder.remove();
+			}
+		}
+	}
+
+	private Message<?> createMessage(BytesXMLMessage xmlMessage, AcknowledgmentCallback acknowledgmentCallback) {
+		setAttributesIfNecessary(xmlMessage, null, acknowledgmentCallback);
+		Message<?> message = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, mappingOptions);
+		setAttributesIfNecessary(xmlMessage, message, acknowledgmentCallback);
+		return message;
+	}
+
+	private void setAttributesIfNecessary(BytesXMLMessage xmlMessage, @Nullable Message<?> message,
+										  AcknowledgmentCallback acknowledgmentCallback) {
+		AttributeAccessor attributes = needAttributes ? attributesHolder.get() : null;
+		if (attributes != null) {
+			attributes.setAttribute(ErrorMessageUtils.INPUT_MESSAGE_CONTEXT_KEY, message);
+			attributes.setAttribute(SolaceMessageHeaderErrorMessageStrategy.ATTR_SOLACE_RAW_MESSAGE, xmlMessage);
+			attributes.setAttribute(SolaceMessageHeaderErrorMessageStrategy.ATTR_SOLACE_ACKNOWLEDGMENT_CALLBACK,
+					acknowledgmentCallback);
+		}
+	}
+
+	/**
+	 * @return the number of received messages which were dropped because the buffer was full
+	 */
+	long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	@Override
+	public int beforeShutdown() {
+		this.stop();
+		return 0;
+	}
+
+	@Override
+	public int afterShutdown() {
+		return 0;
+	}
+
+	public void setRetryTemplate(RetryTemplate retryTemplate) {
+		this.retryTemplate = retryTemplate;
+	}
+
+	public void setRecoveryCallback(RecoveryCallback<?> recoveryCallback) {
+		this.recoveryCallback = recoveryCallback;
+	}
+
+	/**
+	 * Set the executor on which this adapter's worker is run. The worker occupies a thread for as long as this
+	 * adapter is running. If {@code null}, a dedicated thread is created on each start.
+	 * <p>Only used if a {@code directBufferSize} is configured.</p>
+	 * @param workerExecutor the worker executor
+	 */
+	public void setWorkerExecutor(@Nullable Executor workerExecutor) {
+		this.workerExecutor = workerExecutor;
+	}
+
+	@Override
+	protected AttributeAccessor getErrorMessageAttributes(Message<?> message) {
+		AttributeAccessor attributes = attributesHolder.get();
+		return attributes == null ? super.getErrorMessageAttributes(message) : attributes;
+	}
+
+	private final class DirectMessageListener implements XMLMessageListener {
+		@Override
+		public void onReceive(BytesXMLMessage message) {
+			if (stopped) {
+				return;
+			}
+			BlockingQueue<BytesXMLMessage> buffer = JCSMPDirectInboundChannelAdapter.this.buffer;
+			if (buffer != null) {
+				enqueue(buffer, message);
+			} else {
+				process(message);
+			}
+		}
+
+		@Override
+		public void onException(JCSMPException e) {
+			logger.warn(String.format("Direct consumer of inbound adapter %s received an exception", id), e);
+		}
+	}
+
+	/**
+	 * The broker doesn't track direct messages, so there is nothing to settle. A rejected or requeued message is
+	 * simply discarded.
+	 */
+	private static final class DirectAcknowledgementCallback implements AcknowledgmentCallback {
+		private final BytesXMLMessage message;
+		private boolean acknowledged = false;
+		private boolean autoAckEnabled = true;
+
+		private DirectAcknowledgementCallback(BytesXMLMessage message) {
+			this.message = message;
+		}
+
+		@Override
+		public void acknowledge(Status status) {
+			if (status == Status.REQUEUE && logger.isDebugEnabled()) {
+				logger.debug(String.format("Cannot %s direct message %s, it will be discarded", status,
+						message.getMessageId()));
+			}
+			acknowledged = true;
+		}
+
+		@Override
+		public boolean isAcknowledged() {
+			return acknowledged;
+		}
+
+		@Override
+		public void noAutoAck() {
+			autoAckEnabled = false;
+		}
+
+		@Override
+		public boolean isAutoAck() {
+			return autoAckEnabled;
+		}
+	}
+}
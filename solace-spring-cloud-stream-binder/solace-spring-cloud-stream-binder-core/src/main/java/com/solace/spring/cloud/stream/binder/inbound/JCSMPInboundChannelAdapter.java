@@ -33,15 +33,20 @@ import org.springframework.util.Assert;
 import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class JCSMPInboundChannelAdapter extends MessageProducerSupport implements OrderlyShutdownCapable, Pausable {
 	private final String id = UUID.randomUUID().toString();
@@ -53,10 +58,18 @@ public class JCSMPInboundChannelAdapter extends MessageProducerSupport implement
 	private final RetryableTaskService taskService;
 	private final long shutdownInterruptThresholdInMillis = 500; //TODO Make this configurable
 	private final List<FlowReceiverContainer> flowReceivers;
-	private final Set<AtomicBoolean> consumerStopFlags;
+	private final List<ConsumerFlow> consumerFlows = new CopyOnWriteArrayList<>();
 	private final AtomicBoolean paused = new AtomicBoolean(false);
 	private Consumer<Queue> postStart;
-	private ExecutorService executorService;
+	@Nullable private Executor workerExecutor;
+	private Executor activeWorkerExecutor;
+	@Nullable private ExecutorService executorService;
+	@Nullable private ScheduledExecutorService consumerScheduler;
+	@Nullable private ConcurrencyAutoscaler autoscaler;
+	private ExponentialBackOff flowRebindBackOff;
+	private boolean pushMode;
+	private int numDispatchWorkers;
+	private boolean chunkReassembly;
 	private AtomicBoolean remoteStopFlag;
 	private RetryTemplate retryTemplate;
 	private RecoveryCallback<?> recoveryCallback;
@@ -77,8 +90,7 @@ public class JCSMPInboundChannelAdapter extends MessageProducerSupport implement
 		this.consumerProperties = consumerProperties;
 		this.endpointProperties = endpointProperties;
 		this.solaceMeterAccessor = solaceMeterAccessor;
-		this.flowReceivers = new ArrayList<>(consumerProperties.getConcurrency());
-		this.consumerStopFlags = new HashSet<>(consumerProperties.getConcurrency());
+		this.flowReceivers = new CopyOnWriteArrayList<>();
 	}
 
 	@Override
@@ -99,36 +111,52 @@ public class JCSMPInboundChannelAdapter extends MessageProducerSupport implement
 			throw new MessagingException(msg);
 		}
 
-		if (executorService != null && !executorService.isTerminated()) {
-			logger.warn(String.format("Unexpectedly found running executor service while starting inbound adapter %s, " +
-					"closing it...", id));
+		chunkReassembly = consumerProperties.getExtension().isChunkReassembly();
+		if (chunkReassembly && !isExclusive() && (consumerProperties.getConcurrency() > 1 ||
+				consumerProperties.getExtension().getConcurrencyAutoscaleMax() > 1)) {
+			// The fragments of a chunked message would be spread across flows, and so could never be reassembled
+			String msg = String.format("Chunk reassembly requires an exclusive queue or a concurrency of 1, but " +
+							"queue %s is non-exclusive with a concurrency of %s and a concurrency autoscale max of %s " +
+							"<inbound adapter %s>", queueName, consumerProperties.getConcurrency(),
+					consumerProperties.getExtension().getConcurrencyAutoscaleMax(), id);
+			logger.warn(msg);
+			throw new MessagingException(msg);
+		}
+
+		if (!consumerFlows.isEmpty()) {
+			logger.warn(String.format("Unexpectedly found running consumer workers while starting inbound adapter %s, " +
+					"closing them...", id));
 			stopAllConsumers();
 		}
 
 		Queue queue = JCSMPFactory.onlyInstance().createQueue(queueName);
 
-		ExponentialBackOff exponentialBackOff = new ExponentialBackOff();
-		exponentialBackOff.setInitialInterval(consumerProperties.getExtension().getFlowRebindBackOffInitialInterval());
-		exponentialBackOff.setMaxInterval(consumerProperties.getExtension().getFlowRebindBackOffMaxInterval());
-		exponentialBackOff.setMultiplier(consumerProperties.getExtension().getFlowRebindBackOffMultiplier());
+		flowRebindBackOff = new ExponentialBackOff();
+		flowRebindBackOff.setInitialInterval(consumerProperties.getExtension().getFlowRebindBackOffInitialInterval());
+		flowRebindBackOff.setMaxInterval(consumerProperties.getExtension().getFlowRebindBackOffMaxInterval());
+		flowRebindBackOff.setMultiplier(consumerProperties.getExtension().getFlowRebindBackOffMultiplier());
 
 		for (int i = 0, numToCreate = consumerProperties.getConcurrency() - flowReceivers.size(); i < numToCreate; i++) {
 			logger.info(String.format("Creating consumer %s of %s for inbound adapter %s",
 					i + 1, consumerProperties.getConcurrency(), id));
-			FlowReceiverContainer flowReceiverContainer = new FlowReceiverContainer(
-					jcsmpSession,
-					queueName,
-					endpointProperties,
-					exponentialBackOff);
-			flowReceiverContainer.setRebindWaitTimeout(consumerProperties.getExtension().getFlowPreRebindWaitTimeout(),
-					TimeUnit.MILLISECONDS);
-			if (paused.get()) {
-				logger.info(String.format(
-						"Inbound adapter %s is paused, pausing newly created flow receiver container %s",
-						id, flowReceiverContainer.getId()));
-				flowReceiverContainer.pause();
-			}
-			flowReceivers.add(flowReceiverContainer);
+			flowReceivers.add(createFlowReceiverContainer());
+		}
+
+		if (retryTemplate != null) {
+			retryTemplate.registerListener(new SolaceRetryListener(queueName));
+		}
+
+		pushMode = consumerProperties.getExtension().isPushMode();
+		numDispatchWorkers = consumerProperties.getExtension().getDispatchWorkers();
+		if (numDispatchWorkers > 0 && consumerProperties.isBatchMode()) {
+			logger.warn(String.format("Dispatch workers are not supported for batched consumers, " +
+					"inbound adapter %s will process messages on its receiving threads", id));
+			numDispatchWorkers = 0;
+		}
+
+		List<ConsumerFlow> newConsumerFlows = new ArrayList<>(flowReceivers.size());
+		for (FlowReceiverContainer flowReceiverContainer : flowReceivers) {
+			newConsumerFlows.add(prepareConsumerFlow(flowReceiverContainer));
 		}
 
 		try {
@@ -142,18 +170,40 @@ public class JCSMPInboundChannelAdapter extends MessageProducerSupport implement
 			throw new MessagingException(msg, e);
 		}
 
-		if (retryTemplate != null) {
-			retryTemplate.registerListener(new SolaceRetryListener(queueName));
+		autoscaler = createAutoscaler();
+		if (workerExecutor != null) {
+			activeWorkerExecutor = workerExecutor;
+			executorService = null;
+		} else {
+			// Every worker occupies a thread until it is stopped, so size the pool for the most flows there can be
+			int maxConsumerFlows = autoscaler != null ?
+					consumerProperties.getExtension().getConcurrencyAutoscaleMax() :
+					consumerProperties.getConcurrency();
+			int workersPerFlow = (pushMode ? 0 : 1) + numDispatchWorkers + (chunkReassembly ? 1 : 0);
+			executorService = Executors.newFixedThreadPool(Math.max(maxConsumerFlows * workersPerFlow, 1));
+			activeWorkerExecutor = executorService;
 		}
 
-		executorService = Executors.newFixedThreadPool(consumerProperties.getConcurrency());
-		flowReceivers.stream()
-				.map(this::buildListener)
-				.forEach(listener -> {
-					consumerStopFlags.add(listener.getStopFlag());
-					executorService.submit(listener);
-				});
-		executorService.shutdown(); // All tasks have been submitted
+		boolean needsBatchTimeoutChecks = pushMode && consumerProperties.isBatchMode() &&
+				consumerProperties.getExtension().getBatchTimeout() > 0;
+		if (autoscaler != null || needsBatchTimeoutChecks) {
+			consumerScheduler = Executors.newSingleThreadScheduledExecutor();
+		}
+
+		try {
+			newConsumerFlows.forEach(this::launch);
+		} catch (RejectedExecutionException e) {
+			String msg = String.format("Worker executor rejected the consumer workers of inbound adapter %s", id);
+			logger.warn(msg, e);
+			stopAllConsumers();
+			flowReceivers.forEach(FlowReceiverContainer::unbind); // Flows which never got launched
+			throw new MessagingException(msg, e);
+		}
+
+		if (autoscaler != null) {
+			long interval = consumerProperties.getExtension().getConcurrencyAutoscaleInterval();
+			consumerScheduler.scheduleWithFixedDelay(this::autoscale, interval, interval, TimeUnit.MILLISECONDS);
+		}
 
 		if (postStart != null) {
 			postStart.accept(queue);
@@ -169,28 +219,271 @@ public class JCSMPInboundChannelAdapter extends MessageProducerSupport implement
 	private void stopAllConsumers() {
 		final String queueName = consumerDestination.getName();
 		logger.info(String.format("Stopping all %s consumer flows to queue %s <inbound adapter ID: %s>",
-				consumerProperties.getConcurrency(), queueName, id));
-		consumerStopFlags.forEach(flag -> flag.set(true)); // Mark threads for shutdown
+				consumerFlows.size(), queueName, id));
 		try {
-			if (!executorService.awaitTermination(shutdownInterruptThresholdInMillis, TimeUnit.MILLISECONDS)) {
+			if (consumerScheduler != null) {
+				// Also waits for any in-progress scaling to finish
+				consumerScheduler.shutdownNow();
+				if (!consumerScheduler.awaitTermination(1, TimeUnit.MINUTES)) {
+					logger.warn(String.format("Timed out waiting for the consumer scheduler of inbound adapter %s " +
+							"to terminate", id));
+				}
+				consumerScheduler = null;
+			}
+
+			consumerFlows.forEach(f -> f.listener.getStopFlag().set(true)); // Mark threads for shutdown
+			List<ConsumerWorker> consumerWorkers = consumerFlows.stream()
+					.flatMap(f -> f.consumerWorkers.stream())
+					.collect(Collectors.toList());
+			consumerWorkers.forEach(ConsumerWorker::abandonIfNotStarted);
+			if (!awaitTermination(consumerWorkers, shutdownInterruptThresholdInMillis, TimeUnit.MILLISECONDS)) {
 				logger.info(String.format("Interrupting all workers for inbound adapter %s", id));
-				executorService.shutdownNow();
-				if (!executorService.awaitTermination(1, TimeUnit.MINUTES)) {
-					String msg = String.format("executor service shutdown for inbound adapter %s timed out", id);
+				consumerWorkers.forEach(ConsumerWorker::interrupt);
+				if (!awaitTermination(consumerWorkers, 1, TimeUnit.MINUTES)) {
+					String msg = String.format("consumer worker shutdown for inbound adapter %s timed out", id);
 					logger.warn(msg);
 					throw new MessagingException(msg);
 				}
 			}
 
+			// Push mode flows aren't unbound by their listeners
+			for (FlowReceiverContainer flowReceiverContainer : flowReceivers) {
+				if (flowReceiverContainer.isPushMode()) {
+					flowReceiverContainer.unbind();
+				}
+			}
+
 			// cleanup
-			consumerStopFlags.clear();
+			consumerFlows.clear();
+			while (flowReceivers.size() > consumerProperties.getConcurrency()) {
+				// Discard the flows which were added by autoscaling, they're already unbound
+				flowReceivers.remove(flowReceivers.size() - 1);
+			}
+			if (executorService != null) {
+				executorService.shutdownNow();
+				executorService = null;
+			}
 		} catch (InterruptedException e) {
-			String msg = String.format("executor service shutdown for inbound adapter %s was interrupted", id);
+			String msg = String.format("consumer worker shutdown for inbound adapter %s was interrupted", id);
 			logger.warn(msg);
 			throw new MessagingException(msg);
 		}
 	}
 
+	private FlowReceiverContainer createFlowReceiverContainer() {
+		FlowReceiverContainer flowReceiverContainer = new FlowReceiverContainer(
+				jcsmpSession,
+				consumerDestination.getName(),
+				endpointProperties,
+				flowRebindBackOff);
+		flowReceiverContainer.setRebindWaitTimeout(consumerProperties.getExtension().getFlowPreRebindWaitTimeout(),
+				TimeUnit.MILLISECONDS);
+		if (paused.get()) {
+			logger.info(String.format(
+					"Inbound adapter %s is paused, pausing newly created flow receiver container %s",
+					id, flowReceiverContainer.getId()));
+			flowReceiverContainer.pause();
+		}
+		return flowReceiverContainer;
+	}
+
+	/**
+	 * Build the listener and workers for a flow receiver container. Must be done before the container is bound.
+	 */
+	private ConsumerFlow prepareConsumerFlow(FlowReceiverContainer flowReceiverContainer) {
+		InboundXMLMessageListener listener = buildListener(flowReceiverContainer);
+		List<Runnable> dispatchWorkers = numDispatchWorkers > 0 ? listener.enableDispatchWorkers(numDispatchWorkers,
+				consumerProperties.getExtension().getDispatchBufferSize(),
+				consumerProperties.getExtension().getOrderingKeyExpression()) : Collections.emptyList();
+		Runnable chunkWorker = chunkReassembly ? listener.enableChunkReassembly(
+				consumerProperties.getExtension().getDispatchBufferSize()) : null;
+		flowReceiverContainer.setMessageListener(pushMode ? listener::onMessage : null);
+
+		List<ConsumerWorker> consumerWorkers = new ArrayList<>(dispatchWorkers.size() + 2);
+		if (!pushMode) { // In push mode, the flow itself drives the listener
+			consumerWorkers.add(new ConsumerWorker(listener, flowReceiverContainer::unbind));
+		}
+		for (Runnable dispatchWorker : dispatchWorkers) {
+			consumerWorkers.add(new ConsumerWorker(dispatchWorker, null));
+		}
+		if (chunkWorker != null) {
+			consumerWorkers.add(new ConsumerWorker(chunkWorker, null));
+		}
+		return new ConsumerFlow(flowReceiverContainer, listener, consumerWorkers);
+	}
+
+	/**
+	 * Run a consumer flow's workers and start tracking it.
+	 * @throws RejectedExecutionException if the worker executor has no room for the flow's workers. The flow is then
+	 * stopped and unbound.
+	 */
+	private void launch(ConsumerFlow consumerFlow) {
+		try {
+			for (ConsumerWorker consumerWorker : consumerFlow.consumerWorkers) {
+				activeWorkerExecutor.execute(consumerWorker);
+			}
+		} catch (RejectedExecutionException e) {
+			// Don't leave the flow half-running
+			consumerFlow.listener.getStopFlag().set(true);
+			consumerFlow.consumerWorkers.forEach(ConsumerWorker::abandonIfNotStarted);
+			consumerFlow.flowReceiverContainer.unbind();
+			throw e;
+		}
+
+		int batchTimeout = consumerProperties.getExtension().getBatchTimeout();
+		if (pushMode && consumerProperties.isBatchMode() && batchTimeout > 0) {
+			long period = Math.max(batchTimeout / 10, 1);
+			consumerFlow.batchTimeoutCheck = consumerScheduler.scheduleWithFixedDelay(
+					consumerFlow.listener::processBatchIfTimedOut, period, period, TimeUnit.MILLISECONDS);
+		}
+
+		consumerFlow.lastSampledNanos = System.nanoTime();
+		consumerFlow.lastBusyNanos = consumerFlow.listener.getBusyNanos();
+		consumerFlows.add(consumerFlow);
+	}
+
+	@Nullable
+	private ConcurrencyAutoscaler createAutoscaler() {
+		SolaceConsumerProperties extension = consumerProperties.getExtension();
+		if (extension.getConcurrencyAutoscaleMax() <= consumerProperties.getConcurrency()) {
+			return null;
+		}
+
+		if (isExclusive()) {
+			logger.warn(String.format("Concurrency autoscaling is not supported for exclusive queues or anonymous " +
+					"consumer groups, it is disabled for inbound adapter %s", id));
+			return null;
+		}
+
+		logger.info(String.format("Enabling concurrency autoscaling between %s and %s consumer flows for inbound " +
+				"adapter %s", consumerProperties.getConcurrency(), extension.getConcurrencyAutoscaleMax(), id));
+		return new ConcurrencyAutoscaler(consumerProperties.getConcurrency(),
+				extension.getConcurrencyAutoscaleMax(),
+				extension.getConcurrencyAutoscaleUpThreshold(),
+				extension.getConcurrencyAutoscaleDownThreshold(),
+				extension.getConcurrencyAutoscaleCooldown());
+	}
+
+	/**
+	 * @return true if the queue is exclusive, i.e. only one flow at a time receives its messages
+	 */
+	private boolean isExclusive() {
+		return consumerDestination.isTemporary() || (endpointProperties != null &&
+				endpointProperties.getAccessType() != null &&
+				endpointProperties.getAccessType().equals(EndpointProperties.ACCESSTYPE_EXCLUSIVE));
+	}
+
+	/**
+	 * Periodic autoscaling task. Only ever runs on the {@link #consumerScheduler}'s thread.
+	 */
+	private void autoscale() {
+		try {
+			if (paused.get()) {
+				return; // Paused flows are idle for reasons other than a lack of load
+			}
+
+			long now = System.nanoTime();
+			long busyNanos = 0;
+			long capacityNanos = 0;
+			for (ConsumerFlow consumerFlow : consumerFlows) {
+				long totalBusyNanos = consumerFlow.listener.getBusyNanos();
+				busyNanos += totalBusyNanos - consumerFlow.lastBusyNanos;
+				capacityNanos += (now - consumerFlow.lastSampledNanos) *
+						consumerFlow.listener.getNumProcessingThreads();
+				consumerFlow.lastBusyNanos = totalBusyNanos;
+				consumerFlow.lastSampledNanos = now;
+			}
+
+			if (capacityNanos <= 0) {
+				return;
+			}
+
+			// Processing time is only counted once a message is done, so this can momentarily exceed 1
+			double busyRatio = Math.min((double) busyNanos / capacityNanos, 1);
+			switch (autoscaler.sample(busyRatio, consumerFlows.size(), now)) {
+				case SCALE_UP:
+					scaleUp(busyRatio);
+					break;
+				case SCALE_DOWN:
+					scaleDown(busyRatio);
+					break;
+				default:
+			}
+		} catch (Exception e) {
+			logger.warn(String.format("Failed to autoscale inbound adapter %s", id), e);
+		}
+	}
+
+	private void scaleUp(double busyRatio) {
+		logger.info(String.format("Consumer flows of inbound adapter %s are busy %.0f%% of the time, " +
+				"adding consumer flow %s", id, busyRatio * 100, consumerFlows.size() + 1));
+		FlowReceiverContainer flowReceiverContainer = createFlowReceiverContainer();
+		ConsumerFlow consumerFlow = prepareConsumerFlow(flowReceiverContainer);
+		try {
+			flowReceiverContainer.bind();
+		} catch (JCSMPException e) {
+			logger.warn(String.format("Failed to add a consumer flow to inbound adapter %s", id), e);
+			flowReceiverContainer.unbind();
+			return;
+		}
+
+		flowReceivers.add(flowReceiverContainer);
+		if (paused.get() && !flowReceiverContainer.isPaused()) {
+			flowReceiverContainer.pause(); // Adapter was paused while this was being created
+		}
+		try {
+			launch(consumerFlow);
+		} catch (RejectedExecutionException e) {
+			logger.warn(String.format("Worker executor has no room to add a consumer flow to inbound adapter %s",
+					id), e);
+			flowReceivers.remove(flowReceiverContainer);
+		}
+	}
+
+	/**
+	 * Gracefully remove the most recently added consumer flow: stop its delivery, wait for its received messages to
+	 * be acknowledged, then close it.
+	 */
+	private void scaleDown(double busyRatio) throws InterruptedException {
+		ConsumerFlow consumerFlow = consumerFlows.get(consumerFlows.size() - 1);
+		FlowReceiverContainer flowReceiverContainer = consumerFlow.flowReceiverContainer;
+		logger.info(String.format("Consumer flows of inbound adapter %s are busy %.0f%% of the time, " +
+				"draining flow receiver container %s", id, busyRatio * 100, flowReceiverContainer.getId()));
+		consumerFlows.remove(consumerFlow);
+
+		// Stop delivery without touching the container's paused state
+		flowReceiverContainer.pauseForBackpressure();
+		if (!flowReceiverContainer.awaitAcknowledgments(
+				consumerProperties.getExtension().getFlowPreRebindWaitTimeout(), TimeUnit.MILLISECONDS)) {
+			logger.info(String.format("Timed out while flow receiver container %s was waiting for the remaining " +
+					"messages to be acknowledged. They will be redelivered.", flowReceiverContainer.getId()));
+		}
+
+		consumerFlow.listener.getStopFlag().set(true);
+		if (consumerFlow.batchTimeoutCheck != null) {
+			consumerFlow.batchTimeoutCheck.cancel(false);
+		}
+		consumerFlow.consumerWorkers.forEach(ConsumerWorker::abandonIfNotStarted);
+		flowReceiverContainer.unbind(); // Also wakes up a blocked receive
+		if (!awaitTermination(consumerFlow.consumerWorkers, 1, TimeUnit.MINUTES)) {
+			logger.warn(String.format("Timed out waiting for the workers of flow receiver container %s to stop, " +
+					"interrupting them", flowReceiverContainer.getId()));
+			consumerFlow.consumerWorkers.forEach(ConsumerWorker::interrupt);
+		}
+		flowReceivers.remove(flowReceiverContainer);
+	}
+
+	private static boolean awaitTermination(List<ConsumerWorker> consumerWorkers, long timeout, TimeUnit unit)
+			throws InterruptedException {
+		long expiry = System.nanoTime() + unit.toNanos(timeout);
+		for (ConsumerWorker consumerWorker : consumerWorkers) {
+			if (!consumerWorker.awaitTermination(expiry - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public int beforeShutdown() {
 		this.stop();
@@ -222,6 +515,18 @@ public class JCSMPInboundChannelAdapter extends MessageProducerSupport implement
 		this.remoteStopFlag = remoteStopFlag;
 	}
 
+	/**
+	 * Set the executor on which this adapter's consumer workers are run. Each worker occupies a thread for as long
+	 * as this adapter is running, so the executor must be able to run all of them at once. A bounded executor may
+	 * reject them instead, which fails the start.
+	 * <p>If {@code null}, a dedicated fixed thread pool is created on each start, sized for the most workers this
+	 * adapter can have (including flows added by concurrency autoscaling).</p>
+	 * @param workerExecutor the worker executor
+	 */
+	public void setWorkerExecutor(@Nullable Executor workerExecutor) {
+		this.workerExecutor = workerExecutor;
+	}
+
 	@Override
 	protected AttributeAccessor getErrorMessageAttributes(org.springframework.messaging.Message<?> message) {
 		AttributeAccessor attributes = attributesHolder.get();
@@ -232,6 +537,10 @@ public class JCSMPInboundChannelAdapter extends MessageProducerSupport implement
 		JCSMPAcknowledgementCallbackFactory ackCallbackFactory = new JCSMPAcknowledgementCallbackFactory(
 				flowReceiverContainer, consumerDestination.isTemporary(), taskService);
 		ackCallbackFactory.setErrorQueueInfrastructure(errorQueueInfrastructure);
+		// A rebind waits for the flow's messages to be acknowledged. Push mode messages are acknowledged on the context
+		// thread, and messages queued in a dispatch lane by that lane's worker, so neither may wait for the rebind.
+		// Chunks are acknowledged by the chunk worker, but only once the receiving thread has received their last one.
+		ackCallbackFactory.setBackgroundRebind(pushMode || numDispatchWorkers > 0 || chunkReassembly);
 
 		InboundXMLMessageListener listener;
 		if (retryTemplate != null) {
@@ -320,6 +629,25 @@ public class JCSMPInboundChannelAdapter extends MessageProducerSupport implement
 		}
 	}
 
+	/**
+	 * A consumer flow receiver container together with its listener and workers.
+	 */
+	private static final class ConsumerFlow {
+		private final FlowReceiverContainer flowReceiverContainer;
+		private final InboundXMLMessageListener listener;
+		private final List<ConsumerWorker> consumerWorkers;
+		@Nullable private ScheduledFuture<?> batchTimeoutCheck;
+		private long lastBusyNanos;
+		private long lastSampledNanos;
+
+		private ConsumerFlow(FlowReceiverContainer flowReceiverContainer, InboundXMLMessageListener listener,
+							 List<ConsumerWorker> consumerWorkers) {
+			this.flowReceiverContainer = flowReceiverContainer;
+			this.listener = listener;
+			this.consumerWorkers = consumerWorkers;
+		}
+	}
+
 	private static final class SolaceRetryListener implements RetryListener {
 
 		private final String queueName;
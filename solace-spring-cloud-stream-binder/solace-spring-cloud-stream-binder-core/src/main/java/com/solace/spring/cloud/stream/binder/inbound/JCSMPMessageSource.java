@@ -11,6 +11,7 @@ import com.solace.spring.cloud.stream.binder.util.MessageContainer;
 import com.solace.spring.cloud.stream.binder.util.RetryableTaskService;
 import com.solace.spring.cloud.stream.binder.util.UnboundFlowReceiverContainerException;
 import com.solace.spring.cloud.stream.binder.util.XMLMessageMapper;
+import com.solace.spring.cloud.stream.binder.util.XMLMessageMappingOptions;
 import com.solacesystems.jcsmp.ClosedFacilityException;
 import com.solacesystems.jcsmp.EndpointProperties;
 import com.solacesystems.jcsmp.JCSMPException;
@@ -53,6 +54,7 @@ public class JCSMPMessageSource extends AbstractMessageSource<Object> implements
 	private FlowReceiverContainer flowReceiverContainer;
 	private JCSMPAcknowledgementCallbackFactory ackCallbackFactory;
 	private XMLMessageMapper xmlMessageMapper;
+	private final XMLMessageMappingOptions mappingOptions;
 	private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
 	private volatile boolean isRunning = false;
 	private volatile boolean paused = false;
@@ -72,6 +74,8 @@ public class JCSMPMessageSource extends AbstractMessageSource<Object> implements
 		this.batchCollector = batchCollector;
 		this.taskService = taskService;
 		this.consumerProperties = consumerProperties;
+		this.mappingOptions = XMLMessageMappingOptions.forConsumer(consumerProperties.getExtension());
+		mappingOptions.setRawMessageHeader(true);
 		this.endpointProperties = endpointProperties;
 		this.hasTemporaryQueue = destination.isTemporary();
 		this.solaceMeterAccessor = solaceMeterAccessor;
@@ -165,7 +169,7 @@ public class JCSMPMessageSource extends AbstractMessageSource<Object> implements
 	private Message<?> processMessage(MessageContainer messageContainer) {
 		AcknowledgmentCallback acknowledgmentCallback = ackCallbackFactory.createCallback(messageContainer);
 		try {
-			return xmlMessageMapper.map(messageContainer.getMessage(), acknowledgmentCallback, true);
+			return xmlMessageMapper.map(messageContainer.getMessage(), acknowledgmentCallback, mappingOptions);
 		} catch (Exception e) {
 			//TODO If one day the errorChannel or attributesHolder can be retrieved, use those instead
 			logger.warn(e, String.format("XMLMessage %s cannot be consumed. It will be rejected",
@@ -186,7 +190,7 @@ public class JCSMPMessageSource extends AbstractMessageSource<Object> implements
 			return xmlMessageMapper.mapBatchMessage(batchedMessages.get()
 					.stream()
 					.map(MessageContainer::getMessage)
-					.collect(Collectors.toList()), acknowledgmentCallback, true);
+					.collect(Collectors.toList()), acknowledgmentCallback, mappingOptions);
 		} catch (Exception e) {
 			logger.warn(e, "Message batch cannot be consumed. It will be rejected");
 			AckUtils.reject(acknowledgmentCallback);
@@ -0,0 +1,102 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import com.solace.spring.cloud.stream.binder.messaging.SolaceHeaderMeta;
+import com.solacesystems.jcsmp.SDTException;
+import com.solacesystems.jcsmp.SDTMap;
+import com.solacesystems.jcsmp.XMLMessage;
+import org.springframework.context.expression.MapAccessor;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionException;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.lang.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Resolves the ordering key of received messages using a SpEL expression.</p>
+ * <p>The expression's root object has a single {@code headers} property: a read-only map of the message's Solace
+ * headers (e.g. {@code solace_correlationId}) and user properties. Headers are read on-demand from the
+ * {@link XMLMessage}, so only the headers referenced by the expression are ever read. User properties are the raw
+ * values found on the message and are never deserialized.</p>
+ */
+class OrderingKeyResolver {
+	private final String expressionString;
+	private final Expression expression;
+	private final EvaluationContext evaluationContext;
+
+	OrderingKeyResolver(String expression) {
+		this.expressionString = expression;
+		this.expression = new SpelExpressionParser().parseExpression(expression);
+		StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+		evaluationContext.addPropertyAccessor(new MapAccessor());
+		this.evaluationContext = evaluationContext;
+	}
+
+	/**
+	 * Resolve the ordering key.
+	 * @param xmlMessage the message
+	 * @return the ordering key or {@code null} if the message has none.
+	 * @throws ExpressionException if the expression failed to evaluate
+	 */
+	@Nullable
+	Object resolve(XMLMessage xmlMessage) throws ExpressionException {
+		return expression.getValue(evaluationContext, new Root(xmlMessage));
+	}
+
+	String getExpressionString() {
+		return expressionString;
+	}
+
+	static final class Root {
+		private final Map<String, Object> headers;
+
+		private Root(XMLMessage xmlMessage) {
+			this.headers = new HeadersView(xmlMessage);
+		}
+
+		public Map<String, Object> getHeaders() {
+			return headers;
+		}
+	}
+
+	private static final class HeadersView extends AbstractMap<String, Object> {
+		private final XMLMessage xmlMessage;
+
+		private HeadersView(XMLMessage xmlMessage) {
+			this.xmlMessage = xmlMessage;
+		}
+
+		@Override
+		public Object get(Object key) {
+			if (!(key instanceof String)) {
+				return null;
+			}
+
+			SolaceHeaderMeta<?> solaceHeaderMeta = SolaceHeaderMeta.META.get(key);
+			if (solaceHeaderMeta != null) {
+				return solaceHeaderMeta.isReadable() ? solaceHeaderMeta.getReadAction().apply(xmlMessage) : null;
+			}
+
+			SDTMap properties = xmlMessage.getProperties();
+			try {
+				return properties != null ? properties.get((String) key) : null;
+			} catch (SDTException e) {
+				return null;
+			}
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return get(key) != null;
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			throw new UnsupportedOperationException("Ordering key expressions can only look up headers by name");
+		}
+	}
+}
@@ -26,6 +26,7 @@ class JCSMPAcknowledgementCallback implements AcknowledgmentCallback {
 	private final boolean hasTemporaryQueue;
 	private final ErrorQueueInfrastructure errorQueueInfrastructure;
 	private final RetryableTaskService taskService;
+	private final boolean backgroundRebind;
 	private boolean acknowledged = false;
 	private boolean autoAckEnabled = true;
 	private boolean asyncRebind = false;
@@ -36,12 +37,14 @@ class JCSMPAcknowledgementCallback implements AcknowledgmentCallback {
 	JCSMPAcknowledgementCallback(MessageContainer messageContainer, FlowReceiverContainer flowReceiverContainer,
 								 boolean hasTemporaryQueue,
 								 RetryableTaskService taskService,
-								 @Nullable ErrorQueueInfrastructure errorQueueInfrastructure) {
+								 @Nullable ErrorQueueInfrastructure errorQueueInfrastructure,
+								 boolean backgroundRebind) {
 		this.messageContainer = messageContainer;
 		this.flowReceiverContainer = flowReceiverContainer;
 		this.hasTemporaryQueue = hasTemporaryQueue;
 		this.taskService = taskService;
 		this.errorQueueInfrastructure = errorQueueInfrastructure;
+		this.backgroundRebind = backgroundRebind;
 	}
 
 	@Override
@@ -94,7 +97,7 @@ class JCSMPAcknowledgementCallback implements AcknowledgmentCallback {
 						if (!asyncRebind) {
 							RetryableAckRebindTask rebindTask = new RetryableAckRebindTask(flowReceiverContainer,
 									messageContainer, taskService);
-							if (!rebindTask.run(0)) {
+							if (backgroundRebind || !rebindTask.run(0)) {
 								taskService.submit(rebindTask);
 							}
 						} else {
@@ -136,7 +139,7 @@ class JCSMPAcknowledgementCallback implements AcknowledgmentCallback {
 		}
 
 		errorQueueInfrastructure.createCorrelationKey(messageContainer, flowReceiverContainer, hasTemporaryQueue)
-				.handleError(false);
+				.handleError(backgroundRebind);
 		return true;
 	}
 
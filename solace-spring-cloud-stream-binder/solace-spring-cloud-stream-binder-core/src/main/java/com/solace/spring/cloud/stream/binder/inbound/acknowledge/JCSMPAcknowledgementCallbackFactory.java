@@ -14,6 +14,7 @@ public class JCSMPAcknowledgementCallbackFactory {
 	private final boolean hasTemporaryQueue;
 	private final RetryableTaskService taskService;
 	private ErrorQueueInfrastructure errorQueueInfrastructure;
+	private boolean backgroundRebind = false;
 
 	public JCSMPAcknowledgementCallbackFactory(FlowReceiverContainer flowReceiverContainer, boolean hasTemporaryQueue,
 											   RetryableTaskService taskService) {
@@ -26,6 +27,16 @@ public class JCSMPAcknowledgementCallbackFactory {
 		this.errorQueueInfrastructure = errorQueueInfrastructure;
 	}
 
+	/**
+	 * If {@code true}, rebinds caused by requeuing a message are always run by the task service instead of the
+	 * acknowledging thread. Must be enabled when messages are acknowledged on the JCSMP context thread (i.e. push
+	 * mode), or by dispatch workers, since a rebind blocks until the flow is drained, which needs that same thread.
+	 * @param backgroundRebind whether to always rebind in the background
+	 */
+	public void setBackgroundRebind(boolean backgroundRebind) {
+		this.backgroundRebind = backgroundRebind;
+	}
+
 	public AcknowledgmentCallback createCallback(MessageContainer messageContainer) {
 		return createJCSMPCallback(messageContainer);
 	}
@@ -38,7 +49,7 @@ public class JCSMPAcknowledgementCallbackFactory {
 
 	private JCSMPAcknowledgementCallback createJCSMPCallback(MessageContainer messageContainer) {
 		return new JCSMPAcknowledgementCallback(messageContainer, flowReceiverContainer, hasTemporaryQueue,
-				taskService, errorQueueInfrastructure);
+				taskService, errorQueueInfrastructure, backgroundRebind);
 	}
 
 }
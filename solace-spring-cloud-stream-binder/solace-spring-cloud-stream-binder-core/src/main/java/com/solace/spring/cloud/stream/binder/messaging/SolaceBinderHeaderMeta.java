@@ -6,14 +6,22 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.solace.spring.cloud.stream.binder.util.CorrelationData;
+import com.solacesystems.jcsmp.DeliveryMode;
 
 public class SolaceBinderHeaderMeta<T> implements HeaderMeta<T> {
 	public static final Map<String, SolaceBinderHeaderMeta<?>> META = Stream.of(new Object[][] {
 			{SolaceBinderHeaders.MESSAGE_VERSION, new SolaceBinderHeaderMeta<>(Integer.class, true, false, Scope.WIRE)},
 			{SolaceBinderHeaders.SERIALIZED_PAYLOAD, new SolaceBinderHeaderMeta<>(Boolean.class, false, false, Scope.WIRE)},
+			{SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING, new SolaceBinderHeaderMeta<>(String.class, false, false, Scope.WIRE)},
+			{SolaceBinderHeaders.COMPRESSION, new SolaceBinderHeaderMeta<>(String.class, false, false, Scope.WIRE)},
+			{SolaceBinderHeaders.TEXT_PAYLOAD, new SolaceBinderHeaderMeta<>(Boolean.class, false, false, Scope.WIRE)},
 			{SolaceBinderHeaders.SERIALIZED_HEADERS, new SolaceBinderHeaderMeta<>(String.class, false, false, Scope.WIRE)},
 			{SolaceBinderHeaders.SERIALIZED_HEADERS_ENCODING, new SolaceBinderHeaderMeta<>(String.class, false, false, Scope.WIRE)},
+			{SolaceBinderHeaders.CHUNK_ID, new SolaceBinderHeaderMeta<>(String.class, false, false, Scope.WIRE)},
+			{SolaceBinderHeaders.CHUNK_INDEX, new SolaceBinderHeaderMeta<>(Integer.class, false, false, Scope.WIRE)},
+			{SolaceBinderHeaders.CHUNK_COUNT, new SolaceBinderHeaderMeta<>(Integer.class, false, false, Scope.WIRE)},
 			{SolaceBinderHeaders.CONFIRM_CORRELATION, new SolaceBinderHeaderMeta<>(CorrelationData.class, false, false, Scope.LOCAL)},
+			{SolaceBinderHeaders.DELIVERY_MODE, new SolaceBinderHeaderMeta<>(DeliveryMode.class, false, false, Scope.LOCAL)},
 			{SolaceBinderHeaders.NULL_PAYLOAD, new SolaceBinderHeaderMeta<>(Boolean.class, true, false, Scope.LOCAL)},
 			{SolaceBinderHeaders.BATCHED_HEADERS, new SolaceBinderHeaderMeta<>(List.class, true, false, Scope.LOCAL)}
 	}).collect(Collectors.toMap(d -> (String) d[0], d -> (SolaceBinderHeaderMeta<?>) d[1]));
@@ -1,6 +1,7 @@
 package com.solace.spring.cloud.stream.binder.messaging;
 
 import com.solace.spring.cloud.stream.binder.util.CorrelationData;
+import com.solacesystems.jcsmp.DeliveryMode;
 
 import org.springframework.messaging.Message;
 
@@ -42,6 +43,34 @@ public final class SolaceBinderHeaders {
 	 */
 	public static final String SERIALIZED_PAYLOAD = PREFIX + "serializedPayload";
 
+	/**
+	 * <p><b>Acceptable Value Type:</b> {@link String}</p>
+	 * <p><b>Access:</b> Internal Binder Use Only</p>
+	 * <br>
+	 * <p>The name of the payload codec used by a Solace Spring Cloud Stream binder to encode the payload before
+	 * publishing it to a broker. Is undefined if the payload wasn't encoded, or if it was Java-serialized
+	 * (see {@link #SERIALIZED_PAYLOAD}).</p>
+	 */
+	public static final String SERIALIZED_PAYLOAD_ENCODING = PREFIX + "serializedPayloadEncoding";
+
+	/**
+	 * <p><b>Acceptable Value Type:</b> {@link String}</p>
+	 * <p><b>Access:</b> Internal Binder Use Only</p>
+	 * <br>
+	 * <p>The name of the compression codec used by a Solace Spring Cloud Stream binder to compress the payload before
+	 * publishing it to a broker. Is undefined if the payload wasn't compressed.</p>
+	 */
+	public static final String COMPRESSION = PREFIX + "compression";
+
+	/**
+	 * <p><b>Acceptable Value Type:</b> {@link Boolean}</p>
+	 * <p><b>Access:</b> Internal Binder Use Only</p>
+	 * <br>
+	 * <p>Is {@code true} if a Solace Spring Cloud Stream binder has published a {@link String} payload as a binary
+	 * message, e.g. because it was compressed. Is undefined otherwise.</p>
+	 */
+	public static final String TEXT_PAYLOAD = PREFIX + "textPayload";
+
 	/**
 	 * <p><b>Acceptable Value Type:</b> {@link String}</p>
 	 * <p><b>Access:</b> Internal Binder Use Only</p>
@@ -60,6 +89,31 @@ public final class SolaceBinderHeaders {
 	 */
 	public static final String SERIALIZED_HEADERS_ENCODING = PREFIX + "serializedHeadersEncoding";
 
+	/**
+	 * <p><b>Acceptable Value Type:</b> {@link String}</p>
+	 * <p><b>Access:</b> Internal Binder Use Only</p>
+	 * <br>
+	 * <p>The ID shared by all the fragments of a payload which a Solace Spring Cloud Stream binder has split into
+	 * multiple messages before publishing them to a broker. Is undefined if the payload wasn't split.</p>
+	 */
+	public static final String CHUNK_ID = PREFIX + "chunkId";
+
+	/**
+	 * <p><b>Acceptable Value Type:</b> {@link Integer}</p>
+	 * <p><b>Access:</b> Internal Binder Use Only</p>
+	 * <br>
+	 * <p>The zero-based position of this fragment within the fragments identified by {@link #CHUNK_ID}.</p>
+	 */
+	public static final String CHUNK_INDEX = PREFIX + "chunkIndex";
+
+	/**
+	 * <p><b>Acceptable Value Type:</b> {@link Integer}</p>
+	 * <p><b>Access:</b> Internal Binder Use Only</p>
+	 * <br>
+	 * <p>The total number of fragments identified by {@link #CHUNK_ID}.</p>
+	 */
+	public static final String CHUNK_COUNT = PREFIX + "chunkCount";
+
 	/**
 	 * <p><b>Acceptable Value Type:</b> {@link CorrelationData}</p>
 	 * <p><b>Access:</b> Write</p>
@@ -68,6 +122,14 @@ public final class SolaceBinderHeaders {
 	 */
 	public static final String CONFIRM_CORRELATION = PREFIX + "confirmCorrelation";
 
+	/**
+	 * <p><b>Acceptable Value Type:</b> {@link DeliveryMode}</p>
+	 * <p><b>Access:</b> Write</p>
+	 * <br>
+	 * <p>Overrides the producer's {@code deliveryMode} for this message.</p>
+	 */
+	public static final String DELIVERY_MODE = PREFIX + "deliveryMode";
+
 	/**
 	 * <p><b>Acceptable Value Type:</b> {@link Boolean}</p>
 	 * <p><b>Access:</b> Read</p>
@@ -82,6 +144,8 @@ public final class SolaceBinderHeaders {
 	 * <br>
 	 * <p>Only applicable when {@code batchMode} is {@code true}. The consolidated list of message headers for a
 	 * batch of messages where the headers for each payload element is in this list’s corresponding index.</p>
+	 * <p>If {@code columnarBatchHeaders} is {@code true}, this list is a
+	 * {@link com.solace.spring.cloud.stream.binder.util.ColumnarBatchHeaders ColumnarBatchHeaders}.</p>
 	 */
 	public static final String BATCHED_HEADERS = PREFIX + "batchedHeaders";
 }
@@ -2,19 +2,38 @@ package com.solace.spring.cloud.stream.binder.meter;
 
 import com.solacesystems.jcsmp.XMLMessage;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.BaseUnits;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
 public class SolaceMessageMeterBinder implements MeterBinder {
 	MeterRegistry registry;
 
 	public static final String METER_NAME_TOTAL_SIZE = "solace.message.size.total";
 	public static final String METER_NAME_PAYLOAD_SIZE = "solace.message.size.payload";
 	public static final String METER_DESCRIPTION_TOTAL_SIZE = "Total message size";
+	public static final String METER_NAME_COMPRESSION_RATIO = "solace.message.compression.ratio";
+	public static final String METER_NAME_COMPRESSION_TIME = "solace.message.compression.time";
+	public static final String METER_NAME_PUBLISHER_IN_FLIGHT = "solace.publisher.session.inflight";
+	public static final String METER_NAME_DESTINATION_CACHE = "solace.producer.destination.cache";
+	public static final String METER_NAME_DIRECT_DROPPED = "solace.consumer.direct.dropped";
 	public static final String METER_DESCRIPTION_PAYLOAD_SIZE = "Message payload size";
+	public static final String METER_DESCRIPTION_COMPRESSION_RATIO = "Compressed to uncompressed payload size ratio";
+	public static final String METER_DESCRIPTION_COMPRESSION_TIME = "Payload compression time";
+	public static final String METER_DESCRIPTION_PUBLISHER_IN_FLIGHT = "Published messages awaiting a broker response";
+	public static final String METER_DESCRIPTION_DESTINATION_CACHE = "Dynamic destination topic cache lookups";
+	public static final String METER_DESCRIPTION_DIRECT_DROPPED = "Direct messages dropped by a full consumer buffer";
 	public static final String TAG_NAME = "name";
+	public static final String TAG_RESULT = "result";
+	public static final String TAG_VALUE_RESULT_HIT = "hit";
+	public static final String TAG_VALUE_RESULT_MISS = "miss";
 
 	@Override
 	public void bindTo(@NotNull MeterRegistry registry) {
@@ -29,6 +48,91 @@ public class SolaceMessageMeterBinder implements MeterBinder {
 				.record(payloadSize);
 	}
 
+	public void recordCompression(@NotNull String bindingName, long uncompressedSize, long compressedSize,
+								  long nanos) {
+		if (uncompressedSize > 0) {
+			DistributionSummary.builder(METER_NAME_COMPRESSION_RATIO)
+					.description(METER_DESCRIPTION_COMPRESSION_RATIO)
+					.tag(TAG_NAME, bindingName)
+					.register(registry)
+					.record((double) compressedSize / uncompressedSize);
+		}
+		Timer.builder(METER_NAME_COMPRESSION_TIME)
+				.description(METER_DESCRIPTION_COMPRESSION_TIME)
+				.tag(TAG_NAME, bindingName)
+				.register(registry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Register a gauge of the number of messages which a publisher session sent but which weren't acknowledged yet.
+	 * The gauge only holds a weak reference to {@code stateObject}.
+	 * @param sessionName the publisher session's name
+	 * @param stateObject the object to get the count from
+	 * @param inFlightCountFunction gets the count from {@code stateObject}
+	 * @param <T> the type of {@code stateObject}
+	 */
+	public <T> void registerPublisherInFlightGauge(@NotNull String sessionName, @NotNull T stateObject,
+												   @NotNull ToDoubleFunction<T> inFlightCountFunction) {
+		Gauge.builder(METER_NAME_PUBLISHER_IN_FLIGHT, stateObject, inFlightCountFunction)
+				.description(METER_DESCRIPTION_PUBLISHER_IN_FLIGHT)
+				.tag(TAG_NAME, sessionName)
+				.baseUnit(BaseUnits.MESSAGES)
+				.register(registry);
+	}
+
+	/**
+	 * Register counters of a producer binding's destination cache hits and misses.
+	 * The counters only hold a weak reference to {@code stateObject}.
+	 * @param bindingName the producer binding's name
+	 * @param stateObject the object to get the counts from
+	 * @param hitCountFunction gets the hit count from {@code stateObject}
+	 * @param missCountFunction gets the miss count from {@code stateObject}
+	 * @param <T> the type of {@code stateObject}
+	 */
+	public <T> void registerDestinationCacheCounters(@NotNull String bindingName, @NotNull T stateObject,
+													 @NotNull ToDoubleFunction<T> hitCountFunction,
+													 @NotNull ToDoubleFunction<T> missCountFunction) {
+		FunctionCounter.builder(METER_NAME_DESTINATION_CACHE, stateObject, hitCountFunction)
+				.description(METER_DESCRIPTION_DESTINATION_CACHE)
+				.tag(TAG_NAME, bindingName)
+				.tag(TAG_RESULT, TAG_VALUE_RESULT_HIT)
+				.register(registry);
+		FunctionCounter.builder(METER_NAME_DESTINATION_CACHE, stateObject, missCountFunction)
+				.description(METER_DESCRIPTION_DESTINATION_CACHE)
+				.tag(TAG_NAME, bindingName)
+				.tag(TAG_RESULT, TAG_VALUE_RESULT_MISS)
+				.register(registry);
+	}
+
+	/**
+	 * Remove the counters of a producer binding's destination cache hits and misses.
+	 * @param bindingName the producer binding's name
+	 */
+	public void removeDestinationCacheCounters(@NotNull String bindingName) {
+		registry.find(METER_NAME_DESTINATION_CACHE)
+				.tag(TAG_NAME, bindingName)
+				.meters()
+				.forEach(registry::remove);
+	}
+
+	/**
+	 * Register a counter of the messages which a direct subscription consumer binding dropped because its buffer
+	 * was full. The counter only holds a weak reference to {@code stateObject}.
+	 * @param bindingName the consumer binding's name
+	 * @param stateObject the object to get the count from
+	 * @param droppedCountFunction gets the dropped count from {@code stateObject}
+	 * @param <T> the type of {@code stateObject}
+	 */
+	public <T> void registerDirectDroppedCounter(@NotNull String bindingName, @NotNull T stateObject,
+												 @NotNull ToDoubleFunction<T> droppedCountFunction) {
+		FunctionCounter.builder(METER_NAME_DIRECT_DROPPED, stateObject, droppedCountFunction)
+				.description(METER_DESCRIPTION_DIRECT_DROPPED)
+				.tag(TAG_NAME, bindingName)
+				.baseUnit(BaseUnits.MESSAGES)
+				.register(registry);
+	}
+
 	private DistributionSummary registerSizeMeter(@NotNull String meterName,
 												  @NotNull String description,
 												  @NotNull String bindingName) {
@@ -1,7 +1,10 @@
 package com.solace.spring.cloud.stream.binder.meter;
 
+import com.solace.spring.cloud.stream.binder.util.JCSMPSessionProducerManager;
 import com.solacesystems.jcsmp.XMLMessage;
 
+import java.util.function.ToDoubleFunction;
+
 public class SolaceMeterAccessor {
 	private final SolaceMessageMeterBinder solaceMessageMeterBinder;
 
@@ -12,4 +15,29 @@ public class SolaceMeterAccessor {
 	public void recordMessage(String bindingName, XMLMessage message) {
 		solaceMessageMeterBinder.recordMessage(bindingName, message);
 	}
+
+	public void recordCompression(String bindingName, long uncompressedSize, long compressedSize, long nanos) {
+		solaceMessageMeterBinder.recordCompression(bindingName, uncompressedSize, compressedSize, nanos);
+	}
+
+	public <T> void registerDestinationCache(String bindingName, T destinationCache,
+											 ToDoubleFunction<T> hitCountFunction,
+											 ToDoubleFunction<T> missCountFunction) {
+		solaceMessageMeterBinder.registerDestinationCacheCounters(bindingName, destinationCache, hitCountFunction,
+				missCountFunction);
+	}
+
+	public void unregisterDestinationCache(String bindingName) {
+		solaceMessageMeterBinder.removeDestinationCacheCounters(bindingName);
+	}
+
+	public <T> void registerDirectDroppedMessages(String bindingName, T stateObject,
+												  ToDoubleFunction<T> droppedCountFunction) {
+		solaceMessageMeterBinder.registerDirectDroppedCounter(bindingName, stateObject, droppedCountFunction);
+	}
+
+	public void registerPublisherSession(JCSMPSessionProducerManager producerManager) {
+		solaceMessageMeterBinder.registerPublisherInFlightGauge(producerManager.getSessionName(), producerManager,
+				JCSMPSessionProducerManager::getInFlightCount);
+	}
 }
@@ -0,0 +1,155 @@
+package com.solace.spring.cloud.stream.binder.outbound;
+
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.Topic;
+import org.springframework.context.expression.MapAccessor;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Resolves the topic which a producer binding publishes a message to.</p>
+ * <p>A message's topic is either given by a {@code destinationExpression}, a SpEL expression evaluated against the
+ * message, or by a {@code destinationTemplate}, a topic name whose {@code {header}} placeholders are replaced by the
+ * message's header values (e.g. {@code orders/{region}/{orderId}}). Both are parsed once, and the SpEL expression is
+ * compiled once it was evaluated a few times.</p>
+ * <p>Resolved topics are cached by name if a {@link TopicCache} is given.</p>
+ */
+class DestinationResolver {
+	@Nullable private final Expression expression;
+	@Nullable private final List<TemplateSegment> template;
+	@Nullable private final TopicCache topicCache;
+	private final EvaluationContext evaluationContext;
+
+	/**
+	 * @param expression the SpEL expression which resolves the topic name, or {@code null}
+	 * @param template the template of the topic name, or {@code null}
+	 * @param cacheSize the max number of topics to cache, or {@code 0} to not cache topics
+	 * @throws IllegalArgumentException if both an expression and a template were given, or the template is invalid
+	 */
+	DestinationResolver(@Nullable String expression, @Nullable String template, int cacheSize) {
+		if (StringUtils.hasText(expression) && StringUtils.hasText(template)) {
+			throw new IllegalArgumentException("Only one of destination expression and destination template can be set");
+		}
+		this.expression = StringUtils.hasText(expression) ? new SpelExpressionParser(
+				new SpelParserConfiguration(SpelCompilerMode.MIXED, getClass().getClassLoader()))
+				.parseExpression(expression) : null;
+		this.template = StringUtils.hasText(template) ? parseTemplate(template) : null;
+		this.topicCache = cacheSize > 0 ? new TopicCache(cacheSize) : null;
+		StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+		evaluationContext.addPropertyAccessor(new MapAccessor());
+		this.evaluationContext = evaluationContext;
+	}
+
+	/**
+	 * @return {@code true} if a destination expression or template is configured
+	 */
+	boolean isDynamic() {
+		return expression != null || template != null;
+	}
+
+	/**
+	 * Resolve the topic of a message using the destination expression or template.
+	 * @param message the message
+	 * @return the topic, or {@code null} if no destination expression or template is configured
+	 * @throws ExpressionException if the expression failed to evaluate
+	 * @throws IllegalArgumentException if the message is missing a header of the template, or if the resolved topic
+	 * name is invalid
+	 */
+	@Nullable
+	Topic resolve(Message<?> message) throws ExpressionException, IllegalArgumentException {
+		String topicName;
+		if (expression != null) {
+			Object value = expression.getValue(evaluationContext, message);
+			if (value == null) {
+				throw new IllegalArgumentException(String.format("Destination expression %s resolved to null",
+						expression.getExpressionString()));
+			}
+			topicName = value.toString();
+		} else if (template != null) {
+			StringBuilder builder = new StringBuilder();
+			for (TemplateSegment segment : template) {
+				segment.appendTo(builder, message);
+			}
+			topicName = builder.toString();
+		} else {
+			return null;
+		}
+		return getTopic(topicName);
+	}
+
+	/**
+	 * Get a topic by name, from the cache if there is one.
+	 * @param topicName the topic name
+	 * @return the topic
+	 * @throws IllegalArgumentException if the topic name is invalid
+	 */
+	Topic getTopic(String topicName) {
+		return topicCache != null ? topicCache.get(topicName) : JCSMPFactory.onlyInstance().createTopic(topicName);
+	}
+
+	@Nullable
+	TopicCache getTopicCache() {
+		return topicCache;
+	}
+
+	private static List<TemplateSegment> parseTemplate(String template) {
+		List<TemplateSegment> segments = new ArrayList<>();
+		int index = 0;
+		while (index < template.length()) {
+			int start = template.indexOf('{', index);
+			if (start < 0) {
+				segments.add(new TemplateSegment(template.substring(index), false));
+				break;
+			}
+			int end = template.indexOf('}', start);
+			if (end < 0) {
+				throw new IllegalArgumentException(String.format(
+						"Destination template %s has an unclosed placeholder at index %s", template, start));
+			}
+			if (end == start + 1) {
+				throw new IllegalArgumentException(String.format(
+						"Destination template %s has an empty placeholder at index %s", template, start));
+			}
+			if (start > index) {
+				segments.add(new TemplateSegment(template.substring(index, start), false));
+			}
+			segments.add(new TemplateSegment(template.substring(start + 1, end), true));
+			index = end + 1;
+		}
+		return segments;
+	}
+
+	private static final class TemplateSegment {
+		private final String value; // the literal text, or the header name of a placeholder
+		private final boolean placeholder;
+
+		private TemplateSegment(String value, boolean placeholder) {
+			this.value = value;
+			this.placeholder = placeholder;
+		}
+
+		private void appendTo(StringBuilder builder, Message<?> message) {
+			if (!placeholder) {
+				builder.append(value);
+				return;
+			}
+			Object headerValue = message.getHeaders().get(value);
+			if (headerValue == null) {
+				throw new IllegalArgumentException(String.format(
+						"Message has no header %s to resolve its destination template", value));
+			}
+			builder.append(headerValue);
+		}
+	}
+}
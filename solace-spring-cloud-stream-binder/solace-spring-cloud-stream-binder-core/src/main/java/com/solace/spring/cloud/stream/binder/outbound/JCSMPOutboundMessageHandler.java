@@ -4,13 +4,22 @@ import com.solace.spring.cloud.stream.binder.messaging.SolaceBinderHeaders;
 import com.solace.spring.cloud.stream.binder.meter.SolaceMeterAccessor;
 import com.solace.spring.cloud.stream.binder.properties.SolaceProducerProperties;
 import com.solace.spring.cloud.stream.binder.util.ClosedChannelBindingException;
+import com.solace.spring.cloud.stream.binder.util.CompressionCodecs;
 import com.solace.spring.cloud.stream.binder.util.CorrelationData;
 import com.solace.spring.cloud.stream.binder.util.ErrorChannelSendingCorrelationKey;
+import com.solace.spring.cloud.stream.binder.util.InFlightLimitExceededException;
 import com.solace.spring.cloud.stream.binder.util.JCSMPSessionProducerManager;
+import com.solace.spring.cloud.stream.binder.util.PayloadCompressor;
 import com.solace.spring.cloud.stream.binder.util.XMLMessageMapper;
+import com.solace.spring.cloud.stream.binder.util.XMLMessageMappingOptions;
+import com.solace.spring.cloud.stream.binder.util.XMLMessagePool;
+import com.solacesystems.jcsmp.DeliveryMode;
+import com.solacesystems.jcsmp.Destination;
 import com.solacesystems.jcsmp.JCSMPException;
 import com.solacesystems.jcsmp.JCSMPFactory;
 import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.SDTException;
+import com.solacesystems.jcsmp.SDTMap;
 import com.solacesystems.jcsmp.Topic;
 import com.solacesystems.jcsmp.XMLMessage;
 import com.solacesystems.jcsmp.XMLMessageProducer;
@@ -20,26 +29,55 @@ import org.springframework.cloud.stream.binder.BinderHeaders;
 import org.springframework.cloud.stream.binder.ExtendedProducerProperties;
 import org.springframework.cloud.stream.provisioning.ProducerDestination;
 import org.springframework.context.Lifecycle;
+import org.springframework.context.expression.MapAccessor;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionException;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.support.ErrorMessageStrategy;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 public class JCSMPOutboundMessageHandler implements MessageHandler, Lifecycle {
 	private final String id = UUID.randomUUID().toString();
 	private final Topic topic;
-	private final JCSMPSession jcsmpSession;
 	private final MessageChannel errorChannel;
-	private final JCSMPSessionProducerManager producerManager;
+	private final List<JCSMPSessionProducerManager> producerManagers;
 	private final ExtendedProducerProperties<SolaceProducerProperties> properties;
 	@Nullable private final SolaceMeterAccessor solaceMeterAccessor;
-	private XMLMessageProducer producer;
+	@Nullable private final Expression publisherSessionKeyExpression;
+	private final DestinationResolver destinationResolver;
+	private final EvaluationContext evaluationContext;
+	private Publisher[] publishers; // indexed like producerManagers, only has the publishers which this handler uses
+	private int defaultPublisherIndex;
 	private final XMLMessageMapper xmlMessageMapper = new XMLMessageMapper();
+	@Nullable private final XMLMessagePool messagePool;
+	private final XMLMessageMappingOptions mappingOptions;
+	private final XMLMessageMappingOptions unpooledMappingOptions;
+	private final XMLMessageMappingOptions chunkMappingOptions;
+	@Nullable private Semaphore inFlightPermits;
+	@Nullable private ScheduledExecutorService publishBatchScheduler; // shared by the publishers' batchers
 	private boolean isRunning = false;
 	private ErrorMessageStrategy errorMessageStrategy;
 
@@ -51,62 +89,356 @@ public class JCSMPOutboundMessageHandler implements MessageHandler, Lifecycle {
 									   JCSMPSessionProducerManager producerManager,
 									   ExtendedProducerProperties<SolaceProducerProperties> properties,
 									   @Nullable SolaceMeterAccessor solaceMeterAccessor) {
+		this(destination, errorChannel, Collections.singletonList(producerManager), properties, solaceMeterAccessor);
+	}
+
+	/**
+	 * Create a handler which publishes through a pool of publisher sessions.
+	 * <p>By default, all messages are sent by a single session selected by the binding name. If a
+	 * {@code publisherSessionKeyExpression} is configured, messages are spread across all sessions by the hash of
+	 * their key, so that messages with the same key keep their order.</p>
+	 * @param destination the destination to publish to
+	 * @param errorChannel the error channel
+	 * @param producerManagers the producer managers of the pool's sessions
+	 * @param properties the producer properties
+	 * @param solaceMeterAccessor the meter accessor
+	 */
+	public JCSMPOutboundMessageHandler(ProducerDestination destination,
+									   MessageChannel errorChannel,
+									   List<JCSMPSessionProducerManager> producerManagers,
+									   ExtendedProducerProperties<SolaceProducerProperties> properties,
+									   @Nullable SolaceMeterAccessor solaceMeterAccessor) {
+		Assert.notEmpty(producerManagers, "At least one producer manager is required");
 		this.topic = JCSMPFactory.onlyInstance().createTopic(destination.getName());
-		this.jcsmpSession = jcsmpSession;
 		this.errorChannel = errorChannel;
-		this.producerManager = producerManager;
+		this.producerManagers = new ArrayList<>(producerManagers);
 		this.properties = properties;
 		this.solaceMeterAccessor = solaceMeterAccessor;
+		this.publisherSessionKeyExpression = StringUtils.hasText(properties.getExtension()
+				.getPublisherSessionKeyExpression()) ? new SpelExpressionParser().parseExpression(
+						properties.getExtension().getPublisherSessionKeyExpression()) : null;
+		StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+		evaluationContext.addPropertyAccessor(new MapAccessor());
+		this.evaluationContext = evaluationContext;
+		this.destinationResolver = new DestinationResolver(properties.getExtension().getDestinationExpression(),
+				properties.getExtension().getDestinationTemplate(), properties.getExtension().getDestinationCacheSize());
+		this.messagePool = properties.getExtension().getMessagePoolSize() > 0 ?
+				new XMLMessagePool(properties.getExtension().getMessagePoolSize()) : null;
+		PayloadCompressor payloadCompressor = StringUtils.hasText(properties.getExtension().getCompression()) ?
+				new PayloadCompressor(CompressionCodecs.getRequiredByName(properties.getExtension().getCompression()),
+						properties.getExtension().getCompressionThreshold(), this::recordCompression) : null;
+
+		// Chunks are neither pooled nor compressed
+		this.chunkMappingOptions = XMLMessageMappingOptions.forProducer(properties.getExtension());
+		this.unpooledMappingOptions = chunkMappingOptions.copy();
+		unpooledMappingOptions.setPayloadCompressor(payloadCompressor);
+		this.mappingOptions = unpooledMappingOptions.copy();
+		mappingOptions.setMessagePool(messagePool);
 	}
 
 	@Override
 	public void handleMessage(Message<?> message) throws MessagingException {
-		ErrorChannelSendingCorrelationKey correlationKey = new ErrorChannelSendingCorrelationKey(message,
-				errorChannel, errorMessageStrategy);
-
 		if (! isRunning()) {
 			String msg0 = String.format("Cannot send message using handler %s", id);
 			String msg1 = String.format("Message handler %s is not running", id);
-			throw handleMessagingException(correlationKey, msg0, new ClosedChannelBindingException(msg1));
+			throw handleMessagingException(createCorrelationKey(message), msg0,
+					new ClosedChannelBindingException(msg1));
 		}
 
-		Topic targetTopic = topic;
+		Topic targetTopic = null;
 
 		try {
 			String targetDestinationHeader = message.getHeaders().get(BinderHeaders.TARGET_DESTINATION, String.class);
 			if (StringUtils.hasText(targetDestinationHeader)) {
-				targetTopic = JCSMPFactory.onlyInstance().createTopic(targetDestinationHeader);
+				targetTopic = destinationResolver.getTopic(targetDestinationHeader);
 			}
 		} catch (IllegalArgumentException e) {
-			throw handleMessagingException(correlationKey,
+			throw handleMessagingException(createCorrelationKey(message),
 					String.format("Unable to parse header %s", BinderHeaders.TARGET_DESTINATION), e);
 		}
 
+		if (targetTopic == null && destinationResolver.isDynamic()) {
+			try {
+				targetTopic = destinationResolver.resolve(message);
+			} catch (IllegalArgumentException | ExpressionException e) {
+				throw handleMessagingException(createCorrelationKey(message),
+						"Unable to resolve destination of message", e);
+			}
+		}
+
+		if (targetTopic == null) {
+			targetTopic = topic;
+		}
+
+		CorrelationData correlationData;
 		try {
-			CorrelationData correlationData = message.getHeaders().get(SolaceBinderHeaders.CONFIRM_CORRELATION, CorrelationData.class);
+			correlationData = message.getHeaders().get(SolaceBinderHeaders.CONFIRM_CORRELATION, CorrelationData.class);
 			if (correlationData != null) {
 				correlationData.setMessage(message);
-				correlationKey.setConfirmCorrelation(correlationData);
 			}
 		} catch (IllegalArgumentException e) {
-			throw handleMessagingException(correlationKey,
+			throw handleMessagingException(createCorrelationKey(message),
 					String.format("Unable to parse header %s", SolaceBinderHeaders.CONFIRM_CORRELATION), e);
 		}
 
-		XMLMessage xmlMessage = xmlMessageMapper.map(message, properties.getExtension().getHeaderExclusions(),
-				properties.getExtension().isNonserializableHeaderConvertToString());
-		correlationKey.setRawMessage(xmlMessage);
-		xmlMessage.setCorrelationKey(correlationKey);
+		DeliveryMode deliveryMode;
+		try {
+			DeliveryMode deliveryModeHeader = message.getHeaders().get(SolaceBinderHeaders.DELIVERY_MODE,
+					DeliveryMode.class);
+			deliveryMode = deliveryModeHeader != null ? deliveryModeHeader :
+					properties.getExtension().getDeliveryMode();
+		} catch (IllegalArgumentException e) {
+			throw handleMessagingException(createCorrelationKey(message),
+					String.format("Unable to parse header %s", SolaceBinderHeaders.DELIVERY_MODE), e);
+		}
+
+		// The broker never responds to direct messages, so there's nothing to track once the Solace API accepted them
+		if (deliveryMode == DeliveryMode.DIRECT) {
+			publish(message, targetTopic, deliveryMode, null);
+			if (correlationData != null) { // Only a correlation key can complete the confirmation
+				ErrorChannelSendingCorrelationKey correlationKey = createCorrelationKey(message);
+				correlationKey.setConfirmCorrelation(correlationData);
+				correlationKey.confirmSuccess();
+			}
+			return;
+		}
 
+		ErrorChannelSendingCorrelationKey correlationKey = createCorrelationKey(message);
+		correlationKey.setConfirmCorrelation(correlationData);
+		acquireInFlightPermit(correlationKey);
 		try {
-			producer.send(xmlMessage, targetTopic);
+			publish(message, targetTopic, deliveryMode, correlationKey);
+		} catch (RuntimeException e) {
+			correlationKey.settle(); // The broker won't respond to a message which couldn't be sent
+			throw e;
+		}
+	}
+
+	/**
+	 * <p>Publish a message without waiting for the broker's response.</p>
+	 * <p>Unlike {@link #handleMessage(Message)}, failures are never thrown, they complete the returned future
+	 * exceptionally instead. Combine with the {@code maxInFlight} producer config option so that a full publish window
+	 * doesn't block the caller inside the Solace API.</p>
+	 * @param message the message to publish
+	 * @return a future which is completed once the broker acknowledged the message, or completed exceptionally with
+	 * a {@link MessagingException} if the message couldn't be published
+	 */
+	public CompletableFuture<Void> sendAsync(Message<?> message) {
+		CorrelationData correlationData;
+		Object correlationHeader = message.getHeaders().get(SolaceBinderHeaders.CONFIRM_CORRELATION);
+		if (correlationHeader instanceof CorrelationData) {
+			correlationData = (CorrelationData) correlationHeader;
+		} else {
+			correlationData = new CorrelationData();
+			message = MessageBuilder.fromMessage(message)
+					.setHeader(SolaceBinderHeaders.CONFIRM_CORRELATION, correlationData)
+					.build();
+		}
+
+		try {
+			handleMessage(message);
+		} catch (MessagingException e) {
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+			return future;
+		}
+		return correlationData.getCompletableFuture();
+	}
+
+	private void acquireInFlightPermit(ErrorChannelSendingCorrelationKey correlationKey) {
+		Semaphore permits = inFlightPermits;
+		if (permits == null) {
+			return;
+		}
+
+		SolaceProducerProperties extension = properties.getExtension();
+		boolean acquired;
+		try {
+			// Parks the thread while waiting, which unlike a monitor doesn't pin virtual threads
+			acquired = extension.getInFlightLimitPolicy() == SolaceProducerProperties.InFlightLimitPolicy.PARK ?
+					permits.tryAcquire(extension.getMaxInFlightWaitTime(), TimeUnit.MILLISECONDS) :
+					permits.tryAcquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw handleMessagingException(correlationKey, "Interrupted while waiting to publish message", e);
+		}
+
+		if (!acquired) {
+			String msg = String.format("%s messages of binding %s are already awaiting a response from the broker",
+					extension.getMaxInFlight(), properties.getBindingName());
+			throw handleMessagingException(correlationKey, "Unable to publish message",
+					new InFlightLimitExceededException(msg));
+		}
+		correlationKey.setSettleListener(permits::release);
+	}
+
+	/**
+	 * Publish a message, split into chunks if needed.
+	 * @param correlationKey the input message's correlation key, or {@code null} for direct messages, which the broker
+	 * never responds to
+	 */
+	private void publish(Message<?> message, Topic targetTopic, DeliveryMode deliveryMode,
+						 @Nullable ErrorChannelSendingCorrelationKey correlationKey) {
+		Publisher publisher = selectPublisher(message);
+
+		int chunkSize = properties.getExtension().getChunkSize();
+		if (chunkSize > 0 && message.getPayload() instanceof byte[] &&
+				((byte[]) message.getPayload()).length > chunkSize) {
+			sendChunks(message, (byte[]) message.getPayload(), chunkSize, targetTopic, deliveryMode, correlationKey,
+					publisher);
+			return;
+		}
+
+		XMLMessage xmlMessage;
+		if (correlationKey == null) {
+			// Not pooled, there's no acknowledgement which would tell when the message can be reused
+			xmlMessage = xmlMessageMapper.map(message, unpooledMappingOptions);
+			xmlMessage.setDeliveryMode(deliveryMode);
+		} else {
+			xmlMessage = xmlMessageMapper.map(message, mappingOptions);
+			xmlMessage.setDeliveryMode(deliveryMode);
+			correlationKey.setRawMessage(xmlMessage);
+			correlationKey.setMessagePool(messagePool);
+			xmlMessage.setCorrelationKey(correlationKey);
+		}
+
+		// Record before sending, since a pooled message may be reused as soon as the broker acknowledges it
+		if (solaceMeterAccessor != null) {
+			solaceMeterAccessor.recordMessage(properties.getBindingName(), xmlMessage);
+		}
+
+		try {
+			send(publisher, xmlMessage, targetTopic, correlationKey);
 		} catch (JCSMPException e) {
-			throw handleMessagingException(correlationKey,
+			throw handleSendFailure(message, xmlMessage, correlationKey,
 					String.format("Unable to send message to topic %s", targetTopic.getName()), e);
-		} finally {
+		}
+	}
+
+	/**
+	 * Split the payload into multiple messages of at most {@code chunkSize} bytes. Every chunk carries the input
+	 * message's headers, and they all share the same correlation key so that the input message is only confirmed
+	 * once all chunks were acknowledged. Direct chunks have no correlation key, since they're never acknowledged.
+	 */
+	private void sendChunks(Message<?> message, byte[] payload, int chunkSize, Topic targetTopic,
+							DeliveryMode deliveryMode, @Nullable ErrorChannelSendingCorrelationKey correlationKey,
+							Publisher publisher) {
+		int chunkCount = (int) ((payload.length + (long) chunkSize - 1) / chunkSize);
+		String chunkId = UUID.randomUUID().toString();
+		if (correlationKey != null) {
+			correlationKey.setExpectedResponses(chunkCount);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Splitting %s byte payload of message %s into %s chunks <chunk ID: %s>",
+					payload.length, message.getHeaders().getId(), chunkCount, chunkId));
+		}
+
+		for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+			int from = chunkIndex * chunkSize;
+			byte[] chunk = Arrays.copyOfRange(payload, from, Math.min(from + chunkSize, payload.length));
+			XMLMessage xmlMessage = xmlMessageMapper.map(new GenericMessage<>(chunk, message.getHeaders()),
+					chunkMappingOptions);
+			xmlMessage.setDeliveryMode(deliveryMode);
+			try {
+				SDTMap metadata = xmlMessage.getProperties();
+				metadata.putString(SolaceBinderHeaders.CHUNK_ID, chunkId);
+				metadata.putInteger(SolaceBinderHeaders.CHUNK_INDEX, chunkIndex);
+				metadata.putInteger(SolaceBinderHeaders.CHUNK_COUNT, chunkCount);
+				xmlMessage.setProperties(metadata);
+			} catch (SDTException e) {
+				throw handleChunkFailure(message, xmlMessage, correlationKey,
+						String.format("Unable to set chunk properties of chunk %s", chunkIndex), e);
+			}
+			if (correlationKey != null) {
+				if (chunkIndex == 0) {
+					correlationKey.setRawMessage(xmlMessage);
+				}
+				xmlMessage.setCorrelationKey(correlationKey);
+			}
+
 			if (solaceMeterAccessor != null) {
 				solaceMeterAccessor.recordMessage(properties.getBindingName(), xmlMessage);
 			}
+
+			try {
+				send(publisher, xmlMessage, targetTopic, correlationKey);
+			} catch (JCSMPException e) {
+				throw handleChunkFailure(message, xmlMessage, correlationKey,
+						String.format("Unable to send chunk %s of %s to topic %s", chunkIndex, chunkCount,
+								targetTopic.getName()), e);
+			}
+		}
+	}
+
+	private MessagingException handleChunkFailure(Message<?> message, XMLMessage chunk,
+												  @Nullable ErrorChannelSendingCorrelationKey correlationKey,
+												  String msg, Exception e) {
+		if (correlationKey != null) {
+			correlationKey.markFailed(); // Acknowledgements of the previous chunks mustn't confirm the input message
+		}
+		return handleSendFailure(message, chunk, correlationKey, msg, e);
+	}
+
+	private Publisher selectPublisher(Message<?> message) {
+		if (publisherSessionKeyExpression == null || publishers.length == 1) {
+			return publishers[defaultPublisherIndex];
+		}
+
+		Object key;
+		try {
+			key = publisherSessionKeyExpression.getValue(evaluationContext, message);
+		} catch (ExpressionException e) {
+			logger.warn(String.format("Failed to evaluate publisher session key expression %s for message %s, " +
+							"sending it through the binding's default session",
+					publisherSessionKeyExpression.getExpressionString(), message.getHeaders().getId()), e);
+			return publishers[defaultPublisherIndex];
+		}
+
+		if (key == null) {
+			return publishers[defaultPublisherIndex];
+		}
+		int hash = key instanceof byte[] ? Arrays.hashCode((byte[]) key) : key.hashCode();
+		return publishers[Math.floorMod(hash, publishers.length)];
+	}
+
+	private void send(Publisher publisher, XMLMessage xmlMessage, Topic targetTopic,
+					  @Nullable ErrorChannelSendingCorrelationKey correlationKey) throws JCSMPException {
+		if (xmlMessage.getDeliveryMode() == DeliveryMode.DIRECT) {
+			publisher.producer.send(xmlMessage, targetTopic); // Bypasses the batcher and its in-flight bookkeeping
+			return;
+		}
+
+		publisher.producerManager.incrementInFlightCount();
+		try {
+			if (publisher.publishBatcher != null) {
+				publisher.publishBatcher.add(xmlMessage, targetTopic, correlationKey);
+			} else {
+				publisher.producer.send(xmlMessage, targetTopic);
+			}
+		} catch (JCSMPException | RuntimeException e) {
+			publisher.producerManager.decrementInFlightCount();
+			throw e;
+		}
+	}
+
+	/**
+	 * Handle a batched message which couldn't be sent. Its handler call has already returned, so the failure can only
+	 * be reported asynchronously, same as a failure response from the broker.
+	 */
+	private void handleBatchedSendFailure(ErrorChannelSendingCorrelationKey correlationKey, Destination destination,
+										  Exception cause) {
+		if (!correlationKey.markFailed()) {
+			return; // Another chunk of the input message already failed
+		}
+		correlationKey.settle();
+		MessagingException messagingException = handleMessagingException(correlationKey,
+				String.format("Unable to send message to topic %s", destination.getName()), cause);
+		correlationKey.confirmFailure(messagingException);
+	}
+
+	private void recordCompression(int uncompressedSize, int compressedSize, long nanos) {
+		if (solaceMeterAccessor != null) {
+			solaceMeterAccessor.recordCompression(properties.getBindingName(), uncompressedSize, compressedSize, nanos);
 		}
 	}
 
@@ -118,12 +450,37 @@ public class JCSMPOutboundMessageHandler implements MessageHandler, Lifecycle {
 			return;
 		}
 
-		try {
-			producer = producerManager.get(id);
-		} catch (Exception e) {
-			String msg = String.format("Unable to get a message producer for session %s", jcsmpSession.getSessionName());
-			logger.warn(msg, e);
-			throw new RuntimeException(msg, e);
+		TopicCache topicCache = destinationResolver.getTopicCache();
+		if (solaceMeterAccessor != null && topicCache != null) {
+			solaceMeterAccessor.registerDestinationCache(properties.getBindingName(), topicCache,
+					TopicCache::getHitCount, TopicCache::getMissCount);
+		}
+
+		inFlightPermits = properties.getExtension().getMaxInFlight() > 0 ?
+				new Semaphore(properties.getExtension().getMaxInFlight()) : null;
+
+		if (properties.getExtension().getPublishBatchSize() > 1) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solace-scst-publish-batcher-");
+			threadFactory.setDaemon(true);
+			publishBatchScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		}
+
+		defaultPublisherIndex = Math.floorMod(Objects.hashCode(properties.getBindingName()), producerManagers.size());
+		publishers = new Publisher[producerManagers.size()];
+		for (int i = 0; i < producerManagers.size(); i++) {
+			if (i != defaultPublisherIndex && publisherSessionKeyExpression == null) {
+				continue;
+			}
+			JCSMPSessionProducerManager producerManager = producerManagers.get(i);
+			try {
+				publishers[i] = createPublisher(producerManager);
+			} catch (Exception e) {
+				releasePublishers();
+				String msg = String.format("Unable to get a message producer for session %s",
+						producerManager.getSessionName());
+				logger.warn(msg, e);
+				throw new RuntimeException(msg, e);
+			}
 		}
 
 		isRunning = true;
@@ -133,10 +490,46 @@ public class JCSMPOutboundMessageHandler implements MessageHandler, Lifecycle {
 	public void stop() {
 		if (!isRunning()) return;
 		logger.info(String.format("Stopping producer to topic %s <message handler ID: %s>", topic.getName(), id));
-		producerManager.release(id);
+		releasePublishers();
+		if (solaceMeterAccessor != null && destinationResolver.getTopicCache() != null) {
+			solaceMeterAccessor.unregisterDestinationCache(properties.getBindingName());
+		}
 		isRunning = false;
 	}
 
+	private Publisher createPublisher(JCSMPSessionProducerManager producerManager) throws Exception {
+		XMLMessageProducer producer = producerManager.get(id);
+
+		SolaceProducerProperties extension = properties.getExtension();
+		PublishBatcher publishBatcher = null;
+		if (extension.getPublishBatchSize() > 1) {
+			publishBatcher = new PublishBatcher(producer, extension.getPublishBatchSize(),
+					extension.getPublishBatchMaxBytes(), extension.getPublishBatchLingerTime(), publishBatchScheduler,
+					(correlationKey, destination, cause) -> {
+						producerManager.decrementInFlightCount();
+						handleBatchedSendFailure(correlationKey, destination, cause);
+					});
+		}
+		return new Publisher(producerManager, producer, publishBatcher);
+	}
+
+	private void releasePublishers() {
+		for (int i = 0; i < publishers.length; i++) {
+			if (publishers[i] == null) {
+				continue;
+			}
+			if (publishers[i].publishBatcher != null) {
+				publishers[i].publishBatcher.close();
+			}
+			publishers[i].producerManager.release(id);
+			publishers[i] = null;
+		}
+		if (publishBatchScheduler != null) {
+			publishBatchScheduler.shutdownNow();
+			publishBatchScheduler = null;
+		}
+	}
+
 	@Override
 	public boolean isRunning() {
 		return isRunning;
@@ -146,9 +539,40 @@ public class JCSMPOutboundMessageHandler implements MessageHandler, Lifecycle {
 		this.errorMessageStrategy = errorMessageStrategy;
 	}
 
+	private ErrorChannelSendingCorrelationKey createCorrelationKey(Message<?> message) {
+		return new ErrorChannelSendingCorrelationKey(message, errorChannel, errorMessageStrategy);
+	}
+
+	/**
+	 * Handle a message which couldn't be sent. Direct messages only get a correlation key once they failed, which
+	 * sends them to the error channel.
+	 */
+	private MessagingException handleSendFailure(Message<?> message, XMLMessage xmlMessage,
+												 @Nullable ErrorChannelSendingCorrelationKey correlationKey,
+												 String msg, Exception e) {
+		if (correlationKey == null) {
+			correlationKey = createCorrelationKey(message);
+			correlationKey.setRawMessage(xmlMessage);
+		}
+		return handleMessagingException(correlationKey, msg, e);
+	}
+
 	private MessagingException handleMessagingException(ErrorChannelSendingCorrelationKey key, String msg, Exception e)
 			throws MessagingException {
 		logger.warn(msg, e);
 		return key.send(msg, e);
 	}
+
+	private static final class Publisher {
+		private final JCSMPSessionProducerManager producerManager;
+		private final XMLMessageProducer producer;
+		@Nullable private final PublishBatcher publishBatcher;
+
+		private Publisher(JCSMPSessionProducerManager producerManager, XMLMessageProducer producer,
+						  @Nullable PublishBatcher publishBatcher) {
+			this.producerManager = producerManager;
+			this.producer = producer;
+			this.publishBatcher = publishBatcher;
+		}
+	}
 }
@@ -0,0 +1,217 @@
+package com.solace.spring.cloud.stream.binder.outbound;
+
+import com.solace.spring.cloud.stream.binder.util.ErrorChannelSendingCorrelationKey;
+import com.solacesystems.jcsmp.Destination;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.JCSMPSendMultipleEntry;
+import com.solacesystems.jcsmp.XMLMessage;
+import com.solacesystems.jcsmp.XMLMessageProducer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Accumulates messages to publish and sends them with {@link XMLMessageProducer#sendMultiple}.</p>
+ * <p>The accumulated messages are sent once there are {@code maxSize} of them, once their payloads add up to
+ * {@code maxBytes}, or once the first of them has waited for the linger time. Messages are sent in the order that
+ * they were added.</p>
+ * <p>Since messages are sent after they were added, failures to send them are passed to the failure handler instead
+ * of being thrown to the caller.</p>
+ * <p>Messages can be added while a batch is being sent. Only the sends themselves are serialized, so that batches
+ * can't overtake each other.</p>
+ */
+class PublishBatcher {
+	/**
+	 * The max number of messages that JCSMP accepts per {@link XMLMessageProducer#sendMultiple} call.
+	 */
+	static final int MAX_SEND_MULTIPLE_SIZE = 50;
+
+	private final XMLMessageProducer producer;
+	private final int maxSize;
+	private final long maxBytes;
+	private final long lingerMillis;
+	private final FailureHandler failureHandler;
+	private final ScheduledExecutorService scheduler;
+	private final Object sendLock = new Object(); // Taken before lock
+	private final Object lock = new Object();
+	private List<Entry> pending;
+	private long pendingBytes = 0;
+	private long generation = 0; // incremented on every flush, so that a scheduled flush can tell if it's outdated
+	private boolean closed = false;
+
+	private static final Log logger = LogFactory.getLog(PublishBatcher.class);
+
+	/**
+	 * @param producer the producer to send messages with
+	 * @param maxSize the max number of messages to accumulate
+	 * @param maxBytes the max total payload size in bytes of the accumulated messages, or {@code 0} for no limit
+	 * @param lingerMillis the max time in milliseconds that a message waits to be sent
+	 * @param scheduler schedules the sends of lingering messages. Not shut down by this batcher.
+	 * @param failureHandler handles the messages which couldn't be sent
+	 */
+	PublishBatcher(XMLMessageProducer producer, int maxSize, long maxBytes, long lingerMillis,
+				   ScheduledExecutorService scheduler, FailureHandler failureHandler) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException(String.format("Expected max size >= 1, but was %s", maxSize));
+		}
+		if (lingerMillis < 1) {
+			throw new IllegalArgumentException(String.format("Expected linger time >= 1, but was %s", lingerMillis));
+		}
+		this.producer = producer;
+		this.maxSize = maxSize;
+		this.maxBytes = maxBytes;
+		this.lingerMillis = lingerMillis;
+		this.scheduler = scheduler;
+		this.failureHandler = failureHandler;
+		this.pending = new ArrayList<>(maxSize);
+	}
+
+	/**
+	 * Add a message to send.
+	 * @param xmlMessage the message, whose correlation key must be {@code correlationKey}
+	 * @param destination the destination to send the message to
+	 * @param correlationKey the message's correlation key
+	 * @throws IllegalStateException if this batcher is closed
+	 */
+	void add(XMLMessage xmlMessage, Destination destination, ErrorChannelSendingCorrelationKey correlationKey) {
+		boolean isFull;
+		synchronized (lock) {
+			if (closed) {
+				throw new IllegalStateException("Publish batcher is closed");
+			}
+
+			pending.add(new Entry(xmlMessage, destination, correlationKey));
+			pendingBytes += xmlMessage.getAttachmentContentLength() + xmlMessage.getContentLength();
+			isFull = pending.size() >= maxSize || (maxBytes > 0 && pendingBytes >= maxBytes);
+			if (!isFull && pending.size() == 1) {
+				long scheduledGeneration = generation;
+				scheduler.schedule(() -> flush(scheduledGeneration), lingerMillis, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		if (isFull) {
+			flush();
+		}
+	}
+
+	/**
+	 * Send all accumulated messages now.
+	 */
+	void flush() {
+		synchronized (sendLock) {
+			List<Entry> batch;
+			synchronized (lock) {
+				batch = takePendingLocked();
+			}
+			send(batch);
+		}
+	}
+
+	/**
+	 * Stop accepting new messages, then send all accumulated messages.
+	 */
+	void close() {
+		synchronized (sendLock) {
+			List<Entry> batch;
+			synchronized (lock) {
+				if (closed) {
+					return;
+				}
+				closed = true;
+				batch = takePendingLocked();
+			}
+			send(batch);
+		}
+	}
+
+	int getNumPending() {
+		synchronized (lock) {
+			return pending.size();
+		}
+	}
+
+	private void flush(long scheduledGeneration) {
+		synchronized (sendLock) {
+			List<Entry> batch;
+			synchronized (lock) {
+				if (generation != scheduledGeneration) {
+					return;
+				}
+				batch = takePendingLocked();
+			}
+			send(batch);
+		}
+	}
+
+	private List<Entry> takePendingLocked() {
+		generation++;
+		if (pending.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Entry> batch = pending;
+		pending = new ArrayList<>(maxSize);
+		pendingBytes = 0;
+		return batch;
+	}
+
+	// Caller holds sendLock
+	private void send(List<Entry> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		JCSMPSendMultipleEntry[] entries = new JCSMPSendMultipleEntry[batch.size()];
+		for (int i = 0; i < entries.length; i++) {
+			Entry entry = batch.get(i);
+			entries[i] = JCSMPFactory.onlyInstance().createSendMultipleEntry(entry.xmlMessage, entry.destination);
+		}
+
+		if (logger.isTraceEnabled()) {
+			logger.trace(String.format("Sending batch of %s messages", entries.length));
+		}
+
+		int offset = 0;
+		try {
+			while (offset < entries.length) {
+				int sent = producer.sendMultiple(entries, offset,
+						Math.min(entries.length - offset, MAX_SEND_MULTIPLE_SIZE), 0);
+				if (sent <= 0) {
+					throw new IllegalStateException(String.format("Producer didn't send any of the remaining %s " +
+							"messages of the batch", entries.length - offset));
+				}
+				offset += sent;
+			}
+		} catch (Exception e) {
+			for (Entry entry : batch.subList(offset, batch.size())) {
+				failureHandler.onFailure(entry.correlationKey, entry.destination, e);
+			}
+		}
+	}
+
+	/**
+	 * Handles a message which couldn't be sent.
+	 */
+	@FunctionalInterface
+	interface FailureHandler {
+		void onFailure(ErrorChannelSendingCorrelationKey correlationKey, Destination destination, Exception cause);
+	}
+
+	private static final class Entry {
+		private final XMLMessage xmlMessage;
+		private final Destination destination;
+		private final ErrorChannelSendingCorrelationKey correlationKey;
+
+		private Entry(XMLMessage xmlMessage, Destination destination,
+					  ErrorChannelSendingCorrelationKey correlationKey) {
+			this.xmlMessage = xmlMessage;
+			this.destination = destination;
+			this.correlationKey = correlationKey;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.solace.spring.cloud.stream.binder.outbound;
+
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.Topic;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A bounded cache of {@link Topic} objects by topic name, which is cleared once full.</p>
+ * <p>Saves creating a new {@link Topic} for every message published to a dynamic destination. Lookups don't lock, and
+ * the size bound is approximate under concurrent misses.</p>
+ */
+class TopicCache {
+	private final int maxSize;
+	private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param maxSize the max number of topics to cache
+	 */
+	TopicCache(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException(String.format("Expected max size >= 1, but was %s", maxSize));
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Get the topic with the given name, creating it if it isn't cached.
+	 * @param topicName the topic name
+	 * @return the topic
+	 */
+	Topic get(String topicName) {
+		Topic topic = topics.get(topicName);
+		if (topic != null) {
+			hits.increment();
+			return topic;
+		}
+
+		misses.increment();
+		if (topics.size() >= maxSize) {
+			// Cheaper than tracking usage on every hit, and destinations which are still in use come back on their
+			// next miss
+			topics.clear();
+		}
+		// A concurrent miss for the same name just creates an equal topic
+		topic = JCSMPFactory.onlyInstance().createTopic(topicName);
+		Topic existing = topics.putIfAbsent(topicName, topic);
+		return existing != null ? existing : topic;
+	}
+
+	int size() {
+		return topics.size();
+	}
+
+	long getHitCount() {
+		return hits.sum();
+	}
+
+	long getMissCount() {
+		return misses.sum();
+	}
+}
@@ -29,6 +29,76 @@ public class SolaceConsumerProperties extends SolaceCommonProperties {
 	@Min(0)
 	private int batchTimeout = 5000;
 
+	/**
+	 * <p>The maximum total size in bytes of the messages per batch, as measured by their content and attachment
+	 * lengths. A batch is processed as soon as this size is reached, even if it has fewer than
+	 * {@code batchMaxSize} messages. A value of {@code 0} means there is no size limit.</p>
+	 * <p>Only applicable when {@code batchMode} is {@code true}.</p>
+	 */
+	@Min(0)
+	private long batchMaxBytes = 0;
+
+	/**
+	 * <p>The target time in milliseconds to process a batch. If set, the number of messages per batch is adapted
+	 * between 1 and {@code batchMaxSize} based on how long previous batches took to process, so that batches are
+	 * processed in about this time. A value of {@code 0} disables adaptive batch sizing.</p>
+	 * <p>Only applicable when {@code batchMode} is {@code true}.</p>
+	 */
+	@Min(0)
+	private long batchTargetLatency = 0;
+
+	/**
+	 * <p>If {@code true}, the headers which are mapped from a message's user properties (including Java-serialized
+	 * headers) are only decoded when they are first accessed instead of when the message is received. This is
+	 * useful for messages with many user properties where only a few of them are read.</p>
+	 * <p>Since decoding is deferred, a header which cannot be decoded fails when it is accessed instead of causing
+	 * the message to be rejected on receipt. Operations which need every header, such as iterating over the headers
+	 * or copying them to a new message, will decode all of them.</p>
+	 */
+	private boolean lazyHeaders = false;
+
+	/**
+	 * <p>If {@code true}, the payload of a binary message which the publisher didn't encode or compress is a
+	 * read-only {@link java.nio.ByteBuffer ByteBuffer} view of the message's data instead of a {@code byte[]} copy.</p>
+	 * <p>The buffer must not be used once the message is acknowledged.</p>
+	 */
+	private boolean byteBufferPayload = false;
+
+	/**
+	 * <p>Only applicable when {@code batchMode} is {@code true}. If {@code true}, the batched headers
+	 * ({@code solace_batchedHeaders}) are a {@link com.solace.spring.cloud.stream.binder.util.ColumnarBatchHeaders
+	 * ColumnarBatchHeaders}, which stores one column of values per header name instead of one map per message. It's
+	 * still a {@code List<Map<String, Object>>} for compatibility.</p>
+	 * <p>{@code lazyHeaders} doesn't apply to columnar batch headers.</p>
+	 */
+	private boolean columnarBatchHeaders = false;
+
+	/**
+	 * <p>If {@code true}, chunked messages (i.e. messages which the publisher split into multiple fragments) are
+	 * reassembled by a dedicated worker thread per consumer flow before being processed. Otherwise, each fragment is
+	 * processed as a separate message.</p>
+	 * <p>All the fragments of a chunked message must be received in order by the same flow, so this is rejected for
+	 * non-exclusive queues with a {@code concurrency} or {@code concurrencyAutoscaleMax} greater than {@code 1}.</p>
+	 * <p>The flow is stopped while {@code dispatchBufferSize} fragments are waiting to be reassembled.</p>
+	 */
+	private boolean chunkReassembly = false;
+
+	/**
+	 * <p>The maximum size in bytes of a chunked message (i.e. a message which the publisher split into multiple
+	 * fragments) which is reassembled in memory. Larger messages are reassembled in a temporary file instead, and
+	 * their payload is an {@link java.io.InputStream InputStream} which deletes the file once closed.</p>
+	 * <p>The fragments of a chunked message are only acknowledged once the reassembled message is processed.</p>
+	 */
+	@Min(0)
+	private long chunkReassemblyMaxInMemorySize = 16 * 1024 * 1024;
+
+	/**
+	 * <p>The maximum time in milliseconds to wait for the next fragment of a chunked message. Once expired, the
+	 * fragments received so far are rejected. A value of {@code 0} means wait forever.</p>
+	 */
+	@Min(0)
+	private long chunkReassemblyTimeout = 60000;
+
 	/**
 	 * Maximum wait time for polled consumers to receive a message from their consumer group queue.
 	 * <p>Only applicable when {@code batchMode} is {@code false}.</p>
@@ -58,6 +128,141 @@ public class SolaceConsumerProperties extends SolaceCommonProperties {
 	@Min(1)
 	private double flowRebindBackOffMultiplier = 1.5;
 
+	/**
+	 * <p>The type of executor on which this binding's consumer workers are run. Each consumer worker occupies a
+	 * thread for as long as the binding is running.</p>
+	 * <ul>
+	 *     <li>{@code dedicated}: A new fixed thread pool is created for this binding each time it is started. It
+	 *     has enough threads for the most consumer workers the binding can have.</li>
+	 *     <li>{@code shared}: Threads are taken from a bounded pool shared by all bindings of this binder, and are
+	 *     reused across binding restarts. Its size is set by the binder's {@code sharedConsumerWorkerPoolSize}. The
+	 *     binding fails to start if the pool has no room for its workers.</li>
+	 *     <li>{@code virtual}: Each consumer worker runs on a virtual thread. Requires Java 21 or later.</li>
+	 * </ul>
+	 * <p>Ignored if {@code workerExecutorBeanName} is set.</p>
+	 */
+	private WorkerExecutorType workerExecutorType = WorkerExecutorType.DEDICATED;
+
+	/**
+	 * <p>The name of a {@link java.util.concurrent.Executor Executor} bean (e.g. a Spring {@code TaskExecutor})
+	 * on which this binding's consumer workers are run.</p>
+	 * <p>The executor must be able to run all of this binding's consumer workers concurrently, and it isn't shut
+	 * down by the binder.</p>
+	 */
+	private String workerExecutorBeanName = null;
+
+	/**
+	 * <p>The number of dispatch workers per consumer flow. If greater than {@code 0}, each consumer flow's receiving
+	 * thread only receives messages and hands them off to its dispatch workers to be processed. The flow is
+	 * stopped while all the dispatch workers are busy and {@code dispatchBufferSize} messages are waiting for them.
+	 * </p>
+	 * <p>Message ordering is not preserved across dispatch workers unless an {@code orderingKeyExpression} is
+	 * configured.</p>
+	 * <p>Not applicable for batched consumers.</p>
+	 */
+	@Min(0)
+	private int dispatchWorkers = 0;
+
+	/**
+	 * <p>The maximum number of received messages per consumer flow which can be waiting for a dispatch worker, or
+	 * for the chunk reassembly worker.</p>
+	 * <p>Only applicable when {@code dispatchWorkers} is greater than {@code 0} or {@code chunkReassembly} is
+	 * {@code true}.</p>
+	 */
+	@Min(1)
+	private int dispatchBufferSize = 256;
+
+	/**
+	 * <p>A SpEL expression which resolves the ordering key of a received message, e.g.
+	 * {@code headers.solace_correlationId}. The expression is evaluated against a root object whose
+	 * {@code headers} property contains the message's Solace headers and its raw user properties.</p>
+	 * <p>When set, each dispatch worker gets its own lane of {@code dispatchBufferSize} messages, and messages are
+	 * assigned to lanes by the hash of their ordering key. Messages with the same ordering key are processed in
+	 * order, one at a time. Messages whose ordering key is {@code null} all go to the same lane.</p>
+	 * <p>This allows an exclusive queue, which only supports a {@code concurrency} of {@code 1}, to be processed
+	 * in parallel while still preserving the order of messages within each key.</p>
+	 * <p>Only applicable when {@code dispatchWorkers} is greater than {@code 0}.</p>
+	 */
+	private String orderingKeyExpression = null;
+
+	/**
+	 * <p>If {@code true}, consumer flows push messages to the binder from the JCSMP context thread instead of being
+	 * polled by a dedicated thread per flow. Combine with {@code dispatchWorkers} to hand off processing from the
+	 * context thread to a pool of dispatch workers.</p>
+	 * <p><b>Caution:</b> A session only has one context thread which is shared by all of its flows. A slow
+	 * handler without dispatch workers will therefore delay the delivery of every other consumer binding.</p>
+	 * <p>Not applicable to polled consumers.</p>
+	 */
+	private boolean pushMode = false;
+
+	/**
+	 * <p>The maximum number of consumer flows which the binding may scale up to. The binding's {@code concurrency}
+	 * is the minimum.</p>
+	 * <p>Consumer flows are added while their processing threads are busy for at least
+	 * {@code concurrencyAutoscaleUpThreshold} of the time, and gracefully drained and removed while they are busy
+	 * for at most {@code concurrencyAutoscaleDownThreshold} of the time.</p>
+	 * <p>Autoscaling is disabled if this is less than or equal to {@code concurrency}. Not applicable to exclusive
+	 * queues, anonymous consumer groups, or polled consumers.</p>
+	 */
+	@Min(0)
+	private int concurrencyAutoscaleMax = 0;
+
+	/**
+	 * The interval in milliseconds at which the consumer flows' load is sampled for autoscaling.
+	 */
+	@Min(1)
+	private long concurrencyAutoscaleInterval = 5000;
+
+	/**
+	 * The minimum time in milliseconds between two autoscaling actions.
+	 */
+	@Min(0)
+	private long concurrencyAutoscaleCooldown = 30000;
+
+	/**
+	 * The ratio (between {@code 0} and {@code 1}) of time which processing threads must be busy for before
+	 * a consumer flow is added.
+	 */
+	private double concurrencyAutoscaleUpThreshold = 0.8;
+
+	/**
+	 * The ratio (between {@code 0} and {@code 1}) of time which processing threads must be busy for at most before
+	 * a consumer flow is removed. Must be less than {@code concurrencyAutoscaleUpThreshold}.
+	 */
+	private double concurrencyAutoscaleDownThreshold = 0.3;
+
+	/**
+	 * <p>If {@code true}, messages are consumed through topic subscriptions on the binder's session instead of a
+	 * queue. No queue or consumer flow is created, and messages aren't acknowledged, so they are delivered at most
+	 * once and can't be redelivered.</p>
+	 * <p>The binding subscribes to its destination and to its {@code queueAdditionalSubscriptions}. Only supported
+	 * for anonymous consumer groups with a {@code concurrency} of {@code 1}. Not applicable to batched or polled
+	 * consumers.</p>
+	 */
+	private boolean directSubscription = false;
+
+	/**
+	 * <p>The maximum number of received direct messages which can be waiting to be processed. Once full, messages
+	 * are dropped according to {@code directDropPolicy}.</p>
+	 * <p>If {@code 0}, messages are processed on the JCSMP context thread as they are received, which has the
+	 * lowest latency. Though a session only has one context thread, so a slow handler will delay the delivery of
+	 * every other consumer binding and publisher acknowledgement of the session.</p>
+	 * <p>Only applicable when {@code directSubscription} is {@code true}.</p>
+	 */
+	@Min(0)
+	private int directBufferSize = 1024;
+
+	/**
+	 * <p>Which message to drop when a direct message is received while {@code directBufferSize} messages are
+	 * waiting to be processed.</p>
+	 * <ul>
+	 *     <li>{@code drop_oldest}: Drop the message which has been waiting the longest.</li>
+	 *     <li>{@code drop_newest}: Drop the received message.</li>
+	 * </ul>
+	 * <p>Only applicable when {@code directSubscription} is {@code true}.</p>
+	 */
+	private DirectDropPolicy directDropPolicy = DirectDropPolicy.DROP_OLDEST;
+
 	/**
 	 * An array of additional topic subscriptions to be applied on the consumer group queue.
 	 * These subscriptions may also contain wildcards.
@@ -167,6 +372,75 @@ public class SolaceConsumerProperties extends SolaceCommonProperties {
 		this.batchTimeout = batchTimeout;
 	}
 
+	public long getBatchMaxBytes() {
+		return batchMaxBytes;
+	}
+
+	public void setBatchMaxBytes(long batchMaxBytes) {
+		Assert.isTrue(batchMaxBytes >= 0, "max batch bytes must be greater than or equal to 0");
+		this.batchMaxBytes = batchMaxBytes;
+	}
+
+	public long getBatchTargetLatency() {
+		return batchTargetLatency;
+	}
+
+	public void setBatchTargetLatency(long batchTargetLatency) {
+		Assert.isTrue(batchTargetLatency >= 0, "batch target latency must be greater than or equal to 0");
+		this.batchTargetLatency = batchTargetLatency;
+	}
+
+	public boolean isLazyHeaders() {
+		return lazyHeaders;
+	}
+
+	public void setLazyHeaders(boolean lazyHeaders) {
+		this.lazyHeaders = lazyHeaders;
+	}
+
+	public boolean isByteBufferPayload() {
+		return byteBufferPayload;
+	}
+
+	public void setByteBufferPayload(boolean byteBufferPayload) {
+		this.byteBufferPayload = byteBufferPayload;
+	}
+
+	public boolean isColumnarBatchHeaders() {
+		return columnarBatchHeaders;
+	}
+
+	public void setColumnarBatchHeaders(boolean columnarBatchHeaders) {
+		this.columnarBatchHeaders = columnarBatchHeaders;
+	}
+
+	public boolean isChunkReassembly() {
+		return chunkReassembly;
+	}
+
+	public void setChunkReassembly(boolean chunkReassembly) {
+		this.chunkReassembly = chunkReassembly;
+	}
+
+	public long getChunkReassemblyMaxInMemorySize() {
+		return chunkReassemblyMaxInMemorySize;
+	}
+
+	public void setChunkReassemblyMaxInMemorySize(long chunkReassemblyMaxInMemorySize) {
+		Assert.isTrue(chunkReassemblyMaxInMemorySize >= 0,
+				"chunk reassembly max in-memory size must be greater than or equal to 0");
+		this.chunkReassemblyMaxInMemorySize = chunkReassemblyMaxInMemorySize;
+	}
+
+	public long getChunkReassemblyTimeout() {
+		return chunkReassemblyTimeout;
+	}
+
+	public void setChunkReassemblyTimeout(long chunkReassemblyTimeout) {
+		Assert.isTrue(chunkReassemblyTimeout >= 0, "chunk reassembly timeout must be greater than or equal to 0");
+		this.chunkReassemblyTimeout = chunkReassemblyTimeout;
+	}
+
 	public int getPolledConsumerWaitTimeInMillis() {
 		return polledConsumerWaitTimeInMillis;
 	}
@@ -213,6 +487,129 @@ public class SolaceConsumerProperties extends SolaceCommonProperties {
 		this.flowRebindBackOffMultiplier = flowRebindBackOffMultiplier;
 	}
 
+	public WorkerExecutorType getWorkerExecutorType() {
+		return workerExecutorType;
+	}
+
+	public void setWorkerExecutorType(WorkerExecutorType workerExecutorType) {
+		this.workerExecutorType = workerExecutorType;
+	}
+
+	public String getWorkerExecutorBeanName() {
+		return workerExecutorBeanName;
+	}
+
+	public void setWorkerExecutorBeanName(String workerExecutorBeanName) {
+		this.workerExecutorBeanName = workerExecutorBeanName;
+	}
+
+	public int getDispatchWorkers() {
+		return dispatchWorkers;
+	}
+
+	public void setDispatchWorkers(int dispatchWorkers) {
+		Assert.isTrue(dispatchWorkers >= 0, "dispatch workers must be greater than or equal to 0");
+		this.dispatchWorkers = dispatchWorkers;
+	}
+
+	public int getDispatchBufferSize() {
+		return dispatchBufferSize;
+	}
+
+	public void setDispatchBufferSize(int dispatchBufferSize) {
+		Assert.isTrue(dispatchBufferSize >= 1, "dispatch buffer size must be greater than 0");
+		this.dispatchBufferSize = dispatchBufferSize;
+	}
+
+	public String getOrderingKeyExpression() {
+		return orderingKeyExpression;
+	}
+
+	public void setOrderingKeyExpression(String orderingKeyExpression) {
+		this.orderingKeyExpression = orderingKeyExpression;
+	}
+
+	public boolean isPushMode() {
+		return pushMode;
+	}
+
+	public void setPushMode(boolean pushMode) {
+		this.pushMode = pushMode;
+	}
+
+	public int getConcurrencyAutoscaleMax() {
+		return concurrencyAutoscaleMax;
+	}
+
+	public void setConcurrencyAutoscaleMax(int concurrencyAutoscaleMax) {
+		Assert.isTrue(concurrencyAutoscaleMax >= 0, "concurrency autoscale max must be greater than or equal to 0");
+		this.concurrencyAutoscaleMax = concurrencyAutoscaleMax;
+	}
+
+	public long getConcurrencyAutoscaleInterval() {
+		return concurrencyAutoscaleInterval;
+	}
+
+	public void setConcurrencyAutoscaleInterval(long concurrencyAutoscaleInterval) {
+		Assert.isTrue(concurrencyAutoscaleInterval >= 1, "concurrency autoscale interval must be greater than 0");
+		this.concurrencyAutoscaleInterval = concurrencyAutoscaleInterval;
+	}
+
+	public long getConcurrencyAutoscaleCooldown() {
+		return concurrencyAutoscaleCooldown;
+	}
+
+	public void setConcurrencyAutoscaleCooldown(long concurrencyAutoscaleCooldown) {
+		Assert.isTrue(concurrencyAutoscaleCooldown >= 0,
+				"concurrency autoscale cooldown must be greater than or equal to 0");
+		this.concurrencyAutoscaleCooldown = concurrencyAutoscaleCooldown;
+	}
+
+	public double getConcurrencyAutoscaleUpThreshold() {
+		return concurrencyAutoscaleUpThreshold;
+	}
+
+	public void setConcurrencyAutoscaleUpThreshold(double concurrencyAutoscaleUpThreshold) {
+		Assert.isTrue(concurrencyAutoscaleUpThreshold > 0 && concurrencyAutoscaleUpThreshold <= 1,
+				"concurrency autoscale up threshold must be greater than 0 and less than or equal to 1");
+		this.concurrencyAutoscaleUpThreshold = concurrencyAutoscaleUpThreshold;
+	}
+
+	public double getConcurrencyAutoscaleDownThreshold() {
+		return concurrencyAutoscaleDownThreshold;
+	}
+
+	public void setConcurrencyAutoscaleDownThreshold(double concurrencyAutoscaleDownThreshold) {
+		Assert.isTrue(concurrencyAutoscaleDownThreshold >= 0 && concurrencyAutoscaleDownThreshold < 1,
+				"concurrency autoscale down threshold must be greater than or equal to 0 and less than 1");
+		this.concurrencyAutoscaleDownThreshold = concurrencyAutoscaleDownThreshold;
+	}
+
+	public boolean isDirectSubscription() {
+		return directSubscription;
+	}
+
+	public void setDirectSubscription(boolean directSubscription) {
+		this.directSubscription = directSubscription;
+	}
+
+	public int getDirectBufferSize() {
+		return directBufferSize;
+	}
+
+	public void setDirectBufferSize(int directBufferSize) {
+		Assert.isTrue(directBufferSize >= 0, "direct buffer size must be greater than or equal to 0");
+		this.directBufferSize = directBufferSize;
+	}
+
+	public DirectDropPolicy getDirectDropPolicy() {
+		return directDropPolicy;
+	}
+
+	public void setDirectDropPolicy(DirectDropPolicy directDropPolicy) {
+		this.directDropPolicy = directDropPolicy;
+	}
+
 	public String[] getQueueAdditionalSubscriptions() {
 		return queueAdditionalSubscriptions;
 	}
@@ -359,4 +756,15 @@ public class SolaceConsumerProperties extends SolaceCommonProperties {
 	public void setErrorMsgTtl(Long errorMsgTtl) {
 		this.errorMsgTtl = errorMsgTtl;
 	}
+
+	public enum WorkerExecutorType {
+		DEDICATED,
+		SHARED,
+		VIRTUAL
+	}
+
+	public enum DirectDropPolicy {
+		DROP_OLDEST,
+		DROP_NEWEST
+	}
 }
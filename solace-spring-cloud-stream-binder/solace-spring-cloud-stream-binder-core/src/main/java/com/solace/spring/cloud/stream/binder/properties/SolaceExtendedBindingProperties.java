@@ -3,6 +3,7 @@ package com.solace.spring.cloud.stream.binder.properties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cloud.stream.binder.AbstractExtendedBindingProperties;
 import org.springframework.cloud.stream.binder.BinderSpecificPropertiesProvider;
+import org.springframework.util.Assert;
 
 import java.util.Map;
 
@@ -12,6 +13,41 @@ public class SolaceExtendedBindingProperties
 
 	protected static final String DEFAULTS_PREFIX = "spring.cloud.stream.solace.default";
 
+	/**
+	 * <p>The number of JCSMP sessions which producer bindings publish through. Each session has its own I/O thread
+	 * and its own guaranteed message publish window.</p>
+	 * <p>The binder's main session is the first publisher session, so a value of {@code 1} publishes everything
+	 * through the main session.</p>
+	 */
+	private int publisherSessionPoolSize = 1;
+
+	/**
+	 * <p>The maximum number of threads of the pool shared by consumer bindings whose {@code workerExecutorType} is
+	 * {@code shared}.</p>
+	 * <p>Each consumer worker occupies a thread for as long as its binding is running. A binding fails to start
+	 * if the pool has no room for its workers.</p>
+	 */
+	private int sharedConsumerWorkerPoolSize = 256;
+
+	public int getPublisherSessionPoolSize() {
+		return publisherSessionPoolSize;
+	}
+
+	public void setPublisherSessionPoolSize(int publisherSessionPoolSize) {
+		Assert.isTrue(publisherSessionPoolSize >= 1, "publisher session pool size must be greater than or equal to 1");
+		this.publisherSessionPoolSize = publisherSessionPoolSize;
+	}
+
+	public int getSharedConsumerWorkerPoolSize() {
+		return sharedConsumerWorkerPoolSize;
+	}
+
+	public void setSharedConsumerWorkerPoolSize(int sharedConsumerWorkerPoolSize) {
+		Assert.isTrue(sharedConsumerWorkerPoolSize >= 1,
+				"shared consumer worker pool size must be greater than or equal to 1");
+		this.sharedConsumerWorkerPoolSize = sharedConsumerWorkerPoolSize;
+	}
+
 	@Override
 	public String getDefaultsPrefix() {
 		return DEFAULTS_PREFIX;
@@ -1,7 +1,10 @@
 package com.solace.spring.cloud.stream.binder.properties;
 
+import com.solacesystems.jcsmp.DeliveryMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
 
+import javax.validation.constraints.Min;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -42,6 +45,104 @@ public class SolaceProducerProperties extends SolaceCommonProperties {
 	 * When set to true, irreversibly convert non-serializable headers to strings. An exception is thrown otherwise.
 	 */
 	private boolean nonserializableHeaderConvertToString = false;
+	/**
+	 * The encoding of header values which aren't natively supported by Solace message user properties.
+	 * One of: base64 (Java serialization, Base64-encoded, JMS-compatible), binary (Java serialization as raw bytes),
+	 * compact (compact binary encoding for common types, falls back to Java serialization), or the name of a custom
+	 * header codec. Consumers must support the same encoding.
+	 */
+	private String serializedHeadersEncoding = "base64";
+	/**
+	 * The max number of idle published messages to keep per message type for reuse. A message is only reused once
+	 * the broker acknowledged it. A value of 0 disables message pooling.
+	 */
+	@Min(0)
+	private int messagePoolSize = 0;
+	/**
+	 * The max payload size in bytes of a published message. {@code byte[]} payloads which are larger than this are
+	 * split into multiple messages which are reassembled by the consumer binding. Consumers must support chunked
+	 * messages. A value of 0 disables chunking.
+	 */
+	@Min(0)
+	private int chunkSize = 0;
+	/**
+	 * The codec to compress message payloads with. One of: gzip, deflate, or the name of a custom compression codec.
+	 * Consumers must support the same codec. Unset by default, in which case payloads aren't compressed.
+	 */
+	private String compression = null;
+	/**
+	 * The min payload size in bytes to compress. Payloads are only compressed if the compressed payload is smaller.
+	 */
+	@Min(0)
+	private int compressionThreshold = 1024;
+	/**
+	 * The max number of messages to accumulate and publish together. Accumulated messages are published once
+	 * there are this many of them, once their payloads add up to publishBatchMaxBytes, or once the first of them has
+	 * waited for publishBatchLingerTime. A value of 0 or 1 disables batching.
+	 */
+	@Min(0)
+	private int publishBatchSize = 0;
+	/**
+	 * The max total payload size in bytes of the accumulated messages before they're published. A value of 0 means
+	 * no limit. Only applicable when publishBatchSize is greater than 1.
+	 */
+	@Min(0)
+	private long publishBatchMaxBytes = 1024 * 1024;
+	/**
+	 * The max time in milliseconds that a message waits to be published while accumulating a batch.
+	 * Only applicable when publishBatchSize is greater than 1.
+	 */
+	@Min(1)
+	private long publishBatchLingerTime = 5;
+	/**
+	 * A SpEL expression evaluated against each published message to select the publisher session which sends it,
+	 * e.g. {@code headers['orderId']}. Messages with the same key are always sent by the same session, so their order
+	 * is preserved. Messages without a key, and all messages if not set, are sent by the binding's own session.
+	 * Only applicable when the binder has more than one publisher session.
+	 */
+	private String publisherSessionKeyExpression = null;
+	/**
+	 * A SpEL expression evaluated against each published message to resolve its destination topic, e.g.
+	 * {@code 'orders/' + headers.region + '/' + payload.id}. Overrides the binding's destination, but not the
+	 * target destination header. Can't be combined with destinationTemplate.
+	 */
+	private String destinationExpression = null;
+	/**
+	 * A destination topic template whose {header} placeholders are replaced by the published message's header
+	 * values, e.g. {@code orders/{region}/{orderId}}. Overrides the binding's destination, but not the target
+	 * destination header. Can't be combined with destinationExpression.
+	 */
+	private String destinationTemplate = null;
+	/**
+	 * The max number of dynamic destination topics to cache. Once full, the cache is cleared.
+	 * A value of 0 disables the cache.
+	 */
+	@Min(0)
+	private int destinationCacheSize = 1000;
+	/**
+	 * The max number of messages published by this binding which may await a response from the broker. Once
+	 * reached, publishing a message waits or fails according to inFlightLimitPolicy instead of blocking inside the
+	 * Solace API. A value of 0 means no limit.
+	 */
+	@Min(0)
+	private int maxInFlight = 0;
+	/**
+	 * What to do when publishing a message while maxInFlight messages are awaiting a response.
+	 * Only applicable when maxInFlight is greater than 0.
+	 */
+	private InFlightLimitPolicy inFlightLimitPolicy = InFlightLimitPolicy.PARK;
+	/**
+	 * The max time in milliseconds to park the publishing thread until a message can be published, before failing.
+	 * Only applicable when inFlightLimitPolicy is PARK.
+	 */
+	@Min(0)
+	private long maxInFlightWaitTime = 30000;
+	/**
+	 * The delivery mode of published messages. DIRECT messages aren't persisted or acknowledged by the broker,
+	 * so they're published without any in-flight tracking. Can be overridden per message by the
+	 * solace_scst_deliveryMode header.
+	 */
+	private DeliveryMode deliveryMode = DeliveryMode.PERSISTENT;
 
 	public String getQueueNameExpression() {
 		return queueNameExpression;
@@ -82,4 +183,155 @@ public class SolaceProducerProperties extends SolaceCommonProperties {
 	public void setNonserializableHeaderConvertToString(boolean nonserializableHeaderConvertToString) {
 		this.nonserializableHeaderConvertToString = nonserializableHeaderConvertToString;
 	}
+
+	public String getSerializedHeadersEncoding() {
+		return serializedHeadersEncoding;
+	}
+
+	public void setSerializedHeadersEncoding(String serializedHeadersEncoding) {
+		Assert.hasText(serializedHeadersEncoding, "serialized headers encoding must not be empty");
+		this.serializedHeadersEncoding = serializedHeadersEncoding;
+	}
+
+	public int getMessagePoolSize() {
+		return messagePoolSize;
+	}
+
+	public void setMessagePoolSize(int messagePoolSize) {
+		Assert.isTrue(messagePoolSize >= 0, "message pool size must be greater than or equal to 0");
+		this.messagePoolSize = messagePoolSize;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	public void setChunkSize(int chunkSize) {
+		Assert.isTrue(chunkSize >= 0, "chunk size must be greater than or equal to 0");
+		this.chunkSize = chunkSize;
+	}
+
+	public String getCompression() {
+		return compression;
+	}
+
+	public void setCompression(String compression) {
+		this.compression = compression;
+	}
+
+	public int getCompressionThreshold() {
+		return compressionThreshold;
+	}
+
+	public void setCompressionThreshold(int compressionThreshold) {
+		Assert.isTrue(compressionThreshold >= 0, "compression threshold must be greater than or equal to 0");
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	public int getPublishBatchSize() {
+		return publishBatchSize;
+	}
+
+	public void setPublishBatchSize(int publishBatchSize) {
+		Assert.isTrue(publishBatchSize >= 0, "publish batch size must be greater than or equal to 0");
+		this.publishBatchSize = publishBatchSize;
+	}
+
+	public long getPublishBatchMaxBytes() {
+		return publishBatchMaxBytes;
+	}
+
+	public void setPublishBatchMaxBytes(long publishBatchMaxBytes) {
+		Assert.isTrue(publishBatchMaxBytes >= 0, "publish batch max bytes must be greater than or equal to 0");
+		this.publishBatchMaxBytes = publishBatchMaxBytes;
+	}
+
+	public long getPublishBatchLingerTime() {
+		return publishBatchLingerTime;
+	}
+
+	public void setPublishBatchLingerTime(long publishBatchLingerTime) {
+		Assert.isTrue(publishBatchLingerTime >= 1, "publish batch linger time must be greater than or equal to 1");
+		this.publishBatchLingerTime = publishBatchLingerTime;
+	}
+
+	public String getPublisherSessionKeyExpression() {
+		return publisherSessionKeyExpression;
+	}
+
+	public void setPublisherSessionKeyExpression(String publisherSessionKeyExpression) {
+		this.publisherSessionKeyExpression = publisherSessionKeyExpression;
+	}
+
+	public String getDestinationExpression() {
+		return destinationExpression;
+	}
+
+	public void setDestinationExpression(String destinationExpression) {
+		this.destinationExpression = destinationExpression;
+	}
+
+	public String getDestinationTemplate() {
+		return destinationTemplate;
+	}
+
+	public void setDestinationTemplate(String destinationTemplate) {
+		this.destinationTemplate = destinationTemplate;
+	}
+
+	public int getDestinationCacheSize() {
+		return destinationCacheSize;
+	}
+
+	public void setDestinationCacheSize(int destinationCacheSize) {
+		Assert.isTrue(destinationCacheSize >= 0, "destination cache size must be greater than or equal to 0");
+		this.destinationCacheSize = destinationCacheSize;
+	}
+
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	public void setMaxInFlight(int maxInFlight) {
+		Assert.isTrue(maxInFlight >= 0, "max in-flight must be greater than or equal to 0");
+		this.maxInFlight = maxInFlight;
+	}
+
+	public InFlightLimitPolicy getInFlightLimitPolicy() {
+		return inFlightLimitPolicy;
+	}
+
+	public void setInFlightLimitPolicy(InFlightLimitPolicy inFlightLimitPolicy) {
+		this.inFlightLimitPolicy = inFlightLimitPolicy;
+	}
+
+	public long getMaxInFlightWaitTime() {
+		return maxInFlightWaitTime;
+	}
+
+	public void setMaxInFlightWaitTime(long maxInFlightWaitTime) {
+		Assert.isTrue(maxInFlightWaitTime >= 0, "max in-flight wait time must be greater than or equal to 0");
+		this.maxInFlightWaitTime = maxInFlightWaitTime;
+	}
+
+	public DeliveryMode getDeliveryMode() {
+		return deliveryMode;
+	}
+
+	public void setDeliveryMode(DeliveryMode deliveryMode) {
+		Assert.notNull(deliveryMode, "delivery mode must not be null");
+		this.deliveryMode = deliveryMode;
+	}
+
+	public enum InFlightLimitPolicy {
+		/**
+		 * Park the publishing thread until a message can be published. Unlike blocking inside the Solace API,
+		 * parking doesn't pin virtual threads.
+		 */
+		PARK,
+		/**
+		 * Fail immediately.
+		 */
+		REJECT
+	}
 }
@@ -27,6 +27,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class SolaceQueueProvisioner
@@ -94,6 +95,10 @@ public class SolaceQueueProvisioner
 					"Provisioning will continue under the assumption that it is disabled...");
 		}
 
+		if (properties.getExtension().isDirectSubscription()) {
+			return provisionDirectConsumerDestination(name, group, properties);
+		}
+
 		boolean isAnonQueue = SolaceProvisioningUtil.isAnonQueue(group);
 		boolean isDurableQueue = SolaceProvisioningUtil.isDurableQueue(group);
 		SolaceProvisioningUtil.QueueNames queueNames = SolaceProvisioningUtil.getQueueNames(name, group, properties, isAnonQueue);
@@ -102,10 +107,20 @@ public class SolaceQueueProvisioner
 		EndpointProperties endpointProperties = SolaceProvisioningUtil.getEndpointProperties(properties.getExtension());
 		boolean doDurableQueueProvisioning = properties.getExtension().isProvisionDurableQueue();
 
+		if (properties.getExtension().getConcurrencyAutoscaleMax() > properties.getConcurrency()) {
+			if (endpointProperties.getAccessType().equals(EndpointProperties.ACCESSTYPE_EXCLUSIVE) ||
+					!StringUtils.hasText(group)) {
+				logger.warn(String.format("Concurrency autoscaling is not supported when using exclusive queues or " +
+						"anonymous consumer groups, consumer concurrency will be fixed at %s",
+						properties.getConcurrency()));
+			}
+		}
+
 		if (properties.getConcurrency() > 1) {
 			if (endpointProperties.getAccessType().equals(EndpointProperties.ACCESSTYPE_EXCLUSIVE)) {
 				String msg = "Concurrency > 1 is not supported when using exclusive queues, " +
-						"either configure a concurrency of 1 or use a non-exclusive queue";
+						"either configure a concurrency of 1 or use a non-exclusive queue. " +
+						"To process an exclusive queue in parallel, use dispatchWorkers with an orderingKeyExpression";
 				logger.warn(msg);
 				throw new ProvisioningException(msg);
 			} else if (!StringUtils.hasText(group)) {
@@ -133,6 +148,42 @@ public class SolaceQueueProvisioner
 				errorQueueName, additionalSubscriptions);
 	}
 
+	private ConsumerDestination provisionDirectConsumerDestination(String name, String group,
+			ExtendedConsumerProperties<SolaceConsumerProperties> properties) throws ProvisioningException {
+		if (!SolaceProvisioningUtil.isAnonQueue(group)) {
+			String msg = "Direct subscriptions are not supported with consumer groups, " +
+					"either remove the consumer group or disable directSubscription";
+			logger.warn(msg);
+			throw new ProvisioningException(msg);
+		}
+
+		if (properties.getConcurrency() > 1) {
+			String msg = "Concurrency > 1 is not supported when using direct subscriptions, " +
+					"configure a concurrency of 1 and use directBufferSize to decouple processing from the session";
+			logger.warn(msg);
+			throw new ProvisioningException(msg);
+		}
+
+		if (properties.isBatchMode()) {
+			String msg = "Batch mode is not supported when using direct subscriptions";
+			logger.warn(msg);
+			throw new ProvisioningException(msg);
+		}
+
+		if (properties.getExtension().isAutoBindErrorQueue()) {
+			logger.warn(String.format("Error queues are not supported when using direct subscriptions, " +
+					"autoBindErrorQueue will be ignored for destination %s", name));
+		}
+
+		Set<String> additionalSubscriptions = new HashSet<>(Arrays.asList(
+				properties.getExtension().getQueueAdditionalSubscriptions()));
+
+		logger.info(String.format("Using direct subscriptions to topic %s and additional topics %s, no queue will be " +
+				"created", name, additionalSubscriptions));
+		return new SolaceConsumerDestination(name, name, UUID.randomUUID().toString(), true, null,
+				additionalSubscriptions);
+	}
+
 	private Queue provisionQueue(String name, boolean isDurable, EndpointProperties endpointProperties,
 								 boolean doDurableProvisioning, boolean testFlowCxn) {
 		return provisionQueue(name, isDurable, endpointProperties, doDurableProvisioning, testFlowCxn, "Durable queue");
@@ -0,0 +1,252 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * <p>The headers of a batch of messages, stored as one column of values per header name instead of one map per
+ * message.</p>
+ * <p>A header whose value is the same for every message of the batch (e.g. the content type) is stored as a
+ * single value. Otherwise, its values are stored in an array indexed by the messages' position in the batch.</p>
+ * <p>Use {@link #getHeader(int, String)} or {@link #getColumn(String)} to read headers without creating a map per
+ * message. For compatibility, this is also a {@code List<Map<String, Object>>} whose elements are read-only map
+ * views of each message's headers, which are only created when accessed.</p>
+ * <p>Not modifiable once created by the binder.</p>
+ */
+public final class ColumnarBatchHeaders extends AbstractList<Map<String, Object>>
+		implements RandomAccess, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final int size;
+	private final Map<String, Column> columns = new LinkedHashMap<>();
+
+	/**
+	 * @param size the number of messages in the batch
+	 */
+	ColumnarBatchHeaders(int size) {
+		this.size = size;
+	}
+
+	/**
+	 * Set a message's header.
+	 * @param index the message's position in the batch
+	 * @param headerName the header name
+	 * @param value the header value
+	 */
+	void setHeader(int index, String headerName, Object value) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+		}
+		columns.computeIfAbsent(headerName, k -> new Column()).set(index, value, size);
+	}
+
+	/**
+	 * Set a message's header if it doesn't have this header yet.
+	 * @param index the message's position in the batch
+	 * @param headerName the header name
+	 * @param value the header value
+	 */
+	void setHeaderIfAbsent(int index, String headerName, Object value) {
+		if (getHeader(index, headerName) == null) {
+			setHeader(index, headerName, value);
+		}
+	}
+
+	/**
+	 * @return the names of the headers which are set on at least one message of the batch
+	 */
+	public Set<String> getHeaderNames() {
+		return Collections.unmodifiableSet(columns.keySet());
+	}
+
+	/**
+	 * Get a message's header.
+	 * @param index the message's position in the batch
+	 * @param headerName the header name
+	 * @return the header value, or {@code null} if the message doesn't have this header
+	 */
+	@Nullable
+	public Object getHeader(int index, String headerName) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+		}
+		Column column = columns.get(headerName);
+		return column != null ? column.get(index) : null;
+	}
+
+	/**
+	 * Get a header's values for all messages of the batch.
+	 * @param headerName the header name
+	 * @return a read-only list of the header's values indexed by the messages' position in the batch, where
+	 * {@code null} means that the message doesn't have this header
+	 */
+	public List<Object> getColumn(String headerName) {
+		Column column = columns.get(headerName);
+		if (column == null) {
+			return Collections.nCopies(size, null);
+		}
+		return new ColumnView(column);
+	}
+
+	/**
+	 * @return a read-only view of a message's headers
+	 */
+	@Override
+	public Map<String, Object> get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+		}
+		return new RowView(index);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	private static final class Column implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		// Used until a message has a different value, or a message in between doesn't have this header
+		@Nullable private Object constant;
+		private int constantCount = 0; // the number of leading messages which have the constant value
+		@Nullable private Object[] values;
+
+		private void set(int index, Object value, int size) {
+			if (values == null) {
+				if (index == constantCount && (constantCount == 0 || value.equals(constant))) {
+					constant = value;
+					constantCount++;
+					return;
+				} else if (index < constantCount && value.equals(constant)) {
+					return;
+				}
+				values = new Object[size];
+				Arrays.fill(values, 0, constantCount, constant);
+				constant = null;
+			}
+			values[index] = value;
+		}
+
+		@Nullable
+		private Object get(int index) {
+			if (values != null) {
+				return values[index];
+			}
+			return index < constantCount ? constant : null;
+		}
+	}
+
+	private final class ColumnView extends AbstractList<Object> implements RandomAccess {
+		private final Column column;
+
+		private ColumnView(Column column) {
+			this.column = column;
+		}
+
+		@Override
+		@Nullable
+		public Object get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+			}
+			return column.get(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	private final class RowView extends AbstractMap<String, Object> {
+		private final int index;
+
+		private RowView(int index) {
+			this.index = index;
+		}
+
+		@Override
+		@Nullable
+		public Object get(Object key) {
+			Column column = columns.get(key);
+			return column != null ? column.get(index) : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return get(key) != null;
+		}
+
+		@Override
+		public Set<Map.Entry<String, Object>> entrySet() {
+			return new AbstractSet<Map.Entry<String, Object>>() {
+				@Override
+				public Iterator<Map.Entry<String, Object>> iterator() {
+					return new RowIterator(index);
+				}
+
+				@Override
+				public int size() {
+					int count = 0;
+					for (Column column : columns.values()) {
+						if (column.get(index) != null) {
+							count++;
+						}
+					}
+					return count;
+				}
+			};
+		}
+	}
+
+	private final class RowIterator implements Iterator<Map.Entry<String, Object>> {
+		private final int index;
+		private final Iterator<Map.Entry<String, Column>> columnIterator = columns.entrySet().iterator();
+		@Nullable private Map.Entry<String, Object> next;
+
+		private RowIterator(int index) {
+			this.index = index;
+			advance();
+		}
+
+		private void advance() {
+			next = null;
+			while (next == null && columnIterator.hasNext()) {
+				Map.Entry<String, Column> column = columnIterator.next();
+				Object value = column.getValue().get(index);
+				if (value != null) {
+					next = new AbstractMap.SimpleImmutableEntry<>(column.getKey(), value);
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public Map.Entry<String, Object> next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			Map.Entry<String, Object> entry = next;
+			advance();
+			return entry;
+		}
+	}
+}
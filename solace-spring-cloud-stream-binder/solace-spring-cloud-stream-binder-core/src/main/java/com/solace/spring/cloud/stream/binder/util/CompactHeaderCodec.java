@@ -0,0 +1,128 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.SerializationUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * <p>Encodes header values as a one byte type tag followed by a compact binary representation of the value.</p>
+ * <p>Only exact types are encoded compactly, since a subclass could hold state that the compact representation
+ * would drop. Any other value is Java-serialized.</p>
+ */
+final class CompactHeaderCodec implements HeaderCodec {
+	static final byte JAVA_SERIALIZED = 0;
+	static final byte UUID_TYPE = 1;
+	static final byte MIME_TYPE = 2;
+	static final byte BIG_DECIMAL = 3;
+	static final byte BIG_INTEGER = 4;
+	static final byte DATE = 5;
+	static final byte INSTANT = 6;
+	static final byte DURATION = 7;
+
+	private final String name;
+
+	CompactHeaderCodec(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object encode(Serializable value) throws IOException {
+		Class<?> type = value.getClass();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+		DataOutputStream out = new DataOutputStream(bytes);
+		if (type == UUID.class) {
+			UUID uuid = (UUID) value;
+			out.writeByte(UUID_TYPE);
+			out.writeLong(uuid.getMostSignificantBits());
+			out.writeLong(uuid.getLeastSignificantBits());
+		} else if (type == MimeType.class) {
+			out.writeByte(MIME_TYPE);
+			out.writeUTF(value.toString());
+		} else if (type == BigDecimal.class) {
+			BigDecimal bigDecimal = (BigDecimal) value;
+			out.writeByte(BIG_DECIMAL);
+			out.writeInt(bigDecimal.scale());
+			out.write(bigDecimal.unscaledValue().toByteArray());
+		} else if (type == BigInteger.class) {
+			out.writeByte(BIG_INTEGER);
+			out.write(((BigInteger) value).toByteArray());
+		} else if (type == Date.class) {
+			out.writeByte(DATE);
+			out.writeLong(((Date) value).getTime());
+		} else if (type == Instant.class) {
+			Instant instant = (Instant) value;
+			out.writeByte(INSTANT);
+			out.writeLong(instant.getEpochSecond());
+			out.writeInt(instant.getNano());
+		} else if (type == Duration.class) {
+			Duration duration = (Duration) value;
+			out.writeByte(DURATION);
+			out.writeLong(duration.getSeconds());
+			out.writeInt(duration.getNano());
+		} else {
+			out.writeByte(JAVA_SERIALIZED);
+			out.write(SerializationUtils.serialize(value));
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public Object decode(Object encodedValue) throws IOException {
+		byte[] bytes = HeaderCodecs.toBytes(encodedValue);
+		if (bytes.length == 0) {
+			throw new IOException("Encoded header value is empty");
+		}
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+		switch (bytes[0]) {
+			case JAVA_SERIALIZED:
+				return SerializationUtils.deserialize(remaining(bytes));
+			case UUID_TYPE:
+				return new UUID(in.readLong(), in.readLong());
+			case MIME_TYPE:
+				return MimeTypeUtils.parseMimeType(in.readUTF());
+			case BIG_DECIMAL:
+				int scale = in.readInt();
+				return new BigDecimal(new BigInteger(slice(bytes, 1 + Integer.BYTES)), scale);
+			case BIG_INTEGER:
+				return new BigInteger(remaining(bytes));
+			case DATE:
+				return new Date(in.readLong());
+			case INSTANT:
+				return Instant.ofEpochSecond(in.readLong(), in.readInt());
+			case DURATION:
+				return Duration.ofSeconds(in.readLong(), in.readInt());
+			default:
+				throw new IOException(String.format("Unknown encoded header type %s", bytes[0]));
+		}
+	}
+
+	private static byte[] remaining(byte[] bytes) {
+		return slice(bytes, 1);
+	}
+
+	private static byte[] slice(byte[] bytes, int from) {
+		byte[] slice = new byte[bytes.length - from];
+		System.arraycopy(bytes, from, slice, 0, slice.length);
+		return slice;
+	}
+}
@@ -0,0 +1,33 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+/**
+ * <p>Compresses message payloads.</p>
+ * <p>The name of the codec which compressed a payload is sent along with the message, so that the consumer can
+ * decompress it with the same codec. Besides the built-in codecs (see {@link CompressionCodecs}), custom codecs can
+ * be registered with the {@link java.util.ServiceLoader} mechanism, in which case they must be available to both
+ * the producer and the consumer.</p>
+ * <p>Implementations must be thread-safe.</p>
+ */
+public interface CompressionCodec {
+
+	/**
+	 * @return the unique name of this codec
+	 */
+	String getName();
+
+	/**
+	 * Compress data.
+	 * @param data the uncompressed data
+	 * @return the compressed data
+	 * @throws Exception if the data couldn't be compressed
+	 */
+	byte[] compress(byte[] data) throws Exception;
+
+	/**
+	 * Decompress data.
+	 * @param data the compressed data
+	 * @return the uncompressed data
+	 * @throws Exception if the data couldn't be decompressed
+	 */
+	byte[] decompress(byte[] data) throws Exception;
+}
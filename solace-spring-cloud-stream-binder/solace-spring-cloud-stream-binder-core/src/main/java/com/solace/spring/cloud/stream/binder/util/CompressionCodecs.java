@@ -0,0 +1,155 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * <p>Registry of the {@link CompressionCodec compression codecs}.</p>
+ * <p>The built-in codecs are:</p>
+ * <ul>
+ *     <li>{@value #GZIP_NAME}: The GZIP format.</li>
+ *     <li>{@value #DEFLATE_NAME}: The zlib format, which has less overhead than GZIP for small payloads.</li>
+ * </ul>
+ * <p>Custom codecs are discovered using {@link ServiceLoader}. A custom codec cannot replace a built-in codec.</p>
+ */
+public final class CompressionCodecs {
+	public static final String GZIP_NAME = "gzip";
+	public static final String DEFLATE_NAME = "deflate";
+
+	public static final CompressionCodec GZIP = new GzipCompressionCodec();
+	public static final CompressionCodec DEFLATE = new DeflateCompressionCodec();
+
+	private static final int BUFFER_SIZE = 8192;
+	private static final Log logger = LogFactory.getLog(CompressionCodecs.class);
+	private static final Map<String, CompressionCodec> CODECS;
+
+	static {
+		Map<String, CompressionCodec> codecs = new HashMap<>();
+		for (CompressionCodec codec : new CompressionCodec[]{GZIP, DEFLATE}) {
+			codecs.put(codec.getName(), codec);
+		}
+
+		try {
+			for (CompressionCodec codec : ServiceLoader.load(CompressionCodec.class,
+					CompressionCodecs.class.getClassLoader())) {
+				CompressionCodec existing = codecs.putIfAbsent(codec.getName(), codec);
+				if (existing != null) {
+					logger.warn(String.format("Ignoring compression codec %s, since its name %s is already used by %s",
+							codec.getClass().getName(), codec.getName(), existing.getClass().getName()));
+				} else if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Registered compression codec %s: %s",
+							codec.getName(), codec.getClass().getName()));
+				}
+			}
+		} catch (ServiceConfigurationError e) {
+			logger.warn("Failed to load custom compression codecs", e);
+		}
+
+		CODECS = Collections.unmodifiableMap(codecs);
+	}
+
+	private CompressionCodecs() {}
+
+	/**
+	 * Get a compression codec by name.
+	 * @param name the codec name
+	 * @return the codec, or {@code null} if there is no codec with this name
+	 */
+	@Nullable
+	public static CompressionCodec getByName(@Nullable String name) {
+		return name != null ? CODECS.get(name) : null;
+	}
+
+	/**
+	 * Get a compression codec by name.
+	 * @param name the codec name
+	 * @return the codec
+	 * @throws IllegalArgumentException if there is no codec with this name
+	 */
+	public static CompressionCodec getRequiredByName(String name) {
+		CompressionCodec codec = getByName(name);
+		if (codec == null) {
+			throw new IllegalArgumentException(String.format(
+					"Compression codec %s does not exist. Expected one of: %s",
+					name, String.join(", ", CODECS.keySet())));
+		}
+		return codec;
+	}
+
+	private static byte[] readAll(InputStream inputStream) throws IOException {
+		try (InputStream in = inputStream) {
+			return StreamUtils.copyToByteArray(in);
+		}
+	}
+
+	private static final class GzipCompressionCodec implements CompressionCodec {
+		@Override
+		public String getName() {
+			return GZIP_NAME;
+		}
+
+		@Override
+		public byte[] compress(byte[] data) throws IOException {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(data.length / 4, 64));
+			try (OutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE)) {
+				gzip.write(data);
+			}
+			return out.toByteArray();
+		}
+
+		@Override
+		public byte[] decompress(byte[] data) throws IOException {
+			return readAll(new GZIPInputStream(new ByteArrayInputStream(data), BUFFER_SIZE));
+		}
+	}
+
+	private static final class DeflateCompressionCodec implements CompressionCodec {
+		@Override
+		public String getName() {
+			return DEFLATE_NAME;
+		}
+
+		@Override
+		public byte[] compress(byte[] data) throws IOException {
+			Deflater deflater = new Deflater();
+			try {
+				ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(data.length / 4, 64));
+				try (OutputStream deflate = new DeflaterOutputStream(out, deflater, BUFFER_SIZE)) {
+					deflate.write(data);
+				}
+				return out.toByteArray();
+			} finally {
+				deflater.end(); // Release the native memory now instead of waiting for GC
+			}
+		}
+
+		@Override
+		public byte[] decompress(byte[] data) throws IOException {
+			Inflater inflater = new Inflater();
+			try {
+				return readAll(new InflaterInputStream(new ByteArrayInputStream(data), inflater, BUFFER_SIZE));
+			} finally {
+				inflater.end();
+			}
+		}
+	}
+}
@@ -5,6 +5,8 @@ import org.springframework.messaging.MessagingException;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.SettableListenableFuture;
 
+import java.util.concurrent.CompletableFuture;
+
 public class CorrelationData {
 	private final SettableListenableFuture<Void> future = new SettableListenableFuture<>();
 
@@ -18,6 +20,14 @@ public class CorrelationData {
 		return this.future;
 	}
 
+	/**
+	 * Return a {@link CompletableFuture} to check the success/failure of the publish operation.
+	 * @return the future.
+	 */
+	public CompletableFuture<Void> getCompletableFuture() {
+		return this.future.completable();
+	}
+
 	public Message<?> getMessage() {
 		return message;
 	}
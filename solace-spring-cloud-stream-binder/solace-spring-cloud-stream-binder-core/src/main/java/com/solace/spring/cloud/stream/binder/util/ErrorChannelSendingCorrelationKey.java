@@ -7,16 +7,25 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.core.AttributeAccessor;
 import org.springframework.integration.support.ErrorMessageStrategy;
 import org.springframework.integration.support.ErrorMessageUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessagingException;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class ErrorChannelSendingCorrelationKey {
 	private final Message<?> inputMessage;
 	private final MessageChannel errorChannel;
 	private final ErrorMessageStrategy errorMessageStrategy;
 	private XMLMessage rawMessage;
 	private CorrelationData confirmCorrelation;
+	@Nullable private XMLMessagePool messagePool;
+	private final AtomicInteger pendingResponses = new AtomicInteger(1);
+	private final AtomicBoolean failed = new AtomicBoolean(false);
+	private final AtomicBoolean settled = new AtomicBoolean(false);
+	@Nullable private Runnable settleListener;
 
 	private static final Log logger = LogFactory.getLog(ErrorChannelSendingCorrelationKey.class);
 
@@ -39,6 +48,71 @@ public class ErrorChannelSendingCorrelationKey {
 		this.rawMessage = rawMessage;
 	}
 
+	/**
+	 * Set the pool to return the raw message to once it was successfully published.
+	 * @param messagePool the pool which the raw message was taken from
+	 */
+	public void setMessagePool(@Nullable XMLMessagePool messagePool) {
+		this.messagePool = messagePool;
+	}
+
+	/**
+	 * Return the raw message to its pool, if any. Only call this once the API no longer needs the raw message.
+	 * Does nothing once the raw message was sent to the error channel, since error handlers could still reference it.
+	 */
+	public void releaseRawMessage() {
+		if (messagePool != null && rawMessage != null) {
+			XMLMessage message = rawMessage;
+			rawMessage = null;
+			messagePool.release(message);
+		}
+	}
+
+	/**
+	 * Set the number of messages which were published for the input message, e.g. one per chunk.
+	 * The input message is only successfully published once the broker acknowledged all of them.
+	 * @param expectedResponses the number of published messages
+	 */
+	public void setExpectedResponses(int expectedResponses) {
+		pendingResponses.set(expectedResponses);
+	}
+
+	/**
+	 * Record that the broker acknowledged one of the messages published for the input message.
+	 * @return true if the input message is now successfully published, i.e. this was the last expected response
+	 * and none of the other published messages failed
+	 */
+	public boolean acknowledgeResponse() {
+		return pendingResponses.decrementAndGet() == 0 && !failed.get();
+	}
+
+	/**
+	 * Record that one of the messages published for the input message failed.
+	 * @return true if this is the first failure, i.e. the failure hasn't been handled yet
+	 */
+	public boolean markFailed() {
+		return failed.compareAndSet(false, true);
+	}
+
+	/**
+	 * Set a listener which is run once the input message is settled, i.e. once it was either successfully published
+	 * or failed to be published.
+	 * @param settleListener the listener
+	 */
+	public void setSettleListener(@Nullable Runnable settleListener) {
+		this.settleListener = settleListener;
+	}
+
+	/**
+	 * Record that the input message was either successfully published or failed to be published, and run the settle
+	 * listener if any. Only the first call has an effect.
+	 */
+	public void settle() {
+		if (settled.compareAndSet(false, true) && settleListener != null) {
+			settleListener.run();
+		}
+	}
+
 	public CorrelationData getConfirmCorrelation() {
 		return confirmCorrelation;
 	}
@@ -47,6 +121,25 @@ public class ErrorChannelSendingCorrelationKey {
 		this.confirmCorrelation = confirmCorrelation;
 	}
 
+	/**
+	 * Succeed the confirm correlation, if any.
+	 */
+	public void confirmSuccess() {
+		if (confirmCorrelation != null) {
+			confirmCorrelation.success();
+		}
+	}
+
+	/**
+	 * Fail the confirm correlation, if any.
+	 * @param cause the failure cause
+	 */
+	public void confirmFailure(MessagingException cause) {
+		if (confirmCorrelation != null) {
+			confirmCorrelation.failed(cause);
+		}
+	}
+
 	/**
 	 * Send the message to the error channel if defined.
 	 * @param msg the failure description
@@ -59,6 +152,7 @@ public class ErrorChannelSendingCorrelationKey {
 			AttributeAccessor attributes = ErrorMessageUtils.getAttributeAccessor(inputMessage, null);
 			if (rawMessage != null) {
 				attributes.setAttribute(SolaceMessageHeaderErrorMessageStrategy.ATTR_SOLACE_RAW_MESSAGE, rawMessage);
+				messagePool = null;
 			}
 			logger.debug(String.format("Sending message %s to error channel %s", inputMessage.getHeaders().getId(),
 					errorChannel));
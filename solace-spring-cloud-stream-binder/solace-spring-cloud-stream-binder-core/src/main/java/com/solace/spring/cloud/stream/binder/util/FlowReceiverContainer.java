@@ -10,6 +10,7 @@ import com.solacesystems.jcsmp.JCSMPFactory;
 import com.solacesystems.jcsmp.JCSMPProperties;
 import com.solacesystems.jcsmp.JCSMPSession;
 import com.solacesystems.jcsmp.JCSMPTransportException;
+import com.solacesystems.jcsmp.XMLMessageListener;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.lang.Nullable;
@@ -27,6 +28,7 @@ import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 /**
  * <p>A {@link FlowReceiver} wrapper object which allows for flow rebinds.</p>
@@ -42,6 +44,7 @@ public class FlowReceiverContainer {
 	private final AtomicReference<FlowReceiverReference> flowReceiverAtomicReference = new AtomicReference<>();
 	private final AtomicBoolean isRebinding = new AtomicBoolean(false);
 	private final AtomicBoolean isPaused = new AtomicBoolean(false);
+	private final AtomicBoolean isBackpressured = new AtomicBoolean(false);
 	private final AtomicReference<SettableListenableFuture<UUID>> rebindFutureReference = new AtomicReference<>(
 			new SettableListenableFuture<>());
 	private final AtomicReference<BackOffExecution> backOffExecutionReference = new AtomicReference<>();
@@ -60,10 +63,13 @@ public class FlowReceiverContainer {
 	 * (i.e. after a {@link #bind()} and before a {@link #unbind()}).
 	 * Operations which normally expect an active flow to function should use this lock's read lock to seamlessly
 	 * operate as if the flow <b>was not</b> rebinding.
+	 * The hot-path {@link #receive(Integer)} doesn't take this lock at all, it instead optimistically reads
+	 * {@link #flowReceiverAtomicReference} and validates that the flow is still bound after receiving.
 	 */
 	private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
 	private final Condition bindCondition = readWriteLock.writeLock().newCondition();
 
+	@Nullable private volatile Consumer<MessageContainer> messageListener;
 	private long rebindWaitTimeout = -1;
 	private TimeUnit rebindWaitTimeoutUnit = TimeUnit.SECONDS;
 
@@ -102,13 +108,31 @@ public class FlowReceiverContainer {
 				logger.info(String.format("Flow receiver container %s is already bound to %s", id, existingFlowRefId));
 				return existingFlowRefId;
 			} else {
-				logger.info(String.format("Flow receiver container %s started in state '%s'", id, isPaused.get() ? "Paused" : "Running"));
+				logger.info(String.format("Flow receiver container %s started in state '%s'", id,
+						isPaused.get() ? "Paused" : isBackpressured.get() ? "Backpressured" : "Running"));
+				final boolean startFlow = !isPaused.get() && !isBackpressured.get();
+				final Consumer<MessageContainer> messageListener = this.messageListener;
+				final PushMessageListener pushMessageListener = messageListener != null ?
+						new PushMessageListener(messageListener) : null;
 				final ConsumerFlowProperties flowProperties = new ConsumerFlowProperties()
 						.setEndpoint(JCSMPFactory.onlyInstance().createQueue(queueName))
 						.setAckMode(JCSMPProperties.SUPPORTED_MESSAGE_ACK_CLIENT)
-						.setStartState(!isPaused.get());
-				FlowReceiver flowReceiver = session.createFlow(null, flowProperties, endpointProperties, eventHandler);
+						// Push flows must not deliver messages until their reference exists
+						.setStartState(startFlow && pushMessageListener == null);
+				FlowReceiver flowReceiver = session.createFlow(pushMessageListener, flowProperties,
+						endpointProperties, eventHandler);
 				FlowReceiverReference newFlowReceiverReference = new FlowReceiverReference(flowReceiver);
+				if (pushMessageListener != null) {
+					pushMessageListener.flowReceiverReference = newFlowReceiverReference;
+					if (startFlow) {
+						try {
+							newFlowReceiverReference.resume();
+						} catch (JCSMPException e) {
+							flowReceiver.close();
+							throw e;
+						}
+					}
+				}
 				flowReceiverAtomicReference.set(newFlowReceiverReference);
 				xmlMessageMapper.resetIgnoredProperties(id.toString());
 				rebindFutureReference.getAndSet(new SettableListenableFuture<>()).set(newFlowReceiverReference.getId());
@@ -246,6 +270,21 @@ public class FlowReceiverContainer {
 		}
 	}
 
+	/**
+	 * <p>Switch this container to push mode: instead of being polled with {@link #receive()}, flows created by
+	 * subsequent binds push received messages to the given listener from the JCSMP context thread.</p>
+	 * <p>The listener must not block for long since that would stall the delivery of all flows of the session.
+	 * Rebinds, pauses, backpressure, and stale messages behave the same as in poll mode.</p>
+	 * @param messageListener the listener, or {@code null} to switch back to poll mode.
+	 */
+	public void setMessageListener(@Nullable Consumer<MessageContainer> messageListener) {
+		this.messageListener = messageListener;
+	}
+
+	public boolean isPushMode() {
+		return messageListener != null;
+	}
+
 	/**
 	 * <p>Receives the next available message, waiting until one is available.</p>
 	 * <p><b>Note:</b> This method is not thread-safe.</p>
@@ -270,55 +309,38 @@ public class FlowReceiverContainer {
 	 * @see FlowReceiver#receive(int)
 	 */
 	public MessageContainer receive(Integer timeoutInMillis) throws JCSMPException, UnboundFlowReceiverContainerException {
-		final Long expiry = timeoutInMillis != null ? timeoutInMillis + System.currentTimeMillis() : null;
-
-		FlowReceiverReference flowReceiverReference;
-		Integer realTimeout;
-
-		Lock readLock = readWriteLock.readLock();
-		readLock.lock();
-		try {
-			flowReceiverReference = flowReceiverAtomicReference.get();
+		final Long expiry = timeoutInMillis != null ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis) :
+				null;
+
+		// Optimistic read: the flow receiver reference is only ever swapped while holding the write lock,
+		// and each bind creates a new reference. So the reference itself serves as the version stamp which is
+		// validated after the receive.
+		FlowReceiverReference flowReceiverReference = flowReceiverAtomicReference.get();
+		if (flowReceiverReference == null) {
+			flowReceiverReference = awaitFlowReceiverReference(expiry);
 			if (flowReceiverReference == null) {
-				Lock writeLock = readWriteLock.writeLock(); // waitForBind() uses a write lock. Upgrade lock.
-				readLock.unlock();
-				writeLock.lock();
-				try {
-					if (waitForBind(expiry == null ? 5000 : expiry - System.currentTimeMillis())) {
-						flowReceiverReference = flowReceiverAtomicReference.get();
-					} else {
-						throw new UnboundFlowReceiverContainerException(
-								String.format("Flow receiver container %s is not bound", id));
-					}
-				} catch (InterruptedException e) {
-					return null;
-				} finally {
-					// downgrade to read lock
-					readLock.lock();
-					writeLock.unlock();
-				}
+				return null;
 			}
+		}
 
-			if (expiry != null) {
-				try {
-					realTimeout = Math.toIntExact(expiry - System.currentTimeMillis());
-					if (realTimeout < 0) {
-						realTimeout = 0;
-					}
-				} catch (ArithmeticException e) {
-					logger.debug("Failed to compute real timeout", e);
-					// Always true: expiry - System.currentTimeMillis() < timeoutInMillis
-					// So just set it to 0 (no-wait) if we underflow
+		Integer realTimeout;
+		if (expiry != null) {
+			try {
+				realTimeout = Math.toIntExact(TimeUnit.NANOSECONDS.toMillis(expiry - System.nanoTime()));
+				if (realTimeout < 0) {
 					realTimeout = 0;
 				}
-			} else {
-				realTimeout = null;
+			} catch (ArithmeticException e) {
+				logger.debug("Failed to compute real timeout", e);
+				// Always true: expiry - System.nanoTime() < timeoutInMillis
+				// So just set it to 0 (no-wait) if we underflow
+				realTimeout = 0;
 			}
-		} finally {
-			readLock.unlock();
+		} else {
+			realTimeout = null;
 		}
 
-		// The flow's receive shouldn't be locked behind the read lock.
+		// The flow's receive shouldn't be locked.
 		// This lets it be interrupt-able if the flow were to be shutdown mid-receive.
 		BytesXMLMessage xmlMessage;
 		try {
@@ -348,9 +370,43 @@ public class FlowReceiverContainer {
 		MessageContainer messageContainer = new MessageContainer(xmlMessage, flowReceiverReference.getId(),
 				flowReceiverReference.getStaleMessagesFlag());
 		unacknowledgedMessageTracker.increment();
+		if (flowReceiverReference.getStaleMessagesFlag().get()) {
+			// Validate the optimistic read. The flow was unbound while receiving, so the unacknowledged-messages
+			// counter may have already been reset. Stale messages can never be acknowledged, so don't track it.
+			if (logger.isTraceEnabled()) {
+				logger.trace(String.format("Flow receiver container %s received message container %s from an " +
+						"unbound flow, message is stale", id, messageContainer.getId()));
+			}
+			unacknowledgedMessageTracker.decrement();
+		}
 		return messageContainer;
 	}
 
+	/**
+	 * Slow path of {@link #receive(Integer)} for when no flow is bound.
+	 * @param expiry the {@link System#nanoTime()} at which to give up, or {@code null} to use the default wait time.
+	 * @return the bound flow receiver reference or {@code null} if interrupted.
+	 * @throws UnboundFlowReceiverContainerException flow receiver container did not become bound in time
+	 */
+	@Nullable
+	private FlowReceiverReference awaitFlowReceiverReference(@Nullable Long expiry)
+			throws UnboundFlowReceiverContainerException {
+		Lock writeLock = readWriteLock.writeLock();
+		writeLock.lock();
+		try {
+			if (waitForBind(expiry == null ? 5000 : TimeUnit.NANOSECONDS.toMillis(expiry - System.nanoTime()))) {
+				return flowReceiverAtomicReference.get();
+			} else {
+				throw new UnboundFlowReceiverContainerException(
+						String.format("Flow receiver container %s is not bound", id));
+			}
+		} catch (InterruptedException e) {
+			return null;
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
 	/**
 	 * Wait until either this flow receiver container becomes bound or the timeout elapses.
 	 * @param timeoutInMillis maximum wait time. Providing a value less than 0 is equivalent to 0.
@@ -572,13 +628,7 @@ public class FlowReceiverContainer {
 	}
 
 	public boolean isBound() {
-		Lock readLock = readWriteLock.readLock();
-		readLock.lock();
-		try {
-			return flowReceiverAtomicReference.get() != null;
-		} finally {
-			readLock.unlock();
-		}
+		return flowReceiverAtomicReference.get() != null;
 	}
 
 	public void setRebindWaitTimeout(long timeout, TimeUnit unit) {
@@ -625,7 +675,12 @@ public class FlowReceiverContainer {
 		writeLock.lock();
 		try {
 			logger.info(String.format("Resuming flow receiver container %s", id));
-			doFlowReceiverReferenceResume();
+			if (!isBackpressured.get()) {
+				doFlowReceiverReferenceResume();
+			} else {
+				logger.info(String.format("Flow receiver container %s is backpressured, " +
+						"its flow will be started once backpressure is relieved", id));
+			}
 			isPaused.set(false);
 		} finally {
 			writeLock.unlock();
@@ -654,6 +709,48 @@ public class FlowReceiverContainer {
 		return isPaused.get();
 	}
 
+	/**
+	 * Stop the flow from delivering messages because downstream can't keep up. Unlike {@link #pause()}, this doesn't
+	 * change the paused state of this container.
+	 */
+	public void pauseForBackpressure() {
+		Lock writeLock = readWriteLock.writeLock();
+		writeLock.lock();
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Applying backpressure to flow receiver container %s", id));
+			}
+			isBackpressured.set(true);
+			doFlowReceiverReferencePause();
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Restart the flow after a {@link #pauseForBackpressure()}, unless this container is paused.
+	 * @throws JCSMPException a JCSMP exception
+	 */
+	public void resumeFromBackpressure() throws JCSMPException {
+		Lock writeLock = readWriteLock.writeLock();
+		writeLock.lock();
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Relieving backpressure from flow receiver container %s", id));
+			}
+			if (!isPaused.get()) {
+				doFlowReceiverReferenceResume();
+			}
+			isBackpressured.set(false);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	public boolean isBackpressured() {
+		return isBackpressured.get();
+	}
+
 	/**
 	 * <p>Get the nested {@link FlowReceiver}.</p>
 	 * <p><b>Caution:</b> Instead of using this, consider instead implementing a new function with the required rebind
@@ -665,6 +762,17 @@ public class FlowReceiverContainer {
 		return flowReceiverAtomicReference.get();
 	}
 
+	/**
+	 * Wait until all messages received from the bound flow have been acknowledged.
+	 * @param timeout the maximum wait time. If less than 0, then wait forever.
+	 * @param unit the timeout unit.
+	 * @return true if all messages were acknowledged. False if timed out.
+	 * @throws InterruptedException if the wait was interrupted
+	 */
+	public boolean awaitAcknowledgments(long timeout, TimeUnit unit) throws InterruptedException {
+		return unacknowledgedMessageTracker.awaitEmpty(timeout, unit);
+	}
+
 	/**
 	 * Gets the number of unacknowledged messages. This value is an unsigned.
 	 * @return the number of unacknowledged messages.
@@ -685,6 +793,56 @@ public class FlowReceiverContainer {
 		return xmlMessageMapper;
 	}
 
+	/**
+	 * Adapts pushed messages of a single flow into {@link MessageContainer}s.
+	 */
+	private final class PushMessageListener implements XMLMessageListener {
+		private final Consumer<MessageContainer> messageListener;
+		private volatile FlowReceiverReference flowReceiverReference;
+
+		private PushMessageListener(Consumer<MessageContainer> messageListener) {
+			this.messageListener = messageListener;
+		}
+
+		@Override
+		public void onReceive(BytesXMLMessage bytesXMLMessage) {
+			FlowReceiverReference flowReceiverReference = this.flowReceiverReference;
+			if (flowReceiverReference.getStaleMessagesFlag().get()) {
+				// Flow was closed during delivery, the broker will redeliver it
+				if (logger.isTraceEnabled()) {
+					logger.trace(String.format("Flow receiver container %s discarding XMLMessage %s pushed by an " +
+							"unbound flow", id, bytesXMLMessage.getMessageId()));
+				}
+				return;
+			}
+
+			MessageContainer messageContainer = new MessageContainer(bytesXMLMessage,
+					flowReceiverReference.getId(), flowReceiverReference.getStaleMessagesFlag());
+			unacknowledgedMessageTracker.increment();
+			if (flowReceiverReference.getStaleMessagesFlag().get()) {
+				// Same validation as receive(): the counter may have been reset by a concurrent unbind
+				unacknowledgedMessageTracker.decrement();
+			}
+
+			try {
+				messageListener.accept(messageContainer);
+			} catch (RuntimeException e) {
+				logger.warn(String.format("Flow receiver container %s failed to process pushed XMLMessage %s",
+						id, bytesXMLMessage.getMessageId()), e);
+			}
+		}
+
+		@Override
+		public void onException(JCSMPException e) {
+			if (flowReceiverReference != null && flowReceiverReference.getStaleMessagesFlag().get()) {
+				logger.debug(String.format("Flow receiver container %s received exception from an unbound flow",
+						id), e);
+			} else {
+				logger.warn(String.format("Flow receiver container %s received exception from its flow", id), e);
+			}
+		}
+	}
+
 	static class FlowReceiverReference {
 		private final UUID id = UUID.randomUUID();
 		private final FlowReceiver flowReceiver;
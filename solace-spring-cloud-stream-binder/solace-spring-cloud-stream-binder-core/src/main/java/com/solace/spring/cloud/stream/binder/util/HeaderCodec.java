@@ -0,0 +1,35 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import java.io.Serializable;
+
+/**
+ * <p>Encodes header values which aren't natively supported by a message's user properties.</p>
+ * <p>The name of the codec which encoded a message's headers is sent along with the message, so that the consumer
+ * can decode them with the same codec. Besides the built-in codecs (see {@link HeaderCodecs}), custom codecs can be
+ * registered with the {@link java.util.ServiceLoader} mechanism, in which case they must be available to both the
+ * producer and the consumer.</p>
+ * <p>Implementations must be thread-safe.</p>
+ */
+public interface HeaderCodec {
+
+	/**
+	 * @return the unique name of this codec
+	 */
+	String getName();
+
+	/**
+	 * Encode a header value.
+	 * @param value the header value
+	 * @return the encoded header value. Must either be a {@link String} or a {@code byte[]}.
+	 * @throws Exception if the value couldn't be encoded
+	 */
+	Object encode(Serializable value) throws Exception;
+
+	/**
+	 * Decode a header value.
+	 * @param encodedValue the encoded header value, either a {@link String} or a {@code byte[]}
+	 * @return the header value
+	 * @throws Exception if the value couldn't be decoded
+	 */
+	Object decode(Object encodedValue) throws Exception;
+}
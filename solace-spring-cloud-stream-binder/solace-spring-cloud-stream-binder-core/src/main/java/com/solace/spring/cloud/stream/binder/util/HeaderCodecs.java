@@ -0,0 +1,128 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.SerializationUtils;
+
+import java.io.Serializable;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * <p>Registry of the {@link HeaderCodec header codecs}.</p>
+ * <p>The built-in codecs are:</p>
+ * <ul>
+ *     <li>{@value #BASE64_NAME}: Java serialization, encoded as a Base64 string. This is the default and is
+ *     compatible with the Solace JMS API.</li>
+ *     <li>{@value #BINARY_NAME}: Java serialization, stored as raw bytes.</li>
+ *     <li>{@value #COMPACT_NAME}: A compact binary encoding for common header types (e.g. {@link java.util.UUID},
+ *     {@link org.springframework.util.MimeType}, {@link java.time.Instant}), stored as raw bytes. Any other type
+ *     falls back to Java serialization.</li>
+ * </ul>
+ * <p>Custom codecs are discovered using {@link ServiceLoader}. A custom codec cannot replace a built-in codec.</p>
+ */
+public final class HeaderCodecs {
+	public static final String BASE64_NAME = "base64";
+	public static final String BINARY_NAME = "binary";
+	public static final String COMPACT_NAME = "compact";
+
+	public static final HeaderCodec BASE64 = new JavaSerializationHeaderCodec(BASE64_NAME, true);
+	public static final HeaderCodec BINARY = new JavaSerializationHeaderCodec(BINARY_NAME, false);
+	public static final HeaderCodec COMPACT = new CompactHeaderCodec(COMPACT_NAME);
+
+	private static final Log logger = LogFactory.getLog(HeaderCodecs.class);
+	private static final Map<String, HeaderCodec> CODECS;
+
+	static {
+		Map<String, HeaderCodec> codecs = new HashMap<>();
+		for (HeaderCodec codec : new HeaderCodec[]{BASE64, BINARY, COMPACT}) {
+			codecs.put(codec.getName(), codec);
+		}
+
+		try {
+			for (HeaderCodec codec : ServiceLoader.load(HeaderCodec.class, HeaderCodecs.class.getClassLoader())) {
+				HeaderCodec existing = codecs.putIfAbsent(codec.getName(), codec);
+				if (existing != null) {
+					logger.warn(String.format("Ignoring header codec %s, since its name %s is already used by %s",
+							codec.getClass().getName(), codec.getName(), existing.getClass().getName()));
+				} else if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Registered header codec %s: %s",
+							codec.getName(), codec.getClass().getName()));
+				}
+			}
+		} catch (ServiceConfigurationError e) {
+			logger.warn("Failed to load custom header codecs", e);
+		}
+
+		CODECS = Collections.unmodifiableMap(codecs);
+	}
+
+	private HeaderCodecs() {}
+
+	/**
+	 * Get a header codec by name.
+	 * @param name the codec name
+	 * @return the codec, or {@code null} if there is no codec with this name
+	 */
+	@Nullable
+	public static HeaderCodec getByName(@Nullable String name) {
+		return name != null ? CODECS.get(name) : null;
+	}
+
+	/**
+	 * Get a header codec by name.
+	 * @param name the codec name
+	 * @return the codec
+	 * @throws IllegalArgumentException if there is no codec with this name
+	 */
+	public static HeaderCodec getRequiredByName(String name) {
+		HeaderCodec codec = getByName(name);
+		if (codec == null) {
+			throw new IllegalArgumentException(String.format("Header codec %s does not exist. Expected one of: %s",
+					name, String.join(", ", CODECS.keySet())));
+		}
+		return codec;
+	}
+
+	static byte[] toBytes(Object encodedValue) {
+		if (encodedValue instanceof byte[]) {
+			return (byte[]) encodedValue;
+		}
+		throw new IllegalArgumentException(String.format("Expected an encoded header value of type %s, but was %s",
+				byte[].class.getSimpleName(), encodedValue != null ? encodedValue.getClass().getName() : null));
+	}
+
+	private static final class JavaSerializationHeaderCodec implements HeaderCodec {
+		private final String name;
+		private final boolean base64;
+
+		private JavaSerializationHeaderCodec(String name, boolean base64) {
+			this.name = name;
+			this.base64 = base64;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public Object encode(Serializable value) {
+			byte[] serialized = SerializationUtils.serialize(value);
+			return base64 ? Base64.getEncoder().encodeToString(serialized) : serialized;
+		}
+
+		@Override
+		public Object decode(Object encodedValue) {
+			byte[] serialized = base64 && encodedValue instanceof String ?
+					Base64.getDecoder().decode((String) encodedValue) :
+					toBytes(encodedValue);
+			return SerializationUtils.deserialize(serialized);
+		}
+	}
+}
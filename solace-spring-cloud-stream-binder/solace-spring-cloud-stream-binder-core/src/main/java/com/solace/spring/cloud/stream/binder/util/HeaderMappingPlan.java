@@ -0,0 +1,128 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import com.solace.spring.cloud.stream.binder.messaging.SolaceBinderHeaderMeta;
+import com.solace.spring.cloud.stream.binder.messaging.SolaceBinderHeaders;
+import com.solace.spring.cloud.stream.binder.messaging.SolaceHeaderMeta;
+import org.springframework.cloud.stream.binder.BinderHeaders;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>A binding's header mapping steps, which are compiled once when the binding's
+ * {@link XMLMessageMappingOptions} are set up instead of being re-derived from the header metadata for every
+ * message.</p>
+ * <p>The Solace header steps are flat arrays holding only the readable or writable headers. The plan also holds a
+ * hashed set of the binding's excluded headers, so that checking whether a Spring header should be mapped to a user
+ * property is a constant-time lookup.</p>
+ */
+final class HeaderMappingPlan {
+	/**
+	 * Headers which are never mapped to user properties.
+	 */
+	private static final Set<String> RESERVED_HEADERS = new HashSet<>();
+
+	/**
+	 * Reserved headers which also match regardless of case.
+	 */
+	private static final Set<String> CASE_INSENSITIVE_RESERVED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+	static {
+		Stream.of(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK,
+				BinderHeaders.TARGET_DESTINATION,
+				SolaceBinderHeaders.CONFIRM_CORRELATION,
+				SolaceBinderHeaders.DELIVERY_MODE).forEach(CASE_INSENSITIVE_RESERVED_HEADERS::add);
+		RESERVED_HEADERS.addAll(CASE_INSENSITIVE_RESERVED_HEADERS);
+		RESERVED_HEADERS.addAll(SolaceHeaderMeta.META.keySet());
+		RESERVED_HEADERS.addAll(SolaceBinderHeaderMeta.META.keySet());
+	}
+
+	private final Step[] readSteps = compileSteps(SolaceHeaderMeta::isReadable);
+	private final Step[] writeSteps = compileSteps(SolaceHeaderMeta::isWritable);
+	private final Set<String> excludedHeaders;
+
+	/**
+	 * @param excludedHeaders the headers to not map to user properties
+	 */
+	HeaderMappingPlan(@Nullable Collection<String> excludedHeaders) {
+		if (readSteps.length > Long.SIZE) { // Ignored read steps are tracked in a bit mask
+			throw new IllegalStateException(String.format("Expected at most %s readable Solace headers, but found %s",
+					Long.SIZE, readSteps.length));
+		}
+		this.excludedHeaders = excludedHeaders == null || excludedHeaders.isEmpty() ? Collections.emptySet() :
+				new HashSet<>(excludedHeaders);
+	}
+
+	/**
+	 * Check if a Spring header should be written to the user properties of the outbound message.
+	 * @param headerName the header name
+	 * @return true if the header is neither reserved nor excluded
+	 */
+	boolean isUserProperty(String headerName) {
+		return !RESERVED_HEADERS.contains(headerName) &&
+				!CASE_INSENSITIVE_RESERVED_HEADERS.contains(headerName) &&
+				!excludedHeaders.contains(headerName);
+	}
+
+	/**
+	 * @return the readable Solace headers, in the same order in every plan. Do not modify.
+	 */
+	Step[] getReadSteps() {
+		return readSteps;
+	}
+
+	/**
+	 * @return the writable Solace headers. Do not modify.
+	 */
+	Step[] getWriteSteps() {
+		return writeSteps;
+	}
+
+	private static Step[] compileSteps(Predicate<SolaceHeaderMeta<?>> filter) {
+		List<Map.Entry<String, SolaceHeaderMeta<?>>> headers = SolaceHeaderMeta.META.entrySet()
+				.stream()
+				.filter(h -> filter.test(h.getValue()))
+				.collect(Collectors.toList());
+		return IntStream.range(0, headers.size())
+				.mapToObj(i -> new Step(i, headers.get(i).getKey(), headers.get(i).getValue()))
+				.toArray(Step[]::new);
+	}
+
+	static final class Step {
+		private final int index;
+		private final String name;
+		private final SolaceHeaderMeta<?> meta;
+
+		private Step(int index, String name, SolaceHeaderMeta<?> meta) {
+			this.index = index;
+			this.name = name;
+			this.meta = meta;
+		}
+
+		/**
+		 * @return the index of this step within its steps array
+		 */
+		int getIndex() {
+			return index;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		SolaceHeaderMeta<?> getMeta() {
+			return meta;
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+public class InFlightLimitExceededException extends RuntimeException {
+	public InFlightLimitExceededException(String message) {
+		super(message);
+	}
+}
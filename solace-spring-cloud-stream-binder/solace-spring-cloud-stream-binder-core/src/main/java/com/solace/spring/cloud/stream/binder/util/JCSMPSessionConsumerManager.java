@@ -0,0 +1,159 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.Destination;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.XMLMessageConsumer;
+import com.solacesystems.jcsmp.XMLMessageListener;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Manages the direct message consumer of a session, of which JCSMP only supports one per session.</p>
+ * <p>Each direct subscription consumer binding subscribes the session to its topics, and the shared consumer
+ * dispatches every received message to the listener of each binding which has a subscription matching the
+ * message's destination.</p>
+ */
+public class JCSMPSessionConsumerManager extends SharedResourceManager<XMLMessageConsumer> {
+	private final JCSMPSession session;
+	private final Map<String, DirectSubscriber> subscribers = new ConcurrentHashMap<>();
+	private final Object subscriptionLock = new Object();
+
+	private static final Log logger = LogFactory.getLog(JCSMPSessionConsumerManager.class);
+
+	public JCSMPSessionConsumerManager(JCSMPSession session) {
+		super("direct consumer");
+		this.session = session;
+	}
+
+	/**
+	 * Subscribe the session to the given topics, and dispatch the messages received on them to the listener.
+	 * @param key the registration key of the subscriber
+	 * @param topics the topic subscriptions, which may contain wildcards
+	 * @param listener the listener to dispatch received messages to, called on the JCSMP context thread
+	 * @throws Exception if the consumer couldn't be created, or a topic couldn't be subscribed to
+	 */
+	public void subscribe(String key, Collection<String> topics, XMLMessageListener listener) throws Exception {
+		List<TopicSubscription> subscriptions = new ArrayList<>(topics.size());
+		for (String topic : topics) {
+			subscriptions.add(new TopicSubscription(topic));
+		}
+
+		synchronized (subscriptionLock) {
+			get(key);
+			subscribers.put(key, new DirectSubscriber(subscriptions, listener));
+			try {
+				for (TopicSubscription subscription : subscriptions) {
+					logger.info(String.format("Subscribing session %s to topic %s <subscriber %s>",
+							session.getSessionName(), subscription.getName(), key));
+					session.addSubscription(JCSMPFactory.onlyInstance().createTopic(subscription.getName()), true);
+				}
+			} catch (JCSMPException | RuntimeException e) {
+				unsubscribe(key);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Stop dispatching messages to the subscriber, and remove its topic subscriptions from the session unless
+	 * another subscriber also has them.
+	 * @param key the registration key of the subscriber
+	 */
+	public void unsubscribe(String key) {
+		synchronized (subscriptionLock) {
+			DirectSubscriber subscriber = subscribers.remove(key);
+			if (subscriber != null) {
+				for (TopicSubscription subscription : subscriber.subscriptions) {
+					if (isSubscribed(subscription.getName())) {
+						continue;
+					}
+					try {
+						session.removeSubscription(JCSMPFactory.onlyInstance().createTopic(subscription.getName()),
+								true);
+					} catch (JCSMPException | RuntimeException e) {
+						logger.warn(String.format("Failed to unsubscribe session %s from topic %s <subscriber %s>",
+								session.getSessionName(), subscription.getName(), key), e);
+					}
+				}
+			}
+			release(key);
+		}
+	}
+
+	private boolean isSubscribed(String topic) {
+		for (DirectSubscriber subscriber : subscribers.values()) {
+			for (TopicSubscription subscription : subscriber.subscriptions) {
+				if (subscription.getName().equals(topic)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	XMLMessageConsumer create() throws JCSMPException {
+		XMLMessageConsumer consumer = session.getMessageConsumer(new Dispatcher());
+		consumer.start();
+		return consumer;
+	}
+
+	@Override
+	void close() {
+		sharedResource.close();
+	}
+
+	private final class Dispatcher implements XMLMessageListener {
+		@Override
+		public void onReceive(BytesXMLMessage message) {
+			Destination destination = message.getDestination();
+			if (destination == null) {
+				return;
+			}
+
+			String[] topicLevels = TopicSubscription.split(destination.getName());
+			for (DirectSubscriber subscriber : subscribers.values()) {
+				if (subscriber.matches(topicLevels)) {
+					subscriber.listener.onReceive(message);
+				}
+			}
+		}
+
+		@Override
+		public void onException(JCSMPException e) {
+			logger.warn(String.format("Direct consumer of session %s received an exception",
+					session.getSessionName()), e);
+			for (DirectSubscriber subscriber : subscribers.values()) {
+				subscriber.listener.onException(e);
+			}
+		}
+	}
+
+	private static final class DirectSubscriber {
+		private final List<TopicSubscription> subscriptions;
+		private final XMLMessageListener listener;
+
+		private DirectSubscriber(List<TopicSubscription> subscriptions, XMLMessageListener listener) {
+			this.subscriptions = subscriptions;
+			this.listener = listener;
+		}
+
+		private boolean matches(String[] topicLevels) {
+			for (TopicSubscription subscription : subscriptions) {
+				if (subscription.matches(topicLevels)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -8,16 +8,19 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.MessagingException;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class JCSMPSessionProducerManager extends SharedResourceManager<XMLMessageProducer> {
 	private final JCSMPSession session;
-	private final CloudStreamEventHandler publisherEventHandler = new CloudStreamEventHandler();
+	private final AtomicInteger inFlightCount = new AtomicInteger();
+	private final CloudStreamEventHandler publisherEventHandler = new CloudStreamEventHandler(inFlightCount);
 
 	private static final Log logger = LogFactory.getLog(JCSMPSessionProducerManager.class);
 
@@ -26,6 +29,31 @@ public class JCSMPSessionProducerManager extends SharedResourceManager<XMLMessag
 		this.session = session;
 	}
 
+	public String getSessionName() {
+		return session.getSessionName();
+	}
+
+	/**
+	 * Must be called before sending a message whose correlation key is an {@link ErrorChannelSendingCorrelationKey}.
+	 * The count is decremented once the broker responds, or by {@link #decrementInFlightCount()} if the message
+	 * couldn't be sent.
+	 */
+	public void incrementInFlightCount() {
+		inFlightCount.incrementAndGet();
+	}
+
+	public void decrementInFlightCount() {
+		inFlightCount.decrementAndGet();
+	}
+
+	/**
+	 * @return the number of messages sent through this session's producer which are waiting for a response from the
+	 * broker, i.e. the used part of the session's publish window
+	 */
+	public int getInFlightCount() {
+		return inFlightCount.get();
+	}
+
 	@Override
 	XMLMessageProducer create() throws JCSMPException {
 		return session.getMessageProducer(publisherEventHandler);
@@ -37,18 +65,35 @@ public class JCSMPSessionProducerManager extends SharedResourceManager<XMLMessag
 	}
 
 	public static class CloudStreamEventHandler implements JCSMPStreamingPublishCorrelatingEventHandler {
+		@Nullable private final AtomicInteger inFlightCount;
+
+		public CloudStreamEventHandler() {
+			this(null);
+		}
+
+		CloudStreamEventHandler(@Nullable AtomicInteger inFlightCount) {
+			this.inFlightCount = inFlightCount;
+		}
 
 		@Override
 		public void responseReceivedEx(Object correlationKey) {
 			if (correlationKey instanceof ErrorChannelSendingCorrelationKey) {
 				ErrorChannelSendingCorrelationKey key = (ErrorChannelSendingCorrelationKey) correlationKey;
+				if (inFlightCount != null) {
+					inFlightCount.decrementAndGet();
+				}
 				if (logger.isTraceEnabled()) {
 					logger.trace("Producer received response for message " +
 							StaticMessageHeaderAccessor.getId(key.getInputMessage()));
 				}
+				if (!key.acknowledgeResponse()) {
+					return; // Other chunks of the input message are still pending, or have failed
+				}
+				key.settle();
 				if (key.getConfirmCorrelation() != null) {
 					key.getConfirmCorrelation().success();
 				}
+				key.releaseRawMessage();
 			} else if (correlationKey instanceof ErrorQueueRepublishCorrelationKey) {
 				ErrorQueueRepublishCorrelationKey key = (ErrorQueueRepublishCorrelationKey) correlationKey;
 				try {
@@ -68,6 +113,17 @@ public class JCSMPSessionProducerManager extends SharedResourceManager<XMLMessag
 		public void handleErrorEx(Object correlationKey, JCSMPException cause, long timestamp) {
 			if (correlationKey instanceof ErrorChannelSendingCorrelationKey) {
 				ErrorChannelSendingCorrelationKey key = (ErrorChannelSendingCorrelationKey) correlationKey;
+				if (inFlightCount != null) {
+					inFlightCount.decrementAndGet();
+				}
+				if (!key.markFailed()) {
+					if (logger.isDebugEnabled()) {
+						logger.debug(String.format("Producer received another error for Spring message %s at %s",
+								StaticMessageHeaderAccessor.getId(key.getInputMessage()), timestamp), cause);
+					}
+					return;
+				}
+				key.settle();
 				String messageId = key.getRawMessage() != null ? key.getRawMessage().getMessageId() : null;
 				UUID springMessageId = Optional.ofNullable(key.getInputMessage())
 						.map(Message::getHeaders)
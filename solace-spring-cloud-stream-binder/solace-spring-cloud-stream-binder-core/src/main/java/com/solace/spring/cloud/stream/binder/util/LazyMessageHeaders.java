@@ -0,0 +1,190 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.MessageHeaders;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <p>{@link MessageHeaders} whose user property headers are only decoded when they are first accessed.</p>
+ * <p>Headers are resolved in this order:</p>
+ * <ol>
+ *     <li>The eager headers, which are decoded upfront (e.g. the Solace headers and the root message headers).</li>
+ *     <li>The lazy headers, which are decoded from the message's user properties on first access and then cached.</li>
+ *     <li>The fallback headers, which only apply if there is no eager or lazy header with a non-{@code null} value.</li>
+ * </ol>
+ * <p>Looking up a single header with {@link #get(Object)} or {@link #containsKey(Object)} only decodes that header.
+ * Any other operation that needs the full set of headers (e.g. iteration, {@link #size()}, {@link #equals(Object)})
+ * decodes all remaining headers once.</p>
+ * <p>Since decoding is deferred, a header which fails to decode throws its
+ * {@link SolaceMessageConversionException} when it is accessed instead of when the message is mapped.</p>
+ */
+final class LazyMessageHeaders extends MessageHeaders {
+	private static final long serialVersionUID = 1L;
+
+	private final transient Set<String> lazyHeaderNames;
+	private final transient Function<String, Object> decoder;
+	private final transient Map<String, Object> fallbackHeaders;
+	private final transient Map<String, Optional<Object>> decodedHeaders = new ConcurrentHashMap<>();
+	@Nullable private transient volatile Map<String, Object> materializedHeaders;
+
+	/**
+	 * Create lazy message headers.
+	 * @param eagerHeaders headers which were decoded upfront. Must not contain {@code null} values.
+	 * @param lazyHeaderNames names of the headers to be decoded on first access
+	 * @param decoder decodes a lazy header
+	 * @param fallbackHeaders headers which only apply if there is no eager or lazy header with the same name
+	 * @param id the message ID, {@code null} to generate one, or {@link MessageHeaders#ID_VALUE_NONE} for none
+	 * @param timestamp the message timestamp, {@code null} to use the current time, or {@code -1} for none
+	 */
+	LazyMessageHeaders(Map<String, Object> eagerHeaders,
+					   Set<String> lazyHeaderNames,
+					   Function<String, Object> decoder,
+					   Map<String, Object> fallbackHeaders,
+					   @Nullable UUID id,
+					   @Nullable Long timestamp) {
+		super(eagerHeaders, id, timestamp);
+		this.lazyHeaderNames = lazyHeaderNames;
+		this.decoder = decoder;
+		this.fallbackHeaders = fallbackHeaders;
+	}
+
+	@Override
+	@Nullable
+	public Object get(Object key) {
+		Object value = super.get(key);
+		if (value != null) {
+			return value;
+		}
+
+		Map<String, Object> materializedHeaders = this.materializedHeaders;
+		if (materializedHeaders != null) {
+			return materializedHeaders.get(key);
+		}
+
+		if (lazyHeaderNames.contains(key)) {
+			value = decode((String) key);
+		}
+		return value != null ? value : fallbackHeaders.get(key);
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		Object value = get(key);
+		if (value == null) {
+			return null;
+		}
+		if (!type.isAssignableFrom(value.getClass())) {
+			throw new IllegalArgumentException("Incorrect type specified for header '" + key + "'. Expected [" +
+					type + "] but actual type is [" + value.getClass() + "]");
+		}
+		return (T) value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return materialize().containsValue(value);
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return materialize().keySet();
+	}
+
+	@Override
+	public Collection<Object> values() {
+		return materialize().values();
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		return materialize().entrySet();
+	}
+
+	@Override
+	public int size() {
+		return materialize().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return materialize().isEmpty();
+	}
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return this == other || (other instanceof MessageHeaders && materialize().equals(other));
+	}
+
+	@Override
+	public int hashCode() {
+		return materialize().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return materialize().toString();
+	}
+
+	@Override
+	protected Map<String, Object> getRawHeaders() {
+		return materialize();
+	}
+
+	@Nullable
+	private Object decode(String headerName) {
+		return decodedHeaders.computeIfAbsent(headerName, h -> Optional.ofNullable(decoder.apply(h))).orElse(null);
+	}
+
+	private Map<String, Object> materialize() {
+		Map<String, Object> materializedHeaders = this.materializedHeaders;
+		if (materializedHeaders != null) {
+			return materializedHeaders;
+		}
+
+		synchronized (this) {
+			if (this.materializedHeaders == null) {
+				Map<String, Object> headers = new HashMap<>(fallbackHeaders);
+				for (String headerName : lazyHeaderNames) {
+					Object value = decode(headerName);
+					if (value != null) {
+						headers.put(headerName, value);
+					}
+				}
+				headers.putAll(super.getRawHeaders());
+				this.materializedHeaders = Collections.unmodifiableMap(headers);
+			}
+			return this.materializedHeaders;
+		}
+	}
+
+	/**
+	 * Replace with regular message headers when serialized, since the message's user properties can't be serialized.
+	 */
+	private Object writeReplace() {
+		return new MaterializedMessageHeaders(materialize(), getId(), getTimestamp());
+	}
+
+	private static final class MaterializedMessageHeaders extends MessageHeaders {
+		private static final long serialVersionUID = 1L;
+
+		private MaterializedMessageHeaders(Map<String, Object> headers, @Nullable UUID id, @Nullable Long timestamp) {
+			super(headers, id != null ? id : ID_VALUE_NONE, timestamp != null ? timestamp : -1L);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import com.solacesystems.jcsmp.BytesMessage;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Encodes payloads which aren't natively supported by Solace messages (i.e. payloads other than {@code byte[]},
+ * {@link String}, {@link com.solacesystems.jcsmp.SDTMap} and {@link com.solacesystems.jcsmp.SDTStream}).</p>
+ * <p>The name of the codec which encoded a payload is sent along with the message, so that the consumer can decode
+ * it with the same codec. Besides the built-in codecs (see {@link PayloadCodecs}), custom codecs can be registered
+ * with the {@link java.util.ServiceLoader} mechanism, in which case they must be available to both the producer and
+ * the consumer.</p>
+ * <p>Implementations must be thread-safe.</p>
+ */
+public interface PayloadCodec {
+
+	/**
+	 * @return the unique name of this codec
+	 */
+	String getName();
+
+	/**
+	 * Check if this codec can encode payloads of the given type and content type.
+	 * <p>The result is cached per payload type and content type.</p>
+	 * @param payloadType the payload type
+	 * @param contentType the message's content type
+	 * @return true if this codec can encode the payload
+	 */
+	boolean canEncode(Class<?> payloadType, @Nullable MimeType contentType);
+
+	/**
+	 * Encode a payload into a message.
+	 * @param payload the payload
+	 * @param message the message to write the encoded payload to
+	 * @throws Exception if the payload couldn't be encoded
+	 */
+	void encode(Object payload, BytesMessage message) throws Exception;
+
+	/**
+	 * Decode a payload.
+	 * <p>The buffer may be reused once this method returns, so the decoded payload must not reference it.</p>
+	 * @param data the encoded payload, from the buffer's position to its limit
+	 * @param contentType the message's content type
+	 * @return the payload
+	 * @throws Exception if the payload couldn't be decoded
+	 */
+	Object decode(ByteBuffer data, @Nullable MimeType contentType) throws Exception;
+}
@@ -0,0 +1,161 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import com.solacesystems.jcsmp.BytesMessage;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Registry of the {@link PayloadCodec payload codecs}.</p>
+ * <p>Codecs are looked up by payload type and content type. Custom codecs, which are discovered using
+ * {@link ServiceLoader}, are checked in the order that they were loaded. If none of them can encode a payload, it
+ * falls back to the built-in {@value #JAVA_NAME} codec, which Java-serializes any {@link Serializable} payload.</p>
+ * <p>A custom codec cannot replace a built-in codec.</p>
+ */
+public final class PayloadCodecs {
+	public static final String JAVA_NAME = "java";
+
+	public static final PayloadCodec JAVA = new JavaSerializationPayloadCodec();
+
+	private static final Log logger = LogFactory.getLog(PayloadCodecs.class);
+	private static final List<PayloadCodec> ENCODE_ORDER;
+	private static final Map<String, PayloadCodec> CODECS;
+	private static final Map<EncoderKey, Optional<PayloadCodec>> ENCODERS = new ConcurrentHashMap<>();
+
+	static {
+		Map<String, PayloadCodec> codecs = new HashMap<>();
+		codecs.put(JAVA.getName(), JAVA);
+
+		List<PayloadCodec> encodeOrder = new ArrayList<>();
+		try {
+			for (PayloadCodec codec : ServiceLoader.load(PayloadCodec.class, PayloadCodecs.class.getClassLoader())) {
+				PayloadCodec existing = codecs.putIfAbsent(codec.getName(), codec);
+				if (existing != null) {
+					logger.warn(String.format("Ignoring payload codec %s, since its name %s is already used by %s",
+							codec.getClass().getName(), codec.getName(), existing.getClass().getName()));
+					continue;
+				}
+				encodeOrder.add(codec);
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Registered payload codec %s: %s",
+							codec.getName(), codec.getClass().getName()));
+				}
+			}
+		} catch (ServiceConfigurationError e) {
+			logger.warn("Failed to load custom payload codecs", e);
+		}
+		encodeOrder.add(JAVA);
+
+		ENCODE_ORDER = Collections.unmodifiableList(encodeOrder);
+		CODECS = Collections.unmodifiableMap(codecs);
+	}
+
+	private PayloadCodecs() {}
+
+	/**
+	 * Get a payload codec by name.
+	 * @param name the codec name
+	 * @return the codec, or {@code null} if there is no codec with this name
+	 */
+	@Nullable
+	public static PayloadCodec getByName(@Nullable String name) {
+		return name != null ? CODECS.get(name) : null;
+	}
+
+	/**
+	 * Get the codec which encodes payloads of the given type and content type.
+	 * @param payloadType the payload type
+	 * @param contentType the message's content type
+	 * @return the codec, or {@code null} if no codec can encode the payload
+	 */
+	@Nullable
+	public static PayloadCodec getEncoder(Class<?> payloadType, @Nullable MimeType contentType) {
+		return ENCODERS.computeIfAbsent(new EncoderKey(payloadType, contentType), k -> ENCODE_ORDER.stream()
+						.filter(codec -> codec.canEncode(payloadType, contentType))
+						.findFirst())
+				.orElse(null);
+	}
+
+	/**
+	 * Java serialization. This was the only way that this binder encoded payloads before payload codecs were
+	 * introduced, so it is also used to decode messages which only have the
+	 * {@link com.solace.spring.cloud.stream.binder.messaging.SolaceBinderHeaders#SERIALIZED_PAYLOAD} flag.
+	 */
+	private static final class JavaSerializationPayloadCodec implements PayloadCodec {
+
+		@Override
+		public String getName() {
+			return JAVA_NAME;
+		}
+
+		@Override
+		public boolean canEncode(Class<?> payloadType, @Nullable MimeType contentType) {
+			return Serializable.class.isAssignableFrom(payloadType);
+		}
+
+		@Override
+		public void encode(Object payload, BytesMessage message) throws Exception {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeObject(payload);
+			}
+			message.setData(bytes.toByteArray());
+		}
+
+		@Override
+		public Object decode(ByteBuffer data, @Nullable MimeType contentType) throws Exception {
+			ByteArrayInputStream bytes;
+			if (data.hasArray()) {
+				bytes = new ByteArrayInputStream(data.array(), data.arrayOffset() + data.position(), data.remaining());
+			} else {
+				byte[] copy = new byte[data.remaining()];
+				data.duplicate().get(copy);
+				bytes = new ByteArrayInputStream(copy);
+			}
+			try (ObjectInputStream in = new ObjectInputStream(bytes)) {
+				return in.readObject();
+			}
+		}
+	}
+
+	private static final class EncoderKey {
+		private final Class<?> payloadType;
+		@Nullable private final MimeType contentType;
+
+		private EncoderKey(Class<?> payloadType, @Nullable MimeType contentType) {
+			this.payloadType = payloadType;
+			this.contentType = contentType;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			EncoderKey that = (EncoderKey) o;
+			return payloadType.equals(that.payloadType) && Objects.equals(contentType, that.contentType);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(payloadType, contentType);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Compresses the payloads of published messages with a {@link CompressionCodec}.</p>
+ * <p>Only payloads of at least the threshold size are compressed, and the compressed payload is only used if it's
+ * smaller than the original one.</p>
+ */
+public class PayloadCompressor {
+	private final CompressionCodec codec;
+	private final int threshold;
+	@Nullable private final CompressionListener listener;
+
+	/**
+	 * Create a payload compressor.
+	 * @param codec the codec to compress payloads with
+	 * @param threshold the min payload size in bytes to compress
+	 * @param listener notified of each compression, e.g. to record metrics
+	 */
+	public PayloadCompressor(CompressionCodec codec, int threshold, @Nullable CompressionListener listener) {
+		if (threshold < 0) {
+			throw new IllegalArgumentException(String.format("Expected compression threshold >= 0, but was %s",
+					threshold));
+		}
+		this.codec = codec;
+		this.threshold = threshold;
+		this.listener = listener;
+	}
+
+	public CompressionCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * Compress a binary payload.
+	 * @param data the payload
+	 * @return the compressed payload, or {@code null} if the payload shouldn't be compressed
+	 * @throws Exception if the payload couldn't be compressed
+	 */
+	@Nullable
+	public byte[] compress(byte[] data) throws Exception {
+		if (data.length < threshold) {
+			return null;
+		}
+
+		long startNanos = System.nanoTime();
+		byte[] compressed = codec.compress(data);
+		if (listener != null) {
+			listener.onCompress(data.length, compressed.length, System.nanoTime() - startNanos);
+		}
+		return compressed.length < data.length ? compressed : null;
+	}
+
+	/**
+	 * Compress the UTF-8 encoding of a text payload.
+	 * @param text the payload
+	 * @return the compressed payload, or {@code null} if the payload shouldn't be compressed
+	 * @throws Exception if the payload couldn't be compressed
+	 */
+	@Nullable
+	public byte[] compressText(String text) throws Exception {
+		// A UTF-8 encoding has at least as many bytes as the text has chars
+		return text.length() < threshold ? null : compress(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Notified whenever a payload was compressed.
+	 */
+	@FunctionalInterface
+	public interface CompressionListener {
+		/**
+		 * @param uncompressedSize the payload size in bytes
+		 * @param compressedSize the compressed payload size in bytes
+		 * @param nanos the time it took to compress the payload
+		 */
+		void onCompress(int uncompressedSize, int compressedSize, long nanos);
+	}
+}
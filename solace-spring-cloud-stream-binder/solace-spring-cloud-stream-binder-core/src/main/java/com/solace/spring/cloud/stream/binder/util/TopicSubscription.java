@@ -0,0 +1,60 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import java.util.Arrays;
+
+/**
+ * <p>A topic subscription which matches topics the same way as the broker does.</p>
+ * <p>Topic levels are separated by {@code /}. A level which ends with {@code *} matches any level which starts with
+ * the preceding characters, so a lone {@code *} matches any level. A last level of {@code >} matches one or more
+ * levels. Anywhere else, {@code *} and {@code >} are literal characters.</p>
+ */
+final class TopicSubscription {
+	private final String name;
+	private final String[] levels;
+	private final boolean[] prefixLevels; // true if the level ends with the * wildcard
+	private final boolean matchesRemainingLevels; // true if the last level is the > wildcard
+
+	TopicSubscription(String name) {
+		this.name = name;
+		String[] levels = split(name);
+		this.matchesRemainingLevels = levels[levels.length - 1].equals(">");
+		this.levels = matchesRemainingLevels ? Arrays.copyOf(levels, levels.length - 1) : levels;
+		this.prefixLevels = new boolean[this.levels.length];
+		for (int i = 0; i < this.levels.length; i++) {
+			if (this.levels[i].endsWith("*")) {
+				prefixLevels[i] = true;
+				this.levels[i] = this.levels[i].substring(0, this.levels[i].length() - 1);
+			}
+		}
+	}
+
+	/**
+	 * Split a topic into its levels.
+	 * @param topic the topic
+	 * @return the topic levels
+	 */
+	static String[] split(String topic) {
+		return topic.split("/", -1);
+	}
+
+	/**
+	 * @param topicLevels the levels of the topic, as returned by {@link #split(String)}
+	 * @return true if this subscription matches the topic
+	 */
+	boolean matches(String[] topicLevels) {
+		if (matchesRemainingLevels ? topicLevels.length <= levels.length : topicLevels.length != levels.length) {
+			return false;
+		}
+
+		for (int i = 0; i < levels.length; i++) {
+			if (prefixLevels[i] ? !topicLevels[i].startsWith(levels[i]) : !topicLevels[i].equals(levels[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	String getName() {
+		return name;
+	}
+}
@@ -4,20 +4,44 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * <p>An unsigned counter which threads can wait on until it is zero.</p>
+ * <p>Increments go to a base count. Decrements are striped by thread: each stripe holds a batch of counts moved
+ * from the base, which the threads of that stripe decrement without contending with each other or with the
+ * incrementing thread. Counts are only moved under the lock, so a stripe can only shrink while the lock is held.
+ * This is what keeps the count exact:</p>
+ * <ul>
+ *     <li>A decrement which finds its stripe empty takes the lock, then takes a count from the base, or else from
+ *     any stripe. If it finds the stripes empty and then the base empty, the count was zero at that point and
+ *     the decrement does nothing, the same as the unstriped counter.</li>
+ *     <li>Sums are taken under the lock, reading the stripes before the base, so a sum of zero means that the count
+ *     was zero when the base was read.</li>
+ * </ul>
+ * <p>Decrements only take the lock to signal waiters if a thread is actually waiting.</p>
+ */
 class UnsignedCounterBarrier {
-	private final AtomicLong counter; // Treated as an unsigned long (i.e. range from 0 -> -1)
-	private final Lock awaitLock = new ReentrantLock();
-	private final Condition isZero = awaitLock.newCondition();
+	private static final int NUM_STRIPES = Integer.highestOneBit(
+			Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1);
+	private static final int STRIPE_PADDING = 16; // longs, so that stripes don't share a cache line
+	private static final long STRIPE_BATCH_SIZE = 16;
+
+	private final AtomicLong base; // Treated as an unsigned long (i.e. range from 0 -> -1)
+	private final AtomicLongArray stripes = new AtomicLongArray(NUM_STRIPES * STRIPE_PADDING);
+	private final AtomicInteger numWaiters = new AtomicInteger(0);
+	private final Lock lock = new ReentrantLock();
+	private final Condition isZero = lock.newCondition();
 
 	private static final Log logger = LogFactory.getLog(UnsignedCounterBarrier.class);
 
 	public UnsignedCounterBarrier(long initialValue) {
-		counter = new AtomicLong(initialValue);
+		base = new AtomicLong(initialValue);
 	}
 
 	public UnsignedCounterBarrier() {
@@ -26,30 +50,75 @@ class UnsignedCounterBarrier {
 
 	public void increment() {
 		// Assuming we won't ever increment past -1
-		counter.updateAndGet(c -> Long.compareUnsigned(c, -1) < 0 ? c + 1 : c);
+		base.updateAndGet(c -> Long.compareUnsigned(c, -1) < 0 ? c + 1 : c);
 	}
 
 	public void decrement() {
-		// Assuming we won't ever decrement below 0
-		if (counter.updateAndGet(c -> Long.compareUnsigned(c, 0) > 0 ? c - 1 : c) == 0) {
-			awaitLock.lock();
-			try {
-				isZero.signalAll();
-			} finally {
-				awaitLock.unlock();
+		int stripe = getStripeIndex();
+		for (long c = stripes.get(stripe); c > 0; c = stripes.get(stripe)) {
+			if (stripes.compareAndSet(stripe, c, c - 1)) {
+				signalIfWaiting();
+				return;
+			}
+		}
+
+		lock.lock();
+		try {
+			decrementLocked(stripe);
+		} finally {
+			lock.unlock();
+		}
+		signalIfWaiting();
+	}
+
+	private void decrementLocked(int stripe) {
+		while (true) {
+			long c = base.get();
+			if (c != 0) {
+				// Take a batch for the next decrements of this stripe. Don't batch unsigned counts past the signed
+				// limit, which would only happen if the counter was created with such a count.
+				long batchSize = c > 0 ? Math.min(c, STRIPE_BATCH_SIZE) : 1;
+				if (base.compareAndSet(c, c - batchSize)) {
+					stripes.addAndGet(stripe, batchSize - 1);
+					return;
+				}
+				continue; // Concurrently incremented
+			}
+
+			// Includes this stripe, which another thread of the stripe may have refilled before the lock was taken
+			if (decrementAnyStripe()) {
+				return;
+			} else if (base.get() == 0) {
+				// The stripes were empty and can't grow without the lock, so the count was zero when the base was
+				// read. Assuming we won't ever decrement below 0.
+				return;
+			}
+		}
+	}
+
+	private boolean decrementAnyStripe() {
+		for (int i = 0; i < NUM_STRIPES; i++) {
+			int stripe = i * STRIPE_PADDING;
+			for (long c = stripes.get(stripe); c > 0; c = stripes.get(stripe)) {
+				if (stripes.compareAndSet(stripe, c, c - 1)) {
+					return true;
+				}
 			}
 		}
+		return false;
 	}
 
 	public void reset() {
-		if (Long.compareUnsigned(counter.getAndSet(0), 0) != 0) {
-			awaitLock.lock();
-			try {
-				isZero.signalAll();
-			} finally {
-				awaitLock.unlock();
+		lock.lock();
+		try {
+			base.set(0);
+			for (int i = 0; i < NUM_STRIPES; i++) {
+				stripes.set(i * STRIPE_PADDING, 0);
 			}
+		} finally {
+			lock.unlock();
 		}
+		signalIfWaiting();
 	}
 
 	/**
@@ -60,35 +129,62 @@ class UnsignedCounterBarrier {
 	 * @throws InterruptedException if the wait was interrupted
 	 */
 	public boolean awaitEmpty(long timeout, TimeUnit unit) throws InterruptedException {
-		awaitLock.lock();
+		lock.lock();
+		// Must register as a waiter before checking the count so that a concurrent decrement to zero
+		// either is seen by this check or sees this waiter.
+		numWaiters.incrementAndGet();
 		try {
 			if (timeout > 0) {
-				logger.info(String.format("Waiting for %s items, time remaining: %s %s", counter.get(), timeout, unit));
-				final long expiry = unit.toMillis(timeout) + System.currentTimeMillis();
-				while (isGreaterThanZero()) {
-					long realTimeout = expiry - System.currentTimeMillis();
+				logger.info(String.format("Waiting for %s items, time remaining: %s %s", getCountLocked(), timeout,
+						unit));
+				final long expiry = unit.toNanos(timeout) + System.nanoTime();
+				while (getCountLocked() != 0) {
+					long realTimeout = expiry - System.nanoTime();
 					if (realTimeout <= 0) {
 						return false;
 					}
-					isZero.await(realTimeout, TimeUnit.MILLISECONDS);
+					isZero.await(realTimeout, TimeUnit.NANOSECONDS);
 				}
 				return true;
 			} else if (timeout < 0) {
-				while (isGreaterThanZero()) {
-					logger.info(String.format("Waiting for %s items", counter.get()));
+				long count;
+				while ((count = getCountLocked()) != 0) {
+					logger.info(String.format("Waiting for %s items", count));
 					isZero.await(5, TimeUnit.SECONDS);
 				}
 				return true;
 			} else {
-				return !isGreaterThanZero();
+				return getCountLocked() == 0;
 			}
 		} finally {
-			awaitLock.unlock();
+			numWaiters.decrementAndGet();
+			lock.unlock();
 		}
 	}
 
-	private boolean isGreaterThanZero() {
-		return Long.compareUnsigned(counter.get(), 0) > 0;
+	private void signalIfWaiting() {
+		if (numWaiters.get() > 0) {
+			// The waiters check the count themselves
+			lock.lock();
+			try {
+				isZero.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private long getCountLocked() {
+		long count = 0;
+		for (int i = 0; i < NUM_STRIPES; i++) {
+			count += stripes.get(i * STRIPE_PADDING);
+		}
+		return count + base.get();
+	}
+
+	private static int getStripeIndex() {
+		long threadId = Thread.currentThread().getId();
+		return (int) ((threadId * 0x9E3779B97F4A7C15L) >>> 32 & (NUM_STRIPES - 1)) * STRIPE_PADDING;
 	}
 
 	/**
@@ -96,6 +192,11 @@ class UnsignedCounterBarrier {
 	 * @return The count.
 	 */
 	public long getCount() {
-		return counter.get();
+		lock.lock();
+		try {
+			return getCountLocked();
+		} finally {
+			lock.unlock();
+		}
 	}
 }
@@ -23,7 +23,6 @@ import com.solacesystems.jcsmp.XMLContentMessage;
 import com.solacesystems.jcsmp.XMLMessage;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.cloud.stream.binder.BinderHeaders;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.StaticMessageHeaderAccessor;
 import org.springframework.integration.acks.AcknowledgmentCallback;
@@ -31,24 +30,32 @@ import org.springframework.integration.support.AbstractIntegrationMessageBuilder
 import org.springframework.integration.support.DefaultMessageBuilderFactory;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.support.MessageBuilderFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.InvalidMimeTypeException;
 import org.springframework.util.MimeType;
-import org.springframework.util.SerializationUtils;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StreamUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -60,11 +67,11 @@ public class XMLMessageMapper {
 	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 	private static final MessageBuilderFactory MESSAGE_BUILDER_FACTORY = new DefaultMessageBuilderFactory();
 	static final int MESSAGE_VERSION = 1;
-	static final Encoder DEFAULT_ENCODING = Encoder.BASE64;
+	static final HeaderCodec DEFAULT_HEADER_CODEC = HeaderCodecs.BASE64;
 
 	private final ObjectWriter stringSetWriter = OBJECT_MAPPER.writerFor(new TypeReference<Set<String>>(){});
 	private final ObjectReader stringSetReader = OBJECT_MAPPER.readerFor(new TypeReference<Set<String>>(){});
-	private final Set<String> ignoredHeaderProperties = ConcurrentHashMap.newKeySet();
+	private final AtomicLong ignoredReadSteps = new AtomicLong(); // bit mask of HeaderMappingPlan read step indices
 
 	public BytesXMLMessage mapError(BytesXMLMessage inputMessage, SolaceConsumerProperties consumerProperties) {
 		BytesXMLMessage errorMessage = JCSMPFactory.onlyInstance().createMessage(inputMessage);
@@ -80,81 +87,125 @@ public class XMLMessageMapper {
 		return errorMessage;
 	}
 
-	public XMLMessage map(Message<?> message, Collection<String> excludedHeaders, boolean convertNonSerializableHeadersToString) {
+	/**
+	 * Map a Spring message to a {@link DeliveryMode#PERSISTENT} JCSMP message.
+	 * @param message the Spring message
+	 * @param options the outbound mapping options
+	 * @return the JCSMP message
+	 */
+	public XMLMessage map(Message<?> message, XMLMessageMappingOptions options) {
+		XMLMessagePool messagePool = options.getMessagePool();
+		PayloadCompressor payloadCompressor = options.getPayloadCompressor();
 		XMLMessage xmlMessage;
 		Object payload = message.getPayload();
-		SDTMap metadata = map(message.getHeaders(), excludedHeaders, convertNonSerializableHeadersToString);
+		MimeType contentType = StaticMessageHeaderAccessor.getContentType(message);
+		HeaderMappingPlan plan = options.getHeaderMappingPlan();
+		SDTMap metadata = map(message.getHeaders(), plan, options.isNonserializableHeaderConvertToString(),
+				options.getHeaderCodec());
 		rethrowableCall(metadata::putInteger, SolaceBinderHeaders.MESSAGE_VERSION, MESSAGE_VERSION);
 
 		if (payload instanceof byte[]) {
-			BytesMessage bytesMessage = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
-			bytesMessage.setData((byte[]) payload);
+			BytesMessage bytesMessage = createMessage(BytesMessage.class, messagePool);
+			bytesMessage.setData(compress((byte[]) payload, payloadCompressor, metadata));
+			xmlMessage = bytesMessage;
+		} else if (payload instanceof ByteBuffer) {
+			BytesMessage bytesMessage = createMessage(BytesMessage.class, messagePool);
+			bytesMessage.setData(compress(toByteArray((ByteBuffer) payload), payloadCompressor, metadata));
+			xmlMessage = bytesMessage;
+		} else if (payload instanceof InputStream) {
+			BytesMessage bytesMessage = createMessage(BytesMessage.class, messagePool);
+			bytesMessage.setData(compress(rethrowableCall(this::readAll, (InputStream) payload), payloadCompressor,
+					metadata));
 			xmlMessage = bytesMessage;
 		} else if (payload instanceof String) {
-			TextMessage textMessage = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
-			textMessage.setText((String) payload);
-			xmlMessage = textMessage;
+			byte[] compressed = payloadCompressor != null ?
+					rethrowableCall(payloadCompressor::compressText, (String) payload) : null;
+			if (compressed != null) {
+				BytesMessage bytesMessage = createMessage(BytesMessage.class, messagePool);
+				bytesMessage.setData(compressed);
+				rethrowableCall(metadata::putString, SolaceBinderHeaders.COMPRESSION,
+						payloadCompressor.getCodec().getName());
+				rethrowableCall(metadata::putBoolean, SolaceBinderHeaders.TEXT_PAYLOAD, true);
+				xmlMessage = bytesMessage;
+			} else {
+				TextMessage textMessage = createMessage(TextMessage.class, messagePool);
+				textMessage.setText((String) payload);
+				xmlMessage = textMessage;
+			}
 		} else if (payload instanceof SDTStream) {
-			StreamMessage streamMessage = JCSMPFactory.onlyInstance().createMessage(StreamMessage.class);
+			StreamMessage streamMessage = createMessage(StreamMessage.class, messagePool);
 			streamMessage.setStream((SDTStream) payload);
 			xmlMessage = streamMessage;
 		} else if (payload instanceof SDTMap) {
-			MapMessage mapMessage = JCSMPFactory.onlyInstance().createMessage(MapMessage.class);
+			MapMessage mapMessage = createMessage(MapMessage.class, messagePool);
 			mapMessage.setMap((SDTMap) payload);
 			xmlMessage = mapMessage;
-		} else if (payload instanceof Serializable) {
-			BytesMessage bytesMessage = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
-			bytesMessage.setData(rethrowableCall(SerializationUtils::serialize, payload));
-			rethrowableCall(metadata::putBoolean, SolaceBinderHeaders.SERIALIZED_PAYLOAD, true);
-			xmlMessage = bytesMessage;
 		} else {
-			String msg = String.format(
-					"Invalid payload received. Expected %s. Received: %s",
-					String.join(", ",
-							byte[].class.getSimpleName(),
-							String.class.getSimpleName(),
-							SDTStream.class.getSimpleName(),
-							SDTMap.class.getSimpleName(),
-							Serializable.class.getSimpleName()
-					), payload.getClass().getName());
-			SolaceMessageConversionException exception = new SolaceMessageConversionException(msg);
-			logger.warn(msg, exception);
-			throw exception;
+			PayloadCodec payloadCodec = PayloadCodecs.getEncoder(payload.getClass(), contentType);
+			if (payloadCodec == null) {
+				String msg = String.format(
+						"Invalid payload received. Expected %s, or a payload supported by a custom %s. Received: %s",
+						String.join(", ",
+								byte[].class.getSimpleName(),
+								ByteBuffer.class.getSimpleName(),
+								InputStream.class.getSimpleName(),
+								String.class.getSimpleName(),
+								SDTStream.class.getSimpleName(),
+								SDTMap.class.getSimpleName(),
+								Serializable.class.getSimpleName()
+						), PayloadCodec.class.getSimpleName(), payload.getClass().getName());
+				SolaceMessageConversionException exception = new SolaceMessageConversionException(msg);
+				logger.warn(msg, exception);
+				throw exception;
+			}
+
+			BytesMessage bytesMessage = createMessage(BytesMessage.class, messagePool);
+			rethrowableCall(payloadCodec::encode, payload, bytesMessage);
+			if (payloadCompressor != null) {
+				byte[] encoded = bytesMessage.getData();
+				byte[] data = compress(encoded, payloadCompressor, metadata);
+				if (data != encoded) {
+					bytesMessage.setData(data);
+				}
+			}
+			if (payloadCodec == PayloadCodecs.JAVA) { // Readable by consumers which predate payload codecs
+				rethrowableCall(metadata::putBoolean, SolaceBinderHeaders.SERIALIZED_PAYLOAD, true);
+			} else {
+				rethrowableCall(metadata::putString, SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING,
+						payloadCodec.getName());
+			}
+			xmlMessage = bytesMessage;
 		}
 
-		MimeType contentType = StaticMessageHeaderAccessor.getContentType(message);
 		if (contentType != null) {
 			xmlMessage.setHTTPContentType(contentType.toString());
 		}
 
 		// Copy Solace properties from Spring Message to JCSMP XMLMessage
-		for (Map.Entry<String, SolaceHeaderMeta<?>> header : SolaceHeaderMeta.META.entrySet()) {
-			if (!header.getValue().isWritable()) {
-				continue;
-			}
-
-			Object value = message.getHeaders().get(header.getKey());
+		for (HeaderMappingPlan.Step step : plan.getWriteSteps()) {
+			SolaceHeaderMeta<?> headerMeta = step.getMeta();
+			Object value = message.getHeaders().get(step.getName());
 			if (value != null) {
-				if (!header.getValue().getType().isInstance(value)) {
+				if (!headerMeta.getType().isInstance(value)) {
 					String msg = String.format(
 							"Message %s has an invalid value type for header %s. Expected %s but received %s.",
-							message.getHeaders().getId(), header.getKey(), header.getValue().getType(),
+							message.getHeaders().getId(), step.getName(), headerMeta.getType(),
 							value.getClass());
 					SolaceMessageConversionException exception = new SolaceMessageConversionException(msg);
 					logger.warn(msg, exception);
 					throw exception;
 				}
-			} else if (header.getValue().hasOverriddenDefaultValue()) {
-				value = header.getValue().getDefaultValueOverride();
+			} else if (headerMeta.hasOverriddenDefaultValue()) {
+				value = headerMeta.getDefaultValueOverride();
 			} else {
 				continue;
 			}
 
 			try {
-				header.getValue().getWriteAction().accept(xmlMessage, value);
+				headerMeta.getWriteAction().accept(xmlMessage, value);
 			} catch (Exception e) {
 				String msg = String.format("Could not set %s property from header %s of message %s",
-						XMLMessage.class.getSimpleName(), header.getKey(), message.getHeaders().getId());
+						XMLMessage.class.getSimpleName(), step.getName(), message.getHeaders().getId());
 				SolaceMessageConversionException exception = new SolaceMessageConversionException(msg, e);
 				logger.warn(msg, exception);
 				throw exception;
@@ -166,51 +217,305 @@ public class XMLMessageMapper {
 		return xmlMessage;
 	}
 
-	public Message<List<?>> mapBatchMessage(List<? extends XMLMessage> xmlMessages,
-											AcknowledgmentCallback acknowledgmentCallback)
-			throws SolaceMessageConversionException {
-		return mapBatchMessage(xmlMessages, acknowledgmentCallback, false);
-	}
-
+	/**
+	 * Map a batch of messages.
+	 * @param xmlMessages the messages
+	 * @param acknowledgmentCallback the batch's acknowledgment callback
+	 * @param options the inbound mapping options
+	 * @return the batch message
+	 * @throws SolaceMessageConversionException if a message could not be mapped
+	 */
 	public Message<List<?>> mapBatchMessage(List<? extends XMLMessage> xmlMessages,
 											AcknowledgmentCallback acknowledgmentCallback,
-											boolean setRawMessageHeader) throws SolaceMessageConversionException {
-		List<Map<String, Object>> batchedHeaders = new ArrayList<>();
-		List<Object> batchedPayloads = new ArrayList<>();
-		for (XMLMessage xmlMessage : xmlMessages) {
-			Message<?> message = mapInternal(xmlMessage).build();
-			batchedHeaders.add(message.getHeaders());
-			batchedPayloads.add(message.getPayload());
+											XMLMessageMappingOptions options)
+			throws SolaceMessageConversionException {
+		boolean byteBufferPayload = options.isByteBufferPayload();
+		HeaderMappingPlan plan = options.getHeaderMappingPlan();
+		List<Object> batchedPayloads = new ArrayList<>(xmlMessages.size());
+		List<Map<String, Object>> batchedHeaders;
+		if (options.isColumnarBatchHeaders()) {
+			ColumnarBatchHeaders columnarBatchHeaders = new ColumnarBatchHeaders(xmlMessages.size());
+			for (int i = 0; i < xmlMessages.size(); i++) {
+				mapBatchedMessageColumnar(xmlMessages.get(i), i, batchedPayloads, columnarBatchHeaders,
+						byteBufferPayload, plan);
+			}
+			batchedHeaders = columnarBatchHeaders;
+		} else {
+			batchedHeaders = new ArrayList<>(xmlMessages.size());
+			mapBatchedMessages(xmlMessages, batchedPayloads, batchedHeaders, options.isLazyHeaders(),
+					byteBufferPayload, plan);
 		}
 
 		AbstractIntegrationMessageBuilder<List<?>> builder = MESSAGE_BUILDER_FACTORY.withPayload(batchedPayloads);
-		return injectRootMessageHeaders(builder, acknowledgmentCallback, setRawMessageHeader ? xmlMessages : null)
+		return injectRootMessageHeaders(builder, acknowledgmentCallback,
+				options.isRawMessageHeader() ? xmlMessages : null)
 				.setHeader(SolaceBinderHeaders.BATCHED_HEADERS, batchedHeaders)
 				.build();
 	}
 
-	public Message<?> map(XMLMessage xmlMessage, AcknowledgmentCallback acknowledgmentCallback)
+	private void mapBatchedMessages(List<? extends XMLMessage> xmlMessages, List<Object> batchedPayloads,
+									List<Map<String, Object>> batchedHeaders, boolean lazyHeaders,
+									boolean byteBufferPayload, HeaderMappingPlan plan)
 			throws SolaceMessageConversionException {
-		return map(xmlMessage, acknowledgmentCallback, false);
+		for (XMLMessage xmlMessage : xmlMessages) {
+			if (lazyHeaders) {
+				mapBatchedMessageLazily(xmlMessage, batchedPayloads, batchedHeaders, byteBufferPayload, plan);
+			} else {
+				mapBatchedMessage(xmlMessage, batchedPayloads, batchedHeaders, byteBufferPayload, plan);
+			}
+		}
 	}
 
+	/**
+	 * Map a message.
+	 * @param xmlMessage the message
+	 * @param acknowledgmentCallback the message's acknowledgment callback
+	 * @param options the inbound mapping options
+	 * @return the Spring message
+	 * @throws SolaceMessageConversionException if the message could not be mapped
+	 */
 	public Message<?> map(XMLMessage xmlMessage, AcknowledgmentCallback acknowledgmentCallback,
-						  boolean setRawMessageHeader) throws SolaceMessageConversionException {
-		return injectRootMessageHeaders(mapInternal(xmlMessage), acknowledgmentCallback, setRawMessageHeader ?
-				xmlMessage : null).build();
+						  XMLMessageMappingOptions options) throws SolaceMessageConversionException {
+		XMLMessage rawMessage = options.isRawMessageHeader() ? xmlMessage : null;
+		if (options.isLazyHeaders()) {
+			return mapLazily(xmlMessage, acknowledgmentCallback, rawMessage, options.isByteBufferPayload(),
+					options.getHeaderMappingPlan());
+		}
+		return injectRootMessageHeaders(mapInternal(xmlMessage, options.isByteBufferPayload(),
+				options.getHeaderMappingPlan()), acknowledgmentCallback, rawMessage).build();
+	}
+
+	private AbstractIntegrationMessageBuilder<?> mapInternal(XMLMessage xmlMessage, boolean byteBufferPayload,
+															 HeaderMappingPlan plan)
+			throws SolaceMessageConversionException {
+		SDTMap metadata = xmlMessage.getProperties();
+		Object payload = readPayload(xmlMessage, metadata, byteBufferPayload);
+
+		boolean isNullPayload = payload == null;
+		if (isNullPayload) {
+			payload = createEmptyPayload(xmlMessage, byteBufferPayload);
+		}
+
+		AbstractIntegrationMessageBuilder<?> builder = MESSAGE_BUILDER_FACTORY
+				.withPayload(payload)
+				.copyHeaders(readHeaders(metadata))
+				.setHeaderIfAbsent(MessageHeaders.CONTENT_TYPE, xmlMessage.getHTTPContentType());
+
+		if (isNullPayload) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Null payload detected, setting Spring header " + SolaceBinderHeaders.NULL_PAYLOAD);
+			}
+			builder.setHeader(SolaceBinderHeaders.NULL_PAYLOAD, isNullPayload);
+		}
+
+		for (HeaderMappingPlan.Step step : plan.getReadSteps()) {
+			Object value = readSolaceHeader(xmlMessage, step);
+			if (value != null) {
+				builder.setHeaderIfAbsent(step.getName(), value);
+			}
+		}
+
+		return builder;
 	}
 
-	private AbstractIntegrationMessageBuilder<?> mapInternal(XMLMessage xmlMessage)
+	/**
+	 * Map a message of a batch straight into the batch's payload and header lists. Produces the same payload and
+	 * headers as {@link #mapInternal(XMLMessage, boolean, HeaderMappingPlan)}, minus the {@link MessageHeaders#ID}
+	 * and {@link MessageHeaders#TIMESTAMP}, but without building an intermediate {@link Message}.
+	 */
+	private void mapBatchedMessage(XMLMessage xmlMessage, List<Object> batchedPayloads,
+								   List<Map<String, Object>> batchedHeaders, boolean byteBufferPayload,
+								   HeaderMappingPlan plan) throws SolaceMessageConversionException {
+		SDTMap metadata = xmlMessage.getProperties();
+		Object payload = readPayload(xmlMessage, metadata, byteBufferPayload);
+
+		Map<String, Object> headers = readHeaders(metadata);
+		// Match the builder's semantics: read-only headers aren't copied and null values are unset
+		headers.remove(MessageHeaders.ID);
+		headers.remove(MessageHeaders.TIMESTAMP);
+		headers.values().removeIf(Objects::isNull);
+
+		String httpContentType = xmlMessage.getHTTPContentType();
+		if (httpContentType != null) {
+			headers.putIfAbsent(MessageHeaders.CONTENT_TYPE, httpContentType);
+		}
+
+		if (payload == null) {
+			payload = createEmptyPayload(xmlMessage, byteBufferPayload);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Null payload detected, setting Spring header " + SolaceBinderHeaders.NULL_PAYLOAD);
+			}
+			headers.put(SolaceBinderHeaders.NULL_PAYLOAD, true);
+		}
+
+		for (HeaderMappingPlan.Step step : plan.getReadSteps()) {
+			Object value = readSolaceHeader(xmlMessage, step);
+			if (value != null) {
+				headers.putIfAbsent(step.getName(), value);
+			}
+		}
+
+		batchedPayloads.add(payload);
+		batchedHeaders.add(Collections.unmodifiableMap(headers));
+	}
+
+	/**
+	 * Same as {@link #mapBatchedMessage(XMLMessage, List, List, boolean, HeaderMappingPlan)}, except that the
+	 * headers are written straight into the batch's header columns.
+	 */
+	private void mapBatchedMessageColumnar(XMLMessage xmlMessage, int index, List<Object> batchedPayloads,
+										   ColumnarBatchHeaders batchedHeaders, boolean byteBufferPayload,
+										   HeaderMappingPlan plan) throws SolaceMessageConversionException {
+		SDTMap metadata = xmlMessage.getProperties();
+		Object payload = readPayload(xmlMessage, metadata, byteBufferPayload);
+
+		if (metadata != null) {
+			UserPropertyDecoder decoder = new UserPropertyDecoder(metadata);
+			for (String headerName : metadata.keySet()) {
+				boolean isHeader = isUserPropertyHeader(headerName) ||
+						headerName.equals(SolaceBinderHeaders.MESSAGE_VERSION) ||
+						decoder.getSerializedHeaders().contains(headerName);
+				// Match the builder's semantics: read-only headers aren't copied
+				if (isHeader && !headerName.equals(MessageHeaders.ID) && !headerName.equals(MessageHeaders.TIMESTAMP)) {
+					Object value = decoder.decode(headerName);
+					if (value != null) {
+						batchedHeaders.setHeader(index, headerName, value);
+					}
+				}
+			}
+		}
+
+		String httpContentType = xmlMessage.getHTTPContentType();
+		if (httpContentType != null) {
+			batchedHeaders.setHeaderIfAbsent(index, MessageHeaders.CONTENT_TYPE, httpContentType);
+		}
+
+		if (payload == null) {
+			payload = createEmptyPayload(xmlMessage, byteBufferPayload);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Null payload detected, setting Spring header " + SolaceBinderHeaders.NULL_PAYLOAD);
+			}
+			batchedHeaders.setHeader(index, SolaceBinderHeaders.NULL_PAYLOAD, true);
+		}
+
+		for (HeaderMappingPlan.Step step : plan.getReadSteps()) {
+			Object value = readSolaceHeader(xmlMessage, step);
+			if (value != null) {
+				batchedHeaders.setHeaderIfAbsent(index, step.getName(), value);
+			}
+		}
+
+		batchedPayloads.add(payload);
+	}
+
+	/**
+	 * Same as {@link #mapInternal(XMLMessage, boolean, HeaderMappingPlan)} and {@link #injectRootMessageHeaders},
+	 * except that the user property headers are decoded lazily.
+	 */
+	private Message<?> mapLazily(XMLMessage xmlMessage, AcknowledgmentCallback acknowledgmentCallback,
+								 @Nullable Object sourceData, boolean byteBufferPayload, HeaderMappingPlan plan)
 			throws SolaceMessageConversionException {
 		SDTMap metadata = xmlMessage.getProperties();
+		Object payload = readPayload(xmlMessage, metadata, byteBufferPayload);
 
+		Map<String, Object> eagerHeaders = new HashMap<>();
+		if (payload == null) {
+			payload = createEmptyPayload(xmlMessage, byteBufferPayload);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Null payload detected, setting Spring header " + SolaceBinderHeaders.NULL_PAYLOAD);
+			}
+			eagerHeaders.put(SolaceBinderHeaders.NULL_PAYLOAD, true);
+		}
+		readSolaceHeaders(xmlMessage, eagerHeaders, plan);
+		eagerHeaders.put(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK, acknowledgmentCallback);
+		eagerHeaders.put(IntegrationMessageHeaderAccessor.DELIVERY_ATTEMPT, new AtomicInteger(0));
+		if (sourceData != null) {
+			eagerHeaders.put(IntegrationMessageHeaderAccessor.SOURCE_DATA, sourceData);
+		}
+
+		return new GenericMessage<>(payload, createLazyHeaders(xmlMessage, metadata, eagerHeaders, null, null));
+	}
+
+	/**
+	 * Same as {@link #mapBatchedMessage(XMLMessage, List, List, boolean, HeaderMappingPlan)}, except that the
+	 * user property headers are decoded lazily.
+	 */
+	private void mapBatchedMessageLazily(XMLMessage xmlMessage, List<Object> batchedPayloads,
+										 List<Map<String, Object>> batchedHeaders, boolean byteBufferPayload,
+										 HeaderMappingPlan plan) throws SolaceMessageConversionException {
+		SDTMap metadata = xmlMessage.getProperties();
+		Object payload = readPayload(xmlMessage, metadata, byteBufferPayload);
+
+		Map<String, Object> eagerHeaders = new HashMap<>();
+		if (payload == null) {
+			payload = createEmptyPayload(xmlMessage, byteBufferPayload);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Null payload detected, setting Spring header " + SolaceBinderHeaders.NULL_PAYLOAD);
+			}
+			eagerHeaders.put(SolaceBinderHeaders.NULL_PAYLOAD, true);
+		}
+		readSolaceHeaders(xmlMessage, eagerHeaders, plan);
+
+		batchedPayloads.add(payload);
+		batchedHeaders.add(createLazyHeaders(xmlMessage, metadata, eagerHeaders, MessageHeaders.ID_VALUE_NONE, -1L));
+	}
+
+	private LazyMessageHeaders createLazyHeaders(XMLMessage xmlMessage, @Nullable SDTMap metadata,
+												 Map<String, Object> eagerHeaders, @Nullable UUID id,
+												 @Nullable Long timestamp) {
+		Set<String> lazyHeaderNames;
+		Function<String, Object> decoder;
+		if (metadata != null) {
+			lazyHeaderNames = metadata.keySet()
+					.stream()
+					.filter(h -> isUserPropertyHeader(h) || h.equals(SolaceBinderHeaders.MESSAGE_VERSION))
+					.filter(h -> !h.equals(MessageHeaders.ID) && !h.equals(MessageHeaders.TIMESTAMP))
+					.filter(h -> !eagerHeaders.containsKey(h))
+					.collect(Collectors.toSet());
+			decoder = new UserPropertyDecoder(metadata)::decode;
+		} else {
+			lazyHeaderNames = Collections.emptySet();
+			decoder = h -> null;
+		}
+
+		String httpContentType = xmlMessage.getHTTPContentType();
+		Map<String, Object> fallbackHeaders = httpContentType != null ?
+				Collections.singletonMap(MessageHeaders.CONTENT_TYPE, httpContentType) : Collections.emptyMap();
+
+		return new LazyMessageHeaders(eagerHeaders, lazyHeaderNames, decoder, fallbackHeaders, id, timestamp);
+	}
+
+	private void readSolaceHeaders(XMLMessage xmlMessage, Map<String, Object> headers, HeaderMappingPlan plan) {
+		for (HeaderMappingPlan.Step step : plan.getReadSteps()) {
+			Object value = readSolaceHeader(xmlMessage, step);
+			if (value != null) {
+				headers.put(step.getName(), value);
+			}
+		}
+	}
+
+	@Nullable
+	private Object readPayload(XMLMessage xmlMessage, @Nullable SDTMap metadata, boolean byteBufferPayload)
+			throws SolaceMessageConversionException {
 		Object payload;
-		if (xmlMessage instanceof BytesMessage) {
-			payload = ((BytesMessage) xmlMessage).getData();
-			if (metadata != null &&
-					metadata.containsKey(SolaceBinderHeaders.SERIALIZED_PAYLOAD) &&
-					rethrowableCall(metadata::getBoolean, SolaceBinderHeaders.SERIALIZED_PAYLOAD)) {
-				payload = rethrowableCall(SerializationUtils::deserialize, (byte[]) payload);
+		if (xmlMessage instanceof BytesMessage && byteBufferPayload && isRawPayload(metadata)) {
+			ByteBuffer data = xmlMessage.getAttachmentByteBuffer();
+			payload = data != null ? data.asReadOnlyBuffer() : null;
+		} else if (xmlMessage instanceof BytesMessage) {
+			byte[] data = ((BytesMessage) xmlMessage).getData();
+			if (data != null && metadata != null && metadata.containsKey(SolaceBinderHeaders.COMPRESSION)) {
+				data = decompress(data, metadata);
+			}
+			byte[] payloadData = data;
+			PayloadCodec payloadCodec = data != null && metadata != null ? getPayloadDecoder(metadata) : null;
+			if (data != null && metadata != null && metadata.containsKey(SolaceBinderHeaders.TEXT_PAYLOAD) &&
+					rethrowableCall(metadata::getBoolean, SolaceBinderHeaders.TEXT_PAYLOAD)) {
+				payload = new String(data, StandardCharsets.UTF_8);
+			} else if (payloadCodec != null) {
+				MimeType contentType = readContentType(xmlMessage);
+				payload = rethrowableCall(() -> payloadCodec.decode(ByteBuffer.wrap(payloadData), contentType));
+			} else {
+				payload = data;
 			}
 		} else if (xmlMessage instanceof TextMessage) {
 			payload = ((TextMessage) xmlMessage).getText();
@@ -233,52 +538,145 @@ public class XMLMessageMapper {
 			logger.warn(msg, exception);
 			throw exception;
 		}
+		return payload;
+	}
 
-		boolean isNullPayload = payload == null;
-		if (isNullPayload) {
-			//Set empty payload equivalent to null
-			if (xmlMessage instanceof BytesMessage) {
-				payload = new byte[0];
-			} else if (xmlMessage instanceof TextMessage || xmlMessage instanceof XMLContentMessage) {
-				payload = "";
-			} else if (xmlMessage instanceof MapMessage) {
-				payload = JCSMPFactory.onlyInstance().createMap();
-			} else if (xmlMessage instanceof StreamMessage) {
-				payload = JCSMPFactory.onlyInstance().createStream();
+	/**
+	 * @return true if the binary payload was published as-is, i.e. wasn't encoded, compressed or converted from text
+	 */
+	private boolean isRawPayload(@Nullable SDTMap metadata) {
+		return metadata == null || Stream.of(SolaceBinderHeaders.COMPRESSION, SolaceBinderHeaders.TEXT_PAYLOAD,
+				SolaceBinderHeaders.SERIALIZED_PAYLOAD, SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING)
+				.noneMatch(metadata::containsKey);
+	}
+
+	/**
+	 * Copy the remaining bytes of a buffer without changing its position. The backing array is used as-is if it
+	 * exactly holds the remaining bytes.
+	 */
+	private byte[] toByteArray(ByteBuffer buffer) {
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 &&
+				buffer.remaining() == buffer.array().length) {
+			return buffer.array();
+		}
+		byte[] data = new byte[buffer.remaining()];
+		buffer.duplicate().get(data);
+		return data;
+	}
+
+	/**
+	 * Read a stream to its end, then close it.
+	 */
+	private byte[] readAll(InputStream inputStream) throws IOException {
+		try (InputStream in = inputStream) {
+			return StreamUtils.copyToByteArray(in);
+		}
+	}
+
+	/**
+	 * Compress the data if worthwhile, in which case the codec is recorded in the metadata.
+	 * @return the compressed data, or the given data if it wasn't compressed
+	 */
+	private byte[] compress(byte[] data, @Nullable PayloadCompressor payloadCompressor, SDTMap metadata) {
+		if (payloadCompressor == null || data == null) {
+			return data;
+		}
+		byte[] compressed = rethrowableCall(payloadCompressor::compress, data);
+		if (compressed == null) {
+			return data;
+		}
+		rethrowableCall(metadata::putString, SolaceBinderHeaders.COMPRESSION, payloadCompressor.getCodec().getName());
+		return compressed;
+	}
+
+	private <T extends XMLMessage> T createMessage(Class<T> type, @Nullable XMLMessagePool messagePool) {
+		return messagePool != null ? messagePool.acquire(type) : JCSMPFactory.onlyInstance().createMessage(type);
+	}
+
+	/**
+	 * Get the codec which encoded the payload.
+	 * @return the codec, or {@code null} if the payload wasn't encoded
+	 */
+	@Nullable
+	private PayloadCodec getPayloadDecoder(SDTMap metadata) throws SolaceMessageConversionException {
+		if (metadata.containsKey(SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING)) {
+			String encoding = rethrowableCall(metadata::getString, SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING);
+			PayloadCodec payloadCodec = PayloadCodecs.getByName(encoding);
+			if (payloadCodec == null) {
+				String msg = String.format("%s payload encoding is not supported", encoding);
+				SolaceMessageConversionException exception = new SolaceMessageConversionException(msg);
+				logger.warn(msg, exception);
+				throw exception;
 			}
+			return payloadCodec;
+		} else if (metadata.containsKey(SolaceBinderHeaders.SERIALIZED_PAYLOAD) &&
+				rethrowableCall(metadata::getBoolean, SolaceBinderHeaders.SERIALIZED_PAYLOAD)) {
+			return PayloadCodecs.JAVA;
+		} else {
+			return null;
 		}
+	}
 
-		AbstractIntegrationMessageBuilder<?> builder = MESSAGE_BUILDER_FACTORY
-				.withPayload(payload)
-				.copyHeaders(map(metadata))
-				.setHeaderIfAbsent(MessageHeaders.CONTENT_TYPE, xmlMessage.getHTTPContentType());
+	private byte[] decompress(byte[] data, SDTMap metadata) throws SolaceMessageConversionException {
+		String compression = rethrowableCall(metadata::getString, SolaceBinderHeaders.COMPRESSION);
+		CompressionCodec compressionCodec = CompressionCodecs.getByName(compression);
+		if (compressionCodec == null) {
+			String msg = String.format("%s payload compression is not supported", compression);
+			SolaceMessageConversionException exception = new SolaceMessageConversionException(msg);
+			logger.warn(msg, exception);
+			throw exception;
+		}
+		return rethrowableCall(compressionCodec::decompress, data);
+	}
 
-		if (isNullPayload) {
+	@Nullable
+	private MimeType readContentType(XMLMessage xmlMessage) {
+		String httpContentType = xmlMessage.getHTTPContentType();
+		if (httpContentType == null) {
+			return null;
+		}
+		try {
+			return MimeTypeUtils.parseMimeType(httpContentType);
+		} catch (InvalidMimeTypeException e) {
 			if (logger.isDebugEnabled()) {
-				logger.debug("Null payload detected, setting Spring header " + SolaceBinderHeaders.NULL_PAYLOAD);
+				logger.debug(String.format("Ignoring invalid content type %s", httpContentType), e);
 			}
-			builder.setHeader(SolaceBinderHeaders.NULL_PAYLOAD, isNullPayload);
+			return null;
 		}
+	}
 
-		for (Map.Entry<String, SolaceHeaderMeta<?>> header : SolaceHeaderMeta.META.entrySet()) {
-			if (!header.getValue().isReadable()) {
-				continue;
-			}
-			if (ignoredHeaderProperties.contains(header.getKey())) {
-				continue;
-			}
-			try {
-				builder.setHeaderIfAbsent(header.getKey(), header.getValue().getReadAction().apply(xmlMessage));
-			} catch (UnsupportedOperationException e) {
-				if (logger.isDebugEnabled()) {
-					logger.debug(String.format("Ignoring Solace header %s. Error: %s", header.getKey(), e.getMessage()), e);
-				}
-				ignoredHeaderProperties.add(header.getKey());
-				continue;
-			}
+	/**
+	 * Get the empty payload which is equivalent to a {@code null} payload for the given message type.
+	 */
+	private Object createEmptyPayload(XMLMessage xmlMessage, boolean byteBufferPayload) {
+		if (xmlMessage instanceof BytesMessage) {
+			return byteBufferPayload ? ByteBuffer.allocate(0).asReadOnlyBuffer() : new byte[0];
+		} else if (xmlMessage instanceof TextMessage || xmlMessage instanceof XMLContentMessage) {
+			return "";
+		} else if (xmlMessage instanceof MapMessage) {
+			return JCSMPFactory.onlyInstance().createMap();
+		} else if (xmlMessage instanceof StreamMessage) {
+			return JCSMPFactory.onlyInstance().createStream();
+		} else {
+			return null;
 		}
+	}
 
-		return builder;
+	@Nullable
+	private Object readSolaceHeader(XMLMessage xmlMessage, HeaderMappingPlan.Step step) {
+		long stepMask = 1L << step.getIndex();
+		if ((ignoredReadSteps.get() & stepMask) != 0) {
+			return null;
+		}
+		try {
+			return step.getMeta().getReadAction().apply(xmlMessage);
+		} catch (UnsupportedOperationException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Ignoring Solace header %s. Error: %s", step.getName(), e.getMessage()), e);
+			}
+			ignoredReadSteps.getAndUpdate(ignored -> ignored | stepMask);
+			return null;
+		}
 	}
 
 	private <T> AbstractIntegrationMessageBuilder<T> injectRootMessageHeaders(AbstractIntegrationMessageBuilder<T> builder,
@@ -290,104 +688,97 @@ public class XMLMessageMapper {
 	}
 
 	SDTMap map(MessageHeaders headers, Collection<String> excludedHeaders, boolean convertNonSerializableHeadersToString) {
+		return map(headers, excludedHeaders, convertNonSerializableHeadersToString, DEFAULT_HEADER_CODEC);
+	}
+
+	SDTMap map(MessageHeaders headers, Collection<String> excludedHeaders, boolean convertNonSerializableHeadersToString,
+			   HeaderCodec headerCodec) {
+		return map(headers, new HeaderMappingPlan(excludedHeaders), convertNonSerializableHeadersToString, headerCodec);
+	}
+
+	private SDTMap map(MessageHeaders headers, HeaderMappingPlan plan, boolean convertNonSerializableHeadersToString,
+					   HeaderCodec headerCodec) {
 		SDTMap metadata = JCSMPFactory.onlyInstance().createMap();
 		Set<String> serializedHeaders = new HashSet<>();
 		for (Map.Entry<String,Object> header : headers.entrySet()) {
-			if (header.getKey().equalsIgnoreCase(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK) ||
-					header.getKey().equalsIgnoreCase(BinderHeaders.TARGET_DESTINATION) ||
-					header.getKey().equalsIgnoreCase(SolaceBinderHeaders.CONFIRM_CORRELATION) ||
-					SolaceHeaderMeta.META.containsKey(header.getKey()) ||
-					SolaceBinderHeaderMeta.META.containsKey(header.getKey())) {
-				continue;
-			}
-			if (excludedHeaders != null && excludedHeaders.contains(header.getKey())) {
+			if (!plan.isUserProperty(header.getKey())) {
 				continue;
 			}
 
 			addSDTMapObject(metadata, serializedHeaders, header.getKey(), header.getValue(),
-					convertNonSerializableHeadersToString);
+					convertNonSerializableHeadersToString, headerCodec);
 		}
 
 		if (!serializedHeaders.isEmpty()) {
 			rethrowableCall(metadata::putString, SolaceBinderHeaders.SERIALIZED_HEADERS,
 					rethrowableCall(stringSetWriter::writeValueAsString, serializedHeaders));
 			rethrowableCall(metadata::putString, SolaceBinderHeaders.SERIALIZED_HEADERS_ENCODING,
-					DEFAULT_ENCODING.getName());
+					headerCodec.getName());
 		}
 		return metadata;
 	}
 
 	MessageHeaders map(SDTMap metadata) {
+		return new MessageHeaders(readHeaders(metadata));
+	}
+
+	/**
+	 * Read the Spring headers out of a message's user properties.
+	 * @param metadata the user properties
+	 * @return a new mutable map of headers
+	 */
+	private Map<String, Object> readHeaders(@Nullable SDTMap metadata) {
+		Map<String,Object> headers = new HashMap<>();
 		if (metadata == null) {
-			return new MessageHeaders(Collections.emptyMap());
+			return headers;
 		}
 
-		Map<String,Object> headers = new HashMap<>();
+		UserPropertyDecoder decoder = new UserPropertyDecoder(metadata);
 
 		// Deserialize headers
-		if (metadata.containsKey(SolaceBinderHeaders.SERIALIZED_HEADERS)) {
-			Encoder encoder = null;
-			if (metadata.containsKey(SolaceBinderHeaders.SERIALIZED_HEADERS_ENCODING)) {
-				String encoding = rethrowableCall(metadata::getString, SolaceBinderHeaders.SERIALIZED_HEADERS_ENCODING);
-				encoder = Encoder.getByName(encoding);
-				if (encoder == null) {
-					String msg = String.format("%s encoding is not supported", encoding);
-					SolaceMessageConversionException exception = new SolaceMessageConversionException(msg);
-					logger.warn(msg, exception);
-					throw exception;
-				}
-			}
-
-			Set<String> serializedHeaders = rethrowableCall(stringSetReader::readValue,
-					rethrowableCall(metadata::getString, SolaceBinderHeaders.SERIALIZED_HEADERS));
-
-			for (String headerName : serializedHeaders) {
-				if (metadata.containsKey(headerName)) {
-					byte[] serializedValue = encoder != null ?
-							encoder.decode(rethrowableCall(metadata::getString, headerName)) :
-							rethrowableCall(metadata::getBytes, headerName);
-					Object value = SerializationUtils.deserialize(serializedValue);
-					if (value instanceof ByteArray) { // Just in case...
-						value = ((ByteArray) value).getBuffer();
-					}
-					headers.put(headerName, value);
-				}
+		for (String headerName : decoder.getSerializedHeaders()) {
+			if (metadata.containsKey(headerName)) {
+				headers.put(headerName, decoder.decode(headerName));
 			}
 		}
 
 		metadata.keySet().stream()
 				.filter(h -> !headers.containsKey(h))
-				.filter(h -> !SolaceBinderHeaderMeta.META.containsKey(h))
-				.filter(h -> !SolaceHeaderMeta.META.containsKey(h))
-				.forEach(h -> {
-					Object value = rethrowableCall(metadata::get, h);
-					if (value instanceof ByteArray) {
-						value = ((ByteArray) value).getBuffer();
-					}
-					headers.put(h, value);
-				});
+				.filter(this::isUserPropertyHeader)
+				.forEach(h -> headers.put(h, decoder.decode(h)));
 
 		if (metadata.containsKey(SolaceBinderHeaders.MESSAGE_VERSION)) {
-			int messageVersion = rethrowableCall(metadata::getInteger, SolaceBinderHeaders.MESSAGE_VERSION);
-			headers.put(SolaceBinderHeaders.MESSAGE_VERSION, messageVersion);
+			headers.put(SolaceBinderHeaders.MESSAGE_VERSION, decoder.decode(SolaceBinderHeaders.MESSAGE_VERSION));
 		}
 
-		return new MessageHeaders(headers);
+		return headers;
+	}
+
+	/**
+	 * Check if a user property holds a regular (i.e. non-reserved) header.
+	 */
+	private boolean isUserPropertyHeader(String name) {
+		return !SolaceBinderHeaderMeta.META.containsKey(name) && !SolaceHeaderMeta.META.containsKey(name);
 	}
 
 	/**
-	 * Wrapper function which converts Serializable objects to byte[] if they aren't naturally supported by the SDTMap
+	 * Wrapper function which encodes Serializable objects with the header codec if they aren't naturally supported by
+	 * the SDTMap
 	 */
 	private void addSDTMapObject(SDTMap sdtMap, Set<String> serializedHeaders, String key, Object object,
-								 boolean convertNonSerializableHeadersToString)
+								 boolean convertNonSerializableHeadersToString, HeaderCodec headerCodec)
 			throws SolaceMessageConversionException {
 		rethrowableCall((k, o) -> {
 			try {
 				sdtMap.putObject(k, o);
 			} catch (IllegalArgumentException e) {
 				if (o instanceof Serializable) {
-					rethrowableCall(sdtMap::putString, k,
-							DEFAULT_ENCODING.encode(rethrowableCall(SerializationUtils::serialize, o)));
+					Object encoded = rethrowableCall(headerCodec::encode, (Serializable) o);
+					if (encoded instanceof byte[]) {
+						rethrowableCall(sdtMap::putBytes, k, (byte[]) encoded);
+					} else {
+						rethrowableCall(sdtMap::putString, k, (String) encoded);
+					}
 
 					serializedHeaders.add(k);
 				} else if (convertNonSerializableHeadersToString && o != null) {
@@ -415,13 +806,70 @@ public class XMLMessageMapper {
 	}
 
 	public void resetIgnoredProperties(String flowReceiverId) {
-		if (ignoredHeaderProperties.isEmpty()) {
+		long ignored = ignoredReadSteps.getAndSet(0);
+		if (ignored == 0) {
 			return;
 		}
 		if (logger.isDebugEnabled()) {
-			logger.debug(String.format("Clearing ignored properties %s on flow receiver container %s", ignoredHeaderProperties, flowReceiverId));
+			// The ignored properties were logged by name when they were ignored
+			logger.debug(String.format("Clearing %s ignored properties on flow receiver container %s",
+					Long.bitCount(ignored), flowReceiverId));
+		}
+	}
+
+	/**
+	 * Decodes individual headers from a message's user properties. The list of serialized headers is only parsed
+	 * when first needed.
+	 */
+	private final class UserPropertyDecoder {
+		private final SDTMap metadata;
+		private Set<String> serializedHeaders;
+		private HeaderCodec headerCodec;
+
+		private UserPropertyDecoder(SDTMap metadata) {
+			this.metadata = metadata;
+		}
+
+		synchronized Set<String> getSerializedHeaders() {
+			if (serializedHeaders == null) {
+				if (metadata.containsKey(SolaceBinderHeaders.SERIALIZED_HEADERS)) {
+					if (metadata.containsKey(SolaceBinderHeaders.SERIALIZED_HEADERS_ENCODING)) {
+						String encoding = rethrowableCall(metadata::getString,
+								SolaceBinderHeaders.SERIALIZED_HEADERS_ENCODING);
+						headerCodec = HeaderCodecs.getByName(encoding);
+						if (headerCodec == null) {
+							String msg = String.format("%s encoding is not supported", encoding);
+							SolaceMessageConversionException exception = new SolaceMessageConversionException(msg);
+							logger.warn(msg, exception);
+							throw exception;
+						}
+					} else { // Legacy messages which don't specify an encoding hold raw Java-serialized headers
+						headerCodec = HeaderCodecs.BINARY;
+					}
+					serializedHeaders = rethrowableCall(stringSetReader::readValue,
+							rethrowableCall(metadata::getString, SolaceBinderHeaders.SERIALIZED_HEADERS));
+				} else {
+					serializedHeaders = Collections.emptySet();
+				}
+			}
+			return serializedHeaders;
+		}
+
+		Object decode(String headerName) {
+			if (headerName.equals(SolaceBinderHeaders.MESSAGE_VERSION)) {
+				return rethrowableCall(metadata::getInteger, SolaceBinderHeaders.MESSAGE_VERSION);
+			}
+
+			Object value = rethrowableCall(metadata::get, headerName);
+			if (value instanceof ByteArray) { // Just in case...
+				value = ((ByteArray) value).getBuffer();
+			}
+
+			if (value != null && getSerializedHeaders().contains(headerName)) {
+				value = rethrowableCall(headerCodec::decode, value);
+			}
+			return value;
 		}
-		ignoredHeaderProperties.clear();
 	}
 
 	@FunctionalInterface
@@ -474,39 +922,4 @@ public class XMLMessageMapper {
 
 		T applyThrows() throws Exception;
 	}
-
-	enum Encoder {
-		BASE64("base64", Base64.getEncoder()::encodeToString, Base64.getDecoder()::decode);
-
-		private final String name;
-		private final ThrowingFunction<byte[], String> encodeFnc;
-		private final ThrowingFunction<String, byte[]> decodeFnc;
-
-		private static final Map<String, Encoder> nameMap = new HashMap<>();
-		static {
-			Arrays.stream(Encoder.values()).forEach(e -> nameMap.put(e.getName(), e));
-		}
-
-		Encoder(String name, ThrowingFunction<byte[], String> encodeFnc, ThrowingFunction<String, byte[]> decodeFnc) {
-			this.name = name;
-			this.encodeFnc = encodeFnc;
-			this.decodeFnc = decodeFnc;
-		}
-
-		public String encode(byte[] input) {
-			return input != null ? encodeFnc.apply(input) : null;
-		}
-
-		public byte[] decode(String input) {
-			return input != null ? decodeFnc.apply(input) : null;
-		}
-
-		public String getName() {
-			return name;
-		}
-
-		public static Encoder getByName(String name) {
-			return nameMap.get(name);
-		}
-	}
 }
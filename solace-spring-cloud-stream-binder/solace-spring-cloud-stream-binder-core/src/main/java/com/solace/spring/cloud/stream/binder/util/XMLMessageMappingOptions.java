@@ -0,0 +1,194 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import com.solace.spring.cloud.stream.binder.properties.SolaceConsumerProperties;
+import com.solace.spring.cloud.stream.binder.properties.SolaceProducerProperties;
+import org.springframework.lang.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * <p>Options of how {@link XMLMessageMapper} maps messages. The outbound options apply when mapping Spring messages
+ * to JCSMP messages, and the inbound options apply when mapping JCSMP messages to Spring messages.</p>
+ * <p>Options are meant to be set up once per binding and then shared by all of its mappings, so they must not be
+ * modified while in use.</p>
+ */
+public class XMLMessageMappingOptions {
+	// Outbound
+	@Nullable private Collection<String> headerExclusions;
+	private HeaderMappingPlan headerMappingPlan = new HeaderMappingPlan(null);
+	private boolean nonserializableHeaderConvertToString = false;
+	private HeaderCodec headerCodec = XMLMessageMapper.DEFAULT_HEADER_CODEC;
+	@Nullable private XMLMessagePool messagePool;
+	@Nullable private PayloadCompressor payloadCompressor;
+
+	// Inbound
+	private boolean rawMessageHeader = false;
+	private boolean lazyHeaders = false;
+	private boolean byteBufferPayload = false;
+	private boolean columnarBatchHeaders = false;
+
+	/**
+	 * Create the outbound options of a producer binding, without message pooling or payload compression.
+	 * @param producerProperties the producer properties
+	 * @return the mapping options
+	 */
+	public static XMLMessageMappingOptions forProducer(SolaceProducerProperties producerProperties) {
+		XMLMessageMappingOptions options = new XMLMessageMappingOptions();
+		options.setHeaderExclusions(producerProperties.getHeaderExclusions());
+		options.setNonserializableHeaderConvertToString(producerProperties.isNonserializableHeaderConvertToString());
+		options.setHeaderCodec(HeaderCodecs.getRequiredByName(producerProperties.getSerializedHeadersEncoding()));
+		return options;
+	}
+
+	/**
+	 * Create the inbound options of a consumer binding, without the raw message header.
+	 * @param consumerProperties the consumer properties
+	 * @return the mapping options
+	 */
+	public static XMLMessageMappingOptions forConsumer(SolaceConsumerProperties consumerProperties) {
+		XMLMessageMappingOptions options = new XMLMessageMappingOptions();
+		options.setLazyHeaders(consumerProperties.isLazyHeaders());
+		options.setByteBufferPayload(consumerProperties.isByteBufferPayload());
+		options.setColumnarBatchHeaders(consumerProperties.isColumnarBatchHeaders());
+		return options;
+	}
+
+	/**
+	 * Create a copy of these options.
+	 * @return the copy
+	 */
+	public XMLMessageMappingOptions copy() {
+		XMLMessageMappingOptions copy = new XMLMessageMappingOptions();
+		copy.headerExclusions = headerExclusions;
+		copy.headerMappingPlan = headerMappingPlan;
+		copy.nonserializableHeaderConvertToString = nonserializableHeaderConvertToString;
+		copy.headerCodec = headerCodec;
+		copy.messagePool = messagePool;
+		copy.payloadCompressor = payloadCompressor;
+		copy.rawMessageHeader = rawMessageHeader;
+		copy.lazyHeaders = lazyHeaders;
+		copy.byteBufferPayload = byteBufferPayload;
+		copy.columnarBatchHeaders = columnarBatchHeaders;
+		return copy;
+	}
+
+	@Nullable
+	public Collection<String> getHeaderExclusions() {
+		return headerExclusions;
+	}
+
+	/**
+	 * Outbound: headers to not map to user properties. Later changes to the collection aren't seen.
+	 * @param headerExclusions the excluded headers
+	 */
+	public void setHeaderExclusions(@Nullable Collection<String> headerExclusions) {
+		this.headerExclusions = headerExclusions;
+		this.headerMappingPlan = new HeaderMappingPlan(headerExclusions);
+	}
+
+	HeaderMappingPlan getHeaderMappingPlan() {
+		return headerMappingPlan;
+	}
+
+	public boolean isNonserializableHeaderConvertToString() {
+		return nonserializableHeaderConvertToString;
+	}
+
+	/**
+	 * Outbound: irreversibly convert non-serializable headers to strings.
+	 * @param nonserializableHeaderConvertToString whether to convert non-serializable headers
+	 */
+	public void setNonserializableHeaderConvertToString(boolean nonserializableHeaderConvertToString) {
+		this.nonserializableHeaderConvertToString = nonserializableHeaderConvertToString;
+	}
+
+	public HeaderCodec getHeaderCodec() {
+		return headerCodec;
+	}
+
+	/**
+	 * Outbound: encodes the header values which aren't natively supported by the user properties.
+	 * @param headerCodec the header codec
+	 */
+	public void setHeaderCodec(HeaderCodec headerCodec) {
+		this.headerCodec = headerCodec;
+	}
+
+	@Nullable
+	public XMLMessagePool getMessagePool() {
+		return messagePool;
+	}
+
+	/**
+	 * Outbound: the pool to take JCSMP messages from.
+	 * @param messagePool the message pool, or {@code null} to create new messages
+	 */
+	public void setMessagePool(@Nullable XMLMessagePool messagePool) {
+		this.messagePool = messagePool;
+	}
+
+	@Nullable
+	public PayloadCompressor getPayloadCompressor() {
+		return payloadCompressor;
+	}
+
+	/**
+	 * Outbound: compresses {@code byte[]}, {@link ByteBuffer}, {@link java.io.InputStream InputStream},
+	 * {@link String} and codec-encoded payloads. Compressed payloads are always published as binary messages.
+	 * @param payloadCompressor the compressor, or {@code null} to not compress payloads
+	 */
+	public void setPayloadCompressor(@Nullable PayloadCompressor payloadCompressor) {
+		this.payloadCompressor = payloadCompressor;
+	}
+
+	public boolean isRawMessageHeader() {
+		return rawMessageHeader;
+	}
+
+	/**
+	 * Inbound: set the JCSMP messages as the Spring message's source data.
+	 * @param rawMessageHeader whether to set the source data
+	 */
+	public void setRawMessageHeader(boolean rawMessageHeader) {
+		this.rawMessageHeader = rawMessageHeader;
+	}
+
+	public boolean isLazyHeaders() {
+		return lazyHeaders;
+	}
+
+	/**
+	 * Inbound: only decode user property headers when they are first accessed.
+	 * @param lazyHeaders whether headers are decoded lazily
+	 */
+	public void setLazyHeaders(boolean lazyHeaders) {
+		this.lazyHeaders = lazyHeaders;
+	}
+
+	public boolean isByteBufferPayload() {
+		return byteBufferPayload;
+	}
+
+	/**
+	 * Inbound: a raw binary payload is a read-only {@link ByteBuffer} view of the message's attachment instead of a
+	 * {@code byte[]} copy.
+	 * @param byteBufferPayload whether raw binary payloads are byte buffers
+	 */
+	public void setByteBufferPayload(boolean byteBufferPayload) {
+		this.byteBufferPayload = byteBufferPayload;
+	}
+
+	public boolean isColumnarBatchHeaders() {
+		return columnarBatchHeaders;
+	}
+
+	/**
+	 * Inbound: the headers of a batch are a {@link ColumnarBatchHeaders}, in which case {@code lazyHeaders} doesn't
+	 * apply to them.
+	 * @param columnarBatchHeaders whether batched headers are columnar
+	 */
+	public void setColumnarBatchHeaders(boolean columnarBatchHeaders) {
+		this.columnarBatchHeaders = columnarBatchHeaders;
+	}
+}
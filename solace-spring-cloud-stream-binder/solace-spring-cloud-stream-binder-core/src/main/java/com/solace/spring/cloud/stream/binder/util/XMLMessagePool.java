@@ -0,0 +1,81 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import com.solacesystems.jcsmp.BytesMessage;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.MapMessage;
+import com.solacesystems.jcsmp.StreamMessage;
+import com.solacesystems.jcsmp.TextMessage;
+import com.solacesystems.jcsmp.XMLMessage;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * <p>A bounded pool of outbound messages, so that a producer doesn't need to allocate a new message for every
+ * publish.</p>
+ * <p>A message must only be released back to the pool once the API no longer needs it. i.e. For guaranteed messages,
+ * once the broker acknowledged it. Messages which are never released are simply garbage collected, and the pool
+ * creates a new message if it is empty.</p>
+ */
+public class XMLMessagePool {
+	private final Map<Class<? extends XMLMessage>, BlockingQueue<XMLMessage>> pools = new LinkedHashMap<>();
+
+	private static final Log logger = LogFactory.getLog(XMLMessagePool.class);
+
+	/**
+	 * Create a message pool.
+	 * @param maxSize the max number of idle messages to keep per message type
+	 */
+	public XMLMessagePool(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException(String.format("Expected max pool size > 0, but was %s", maxSize));
+		}
+		pools.put(BytesMessage.class, new ArrayBlockingQueue<>(maxSize));
+		pools.put(TextMessage.class, new ArrayBlockingQueue<>(maxSize));
+		pools.put(StreamMessage.class, new ArrayBlockingQueue<>(maxSize));
+		pools.put(MapMessage.class, new ArrayBlockingQueue<>(maxSize));
+	}
+
+	/**
+	 * Get a message from the pool, or create a new one if there are none.
+	 * @param type the message type
+	 * @param <T> the message type
+	 * @return an empty message
+	 */
+	public <T extends XMLMessage> T acquire(Class<T> type) {
+		BlockingQueue<XMLMessage> pool = pools.get(type);
+		XMLMessage message = pool != null ? pool.poll() : null;
+		return message != null ? type.cast(message) : JCSMPFactory.onlyInstance().createMessage(type);
+	}
+
+	/**
+	 * Reset a message and return it to the pool. The message is discarded if the pool is full.
+	 * @param message a message which the API no longer needs
+	 */
+	public void release(XMLMessage message) {
+		for (Map.Entry<Class<? extends XMLMessage>, BlockingQueue<XMLMessage>> pool : pools.entrySet()) {
+			if (pool.getKey().isInstance(message)) {
+				message.reset();
+				message.setCorrelationKey(null);
+				if (!pool.getValue().offer(message) && logger.isTraceEnabled()) {
+					logger.trace(String.format("Discarding message, %s pool is full",
+							pool.getKey().getSimpleName()));
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @param type the message type
+	 * @return the number of idle messages of the given type
+	 */
+	int size(Class<? extends XMLMessage> type) {
+		BlockingQueue<XMLMessage> pool = pools.get(type);
+		return pool != null ? pool.size() : 0;
+	}
+}
@@ -2,6 +2,7 @@ package com.solace.spring.cloud.stream.binder.inbound;
 
 import com.solace.spring.cloud.stream.binder.properties.SolaceConsumerProperties;
 import com.solace.spring.cloud.stream.binder.util.MessageContainer;
+import com.solacesystems.jcsmp.BytesXMLMessage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -139,4 +140,74 @@ public class BatchCollectorTest {
 		assertTrue(batchCollector.isBatchAvailable(), "batch is not available");
 		assertThat(batchCollector.collectBatchIfAvailable()).get().asList().containsExactly(messageContainer2);
 	}
+
+	@Test
+	public void testReachedBatchMaxBytes(@Mock MessageContainer messageContainer1,
+										 @Mock MessageContainer messageContainer2,
+										 @Mock BytesXMLMessage message1,
+										 @Mock BytesXMLMessage message2) {
+		Mockito.when(messageContainer1.getMessage()).thenReturn(message1);
+		Mockito.when(messageContainer2.getMessage()).thenReturn(message2);
+		Mockito.when(message1.getContentLength()).thenReturn(600);
+		Mockito.when(message1.getAttachmentContentLength()).thenReturn(0);
+		Mockito.when(message2.getContentLength()).thenReturn(100);
+		Mockito.when(message2.getAttachmentContentLength()).thenReturn(300);
+
+		SolaceConsumerProperties consumerProperties = new SolaceConsumerProperties();
+		consumerProperties.setBatchMaxBytes(1000);
+		consumerProperties.setBatchTimeout(0);
+		BatchCollector batchCollector = new BatchCollector(consumerProperties);
+
+		batchCollector.addToBatch(messageContainer1);
+		assertFalse(batchCollector.isBatchAvailable(), "batch is unexpectedly available");
+		batchCollector.addToBatch(messageContainer2);
+		assertTrue(batchCollector.isBatchAvailable(), "batch is not available");
+		assertThat(batchCollector.collectBatchIfAvailable()).get().asList()
+				.containsExactly(messageContainer1, messageContainer2);
+
+		batchCollector.confirmDelivery();
+		batchCollector.addToBatch(messageContainer2);
+		assertFalse(batchCollector.isBatchAvailable(), "batch is unexpectedly available");
+	}
+
+	@Test
+	public void testAdaptiveBatchMaxSize() throws Exception {
+		SolaceConsumerProperties consumerProperties = new SolaceConsumerProperties();
+		consumerProperties.setBatchMaxSize(100);
+		consumerProperties.setBatchTimeout(0);
+		consumerProperties.setBatchTargetLatency(10);
+		BatchCollector batchCollector = new BatchCollector(consumerProperties);
+		assertThat(batchCollector.getEffectiveBatchMaxSize()).isEqualTo(consumerProperties.getBatchMaxSize());
+
+		// Slow batches shrink the batch size
+		int previousBatchMaxSize = batchCollector.getEffectiveBatchMaxSize();
+		for (int i = 0; i < 3; i++) {
+			fillBatch(batchCollector);
+			assertThat(batchCollector.collectBatchIfAvailable()).isPresent();
+			Thread.sleep(consumerProperties.getBatchTargetLatency() * 5);
+			batchCollector.confirmDelivery();
+			assertThat(batchCollector.getEffectiveBatchMaxSize()).isLessThan(previousBatchMaxSize).isGreaterThan(0);
+			previousBatchMaxSize = batchCollector.getEffectiveBatchMaxSize();
+		}
+
+		// Fast batches grow it back up to, but never past, the max batch size
+		for (int i = 0; i < 20; i++) {
+			fillBatch(batchCollector);
+			assertThat(batchCollector.collectBatchIfAvailable()).isPresent();
+			batchCollector.confirmDelivery();
+			assertThat(batchCollector.getEffectiveBatchMaxSize())
+					.isGreaterThanOrEqualTo(previousBatchMaxSize)
+					.isLessThanOrEqualTo(consumerProperties.getBatchMaxSize());
+			previousBatchMaxSize = batchCollector.getEffectiveBatchMaxSize();
+		}
+		assertThat(batchCollector.getEffectiveBatchMaxSize()).isEqualTo(consumerProperties.getBatchMaxSize());
+	}
+
+	private void fillBatch(BatchCollector batchCollector) {
+		for (int i = 0; i < batchCollector.getEffectiveBatchMaxSize(); i++) {
+			assertFalse(batchCollector.isBatchAvailable(), "batch is unexpectedly available");
+			batchCollector.addToBatch(Mockito.mock(MessageContainer.class));
+		}
+		assertTrue(batchCollector.isBatchAvailable(), "batch is not available");
+	}
 }
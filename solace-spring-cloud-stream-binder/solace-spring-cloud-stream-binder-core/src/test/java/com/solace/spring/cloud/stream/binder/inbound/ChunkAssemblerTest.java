@@ -0,0 +1,140 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import com.solace.spring.cloud.stream.binder.messaging.SolaceBinderHeaders;
+import com.solace.spring.cloud.stream.binder.properties.SolaceConsumerProperties;
+import com.solace.spring.cloud.stream.binder.util.MessageContainer;
+import com.solacesystems.jcsmp.BytesMessage;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.SDTException;
+import com.solacesystems.jcsmp.SDTMap;
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.util.StreamUtils;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkAssemblerTest {
+	private final List<MessageContainer> discarded = new ArrayList<>();
+
+	@Test
+	public void testReassembleInMemory() throws Exception {
+		byte[] payload = RandomUtils.nextBytes(25);
+		List<MessageContainer> chunks = createChunks(UUID.randomUUID().toString(), payload, 10);
+		ChunkAssembler chunkAssembler = new ChunkAssembler(new SolaceConsumerProperties(), discarded::addAll);
+
+		assertThat(chunkAssembler.add(chunks.get(0))).isNull();
+		assertThat(chunkAssembler.add(chunks.get(1))).isNull();
+		assertThat(chunkAssembler.getNumPartialMessages()).isEqualTo(1);
+
+		ChunkAssembler.ChunkedMessage chunkedMessage = chunkAssembler.add(chunks.get(2));
+		assertThat(chunkedMessage).isNotNull();
+		assertThat(chunkedMessage.getMessageContainers()).containsExactlyElementsOf(chunks);
+		assertThat(chunkedMessage.getPayload()).isEqualTo(payload);
+		assertThat(chunkAssembler.getNumPartialMessages()).isZero();
+		assertThat(discarded).isEmpty();
+	}
+
+	@Test
+	public void testReassembleInFile() throws Exception {
+		byte[] payload = RandomUtils.nextBytes(25);
+		List<MessageContainer> chunks = createChunks(UUID.randomUUID().toString(), payload, 10);
+		SolaceConsumerProperties consumerProperties = new SolaceConsumerProperties();
+		consumerProperties.setChunkReassemblyMaxInMemorySize(15);
+		ChunkAssembler chunkAssembler = new ChunkAssembler(consumerProperties, discarded::addAll);
+
+		assertThat(chunkAssembler.add(chunks.get(0))).isNull();
+		assertThat(chunkAssembler.add(chunks.get(1))).isNull();
+		ChunkAssembler.ChunkedMessage chunkedMessage = chunkAssembler.add(chunks.get(2));
+		assertThat(chunkedMessage).isNotNull();
+		assertThat(chunkedMessage.getPayload()).isInstanceOf(InputStream.class);
+		try (InputStream inputStream = (InputStream) chunkedMessage.getPayload()) {
+			assertThat(StreamUtils.copyToByteArray(inputStream)).isEqualTo(payload);
+		}
+		assertThat(discarded).isEmpty();
+	}
+
+	@Test
+	public void testInterleavedChunkedMessages() throws Exception {
+		byte[] payload1 = RandomUtils.nextBytes(20);
+		byte[] payload2 = RandomUtils.nextBytes(20);
+		List<MessageContainer> chunks1 = createChunks(UUID.randomUUID().toString(), payload1, 10);
+		List<MessageContainer> chunks2 = createChunks(UUID.randomUUID().toString(), payload2, 10);
+		ChunkAssembler chunkAssembler = new ChunkAssembler(new SolaceConsumerProperties(), discarded::addAll);
+
+		assertThat(chunkAssembler.add(chunks1.get(0))).isNull();
+		assertThat(chunkAssembler.add(chunks2.get(0))).isNull();
+		assertThat(chunkAssembler.getNumPartialMessages()).isEqualTo(2);
+		assertThat(chunkAssembler.add(chunks2.get(1))).extracting(ChunkAssembler.ChunkedMessage::getPayload)
+				.isEqualTo(payload2);
+		assertThat(chunkAssembler.add(chunks1.get(1))).extracting(ChunkAssembler.ChunkedMessage::getPayload)
+				.isEqualTo(payload1);
+		assertThat(discarded).isEmpty();
+	}
+
+	@Test
+	public void testOutOfOrderChunk() throws Exception {
+		List<MessageContainer> chunks = createChunks(UUID.randomUUID().toString(), RandomUtils.nextBytes(30), 10);
+		ChunkAssembler chunkAssembler = new ChunkAssembler(new SolaceConsumerProperties(), discarded::addAll);
+
+		assertThat(chunkAssembler.add(chunks.get(0))).isNull();
+		assertThat(chunkAssembler.add(chunks.get(2))).isNull();
+		assertThat(discarded).containsExactly(chunks.get(0), chunks.get(2));
+		assertThat(chunkAssembler.getNumPartialMessages()).isZero();
+
+		discarded.clear();
+		assertThat(chunkAssembler.add(chunks.get(1))).isNull();
+		assertThat(discarded).containsExactly(chunks.get(1));
+	}
+
+	@Test
+	public void testRedeliveredFirstChunk() throws Exception {
+		String chunkId = UUID.randomUUID().toString();
+		byte[] payload = RandomUtils.nextBytes(20);
+		List<MessageContainer> chunks = createChunks(chunkId, payload, 10);
+		List<MessageContainer> redeliveredChunks = createChunks(chunkId, payload, 10);
+		Mockito.when(chunks.get(0).isStale()).thenReturn(true);
+		ChunkAssembler chunkAssembler = new ChunkAssembler(new SolaceConsumerProperties(), discarded::addAll);
+
+		assertThat(chunkAssembler.add(chunks.get(0))).isNull();
+		assertThat(chunkAssembler.add(redeliveredChunks.get(0))).isNull();
+		ChunkAssembler.ChunkedMessage chunkedMessage = chunkAssembler.add(redeliveredChunks.get(1));
+		assertThat(chunkedMessage).isNotNull();
+		assertThat(chunkedMessage.getMessageContainers()).containsExactlyElementsOf(redeliveredChunks);
+		assertThat(chunkedMessage.getPayload()).isEqualTo(payload);
+		assertThat(discarded).isEmpty(); // stale chunks can't be rejected
+	}
+
+	@Test
+	public void testIsChunk() throws Exception {
+		assertThat(ChunkAssembler.isChunk(createChunks(UUID.randomUUID().toString(), new byte[1], 1).get(0)
+				.getMessage())).isTrue();
+		assertThat(ChunkAssembler.isChunk(JCSMPFactory.onlyInstance().createMessage(BytesMessage.class))).isFalse();
+	}
+
+	private List<MessageContainer> createChunks(String chunkId, byte[] payload, int chunkSize) throws SDTException {
+		int chunkCount = (payload.length + chunkSize - 1) / chunkSize;
+		List<MessageContainer> chunks = new ArrayList<>();
+		for (int i = 0; i < chunkCount; i++) {
+			BytesMessage message = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+			message.setData(Arrays.copyOfRange(payload, i * chunkSize, Math.min((i + 1) * chunkSize,
+					payload.length)));
+			SDTMap metadata = JCSMPFactory.onlyInstance().createMap();
+			metadata.putString(SolaceBinderHeaders.CHUNK_ID, chunkId);
+			metadata.putInteger(SolaceBinderHeaders.CHUNK_INDEX, i);
+			metadata.putInteger(SolaceBinderHeaders.CHUNK_COUNT, chunkCount);
+			message.setProperties(metadata);
+
+			MessageContainer messageContainer = Mockito.mock(MessageContainer.class);
+			Mockito.when(messageContainer.getMessage()).thenReturn(message);
+			chunks.add(messageContainer);
+		}
+		return chunks;
+	}
+}
@@ -0,0 +1,81 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import com.solace.spring.cloud.stream.binder.inbound.ConcurrencyAutoscaler.Decision;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConcurrencyAutoscalerTest {
+	@Test
+	public void testScaleUp() {
+		ConcurrencyAutoscaler autoscaler = new ConcurrencyAutoscaler(1, 3, 0.8, 0.3, 0);
+		long now = 0;
+		for (int i = 1; i < ConcurrencyAutoscaler.SCALE_UP_SAMPLES; i++) {
+			assertThat(autoscaler.sample(0.9, 1, now++)).isEqualTo(Decision.NONE);
+		}
+		assertThat(autoscaler.sample(0.9, 1, now)).isEqualTo(Decision.SCALE_UP);
+	}
+
+	@Test
+	public void testScaleDown() {
+		ConcurrencyAutoscaler autoscaler = new ConcurrencyAutoscaler(1, 3, 0.8, 0.3, 0);
+		long now = 0;
+		for (int i = 1; i < ConcurrencyAutoscaler.SCALE_DOWN_SAMPLES; i++) {
+			assertThat(autoscaler.sample(0.1, 2, now++)).isEqualTo(Decision.NONE);
+		}
+		assertThat(autoscaler.sample(0.1, 2, now)).isEqualTo(Decision.SCALE_DOWN);
+	}
+
+	@Test
+	public void testHysteresis() {
+		ConcurrencyAutoscaler autoscaler = new ConcurrencyAutoscaler(1, 3, 0.8, 0.3, 0);
+		long now = 0;
+		for (int i = 0; i < 10; i++) {
+			// Load in between thresholds resets the consecutive samples
+			assertThat(autoscaler.sample(0.9, 2, now++)).isEqualTo(Decision.NONE);
+			assertThat(autoscaler.sample(0.5, 2, now++)).isEqualTo(Decision.NONE);
+			assertThat(autoscaler.sample(0.1, 2, now++)).isEqualTo(Decision.NONE);
+			assertThat(autoscaler.sample(0.9, 2, now++)).isEqualTo(Decision.NONE);
+			assertThat(autoscaler.sample(0.1, 2, now++)).isEqualTo(Decision.NONE);
+		}
+	}
+
+	@Test
+	public void testCooldown() {
+		long cooldown = 1000;
+		ConcurrencyAutoscaler autoscaler = new ConcurrencyAutoscaler(1, 3, 0.8, 0.3, cooldown);
+		long now = 0;
+		assertThat(autoscaler.sample(1, 1, now)).isEqualTo(Decision.NONE);
+		assertThat(autoscaler.sample(1, 1, now)).isEqualTo(Decision.SCALE_UP);
+
+		for (int i = 0; i < 5; i++) {
+			now += TimeUnit.MILLISECONDS.toNanos(cooldown - 1) / 5;
+			assertThat(autoscaler.sample(1, 2, now)).isEqualTo(Decision.NONE);
+		}
+
+		now += TimeUnit.MILLISECONDS.toNanos(1);
+		assertThat(autoscaler.sample(1, 2, now)).isEqualTo(Decision.SCALE_UP);
+	}
+
+	@Test
+	public void testBounds() {
+		ConcurrencyAutoscaler autoscaler = new ConcurrencyAutoscaler(2, 3, 0.8, 0.3, 0);
+		long now = 0;
+		for (int i = 0; i < 10; i++) {
+			assertThat(autoscaler.sample(1, 3, now++)).isEqualTo(Decision.NONE);
+		}
+		for (int i = 0; i < 10; i++) {
+			assertThat(autoscaler.sample(0, 2, now++)).isEqualTo(Decision.NONE);
+		}
+	}
+
+	@Test
+	public void testInvalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrencyAutoscaler(0, 3, 0.8, 0.3, 0));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrencyAutoscaler(3, 2, 0.8, 0.3, 0));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrencyAutoscaler(1, 3, 0.3, 0.3, 0));
+	}
+}
@@ -0,0 +1,95 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import com.solace.spring.cloud.stream.binder.properties.SolaceConsumerProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+public class ConsumerWorkerExecutorProviderTest {
+	@Mock private Function<String, Executor> beanResolver;
+	@Mock private Executor beanExecutor;
+	private final SolaceConsumerProperties consumerProperties = new SolaceConsumerProperties();
+	private final ConsumerWorkerExecutorProvider provider = new ConsumerWorkerExecutorProvider(2,
+			name -> beanResolver.apply(name));
+
+	@AfterEach
+	public void cleanup() {
+		provider.shutdownNow();
+	}
+
+	@Test
+	public void testDedicated() {
+		consumerProperties.setWorkerExecutorType(SolaceConsumerProperties.WorkerExecutorType.DEDICATED);
+		assertThat(provider.getExecutor(consumerProperties)).isNull();
+		Mockito.verifyNoInteractions(beanResolver);
+	}
+
+	@Test
+	public void testBean() {
+		Mockito.when(beanResolver.apply("myExecutor")).thenReturn(beanExecutor);
+		consumerProperties.setWorkerExecutorBeanName("myExecutor");
+		// The bean takes precedence over the type
+		consumerProperties.setWorkerExecutorType(SolaceConsumerProperties.WorkerExecutorType.SHARED);
+		assertThat(provider.getExecutor(consumerProperties)).isSameAs(beanExecutor);
+
+		provider.shutdownNow();
+		Mockito.verifyNoInteractions(beanExecutor);
+	}
+
+	@Test
+	public void testShared() throws Exception {
+		consumerProperties.setWorkerExecutorType(SolaceConsumerProperties.WorkerExecutorType.SHARED);
+		Executor executor = provider.getExecutor(consumerProperties);
+		assertThat(executor).isNotNull().isSameAs(provider.getExecutor(consumerProperties));
+
+		CountDownLatch release = new CountDownLatch(1);
+		Runnable blockingTask = () -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		executor.execute(blockingTask);
+		executor.execute(blockingTask);
+		assertThrows(RejectedExecutionException.class, () -> executor.execute(blockingTask));
+		release.countDown();
+
+		provider.shutdownNow();
+		assertThat(((ExecutorService) executor).isShutdown()).isTrue();
+		assertThat(provider.getExecutor(consumerProperties)).isNotNull().isNotSameAs(executor);
+	}
+
+	@Test
+	public void testVirtual() {
+		consumerProperties.setWorkerExecutorType(SolaceConsumerProperties.WorkerExecutorType.VIRTUAL);
+		boolean hasVirtualThreads = Arrays.stream(Executors.class.getMethods())
+				.anyMatch(m -> m.getName().equals("newVirtualThreadPerTaskExecutor"));
+		if (hasVirtualThreads) {
+			Executor executor = provider.getExecutor(consumerProperties);
+			assertThat(executor).isNotNull().isSameAs(provider.getExecutor(consumerProperties));
+		} else {
+			assertThrows(IllegalStateException.class, () -> provider.getExecutor(consumerProperties));
+		}
+	}
+
+	@Test
+	public void testInvalidSharedPoolSize() {
+		assertThrows(IllegalArgumentException.class, () -> new ConsumerWorkerExecutorProvider(0, beanResolver));
+	}
+}
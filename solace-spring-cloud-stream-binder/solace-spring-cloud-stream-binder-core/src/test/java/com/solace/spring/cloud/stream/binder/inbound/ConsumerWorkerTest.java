@@ -0,0 +1,118 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsumerWorkerTest {
+	@Test
+	public void testRun() throws Exception {
+		AtomicInteger numRuns = new AtomicInteger();
+		AtomicInteger numAbandons = new AtomicInteger();
+		ConsumerWorker consumerWorker = new ConsumerWorker(numRuns::incrementAndGet, numAbandons::incrementAndGet);
+		assertThat(consumerWorker.awaitTermination(0, TimeUnit.SECONDS)).isFalse();
+
+		consumerWorker.run();
+		assertThat(consumerWorker.awaitTermination(0, TimeUnit.SECONDS)).isTrue();
+
+		consumerWorker.run();
+		consumerWorker.abandonIfNotStarted();
+		assertThat(numRuns).hasValue(1);
+		assertThat(numAbandons).hasValue(0);
+	}
+
+	@Test
+	public void testAbandonIfNotStarted() throws Exception {
+		AtomicInteger numRuns = new AtomicInteger();
+		AtomicInteger numAbandons = new AtomicInteger();
+		ConsumerWorker consumerWorker = new ConsumerWorker(numRuns::incrementAndGet, numAbandons::incrementAndGet);
+
+		consumerWorker.abandonIfNotStarted();
+		assertThat(consumerWorker.awaitTermination(0, TimeUnit.SECONDS)).isTrue();
+
+		consumerWorker.abandonIfNotStarted();
+		consumerWorker.run();
+		assertThat(numRuns).hasValue(0);
+		assertThat(numAbandons).hasValue(1);
+	}
+
+	@Test
+	public void testAbandonWhileRunning() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger numAbandons = new AtomicInteger();
+		ConsumerWorker consumerWorker = new ConsumerWorker(() -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, numAbandons::incrementAndGet);
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			executorService.execute(consumerWorker);
+			assertThat(started.await(1, TimeUnit.MINUTES)).isTrue();
+
+			consumerWorker.abandonIfNotStarted();
+			assertThat(numAbandons).hasValue(0);
+			assertThat(consumerWorker.awaitTermination(100, TimeUnit.MILLISECONDS)).isFalse();
+
+			release.countDown();
+			assertThat(consumerWorker.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testInterrupt() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean interrupted = new AtomicBoolean(false);
+		ConsumerWorker consumerWorker = new ConsumerWorker(() -> {
+			started.countDown();
+			try {
+				new CountDownLatch(1).await();
+			} catch (InterruptedException e) {
+				interrupted.set(true);
+			}
+		}, null);
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			executorService.execute(consumerWorker);
+			assertThat(started.await(1, TimeUnit.MINUTES)).isTrue();
+
+			consumerWorker.interrupt();
+			assertThat(consumerWorker.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+			assertThat(interrupted).isTrue();
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testInterruptAfterTerminated() {
+		ConsumerWorker consumerWorker = new ConsumerWorker(() -> {}, null);
+		consumerWorker.run();
+
+		// The thread now belongs to whichever task runs next on it
+		consumerWorker.interrupt();
+		assertThat(Thread.interrupted()).isFalse();
+	}
+
+	@Test
+	public void testInterruptIsNotLeakedToThread() {
+		ConsumerWorker consumerWorker = new ConsumerWorker(() -> Thread.currentThread().interrupt(), null);
+		consumerWorker.run();
+		assertThat(Thread.interrupted()).isFalse();
+	}
+}
@@ -0,0 +1,79 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DispatchRingBufferTest {
+	@Test
+	public void testOfferAndPoll() throws Exception {
+		DispatchRingBuffer<Integer> ringBuffer = new DispatchRingBuffer<>(3);
+		for (int i = 0; i < 3; i++) {
+			assertThat(ringBuffer.offer(i)).isTrue();
+		}
+		assertThat(ringBuffer.offer(3)).isFalse();
+		assertThat(ringBuffer.size()).isEqualTo(3);
+
+		assertThat(ringBuffer.poll(0, TimeUnit.SECONDS)).isEqualTo(0);
+		assertThat(ringBuffer.offer(3)).isTrue();
+		for (int i = 1; i < 4; i++) {
+			assertThat(ringBuffer.poll(0, TimeUnit.SECONDS)).isEqualTo(i);
+		}
+		assertThat(ringBuffer.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void testPollTimeout() throws Exception {
+		DispatchRingBuffer<Integer> ringBuffer = new DispatchRingBuffer<>(1);
+		long start = System.nanoTime();
+		assertThat(ringBuffer.poll(500, TimeUnit.MILLISECONDS)).isNull();
+		assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+	}
+
+	@Test
+	public void testIsDrained() throws Exception {
+		DispatchRingBuffer<Integer> ringBuffer = new DispatchRingBuffer<>(4);
+		assertThat(ringBuffer.isDrained()).isTrue();
+		for (int i = 0; i < ringBuffer.getCapacity(); i++) {
+			ringBuffer.offer(i);
+		}
+		assertThat(ringBuffer.isDrained()).isFalse();
+
+		ringBuffer.poll(0, TimeUnit.SECONDS);
+		assertThat(ringBuffer.isDrained()).isFalse();
+		ringBuffer.poll(0, TimeUnit.SECONDS);
+		assertThat(ringBuffer.isDrained()).isTrue();
+	}
+
+	@Test
+	public void testAwaitDrained() throws Exception {
+		DispatchRingBuffer<Integer> ringBuffer = new DispatchRingBuffer<>(4);
+		for (int i = 0; i < ringBuffer.getCapacity(); i++) {
+			ringBuffer.offer(i);
+		}
+		assertThat(ringBuffer.awaitDrained(0, TimeUnit.SECONDS)).isFalse();
+
+		ringBuffer.poll(0, TimeUnit.SECONDS);
+		assertThat(ringBuffer.awaitDrained(0, TimeUnit.SECONDS)).isFalse();
+
+		Thread consumer = new Thread(() -> {
+			try {
+				ringBuffer.poll(1, TimeUnit.MINUTES);
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		consumer.start();
+		assertThat(ringBuffer.awaitDrained(1, TimeUnit.MINUTES)).isTrue();
+		assertThat(ringBuffer.size()).isEqualTo(2);
+		consumer.join();
+	}
+
+	@Test
+	public void testInvalidCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new DispatchRingBuffer<>(0));
+	}
+}
@@ -0,0 +1,138 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import com.solace.spring.cloud.stream.binder.properties.SolaceConsumerProperties;
+import com.solace.spring.cloud.stream.binder.provisioning.SolaceConsumerDestination;
+import com.solace.spring.cloud.stream.binder.util.JCSMPSessionConsumerManager;
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.TextMessage;
+import com.solacesystems.jcsmp.XMLMessageListener;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.binder.ExtendedConsumerProperties;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.messaging.Message;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class JCSMPDirectInboundChannelAdapterTest {
+	@Mock private SolaceConsumerDestination consumerDestination;
+	@Mock private JCSMPSessionConsumerManager consumerManager;
+	@Captor private ArgumentCaptor<String> keyCaptor;
+	@Captor private ArgumentCaptor<Collection<String>> topicsCaptor;
+	@Captor private ArgumentCaptor<XMLMessageListener> listenerCaptor;
+	private final ExtendedConsumerProperties<SolaceConsumerProperties> consumerProperties =
+			new ExtendedConsumerProperties<>(new SolaceConsumerProperties());
+	private final QueueChannel outputChannel = new QueueChannel();
+	private final List<Runnable> workerTasks = new ArrayList<>();
+	private JCSMPDirectInboundChannelAdapter adapter;
+
+	@BeforeEach
+	public void setup() {
+		Mockito.when(consumerDestination.getBindingDestinationName()).thenReturn("test/topic");
+		Mockito.when(consumerDestination.getAdditionalSubscriptions()).thenReturn(Collections.singleton("test/>"));
+		consumerProperties.populateBindingName(RandomStringUtils.randomAlphanumeric(100));
+		adapter = new JCSMPDirectInboundChannelAdapter(consumerDestination, consumerManager, consumerProperties,
+				null);
+		adapter.setOutputChannel(outputChannel);
+	}
+
+	@Test
+	public void testSubscribe() throws Exception {
+		adapter.start();
+		Mockito.verify(consumerManager).subscribe(keyCaptor.capture(), topicsCaptor.capture(), Mockito.any());
+		assertThat(topicsCaptor.getValue()).containsExactlyInAnyOrder("test/topic", "test/>");
+
+		adapter.stop();
+		Mockito.verify(consumerManager).unsubscribe(keyCaptor.getValue());
+	}
+
+	@Test
+	public void testProcessOnContextThread() throws Exception {
+		consumerProperties.getExtension().setDirectBufferSize(0);
+		XMLMessageListener listener = start();
+
+		listener.onReceive(createMessage("1"));
+		assertThat(outputChannel.receive(0)).extracting(Message::getPayload).isEqualTo("1");
+		adapter.stop();
+	}
+
+	@Test
+	public void testDropOldest() throws Exception {
+		consumerProperties.getExtension().setDirectBufferSize(2);
+		consumerProperties.getExtension().setDirectDropPolicy(SolaceConsumerProperties.DirectDropPolicy.DROP_OLDEST);
+		XMLMessageListener listener = start();
+
+		for (int i = 1; i <= 4; i++) {
+			listener.onReceive(createMessage(String.valueOf(i)));
+		}
+		assertThat(adapter.getDroppedCount()).isEqualTo(2);
+
+		runWorker();
+		assertThat(outputChannel.receive(10000)).extracting(Message::getPayload).isEqualTo("3");
+		assertThat(outputChannel.receive(10000)).extracting(Message::getPayload).isEqualTo("4");
+		adapter.stop();
+		assertThat(outputChannel.receive(0)).isNull();
+	}
+
+	@Test
+	public void testDropNewest() throws Exception {
+		consumerProperties.getExtension().setDirectBufferSize(2);
+		consumerProperties.getExtension().setDirectDropPolicy(SolaceConsumerProperties.DirectDropPolicy.DROP_NEWEST);
+		XMLMessageListener listener = start();
+
+		for (int i = 1; i <= 4; i++) {
+			listener.onReceive(createMessage(String.valueOf(i)));
+		}
+		assertThat(adapter.getDroppedCount()).isEqualTo(2);
+
+		runWorker();
+		assertThat(outputChannel.receive(10000)).extracting(Message::getPayload).isEqualTo("1");
+		assertThat(outputChannel.receive(10000)).extracting(Message::getPayload).isEqualTo("2");
+		adapter.stop();
+		assertThat(outputChannel.receive(0)).isNull();
+	}
+
+	@Test
+	public void testIgnoreMessagesWhenStopped() throws Exception {
+		consumerProperties.getExtension().setDirectBufferSize(0);
+		XMLMessageListener listener = start();
+		adapter.stop();
+
+		listener.onReceive(createMessage("1"));
+		assertThat(outputChannel.receive(0)).isNull();
+	}
+
+	private XMLMessageListener start() throws Exception {
+		adapter.setWorkerExecutor(workerTasks::add);
+		adapter.start();
+		Mockito.verify(consumerManager).subscribe(Mockito.anyString(), Mockito.any(), listenerCaptor.capture());
+		return listenerCaptor.getValue();
+	}
+
+	private void runWorker() {
+		assertThat(workerTasks).hasSize(1);
+		Thread worker = new Thread(workerTasks.get(0));
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	private BytesXMLMessage createMessage(String text) {
+		TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+		message.setText(text);
+		return (BytesXMLMessage) message;
+	}
+}
@@ -0,0 +1,154 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import com.solace.spring.cloud.stream.binder.properties.SolaceConsumerProperties;
+import com.solace.spring.cloud.stream.binder.provisioning.SolaceConsumerDestination;
+import com.solace.spring.cloud.stream.binder.util.RetryableTaskService;
+import com.solacesystems.jcsmp.FlowReceiver;
+import com.solacesystems.jcsmp.JCSMPSession;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.binder.ExtendedConsumerProperties;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.messaging.MessagingException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+public class JCSMPInboundChannelAdapterTest {
+	@Mock private SolaceConsumerDestination consumerDestination;
+	@Mock private JCSMPSession jcsmpSession;
+	@Mock private FlowReceiver flowReceiver;
+	private final ExtendedConsumerProperties<SolaceConsumerProperties> consumerProperties =
+			new ExtendedConsumerProperties<>(new SolaceConsumerProperties());
+	private final RetryableTaskService taskService = new RetryableTaskService();
+	private JCSMPInboundChannelAdapter adapter;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		Mockito.when(consumerDestination.getName()).thenReturn(RandomStringUtils.randomAlphanumeric(20));
+		// Not used by bindings which are rejected before creating their flows
+		Mockito.lenient().when(jcsmpSession.createFlow(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(flowReceiver);
+		consumerProperties.populateBindingName(RandomStringUtils.randomAlphanumeric(100));
+		adapter = new JCSMPInboundChannelAdapter(consumerDestination, jcsmpSession, taskService, consumerProperties,
+				null, null);
+		adapter.setOutputChannel(new QueueChannel());
+	}
+
+	@AfterEach
+	public void cleanup() {
+		taskService.close();
+	}
+
+	@Test
+	public void testStop() throws Exception {
+		consumerProperties.setConcurrency(2);
+		Mockito.when(flowReceiver.receive()).thenAnswer(invocation -> {
+			Thread.sleep(10);
+			return null;
+		});
+
+		ExecutorService workerExecutor = Executors.newCachedThreadPool();
+		try {
+			adapter.setWorkerExecutor(workerExecutor);
+			adapter.start();
+			adapter.stop();
+
+			Mockito.verify(flowReceiver, Mockito.times(2)).close();
+			// Executors which aren't owned by the adapter are left running
+			assertThat(workerExecutor.isShutdown()).isFalse();
+		} finally {
+			workerExecutor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testStopInterruptsBlockedWorkers() throws Exception {
+		CountDownLatch receiving = new CountDownLatch(1);
+		Mockito.when(flowReceiver.receive()).thenAnswer(invocation -> {
+			receiving.countDown();
+			// Unlike a real flow, isn't woken up when closed
+			new CountDownLatch(1).await();
+			return null;
+		});
+
+		adapter.start();
+		assertThat(receiving.await(1, TimeUnit.MINUTES)).isTrue();
+		adapter.stop();
+		Mockito.verify(flowReceiver).close();
+	}
+
+	@Test
+	public void testStartRejectedByWorkerExecutor() throws Exception {
+		consumerProperties.setConcurrency(2);
+		// The launched flow may be stopped before it starts receiving
+		Mockito.lenient().when(flowReceiver.receive()).thenAnswer(invocation -> {
+			new CountDownLatch(1).await();
+			return null;
+		});
+
+		ThreadPoolExecutor workerExecutor = new ThreadPoolExecutor(0, 1, 60, TimeUnit.SECONDS,
+				new SynchronousQueue<>());
+		try {
+			adapter.setWorkerExecutor(workerExecutor);
+			assertThrows(MessagingException.class, () -> adapter.start());
+
+			// Both the launched and the rejected flows are closed
+			Mockito.verify(flowReceiver, Mockito.times(2)).close();
+		} finally {
+			workerExecutor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testStartRejectsChunkReassemblyAcrossFlows() throws Exception {
+		consumerProperties.setConcurrency(2);
+		consumerProperties.getExtension().setChunkReassembly(true);
+
+		assertThrows(MessagingException.class, () -> adapter.start());
+		Mockito.verifyNoInteractions(jcsmpSession);
+	}
+
+	@Test
+	public void testStartRejectsChunkReassemblyWithAutoscaling() throws Exception {
+		consumerProperties.getExtension().setConcurrencyAutoscaleMax(2);
+		consumerProperties.getExtension().setChunkReassembly(true);
+
+		assertThrows(MessagingException.class, () -> adapter.start());
+		Mockito.verifyNoInteractions(jcsmpSession);
+	}
+
+	@Test
+	public void testStopChunkReassembly() throws Exception {
+		consumerProperties.getExtension().setChunkReassembly(true);
+		Mockito.when(flowReceiver.receive()).thenAnswer(invocation -> {
+			Thread.sleep(10);
+			return null;
+		});
+
+		ExecutorService workerExecutor = Executors.newCachedThreadPool();
+		try {
+			adapter.setWorkerExecutor(workerExecutor);
+			adapter.start();
+			adapter.stop();
+
+			Mockito.verify(flowReceiver).close();
+		} finally {
+			workerExecutor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.solace.spring.cloud.stream.binder.inbound;
+
+import com.solace.spring.cloud.stream.binder.messaging.SolaceHeaders;
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.SDTMap;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrderingKeyResolverTest {
+	@Test
+	public void testResolveSolaceHeader() {
+		BytesXMLMessage message = JCSMPFactory.onlyInstance().createMessage(BytesXMLMessage.class);
+		message.setCorrelationId("some-correlation-id");
+
+		assertThat(new OrderingKeyResolver(String.format("headers.%s", SolaceHeaders.CORRELATION_ID))
+				.resolve(message))
+				.isEqualTo("some-correlation-id");
+		assertThat(new OrderingKeyResolver(String.format("headers['%s']", SolaceHeaders.CORRELATION_ID))
+				.resolve(message))
+				.isEqualTo("some-correlation-id");
+	}
+
+	@Test
+	public void testResolveUserProperty() throws Exception {
+		BytesXMLMessage message = JCSMPFactory.onlyInstance().createMessage(BytesXMLMessage.class);
+		SDTMap properties = JCSMPFactory.onlyInstance().createMap();
+		properties.putString("customerId", "abc");
+		message.setProperties(properties);
+
+		assertThat(new OrderingKeyResolver("headers['customerId']").resolve(message)).isEqualTo("abc");
+	}
+
+	@Test
+	public void testResolveMissing() {
+		BytesXMLMessage message = JCSMPFactory.onlyInstance().createMessage(BytesXMLMessage.class);
+		assertThat(new OrderingKeyResolver("headers['customerId']").resolve(message)).isNull();
+		assertThat(new OrderingKeyResolver(String.format("headers['%s']", SolaceHeaders.APPLICATION_MESSAGE_ID))
+				.resolve(message))
+				.isNull();
+	}
+}
@@ -0,0 +1,63 @@
+package com.solace.spring.cloud.stream.binder.inbound.acknowledge;
+
+import com.solace.spring.cloud.stream.binder.util.FlowReceiverContainer;
+import com.solace.spring.cloud.stream.binder.util.MessageContainer;
+import com.solace.spring.cloud.stream.binder.util.RetryableAckRebindTask;
+import com.solace.spring.cloud.stream.binder.util.RetryableTaskService;
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.integration.acks.AcknowledgmentCallback;
+import org.springframework.integration.acks.AcknowledgmentCallback.Status;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class JCSMPAcknowledgementCallbackTest {
+	@Mock private FlowReceiverContainer flowReceiverContainer;
+	@Mock private MessageContainer messageContainer;
+	@Mock private RetryableTaskService taskService;
+	@Mock private BytesXMLMessage message;
+	private JCSMPAcknowledgementCallbackFactory ackCallbackFactory;
+
+	@BeforeEach
+	public void setup() {
+		Mockito.when(messageContainer.isAcknowledged()).thenReturn(false);
+		Mockito.when(messageContainer.isStale()).thenReturn(false);
+		// Only read for logging
+		Mockito.lenient().when(messageContainer.getMessage()).thenReturn(message);
+		ackCallbackFactory = new JCSMPAcknowledgementCallbackFactory(flowReceiverContainer, false, taskService);
+	}
+
+	@ParameterizedTest(name = "[{index}] status={0}")
+	@EnumSource(value = Status.class, names = {"REJECT", "REQUEUE"})
+	public void testBackgroundRebind(Status status) throws Exception {
+		// Push mode: the acknowledging thread may be the JCSMP context thread, which a rebind would deadlock
+		ackCallbackFactory.setBackgroundRebind(true);
+		AcknowledgmentCallback acknowledgmentCallback = ackCallbackFactory.createCallback(messageContainer);
+
+		acknowledgmentCallback.acknowledge(status);
+		assertThat(acknowledgmentCallback.isAcknowledged()).isTrue();
+		Mockito.verify(taskService).submit(Mockito.any(RetryableAckRebindTask.class));
+		Mockito.verify(flowReceiverContainer, Mockito.never()).acknowledgeRebind(Mockito.any(), Mockito.anyBoolean());
+	}
+
+	@ParameterizedTest(name = "[{index}] status={0}")
+	@EnumSource(value = Status.class, names = {"REJECT", "REQUEUE"})
+	public void testSynchronousRebind(Status status) throws Exception {
+		Mockito.when(flowReceiverContainer.acknowledgeRebind(messageContainer, true)).thenReturn(UUID.randomUUID());
+		AcknowledgmentCallback acknowledgmentCallback = ackCallbackFactory.createCallback(messageContainer);
+
+		acknowledgmentCallback.acknowledge(status);
+		assertThat(acknowledgmentCallback.isAcknowledged()).isTrue();
+		Mockito.verify(flowReceiverContainer).acknowledgeRebind(messageContainer, true);
+		Mockito.verifyNoInteractions(taskService);
+	}
+}
@@ -3,6 +3,7 @@ package com.solace.spring.cloud.stream.binder.meter;
 import com.solacesystems.jcsmp.BytesMessage;
 import com.solacesystems.jcsmp.JCSMPFactory;
 import com.solacesystems.jcsmp.XMLMessage;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Measurement;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -11,6 +12,7 @@ import io.micrometer.core.instrument.binder.BaseUnits;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.assertj.core.api.ThrowingConsumer;
+import org.junit.jupiter.api.Test;
 import org.junitpioneer.jupiter.cartesian.CartesianTest;
 import org.junitpioneer.jupiter.cartesian.CartesianTest.Values;
 import org.mockito.Mockito;
@@ -20,6 +22,9 @@ import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.DOUBLE;
@@ -66,6 +71,87 @@ public class SolaceMessageMeterBinderTest {
 						message.getContentLength() + message.getAttachmentContentLength()));
 	}
 
+	@Test
+	public void testCompressionMeters(@Autowired SolaceMessageMeterBinder solaceMessageMeterBinder,
+									  @Autowired MeterRegistry meterRegistry) {
+		String bindingName = RandomStringUtils.randomAlphanumeric(100);
+		solaceMessageMeterBinder.recordCompression(bindingName, 1000, 250, TimeUnit.MILLISECONDS.toNanos(2));
+
+		assertThat(meterRegistry.find(SolaceMessageMeterBinder.METER_NAME_COMPRESSION_RATIO)
+				.tag(SolaceMessageMeterBinder.TAG_NAME, bindingName)
+				.summary())
+				.isNotNull()
+				.satisfies(
+						summary -> assertThat(summary.count()).isEqualTo(1),
+						summary -> assertThat(summary.totalAmount()).isEqualTo(0.25));
+
+		assertThat(meterRegistry.find(SolaceMessageMeterBinder.METER_NAME_COMPRESSION_TIME)
+				.tag(SolaceMessageMeterBinder.TAG_NAME, bindingName)
+				.timer())
+				.isNotNull()
+				.satisfies(
+						timer -> assertThat(timer.count()).isEqualTo(1),
+						timer -> assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2));
+	}
+
+	@Test
+	public void testPublisherInFlightGauge(@Autowired SolaceMessageMeterBinder solaceMessageMeterBinder,
+										   @Autowired MeterRegistry meterRegistry) {
+		String sessionName = RandomStringUtils.randomAlphanumeric(100);
+		AtomicInteger inFlightCount = new AtomicInteger(5);
+		solaceMessageMeterBinder.registerPublisherInFlightGauge(sessionName, inFlightCount, AtomicInteger::get);
+
+		Gauge gauge = meterRegistry.find(SolaceMessageMeterBinder.METER_NAME_PUBLISHER_IN_FLIGHT)
+				.tag(SolaceMessageMeterBinder.TAG_NAME, sessionName)
+				.gauge();
+		assertThat(gauge).isNotNull();
+		assertThat(gauge.value()).isEqualTo(5);
+		inFlightCount.set(2);
+		assertThat(gauge.value()).isEqualTo(2);
+	}
+
+	@Test
+	public void testDestinationCacheCounters(@Autowired SolaceMessageMeterBinder solaceMessageMeterBinder,
+											 @Autowired MeterRegistry meterRegistry) {
+		String bindingName = RandomStringUtils.randomAlphanumeric(100);
+		AtomicLong hits = new AtomicLong(7);
+		solaceMessageMeterBinder.registerDestinationCacheCounters(bindingName, hits, AtomicLong::get, h -> 3);
+
+		assertThat(meterRegistry.find(SolaceMessageMeterBinder.METER_NAME_DESTINATION_CACHE)
+				.tag(SolaceMessageMeterBinder.TAG_NAME, bindingName)
+				.tag(SolaceMessageMeterBinder.TAG_RESULT, SolaceMessageMeterBinder.TAG_VALUE_RESULT_HIT)
+				.functionCounter())
+				.isNotNull()
+				.satisfies(counter -> assertThat(counter.count()).isEqualTo(7));
+		assertThat(meterRegistry.find(SolaceMessageMeterBinder.METER_NAME_DESTINATION_CACHE)
+				.tag(SolaceMessageMeterBinder.TAG_NAME, bindingName)
+				.tag(SolaceMessageMeterBinder.TAG_RESULT, SolaceMessageMeterBinder.TAG_VALUE_RESULT_MISS)
+				.functionCounter())
+				.isNotNull()
+				.satisfies(counter -> assertThat(counter.count()).isEqualTo(3));
+
+		solaceMessageMeterBinder.removeDestinationCacheCounters(bindingName);
+		assertThat(meterRegistry.find(SolaceMessageMeterBinder.METER_NAME_DESTINATION_CACHE)
+				.tag(SolaceMessageMeterBinder.TAG_NAME, bindingName)
+				.meters())
+				.isEmpty();
+	}
+
+	@Test
+	public void testDirectDroppedCounter(@Autowired SolaceMessageMeterBinder solaceMessageMeterBinder,
+										 @Autowired MeterRegistry meterRegistry) {
+		String bindingName = RandomStringUtils.randomAlphanumeric(100);
+		AtomicLong dropped = new AtomicLong(5);
+		solaceMessageMeterBinder.registerDirectDroppedCounter(bindingName, dropped, AtomicLong::get);
+
+		dropped.incrementAndGet();
+		assertThat(meterRegistry.find(SolaceMessageMeterBinder.METER_NAME_DIRECT_DROPPED)
+				.tag(SolaceMessageMeterBinder.TAG_NAME, bindingName)
+				.functionCounter())
+				.isNotNull()
+				.satisfies(counter -> assertThat(counter.count()).isEqualTo(6));
+	}
+
 	private BytesMessage createTestMessage(boolean writeAttachment, boolean writeXmlContent, boolean writeMetadata) {
 		BytesMessage message = Mockito.spy(JCSMPFactory.onlyInstance().createMessage(BytesMessage.class));
 		int expectedAttachmentLength = 0;
@@ -1,13 +1,17 @@
 package com.solace.spring.cloud.stream.binder.meter;
 
+import com.solace.spring.cloud.stream.binder.util.JCSMPSessionProducerManager;
 import com.solacesystems.jcsmp.BytesMessage;
 import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.JCSMPSession;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.function.ToDoubleFunction;
+
 @ExtendWith(MockitoExtension.class)
 public class SolaceMeterAccessorTest {
 	@Test
@@ -19,4 +23,57 @@ public class SolaceMeterAccessorTest {
 		solaceMeterAccessor.recordMessage(bindingName, message);
 		Mockito.verify(messageMeterBinder).recordMessage(bindingName, message);
 	}
+
+	@Test
+	public void testRecordCompression(@Mock SolaceMessageMeterBinder messageMeterBinder) {
+		SolaceMeterAccessor solaceMeterAccessor = new SolaceMeterAccessor(messageMeterBinder);
+		String bindingName = "test-binding";
+
+		solaceMeterAccessor.recordCompression(bindingName, 1000, 250, 2000);
+		Mockito.verify(messageMeterBinder).recordCompression(bindingName, 1000, 250, 2000);
+	}
+
+	@Test
+	public void testRegisterDestinationCache(@Mock SolaceMessageMeterBinder messageMeterBinder) {
+		SolaceMeterAccessor solaceMeterAccessor = new SolaceMeterAccessor(messageMeterBinder);
+		String bindingName = "test-binding";
+		Object destinationCache = new Object();
+		ToDoubleFunction<Object> hitCountFunction = o -> 1;
+		ToDoubleFunction<Object> missCountFunction = o -> 2;
+
+		solaceMeterAccessor.registerDestinationCache(bindingName, destinationCache, hitCountFunction, missCountFunction);
+		Mockito.verify(messageMeterBinder).registerDestinationCacheCounters(bindingName, destinationCache,
+				hitCountFunction, missCountFunction);
+	}
+
+	@Test
+	public void testUnregisterDestinationCache(@Mock SolaceMessageMeterBinder messageMeterBinder) {
+		SolaceMeterAccessor solaceMeterAccessor = new SolaceMeterAccessor(messageMeterBinder);
+		solaceMeterAccessor.unregisterDestinationCache("test-binding");
+		Mockito.verify(messageMeterBinder).removeDestinationCacheCounters("test-binding");
+	}
+
+	@Test
+	public void testRegisterDirectDroppedMessages(@Mock SolaceMessageMeterBinder messageMeterBinder) {
+		SolaceMeterAccessor solaceMeterAccessor = new SolaceMeterAccessor(messageMeterBinder);
+		String bindingName = "test-binding";
+		Object stateObject = new Object();
+		ToDoubleFunction<Object> droppedCountFunction = o -> 1;
+
+		solaceMeterAccessor.registerDirectDroppedMessages(bindingName, stateObject, droppedCountFunction);
+		Mockito.verify(messageMeterBinder).registerDirectDroppedCounter(bindingName, stateObject,
+				droppedCountFunction);
+	}
+
+	@Test
+	public void testRegisterPublisherSession(@Mock SolaceMessageMeterBinder messageMeterBinder,
+											 @Mock JCSMPSession session) {
+		Mockito.when(session.getSessionName()).thenReturn("test-session");
+		SolaceMeterAccessor solaceMeterAccessor = new SolaceMeterAccessor(messageMeterBinder);
+		JCSMPSessionProducerManager producerManager = new JCSMPSessionProducerManager(session);
+
+		solaceMeterAccessor.registerPublisherSession(producerManager);
+		Mockito.verify(messageMeterBinder).registerPublisherInFlightGauge(Mockito.eq("test-session"),
+				Mockito.same(producerManager), Mockito.any());
+	}
 }
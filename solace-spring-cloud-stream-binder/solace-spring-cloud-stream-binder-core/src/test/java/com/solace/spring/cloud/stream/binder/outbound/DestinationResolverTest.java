@@ -0,0 +1,97 @@
+package com.solace.spring.cloud.stream.binder.outbound;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.expression.ExpressionException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DestinationResolverTest {
+	@Test
+	public void testNotDynamic() {
+		DestinationResolver destinationResolver = new DestinationResolver(null, "", 10);
+		assertThat(destinationResolver.isDynamic()).isFalse();
+		assertThat(destinationResolver.resolve(MessageBuilder.withPayload("abc").build())).isNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 10})
+	public void testExpression(int cacheSize) {
+		DestinationResolver destinationResolver = new DestinationResolver(
+				"'orders/' + headers.region + '/' + payload['id']", null, cacheSize);
+		assertThat(destinationResolver.isDynamic()).isTrue();
+
+		// Evaluate repeatedly, so that the expression gets compiled
+		for (int i = 0; i < 5; i++) {
+			Message<?> message = MessageBuilder.withPayload(Collections.singletonMap("id", i))
+					.setHeader("region", "eu")
+					.build();
+			assertThat(destinationResolver.resolve(message).getName()).isEqualTo("orders/eu/" + i);
+		}
+		assertThat(destinationResolver.getTopicCache() != null).isEqualTo(cacheSize > 0);
+	}
+
+	@Test
+	public void testExpressionNull() {
+		DestinationResolver destinationResolver = new DestinationResolver("headers['region']", null, 10);
+		assertThatThrownBy(() -> destinationResolver.resolve(MessageBuilder.withPayload("abc").build()))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("headers['region']");
+	}
+
+	@Test
+	public void testExpressionFail() {
+		DestinationResolver destinationResolver = new DestinationResolver("payload.abc", null, 10);
+		assertThatThrownBy(() -> destinationResolver.resolve(MessageBuilder.withPayload("abc").build()))
+				.isInstanceOf(ExpressionException.class);
+	}
+
+	@Test
+	public void testTemplate() {
+		DestinationResolver destinationResolver = new DestinationResolver(null, "orders/{region}/{orderId}/new", 10);
+		assertThat(destinationResolver.isDynamic()).isTrue();
+
+		Message<?> message = MessageBuilder.withPayload("abc")
+				.setHeader("region", "eu")
+				.setHeader("orderId", 123)
+				.build();
+		assertThat(destinationResolver.resolve(message).getName()).isEqualTo("orders/eu/123/new");
+		assertThat(destinationResolver.resolve(message)).isSameAs(destinationResolver.resolve(message));
+		assertThat(destinationResolver.getTopicCache().getHitCount()).isEqualTo(2);
+		assertThat(destinationResolver.getTopicCache().getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testTemplateWithoutPlaceholders() {
+		DestinationResolver destinationResolver = new DestinationResolver(null, "a/b/c", 10);
+		assertThat(destinationResolver.resolve(MessageBuilder.withPayload("abc").build()).getName())
+				.isEqualTo("a/b/c");
+	}
+
+	@Test
+	public void testTemplateMissingHeader() {
+		DestinationResolver destinationResolver = new DestinationResolver(null, "orders/{region}", 10);
+		assertThatThrownBy(() -> destinationResolver.resolve(MessageBuilder.withPayload("abc").build()))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("region");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"orders/{region", "orders/{}/abc"})
+	public void testFailInvalidTemplate(String template) {
+		assertThatThrownBy(() -> new DestinationResolver(null, template, 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testFailExpressionAndTemplate() {
+		assertThatThrownBy(() -> new DestinationResolver("headers.region", "orders/{region}", 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -5,15 +5,20 @@ import com.solace.spring.cloud.stream.binder.meter.SolaceMeterAccessor;
 import com.solace.spring.cloud.stream.binder.properties.SolaceProducerProperties;
 import com.solace.spring.cloud.stream.binder.util.CorrelationData;
 import com.solace.spring.cloud.stream.binder.util.ErrorChannelSendingCorrelationKey;
+import com.solace.spring.cloud.stream.binder.util.InFlightLimitExceededException;
 import com.solace.spring.cloud.stream.binder.util.JCSMPSessionProducerManager;
 import com.solace.spring.cloud.stream.binder.util.SolaceMessageHeaderErrorMessageStrategy;
+import com.solacesystems.jcsmp.BytesMessage;
+import com.solacesystems.jcsmp.DeliveryMode;
 import com.solacesystems.jcsmp.Destination;
 import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPSendMultipleEntry;
 import com.solacesystems.jcsmp.JCSMPSession;
 import com.solacesystems.jcsmp.JCSMPStreamingPublishCorrelatingEventHandler;
 import com.solacesystems.jcsmp.XMLMessage;
 import com.solacesystems.jcsmp.XMLMessageProducer;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.commons.lang3.RandomUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -24,17 +29,31 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.binder.BinderHeaders;
 import org.springframework.cloud.stream.binder.ExtendedProducerProperties;
 import org.springframework.cloud.stream.provisioning.ProducerDestination;
+import org.springframework.core.AttributeAccessor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.support.MessageBuilder;
 
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -49,6 +68,10 @@ public class JCSMPOutboundMessageHandlerTest {
 	private JCSMPStreamingPublishCorrelatingEventHandler pubEventHandler;
 	private ArgumentCaptor<XMLMessage> xmlMessageCaptor;
 	private ExtendedProducerProperties<SolaceProducerProperties> producerProperties;
+	private JCSMPSessionProducerManager producerManager;
+	private ProducerDestination dest;
+	private MessageChannel errChannel;
+	private SolaceMessageHeaderErrorMessageStrategy errorMessageStrategy;
 	@Mock private XMLMessageProducer messageProducer;
 	@Mock private SolaceMeterAccessor solaceMeterAccessor;
 
@@ -62,8 +85,10 @@ public class JCSMPOutboundMessageHandlerTest {
 				.forClass(JCSMPStreamingPublishCorrelatingEventHandler.class);
 		Mockito.when(session.getMessageProducer(pubEventHandlerCaptor.capture())).thenReturn(messageProducer);
 
-		ProducerDestination dest = Mockito.mock(ProducerDestination.class);
+		dest = Mockito.mock(ProducerDestination.class);
 		Mockito.when(dest.getName()).thenReturn("fake/topic");
+		this.errChannel = errChannel;
+		this.errorMessageStrategy = errorMessageStrategy;
 
 		producerProperties = new ExtendedProducerProperties<>(new SolaceProducerProperties());
 		producerProperties.populateBindingName(RandomStringUtils.randomAlphanumeric(100));
@@ -72,7 +97,7 @@ public class JCSMPOutboundMessageHandlerTest {
 				dest,
 				session,
 				errChannel,
-				new JCSMPSessionProducerManager(session),
+				producerManager = new JCSMPSessionProducerManager(session),
 				producerProperties,
 				solaceMeterAccessor
 		);
@@ -171,6 +196,493 @@ public class JCSMPOutboundMessageHandlerTest {
 				.recordMessage(Mockito.eq(producerProperties.getBindingName()), Mockito.any());
 	}
 
+	@Test
+	public void testChunkedPublish() throws Exception {
+		producerProperties.getExtension().setChunkSize(10);
+		byte[] payload = RandomUtils.nextBytes(25);
+		CorrelationData correlationData = new CorrelationData();
+		messageHandler.handleMessage(MessageBuilder.withPayload(payload)
+				.setHeader(SolaceBinderHeaders.CONFIRM_CORRELATION, correlationData)
+				.setHeader("test-header", "test-value")
+				.build());
+
+		Mockito.verify(messageProducer, Mockito.times(3))
+				.send(xmlMessageCaptor.capture(), Mockito.any(Destination.class));
+		List<XMLMessage> chunks = xmlMessageCaptor.getAllValues();
+		String chunkId = chunks.get(0).getProperties().getString(SolaceBinderHeaders.CHUNK_ID);
+		assertThat(chunkId).isNotEmpty();
+		ByteArrayOutputStream reassembled = new ByteArrayOutputStream();
+		for (int i = 0; i < chunks.size(); i++) {
+			XMLMessage chunk = chunks.get(i);
+			assertThat(chunk).isInstanceOf(BytesMessage.class);
+			assertThat(chunk.getProperties().getString(SolaceBinderHeaders.CHUNK_ID)).isEqualTo(chunkId);
+			assertThat(chunk.getProperties().getInteger(SolaceBinderHeaders.CHUNK_INDEX)).isEqualTo(i);
+			assertThat(chunk.getProperties().getInteger(SolaceBinderHeaders.CHUNK_COUNT)).isEqualTo(3);
+			assertThat(chunk.getProperties().getString("test-header")).isEqualTo("test-value");
+			assertThat(chunk.getCorrelationKey()).isSameAs(chunks.get(0).getCorrelationKey());
+			reassembled.write(((BytesMessage) chunk).getData());
+		}
+		assertThat(reassembled.toByteArray()).isEqualTo(payload);
+
+		pubEventHandler.responseReceivedEx(chunks.get(0).getCorrelationKey());
+		pubEventHandler.responseReceivedEx(chunks.get(1).getCorrelationKey());
+		assertThat(correlationData.getFuture()).isNotDone();
+		pubEventHandler.responseReceivedEx(chunks.get(2).getCorrelationKey());
+		correlationData.getFuture().get(100, TimeUnit.MILLISECONDS);
+	}
+
+	@ParameterizedTest(name = "[{index}] batchSize={0}")
+	@ValueSource(ints = {3, 60})
+	public void testBatchedPublish(int batchSize) throws Exception {
+		Mockito.when(messageProducer.sendMultiple(Mockito.any(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt()))
+				.thenAnswer(invocation -> invocation.getArgument(2));
+		restartWithBatching(batchSize, 60000);
+
+		List<CorrelationData> correlationDataList = new ArrayList<>();
+		for (int i = 0; i < batchSize; i++) {
+			CorrelationData correlationData = new CorrelationData();
+			correlationDataList.add(correlationData);
+			messageHandler.handleMessage(getMessage(correlationData));
+		}
+
+		ArgumentCaptor<JCSMPSendMultipleEntry[]> entriesCaptor = ArgumentCaptor.forClass(JCSMPSendMultipleEntry[].class);
+		// JCSMP only accepts up to 50 messages per call
+		Mockito.verify(messageProducer, Mockito.times((batchSize + 49) / 50))
+				.sendMultiple(entriesCaptor.capture(), Mockito.anyInt(),
+						Mockito.intThat(length -> length <= PublishBatcher.MAX_SEND_MULTIPLE_SIZE), Mockito.eq(0));
+		Mockito.verify(messageProducer, Mockito.never()).send(Mockito.any(XMLMessage.class), Mockito.any(Destination.class));
+		JCSMPSendMultipleEntry[] entries = entriesCaptor.getValue();
+		assertThat(entries).hasSize(batchSize);
+
+		for (int i = 0; i < batchSize; i++) {
+			assertThat(correlationDataList.get(i).getFuture()).isNotDone();
+			pubEventHandler.responseReceivedEx(entries[i].getMessage().getCorrelationKey());
+			correlationDataList.get(i).getFuture().get(100, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Test
+	public void testBatchedPublishLinger() throws Exception {
+		Mockito.when(messageProducer.sendMultiple(Mockito.any(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt()))
+				.thenAnswer(invocation -> invocation.getArgument(2));
+		restartWithBatching(10, 10);
+
+		messageHandler.handleMessage(getMessage(new CorrelationData()));
+		messageHandler.handleMessage(getMessage(new CorrelationData()));
+
+		Mockito.verify(messageProducer, Mockito.timeout(5000))
+				.sendMultiple(Mockito.any(), Mockito.eq(0), Mockito.eq(2), Mockito.eq(0));
+	}
+
+	@Test
+	public void testBatchedPublishLingerThreadStopped() throws Exception {
+		CompletableFuture<Thread> sendingThread = new CompletableFuture<>();
+		Mockito.when(messageProducer.sendMultiple(Mockito.any(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt()))
+				.thenAnswer(invocation -> {
+					sendingThread.complete(Thread.currentThread());
+					return invocation.getArgument(2);
+				});
+		restartWithBatching(10, 10);
+
+		messageHandler.handleMessage(getMessage(new CorrelationData()));
+		Thread lingerThread = sendingThread.get(5, TimeUnit.SECONDS);
+		assertThat(lingerThread).isNotSameAs(Thread.currentThread());
+		assertThat(lingerThread.isDaemon()).isTrue();
+
+		messageHandler.stop();
+		lingerThread.join(TimeUnit.SECONDS.toMillis(5));
+		assertThat(lingerThread.isAlive()).isFalse();
+	}
+
+	@Test
+	@Timeout(60)
+	public void testBatchedPublishAddWhileSending() throws Exception {
+		CountDownLatch sending = new CountDownLatch(1);
+		CountDownLatch continueSending = new CountDownLatch(1);
+		Mockito.when(messageProducer.sendMultiple(Mockito.any(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt()))
+				.thenAnswer(invocation -> {
+					sending.countDown();
+					continueSending.await();
+					return invocation.getArgument(2);
+				});
+		restartWithBatching(2, 60000);
+
+		Thread sender = new Thread(() -> {
+			messageHandler.handleMessage(getMessage(new CorrelationData()));
+			messageHandler.handleMessage(getMessage(new CorrelationData()));
+		});
+		sender.start();
+		try {
+			assertThat(sending.await(1, TimeUnit.MINUTES)).isTrue();
+			// Doesn't wait for the batch which is being sent
+			messageHandler.handleMessage(getMessage(new CorrelationData()));
+		} finally {
+			continueSending.countDown();
+			sender.join();
+		}
+
+		messageHandler.stop();
+		Mockito.verify(messageProducer).sendMultiple(Mockito.any(), Mockito.eq(0), Mockito.eq(2), Mockito.eq(0));
+		Mockito.verify(messageProducer).sendMultiple(Mockito.any(), Mockito.eq(0), Mockito.eq(1), Mockito.eq(0));
+	}
+
+	@Test
+	public void testBatchedPublishFlushOnStop() throws Exception {
+		Mockito.when(messageProducer.sendMultiple(Mockito.any(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt()))
+				.thenAnswer(invocation -> invocation.getArgument(2));
+		restartWithBatching(10, 60000);
+
+		messageHandler.handleMessage(getMessage(new CorrelationData()));
+		Mockito.verify(messageProducer, Mockito.never())
+				.sendMultiple(Mockito.any(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt());
+		messageHandler.stop();
+		Mockito.verify(messageProducer).sendMultiple(Mockito.any(), Mockito.eq(0), Mockito.eq(1), Mockito.eq(0));
+	}
+
+	@Test
+	public void testBatchedPublishFailure() throws Exception {
+		Mockito.when(messageProducer.sendMultiple(Mockito.any(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt()))
+				.thenThrow(new JCSMPException("ooooops"));
+		restartWithBatching(2, 60000);
+
+		CorrelationData correlationDataA = new CorrelationData();
+		CorrelationData correlationDataB = new CorrelationData();
+		messageHandler.handleMessage(getMessage(correlationDataA));
+		messageHandler.handleMessage(getMessage(correlationDataB));
+
+		for (CorrelationData correlationData : Arrays.asList(correlationDataA, correlationDataB)) {
+			assertThatThrownBy(() -> correlationData.getFuture().get(100, TimeUnit.MILLISECONDS))
+					.isInstanceOf(ExecutionException.class)
+					.getCause()
+					.isInstanceOf(MessagingException.class)
+					.getCause()
+					.isInstanceOf(JCSMPException.class)
+					.hasMessage("ooooops");
+		}
+	}
+
+	@Test
+	public void testInFlightCount() throws Exception {
+		assertThat(producerManager.getInFlightCount()).isEqualTo(0);
+
+		CorrelationData correlationData = new CorrelationData();
+		messageHandler.handleMessage(getMessage(correlationData));
+		assertThat(producerManager.getInFlightCount()).isEqualTo(1);
+		pubEventHandler.responseReceivedEx(getCorrelationKey());
+		assertThat(producerManager.getInFlightCount()).isEqualTo(0);
+
+		Mockito.doThrow(new JCSMPException("ooooops")).when(messageProducer)
+				.send(Mockito.any(XMLMessage.class), Mockito.any(Destination.class));
+		assertThrows(MessagingException.class, () -> messageHandler.handleMessage(getMessage(new CorrelationData())));
+		assertThat(producerManager.getInFlightCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void testPublisherSessionPoolByBinding() throws Exception {
+		List<JCSMPSessionProducerManager> producerManagers = new ArrayList<>();
+		List<XMLMessageProducer> producers = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			JCSMPSession session = Mockito.mock(JCSMPSession.class);
+			XMLMessageProducer producer = Mockito.mock(XMLMessageProducer.class);
+			Mockito.lenient().when(session.getMessageProducer(Mockito.any())).thenReturn(producer);
+			producerManagers.add(new JCSMPSessionProducerManager(session));
+			producers.add(producer);
+		}
+
+		JCSMPOutboundMessageHandler poolMessageHandler = new JCSMPOutboundMessageHandler(dest, errChannel,
+				producerManagers, producerProperties, null);
+		poolMessageHandler.start();
+		try {
+			for (int i = 0; i < 10; i++) {
+				poolMessageHandler.handleMessage(MessageBuilder.withPayload("the payload")
+						.setHeader("key", "key-" + i)
+						.build());
+			}
+		} finally {
+			poolMessageHandler.stop();
+		}
+
+		// Without a key expression, every message of the binding goes through the same session
+		int expectedIndex = Math.floorMod(producerProperties.getBindingName().hashCode(), producers.size());
+		for (int i = 0; i < producers.size(); i++) {
+			Mockito.verify(producers.get(i), Mockito.times(i == expectedIndex ? 10 : 0))
+					.send(Mockito.any(XMLMessage.class), Mockito.any(Destination.class));
+		}
+	}
+
+	@Test
+	public void testPublisherSessionPoolByKey() throws Exception {
+		List<JCSMPSessionProducerManager> producerManagers = new ArrayList<>();
+		Map<String, Set<Integer>> producerIndicesByKey = new HashMap<>();
+		for (int i = 0; i < 3; i++) {
+			int producerIndex = i;
+			JCSMPSession session = Mockito.mock(JCSMPSession.class);
+			XMLMessageProducer producer = Mockito.mock(XMLMessageProducer.class);
+			Mockito.when(session.getMessageProducer(Mockito.any())).thenReturn(producer);
+			Mockito.lenient().doAnswer(invocation -> {
+				ErrorChannelSendingCorrelationKey key = (ErrorChannelSendingCorrelationKey) invocation
+						.getArgument(0, XMLMessage.class).getCorrelationKey();
+				producerIndicesByKey.computeIfAbsent(key.getInputMessage().getHeaders().get("key", String.class),
+						k -> new HashSet<>()).add(producerIndex);
+				return null;
+			}).when(producer).send(Mockito.any(XMLMessage.class), Mockito.any(Destination.class));
+			producerManagers.add(new JCSMPSessionProducerManager(session));
+		}
+
+		producerProperties.getExtension().setPublisherSessionKeyExpression("headers.key");
+		JCSMPOutboundMessageHandler poolMessageHandler = new JCSMPOutboundMessageHandler(dest, errChannel,
+				producerManagers, producerProperties, null);
+		poolMessageHandler.start();
+		try {
+			for (int repeat = 0; repeat < 3; repeat++) {
+				for (int i = 0; i < 30; i++) {
+					poolMessageHandler.handleMessage(MessageBuilder.withPayload("the payload")
+							.setHeader("key", "key-" + i)
+							.build());
+				}
+			}
+		} finally {
+			poolMessageHandler.stop();
+		}
+
+		assertThat(producerIndicesByKey).hasSize(30);
+		assertThat(producerIndicesByKey.values()).allSatisfy(indices -> assertThat(indices).hasSize(1));
+		assertThat(producerIndicesByKey.values().stream().flatMap(Set::stream).distinct().count())
+				.as("Expected keys to be spread across sessions")
+				.isGreaterThan(1);
+	}
+
+	@Test
+	public void testDestinationTemplate() throws Exception {
+		messageHandler.stop();
+		Mockito.verify(solaceMeterAccessor).unregisterDestinationCache(producerProperties.getBindingName());
+		Mockito.clearInvocations(solaceMeterAccessor);
+		producerProperties.getExtension().setDestinationTemplate("orders/{region}");
+		JCSMPOutboundMessageHandler templateMessageHandler = new JCSMPOutboundMessageHandler(dest, errChannel,
+				Collections.singletonList(producerManager), producerProperties, solaceMeterAccessor);
+		templateMessageHandler.setErrorMessageStrategy(errorMessageStrategy);
+		templateMessageHandler.start();
+		try {
+			ArgumentCaptor<Destination> destinationCaptor = ArgumentCaptor.forClass(Destination.class);
+			templateMessageHandler.handleMessage(MessageBuilder.withPayload("the payload")
+					.setHeader("region", "eu")
+					.build());
+			templateMessageHandler.handleMessage(MessageBuilder.withPayload("the payload")
+					.setHeader("region", "eu")
+					.build());
+			// The target destination header takes precedence
+			templateMessageHandler.handleMessage(MessageBuilder.withPayload("the payload")
+					.setHeader("region", "eu")
+					.setHeader(BinderHeaders.TARGET_DESTINATION, "some/other/topic")
+					.build());
+			Mockito.verify(messageProducer, Mockito.times(3))
+					.send(Mockito.any(XMLMessage.class), destinationCaptor.capture());
+			assertThat(destinationCaptor.getAllValues())
+					.extracting(Destination::getName)
+					.containsExactly("orders/eu", "orders/eu", "some/other/topic");
+			assertThat(destinationCaptor.getAllValues().get(1)).isSameAs(destinationCaptor.getAllValues().get(0));
+
+			Mockito.verify(solaceMeterAccessor).registerDestinationCache(Mockito.eq(producerProperties.getBindingName()),
+					Mockito.any(), Mockito.any(), Mockito.any());
+
+			assertThatThrownBy(() -> templateMessageHandler.handleMessage(MessageBuilder.withPayload("abc").build()))
+					.isInstanceOf(MessagingException.class)
+					.hasMessageContaining("Unable to resolve destination");
+		} finally {
+			templateMessageHandler.stop();
+		}
+		Mockito.verify(solaceMeterAccessor).unregisterDestinationCache(producerProperties.getBindingName());
+	}
+
+	@Test
+	public void testMaxInFlightReject() throws Exception {
+		restartWithMaxInFlight(2, SolaceProducerProperties.InFlightLimitPolicy.REJECT, 0);
+
+		messageHandler.handleMessage(getMessage(new CorrelationData()));
+		messageHandler.handleMessage(getMessage(new CorrelationData()));
+		assertThatThrownBy(() -> messageHandler.handleMessage(getMessage(new CorrelationData())))
+				.isInstanceOf(MessagingException.class)
+				.getCause()
+				.isInstanceOf(InFlightLimitExceededException.class);
+
+		Mockito.verify(messageProducer, Mockito.times(2))
+				.send(xmlMessageCaptor.capture(), Mockito.any(Destination.class));
+		pubEventHandler.responseReceivedEx(xmlMessageCaptor.getAllValues().get(0).getCorrelationKey());
+		messageHandler.handleMessage(getMessage(new CorrelationData()));
+		Mockito.verify(messageProducer, Mockito.times(3)).send(Mockito.any(XMLMessage.class), Mockito.any(Destination.class));
+	}
+
+	@Test
+	public void testMaxInFlightPark() throws Exception {
+		restartWithMaxInFlight(1, SolaceProducerProperties.InFlightLimitPolicy.PARK, 5000);
+
+		messageHandler.handleMessage(getMessage(new CorrelationData()));
+		ErrorChannelSendingCorrelationKey firstKey = getCorrelationKey();
+
+		CompletableFuture<Void> parkedSend = CompletableFuture.runAsync(() ->
+				messageHandler.handleMessage(getMessage(new CorrelationData())));
+		Thread.sleep(200);
+		assertThat(parkedSend).isNotDone();
+
+		pubEventHandler.handleErrorEx(firstKey, new JCSMPException("ooooops"), 1111);
+		parkedSend.get(5, TimeUnit.SECONDS);
+		Mockito.verify(messageProducer, Mockito.times(2)).send(Mockito.any(XMLMessage.class), Mockito.any(Destination.class));
+	}
+
+	@Test
+	public void testMaxInFlightParkTimeout() {
+		restartWithMaxInFlight(1, SolaceProducerProperties.InFlightLimitPolicy.PARK, 10);
+
+		messageHandler.handleMessage(getMessage(new CorrelationData()));
+		assertThatThrownBy(() -> messageHandler.handleMessage(getMessage(new CorrelationData())))
+				.isInstanceOf(MessagingException.class)
+				.getCause()
+				.isInstanceOf(InFlightLimitExceededException.class);
+	}
+
+	@Test
+	public void testMaxInFlightReleasedOnSendFailure() throws Exception {
+		restartWithMaxInFlight(1, SolaceProducerProperties.InFlightLimitPolicy.REJECT, 0);
+		Mockito.doThrow(new JCSMPException("ooooops"))
+				.doNothing()
+				.when(messageProducer).send(Mockito.any(XMLMessage.class), Mockito.any(Destination.class));
+
+		assertThatThrownBy(() -> messageHandler.handleMessage(getMessage(new CorrelationData())))
+				.isInstanceOf(MessagingException.class)
+				.getCause()
+				.isInstanceOf(JCSMPException.class);
+		messageHandler.handleMessage(getMessage(new CorrelationData()));
+	}
+
+	@Test
+	public void testSendAsync() throws Exception {
+		CompletableFuture<Void> future = messageHandler.sendAsync(MessageBuilder.withPayload("the payload").build());
+		assertThat(future).isNotDone();
+		pubEventHandler.responseReceivedEx(getCorrelationKey());
+		future.get(100, TimeUnit.MILLISECONDS);
+	}
+
+	@Test
+	public void testSendAsyncExistingCorrelationData() throws Exception {
+		CorrelationData correlationData = new CorrelationData();
+		CompletableFuture<Void> future = messageHandler.sendAsync(getMessage(correlationData));
+		pubEventHandler.handleErrorEx(getCorrelationKey(), new JCSMPException("ooooops"), 1111);
+		assertThatThrownBy(() -> future.get(100, TimeUnit.MILLISECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.getCause()
+				.isInstanceOf(MessagingException.class);
+		assertThat(correlationData.getFuture().isDone()).isTrue();
+	}
+
+	@Test
+	public void testSendAsyncFailure() throws Exception {
+		restartWithMaxInFlight(1, SolaceProducerProperties.InFlightLimitPolicy.REJECT, 0);
+		CompletableFuture<Void> future = messageHandler.sendAsync(MessageBuilder.withPayload("the payload").build());
+		CompletableFuture<Void> rejectedFuture = messageHandler.sendAsync(
+				MessageBuilder.withPayload("the payload").build());
+
+		assertThat(future).isNotDone();
+		assertThatThrownBy(() -> rejectedFuture.get(100, TimeUnit.MILLISECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.getCause()
+				.isInstanceOf(MessagingException.class)
+				.getCause()
+				.isInstanceOf(InFlightLimitExceededException.class);
+	}
+
+	@Test
+	public void testDirectDeliveryMode() throws Exception {
+		restartWithMaxInFlight(1, SolaceProducerProperties.InFlightLimitPolicy.REJECT, 0);
+		producerProperties.getExtension().setDeliveryMode(DeliveryMode.DIRECT);
+
+		List<CorrelationData> correlations = Arrays.asList(new CorrelationData(), new CorrelationData());
+		for (CorrelationData correlationData : correlations) {
+			messageHandler.handleMessage(getMessage(correlationData));
+			correlationData.getFuture().get(100, TimeUnit.MILLISECONDS);
+		}
+		assertThat(producerManager.getInFlightCount()).isEqualTo(0);
+
+		Mockito.verify(messageProducer, Mockito.times(2))
+				.send(xmlMessageCaptor.capture(), Mockito.any(Destination.class));
+		assertThat(xmlMessageCaptor.getAllValues()).allSatisfy(xmlMessage -> {
+			assertThat(xmlMessage.getDeliveryMode()).isEqualTo(DeliveryMode.DIRECT);
+			assertThat(xmlMessage.getCorrelationKey()).isNull();
+		});
+	}
+
+	@Test
+	public void testDeliveryModeHeader() throws Exception {
+		CorrelationData correlationData = new CorrelationData();
+		messageHandler.handleMessage(MessageBuilder.fromMessage(getMessage(correlationData))
+				.setHeader(SolaceBinderHeaders.DELIVERY_MODE, DeliveryMode.DIRECT)
+				.build());
+		correlationData.getFuture().get(100, TimeUnit.MILLISECONDS);
+		assertThat(getCorrelationKey()).isNull();
+		assertThat(xmlMessageCaptor.getValue().getDeliveryMode()).isEqualTo(DeliveryMode.DIRECT);
+		assertThat(xmlMessageCaptor.getValue().getProperties().containsKey(SolaceBinderHeaders.DELIVERY_MODE))
+				.isFalse();
+
+		Mockito.clearInvocations(messageProducer);
+		messageHandler.handleMessage(getMessage(new CorrelationData()));
+		assertThat(getCorrelationKey()).isNotNull();
+		assertThat(xmlMessageCaptor.getValue().getDeliveryMode()).isEqualTo(DeliveryMode.PERSISTENT);
+	}
+
+	@Test
+	public void testDirectChunkedPublish() throws Exception {
+		producerProperties.getExtension().setDeliveryMode(DeliveryMode.DIRECT);
+		producerProperties.getExtension().setChunkSize(10);
+		CorrelationData correlationData = new CorrelationData();
+		messageHandler.handleMessage(MessageBuilder.withPayload(RandomUtils.nextBytes(25))
+				.setHeader(SolaceBinderHeaders.CONFIRM_CORRELATION, correlationData)
+				.build());
+		correlationData.getFuture().get(100, TimeUnit.MILLISECONDS);
+
+		Mockito.verify(messageProducer, Mockito.times(3))
+				.send(xmlMessageCaptor.capture(), Mockito.any(Destination.class));
+		assertThat(xmlMessageCaptor.getAllValues()).allSatisfy(chunk -> {
+			assertThat(chunk.getDeliveryMode()).isEqualTo(DeliveryMode.DIRECT);
+			assertThat(chunk.getCorrelationKey()).isNull();
+		});
+		assertThat(producerManager.getInFlightCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void testDirectSendFailure() throws Exception {
+		producerProperties.getExtension().setDeliveryMode(DeliveryMode.DIRECT);
+		JCSMPException exception = new JCSMPException("ooooops");
+		Mockito.doThrow(exception).when(messageProducer)
+				.send(xmlMessageCaptor.capture(), Mockito.any(Destination.class));
+
+		CorrelationData correlationData = new CorrelationData();
+		assertThatThrownBy(() -> messageHandler.handleMessage(getMessage(correlationData)))
+				.isInstanceOf(MessagingException.class)
+				.hasCause(exception);
+		assertThat(correlationData.getFuture()).isNotDone();
+
+		ArgumentCaptor<AttributeAccessor> attributesCaptor = ArgumentCaptor.forClass(AttributeAccessor.class);
+		Mockito.verify(errorMessageStrategy).buildErrorMessage(Mockito.any(), attributesCaptor.capture());
+		assertThat(attributesCaptor.getValue()
+				.getAttribute(SolaceMessageHeaderErrorMessageStrategy.ATTR_SOLACE_RAW_MESSAGE))
+				.isSameAs(xmlMessageCaptor.getValue());
+	}
+
+	private void restartWithMaxInFlight(int maxInFlight, SolaceProducerProperties.InFlightLimitPolicy policy,
+										long waitTime) {
+		messageHandler.stop();
+		producerProperties.getExtension().setMaxInFlight(maxInFlight);
+		producerProperties.getExtension().setInFlightLimitPolicy(policy);
+		producerProperties.getExtension().setMaxInFlightWaitTime(waitTime);
+		messageHandler.start();
+	}
+
+	private void restartWithBatching(int batchSize, long lingerTime) {
+		messageHandler.stop();
+		producerProperties.getExtension().setPublishBatchSize(batchSize);
+		producerProperties.getExtension().setPublishBatchLingerTime(lingerTime);
+		messageHandler.start();
+	}
+
 	Message<String> getMessage(CorrelationData correlationData) {
 		return MessageBuilder.withPayload("the payload")
 				.setHeader(SolaceBinderHeaders.CONFIRM_CORRELATION, correlationData)
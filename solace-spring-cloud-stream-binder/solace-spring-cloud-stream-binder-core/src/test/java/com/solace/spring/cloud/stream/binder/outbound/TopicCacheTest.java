@@ -0,0 +1,40 @@
+package com.solace.spring.cloud.stream.binder.outbound;
+
+import com.solacesystems.jcsmp.Topic;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TopicCacheTest {
+	@Test
+	public void testGet() {
+		TopicCache topicCache = new TopicCache(10);
+		Topic topic = topicCache.get("a/b/c");
+		assertThat(topic.getName()).isEqualTo("a/b/c");
+		assertThat(topicCache.get("a/b/c")).isSameAs(topic);
+		assertThat(topicCache.getHitCount()).isEqualTo(1);
+		assertThat(topicCache.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testClearWhenFull() {
+		TopicCache topicCache = new TopicCache(2);
+		Topic topicA = topicCache.get("a");
+		topicCache.get("b");
+		assertThat(topicCache.get("a")).isSameAs(topicA);
+		assertThat(topicCache.size()).isEqualTo(2);
+
+		topicCache.get("c"); // clears a and b
+		assertThat(topicCache.size()).isEqualTo(1);
+		assertThat(topicCache.get("a")).isNotSameAs(topicA);
+		assertThat(topicCache.size()).isEqualTo(2);
+		assertThat(topicCache.getHitCount()).isEqualTo(1);
+		assertThat(topicCache.getMissCount()).isEqualTo(4);
+	}
+
+	@Test
+	public void testFailInvalidMaxSize() {
+		assertThatThrownBy(() -> new TopicCache(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
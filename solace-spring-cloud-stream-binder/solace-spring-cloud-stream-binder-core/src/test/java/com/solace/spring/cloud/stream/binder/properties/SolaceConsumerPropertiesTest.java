@@ -81,4 +81,82 @@ public class SolaceConsumerPropertiesTest {
 		assertThrows(IllegalArgumentException.class, () -> new SolaceConsumerProperties()
 				.setFlowRebindBackOffMultiplier(multiplier));
 	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {-1})
+	public void testFailSetDispatchWorkers(int dispatchWorkers) {
+		assertThrows(IllegalArgumentException.class, () -> new SolaceConsumerProperties()
+				.setDispatchWorkers(dispatchWorkers));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {-1, 0})
+	public void testFailSetDispatchBufferSize(int dispatchBufferSize) {
+		assertThrows(IllegalArgumentException.class, () -> new SolaceConsumerProperties()
+				.setDispatchBufferSize(dispatchBufferSize));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {-1})
+	public void testFailSetConcurrencyAutoscaleMax(int concurrencyAutoscaleMax) {
+		assertThrows(IllegalArgumentException.class, () -> new SolaceConsumerProperties()
+				.setConcurrencyAutoscaleMax(concurrencyAutoscaleMax));
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = {-1, 0})
+	public void testFailSetConcurrencyAutoscaleInterval(long concurrencyAutoscaleInterval) {
+		assertThrows(IllegalArgumentException.class, () -> new SolaceConsumerProperties()
+				.setConcurrencyAutoscaleInterval(concurrencyAutoscaleInterval));
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = {-1})
+	public void testFailSetConcurrencyAutoscaleCooldown(long concurrencyAutoscaleCooldown) {
+		assertThrows(IllegalArgumentException.class, () -> new SolaceConsumerProperties()
+				.setConcurrencyAutoscaleCooldown(concurrencyAutoscaleCooldown));
+	}
+
+	@ParameterizedTest
+	@ValueSource(doubles = {-0.5, 0, 1.5})
+	public void testFailSetConcurrencyAutoscaleUpThreshold(double concurrencyAutoscaleUpThreshold) {
+		assertThrows(IllegalArgumentException.class, () -> new SolaceConsumerProperties()
+				.setConcurrencyAutoscaleUpThreshold(concurrencyAutoscaleUpThreshold));
+	}
+
+	@ParameterizedTest
+	@ValueSource(doubles = {-0.5, 1})
+	public void testFailSetConcurrencyAutoscaleDownThreshold(double concurrencyAutoscaleDownThreshold) {
+		assertThrows(IllegalArgumentException.class, () -> new SolaceConsumerProperties()
+				.setConcurrencyAutoscaleDownThreshold(concurrencyAutoscaleDownThreshold));
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = {-1})
+	public void testFailSetBatchMaxBytes(long batchMaxBytes) {
+		assertThrows(IllegalArgumentException.class, () -> new SolaceConsumerProperties()
+				.setBatchMaxBytes(batchMaxBytes));
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = {-1})
+	public void testFailSetBatchTargetLatency(long batchTargetLatency) {
+		assertThrows(IllegalArgumentException.class, () -> new SolaceConsumerProperties()
+				.setBatchTargetLatency(batchTargetLatency));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 1, 1024})
+	public void testSetDirectBufferSize(int directBufferSize) {
+		SolaceConsumerProperties consumerProperties = new SolaceConsumerProperties();
+		consumerProperties.setDirectBufferSize(directBufferSize);
+		assertEquals(directBufferSize, consumerProperties.getDirectBufferSize());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {-1})
+	public void testFailSetDirectBufferSize(int directBufferSize) {
+		assertThrows(IllegalArgumentException.class, () -> new SolaceConsumerProperties()
+				.setDirectBufferSize(directBufferSize));
+	}
 }
@@ -0,0 +1,79 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.SerializationUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ColumnarBatchHeadersTest {
+	@Test
+	public void testGetHeader() {
+		ColumnarBatchHeaders headers = new ColumnarBatchHeaders(3);
+		for (int i = 0; i < 3; i++) {
+			headers.setHeader(i, "constant", "abc");
+			headers.setHeader(i, "variable", i);
+		}
+		headers.setHeader(1, "sparse", true);
+
+		assertThat(headers).hasSize(3);
+		assertThat(headers.getHeaderNames()).containsExactly("constant", "variable", "sparse");
+		assertThat(headers.getColumn("constant")).containsExactly("abc", "abc", "abc");
+		assertThat(headers.getColumn("variable")).containsExactly(0, 1, 2);
+		assertThat(headers.getColumn("sparse")).containsExactly(null, true, null);
+		assertThat(headers.getColumn("abc")).containsExactly(null, null, null);
+		assertThat(headers.getHeader(2, "variable")).isEqualTo(2);
+		assertThat(headers.getHeader(2, "sparse")).isNull();
+	}
+
+	@Test
+	public void testConstantColumnGap() {
+		ColumnarBatchHeaders headers = new ColumnarBatchHeaders(3);
+		headers.setHeader(0, "header", "abc");
+		headers.setHeader(2, "header", "abc");
+		assertThat(headers.getColumn("header")).containsExactly("abc", null, "abc");
+	}
+
+	@Test
+	public void testSetHeaderIfAbsent() {
+		ColumnarBatchHeaders headers = new ColumnarBatchHeaders(2);
+		headers.setHeader(0, "header", "abc");
+		headers.setHeaderIfAbsent(0, "header", "def");
+		headers.setHeaderIfAbsent(1, "header", "def");
+		assertThat(headers.getColumn("header")).containsExactly("abc", "def");
+	}
+
+	@Test
+	public void testMapView() {
+		ColumnarBatchHeaders headers = new ColumnarBatchHeaders(2);
+		headers.setHeader(0, "a", "abc");
+		headers.setHeader(0, "b", 1);
+		headers.setHeader(1, "a", "abc");
+
+		Map<String, Object> expected = new HashMap<>();
+		expected.put("a", "abc");
+		expected.put("b", 1);
+		assertThat(headers.get(0))
+				.isEqualTo(expected)
+				.hasSize(2)
+				.containsEntry("b", 1);
+		assertThat(headers.get(1))
+				.containsOnlyKeys("a")
+				.doesNotContainKey("b");
+		assertThat(headers.get(1).hashCode()).isEqualTo(new HashMap<>(headers.get(1)).hashCode());
+		assertThatThrownBy(() -> headers.get(0).put("c", 2)).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> headers.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Test
+	public void testSerializable() {
+		ColumnarBatchHeaders headers = new ColumnarBatchHeaders(2);
+		headers.setHeader(0, "a", "abc");
+		headers.setHeader(1, "a", "def");
+		Object deserialized = SerializationUtils.deserialize(SerializationUtils.serialize(headers));
+		assertThat(deserialized).isInstanceOf(ColumnarBatchHeaders.class).isEqualTo(headers);
+	}
+}
@@ -0,0 +1,81 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompressionCodecsTest {
+	private static final byte[] COMPRESSIBLE_DATA = String.join(",", Collections.nCopies(100, "{\"abc\": 123}"))
+			.getBytes(StandardCharsets.UTF_8);
+
+	@ParameterizedTest
+	@ValueSource(strings = {CompressionCodecs.GZIP_NAME, CompressionCodecs.DEFLATE_NAME})
+	public void testRoundTrip(String compressionCodecName) throws Exception {
+		CompressionCodec compressionCodec = CompressionCodecs.getRequiredByName(compressionCodecName);
+		assertThat(compressionCodec.getName()).isEqualTo(compressionCodecName);
+
+		byte[] compressed = compressionCodec.compress(COMPRESSIBLE_DATA);
+		assertThat(compressed.length).isLessThan(COMPRESSIBLE_DATA.length);
+		assertThat(compressionCodec.decompress(compressed)).isEqualTo(COMPRESSIBLE_DATA);
+
+		byte[] random = RandomUtils.nextBytes(1000);
+		assertThat(compressionCodec.decompress(compressionCodec.compress(random))).isEqualTo(random);
+		assertThat(compressionCodec.decompress(compressionCodec.compress(new byte[0]))).isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {CompressionCodecs.GZIP_NAME, CompressionCodecs.DEFLATE_NAME})
+	public void testFailDecompressInvalidData(String compressionCodecName) {
+		CompressionCodec compressionCodec = CompressionCodecs.getRequiredByName(compressionCodecName);
+		assertThatThrownBy(() -> compressionCodec.decompress(new byte[]{1, 2, 3, 4, 5}))
+				.isInstanceOf(Exception.class);
+	}
+
+	@Test
+	public void testPayloadCompressor() throws Exception {
+		List<int[]> compressions = new ArrayList<>();
+		PayloadCompressor payloadCompressor = new PayloadCompressor(CompressionCodecs.GZIP, 100,
+				(uncompressedSize, compressedSize, nanos) -> compressions.add(new int[]{uncompressedSize, compressedSize}));
+
+		assertThat(payloadCompressor.compress(new byte[99])).isNull();
+		assertThat(payloadCompressor.compressText("abc")).isNull();
+		assertThat(compressions).isEmpty();
+
+		byte[] compressed = payloadCompressor.compress(COMPRESSIBLE_DATA);
+		assertThat(compressed).isNotNull();
+		assertThat(CompressionCodecs.GZIP.decompress(compressed)).isEqualTo(COMPRESSIBLE_DATA);
+		assertThat(compressions).hasSize(1)
+				.first()
+				.isEqualTo(new int[]{COMPRESSIBLE_DATA.length, compressed.length});
+
+		// Incompressible data isn't worth compressing
+		assertThat(payloadCompressor.compress(RandomUtils.nextBytes(100))).isNull();
+		assertThat(compressions).hasSize(2);
+	}
+
+	@Test
+	public void testFailPayloadCompressorNegativeThreshold() {
+		assertThatThrownBy(() -> new PayloadCompressor(CompressionCodecs.GZIP, -1, null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testGetByName() {
+		assertThat(CompressionCodecs.getByName(CompressionCodecs.GZIP_NAME)).isSameAs(CompressionCodecs.GZIP);
+		assertThat(CompressionCodecs.getByName(CompressionCodecs.DEFLATE_NAME)).isSameAs(CompressionCodecs.DEFLATE);
+		assertThat(CompressionCodecs.getByName("abc")).isNull();
+		assertThat(CompressionCodecs.getByName(null)).isNull();
+		assertThatThrownBy(() -> CompressionCodecs.getRequiredByName("abc"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("abc");
+	}
+}
@@ -13,6 +13,8 @@ import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.support.ErrorMessage;
 import org.springframework.messaging.support.MessageBuilder;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ErrorChannelSendingCorrelationKeyTest {
@@ -75,4 +77,72 @@ public class ErrorChannelSendingCorrelationKeyTest {
 
 		key.send("some failure", new RuntimeException("test"));
 	}
+
+	@Test
+	public void testReleaseRawMessage() {
+		XMLMessagePool messagePool = new XMLMessagePool(1);
+		TextMessage rawMessage = messagePool.acquire(TextMessage.class);
+		ErrorChannelSendingCorrelationKey key = new ErrorChannelSendingCorrelationKey(
+				MessageBuilder.withPayload("test").build(), null, errorMessageStrategy);
+		key.setRawMessage(rawMessage);
+		key.setMessagePool(messagePool);
+
+		key.releaseRawMessage();
+		assertThat(key.getRawMessage()).isNull();
+		assertThat(messagePool.acquire(TextMessage.class)).isSameAs(rawMessage);
+	}
+
+	@SuppressWarnings("ThrowableNotThrown")
+	@Test
+	public void testNoReleaseRawMessageAfterSendingToErrorChannel() {
+		XMLMessagePool messagePool = new XMLMessagePool(1);
+		TextMessage rawMessage = messagePool.acquire(TextMessage.class);
+		DirectChannel errorChannel = new DirectChannel();
+		errorChannel.subscribe(msg -> {});
+		ErrorChannelSendingCorrelationKey key = new ErrorChannelSendingCorrelationKey(
+				MessageBuilder.withPayload("test").build(), errorChannel, errorMessageStrategy);
+		key.setRawMessage(rawMessage);
+		key.setMessagePool(messagePool);
+
+		key.send("some failure", new RuntimeException("test"));
+		key.releaseRawMessage();
+		assertThat(key.getRawMessage()).isSameAs(rawMessage);
+		assertThat(messagePool.acquire(TextMessage.class)).isNotSameAs(rawMessage);
+	}
+
+	@Test
+	public void testExpectedResponses() {
+		ErrorChannelSendingCorrelationKey key = new ErrorChannelSendingCorrelationKey(
+				MessageBuilder.withPayload("test").build(), null, errorMessageStrategy);
+		key.setExpectedResponses(3);
+		assertThat(key.acknowledgeResponse()).isFalse();
+		assertThat(key.acknowledgeResponse()).isFalse();
+		assertThat(key.acknowledgeResponse()).isTrue();
+	}
+
+	@Test
+	public void testExpectedResponsesWithFailure() {
+		ErrorChannelSendingCorrelationKey key = new ErrorChannelSendingCorrelationKey(
+				MessageBuilder.withPayload("test").build(), null, errorMessageStrategy);
+		key.setExpectedResponses(3);
+		assertThat(key.acknowledgeResponse()).isFalse();
+		assertThat(key.markFailed()).isTrue();
+		assertThat(key.markFailed()).isFalse();
+		assertThat(key.acknowledgeResponse()).isFalse();
+	}
+
+	@Test
+	public void testSettle() {
+		Message<?> message = MessageBuilder.withPayload("test").build();
+		ErrorChannelSendingCorrelationKey key = new ErrorChannelSendingCorrelationKey(message, null,
+				errorMessageStrategy);
+		key.settle(); // no listener
+
+		key = new ErrorChannelSendingCorrelationKey(message, null, errorMessageStrategy);
+		AtomicInteger settleCount = new AtomicInteger();
+		key.setSettleListener(settleCount::incrementAndGet);
+		key.settle();
+		key.settle();
+		assertThat(settleCount).hasValue(1);
+	}
 }
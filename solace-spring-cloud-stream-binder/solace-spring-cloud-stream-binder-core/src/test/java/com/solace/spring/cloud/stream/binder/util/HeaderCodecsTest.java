@@ -0,0 +1,110 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import com.solace.spring.cloud.stream.binder.test.util.SerializableFoo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.SerializationUtils;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HeaderCodecsTest {
+	private static final List<Serializable> TYPICAL_HEADERS = Arrays.asList(
+			UUID.randomUUID(),
+			new MimeType("application", "json", StandardCharsets.UTF_8),
+			MimeTypeUtils.TEXT_PLAIN,
+			Instant.now(),
+			Duration.ofMillis(1500),
+			new Date(),
+			new BigDecimal("-12345.6789"),
+			new BigInteger("123456789012345678901234567890"));
+
+	@ParameterizedTest
+	@ValueSource(strings = {HeaderCodecs.BASE64_NAME, HeaderCodecs.BINARY_NAME, HeaderCodecs.COMPACT_NAME})
+	public void testRoundTrip(String headerCodecName) throws Exception {
+		HeaderCodec headerCodec = HeaderCodecs.getRequiredByName(headerCodecName);
+		assertThat(headerCodec.getName()).isEqualTo(headerCodecName);
+		for (Serializable value : TYPICAL_HEADERS) {
+			assertThat(headerCodec.decode(headerCodec.encode(value))).isEqualTo(value);
+		}
+		SerializableFoo foo = new SerializableFoo("abc123", "HOOPLA!");
+		assertThat(headerCodec.decode(headerCodec.encode(foo))).isEqualTo(foo);
+	}
+
+	@Test
+	public void testBase64() throws Exception {
+		UUID value = UUID.randomUUID();
+		Object encoded = HeaderCodecs.BASE64.encode(value);
+		assertThat(encoded).isInstanceOf(String.class);
+		assertThat(SerializationUtils.deserialize(Base64.getDecoder().decode((String) encoded))).isEqualTo(value);
+	}
+
+	@Test
+	public void testBinary() throws Exception {
+		UUID value = UUID.randomUUID();
+		Object encoded = HeaderCodecs.BINARY.encode(value);
+		assertThat(encoded).isInstanceOf(byte[].class);
+		assertThat(SerializationUtils.deserialize((byte[]) encoded)).isEqualTo(value);
+	}
+
+	@Test
+	public void testCompactIsSmallerForTypicalHeaders() throws Exception {
+		for (Serializable value : TYPICAL_HEADERS) {
+			int compactLength = ((byte[]) HeaderCodecs.COMPACT.encode(value)).length;
+			int binaryLength = ((byte[]) HeaderCodecs.BINARY.encode(value)).length;
+			int base64Length = ((String) HeaderCodecs.BASE64.encode(value)).length();
+			assertThat(compactLength).as("Compact encoding of %s", value.getClass())
+					.isLessThan(binaryLength)
+					.isLessThan(base64Length);
+		}
+	}
+
+	@Test
+	public void testCompactFallsBackToJavaSerializationForSubclasses() throws Exception {
+		Timestamp value = new Timestamp(System.currentTimeMillis());
+		value.setNanos(123456789);
+		byte[] encoded = (byte[]) HeaderCodecs.COMPACT.encode(value);
+		assertThat(encoded[0]).isEqualTo(CompactHeaderCodec.JAVA_SERIALIZED);
+		assertThat(HeaderCodecs.COMPACT.decode(encoded)).isEqualTo(value);
+	}
+
+	@Test
+	public void testCompactFailUnknownType() {
+		assertThatThrownBy(() -> HeaderCodecs.COMPACT.decode(new byte[]{Byte.MAX_VALUE}))
+				.hasMessageContaining("Unknown encoded header type");
+	}
+
+	@Test
+	public void testFailBinaryDecodeString() {
+		assertThatThrownBy(() -> HeaderCodecs.BINARY.decode("abc"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testGetByName() {
+		assertThat(HeaderCodecs.getByName(HeaderCodecs.BASE64_NAME)).isSameAs(HeaderCodecs.BASE64);
+		assertThat(HeaderCodecs.getByName(HeaderCodecs.BINARY_NAME)).isSameAs(HeaderCodecs.BINARY);
+		assertThat(HeaderCodecs.getByName(HeaderCodecs.COMPACT_NAME)).isSameAs(HeaderCodecs.COMPACT);
+		assertThat(HeaderCodecs.getByName("abc")).isNull();
+		assertThat(HeaderCodecs.getByName(null)).isNull();
+		assertThatThrownBy(() -> HeaderCodecs.getRequiredByName("abc"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("abc");
+	}
+}
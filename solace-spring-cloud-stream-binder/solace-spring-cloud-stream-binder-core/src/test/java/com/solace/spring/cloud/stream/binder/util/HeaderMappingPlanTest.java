@@ -0,0 +1,82 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import com.solace.spring.cloud.stream.binder.messaging.SolaceBinderHeaderMeta;
+import com.solace.spring.cloud.stream.binder.messaging.SolaceBinderHeaders;
+import com.solace.spring.cloud.stream.binder.messaging.SolaceHeaderMeta;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.stream.binder.BinderHeaders;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HeaderMappingPlanTest {
+	@Test
+	public void testSteps() {
+		HeaderMappingPlan plan = new HeaderMappingPlan(null);
+		assertThat(Arrays.stream(plan.getReadSteps()).map(HeaderMappingPlan.Step::getName))
+				.containsExactlyInAnyOrderElementsOf(SolaceHeaderMeta.META.entrySet()
+						.stream()
+						.filter(h -> h.getValue().isReadable())
+						.map(Map.Entry::getKey)
+						.collect(Collectors.toList()));
+		assertThat(Arrays.stream(plan.getWriteSteps()).map(HeaderMappingPlan.Step::getName))
+				.containsExactlyInAnyOrderElementsOf(SolaceHeaderMeta.META.entrySet()
+						.stream()
+						.filter(h -> h.getValue().isWritable())
+						.map(Map.Entry::getKey)
+						.collect(Collectors.toList()));
+		assertThat(plan.getReadSteps())
+				.extracting(HeaderMappingPlan.Step::getIndex)
+				.containsExactlyElementsOf(IntStream.range(0, plan.getReadSteps().length)
+						.boxed()
+						.collect(Collectors.toList()));
+		// Ignored read steps are tracked by index across plans
+		assertThat(new HeaderMappingPlan(Collections.singletonList("excluded-header")).getReadSteps())
+				.extracting(HeaderMappingPlan.Step::getName)
+				.containsExactlyElementsOf(Arrays.stream(plan.getReadSteps())
+						.map(HeaderMappingPlan.Step::getName)
+						.collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testIsUserProperty() {
+		List<String> excludedHeaders = Collections.singletonList("excluded-header");
+		HeaderMappingPlan plan = new HeaderMappingPlan(excludedHeaders);
+
+		assertThat(plan.isUserProperty("some-header")).isTrue();
+		assertThat(plan.isUserProperty("excluded-header")).isFalse();
+		assertThat(plan.isUserProperty("EXCLUDED-HEADER")).isTrue();
+		assertThat(SolaceHeaderMeta.META.keySet()).noneMatch(plan::isUserProperty);
+		assertThat(SolaceBinderHeaderMeta.META.keySet()).noneMatch(plan::isUserProperty);
+		assertThat(plan.isUserProperty(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK.toUpperCase()))
+				.isFalse();
+		assertThat(plan.isUserProperty(BinderHeaders.TARGET_DESTINATION.toUpperCase())).isFalse();
+		assertThat(plan.isUserProperty(SolaceBinderHeaders.CONFIRM_CORRELATION.toUpperCase())).isFalse();
+		assertThat(plan.isUserProperty(SolaceBinderHeaders.DELIVERY_MODE.toUpperCase())).isFalse();
+	}
+
+	@Test
+	public void testNoExcludedHeaders() {
+		HeaderMappingPlan plan = new HeaderMappingPlan(null);
+		assertThat(plan.isUserProperty("some-header")).isTrue();
+	}
+
+	@Test
+	public void testMappingOptionsPlan() {
+		XMLMessageMappingOptions options = new XMLMessageMappingOptions();
+		assertThat(options.getHeaderMappingPlan().isUserProperty("excluded-header")).isTrue();
+
+		options.setHeaderExclusions(Collections.singletonList("excluded-header"));
+		HeaderMappingPlan plan = options.getHeaderMappingPlan();
+		assertThat(plan.isUserProperty("excluded-header")).isFalse();
+		assertThat(options.getHeaderMappingPlan()).isSameAs(plan);
+		assertThat(options.copy().getHeaderMappingPlan()).isSameAs(plan);
+	}
+}
@@ -0,0 +1,117 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import com.solacesystems.jcsmp.BytesXMLMessage;
+import com.solacesystems.jcsmp.JCSMPException;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.Topic;
+import com.solacesystems.jcsmp.XMLMessageConsumer;
+import com.solacesystems.jcsmp.XMLMessageListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+public class JCSMPSessionConsumerManagerTest {
+	@Mock private JCSMPSession session;
+	@Mock private XMLMessageConsumer consumer;
+	@Captor private ArgumentCaptor<XMLMessageListener> dispatcherCaptor;
+	private JCSMPSessionConsumerManager consumerManager;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		Mockito.when(session.getMessageConsumer(dispatcherCaptor.capture())).thenReturn(consumer);
+		consumerManager = new JCSMPSessionConsumerManager(session);
+	}
+
+	@Test
+	public void testDispatch(@Mock XMLMessageListener listener1, @Mock XMLMessageListener listener2) throws Exception {
+		consumerManager.subscribe("1", Arrays.asList("a/b", "c/>"), listener1);
+		consumerManager.subscribe("2", Collections.singletonList("a/*"), listener2);
+		Mockito.verify(session, Mockito.times(1)).getMessageConsumer(Mockito.any(XMLMessageListener.class));
+		Mockito.verify(consumer).start();
+		Mockito.verify(session).addSubscription(topic("a/b"), Mockito.eq(true));
+		Mockito.verify(session).addSubscription(topic("c/>"), Mockito.eq(true));
+		Mockito.verify(session).addSubscription(topic("a/*"), Mockito.eq(true));
+
+		XMLMessageListener dispatcher = dispatcherCaptor.getValue();
+		BytesXMLMessage message1 = createMessage("a/b");
+		BytesXMLMessage message2 = createMessage("a/c");
+		BytesXMLMessage message3 = createMessage("c/d/e");
+		BytesXMLMessage message4 = createMessage("d");
+		dispatcher.onReceive(message1);
+		dispatcher.onReceive(message2);
+		dispatcher.onReceive(message3);
+		dispatcher.onReceive(message4);
+
+		Mockito.verify(listener1).onReceive(message1);
+		Mockito.verify(listener1).onReceive(message3);
+		Mockito.verify(listener2).onReceive(message1);
+		Mockito.verify(listener2).onReceive(message2);
+		Mockito.verifyNoMoreInteractions(listener1, listener2);
+	}
+
+	@Test
+	public void testUnsubscribe(@Mock XMLMessageListener listener1, @Mock XMLMessageListener listener2)
+			throws Exception {
+		consumerManager.subscribe("1", Arrays.asList("a/b", "c"), listener1);
+		consumerManager.subscribe("2", Collections.singletonList("a/b"), listener2);
+
+		consumerManager.unsubscribe("1");
+		Mockito.verify(session).removeSubscription(topic("c"), Mockito.eq(true));
+		Mockito.verify(session, Mockito.never()).removeSubscription(topic("a/b"), Mockito.eq(true));
+		Mockito.verify(consumer, Mockito.never()).close();
+
+		BytesXMLMessage message = createMessage("a/b");
+		dispatcherCaptor.getValue().onReceive(message);
+		Mockito.verify(listener1, Mockito.never()).onReceive(Mockito.any());
+		Mockito.verify(listener2).onReceive(message);
+
+		consumerManager.unsubscribe("2");
+		Mockito.verify(session).removeSubscription(topic("a/b"), Mockito.eq(true));
+		Mockito.verify(consumer).close();
+	}
+
+	@Test
+	public void testSubscribeFailure(@Mock XMLMessageListener listener) throws Exception {
+		JCSMPException exception = new JCSMPException("test");
+		Mockito.lenient().doThrow(exception).when(session).addSubscription(topic("b"), Mockito.eq(true));
+
+		assertThat(assertThrows(JCSMPException.class, () -> consumerManager.subscribe("1",
+				Arrays.asList("a", "b"), listener))).isSameAs(exception);
+		Mockito.verify(session).removeSubscription(topic("a"), Mockito.eq(true));
+		Mockito.verify(consumer).close();
+
+		dispatcherCaptor.getValue().onReceive(createMessage("a"));
+		Mockito.verifyNoInteractions(listener);
+	}
+
+	@Test
+	public void testException(@Mock XMLMessageListener listener) throws Exception {
+		consumerManager.subscribe("1", Collections.singletonList("a"), listener);
+		JCSMPException exception = new JCSMPException("test");
+		dispatcherCaptor.getValue().onException(exception);
+		Mockito.verify(listener).onException(exception);
+	}
+
+	private BytesXMLMessage createMessage(String topic) {
+		BytesXMLMessage message = Mockito.mock(BytesXMLMessage.class);
+		Mockito.when(message.getDestination()).thenReturn(JCSMPFactory.onlyInstance().createTopic(topic));
+		return message;
+	}
+
+	private static Topic topic(String name) {
+		return Mockito.argThat(topic -> topic != null && topic.getName().equals(name));
+	}
+}
@@ -159,7 +159,7 @@ public class JmsCompatibilityIT {
 			springMessageBuilder.setHeader(headerMeta.getKey(), value);
 		}
 
-		XMLMessage jcsmpMessage = xmlMessageMapper.map(springMessageBuilder.build(), null, false);
+		XMLMessage jcsmpMessage = xmlMessageMapper.map(springMessageBuilder.build(), new XMLMessageMappingOptions());
 
 		AtomicReference<Exception> exceptionAtomicReference = new AtomicReference<>();
 		CountDownLatch latch = new CountDownLatch(1);
@@ -207,7 +207,7 @@ public class JmsCompatibilityIT {
 		XMLMessage jcsmpMessage = xmlMessageMapper.map(new DefaultMessageBuilderFactory()
 				.withPayload("test")
 				.setHeader(headerName, headerValue)
-				.build(), null, false);
+				.build(), new XMLMessageMappingOptions());
 
 		AtomicReference<Exception> exceptionAtomicReference = new AtomicReference<>();
 		CountDownLatch latch = new CountDownLatch(1);
@@ -308,7 +308,7 @@ public class JmsCompatibilityIT {
 		jmsConnection.start();
 
 		for (Message<?> message : messages) {
-			jcsmpProducer.send(xmlMessageMapper.map(message, null, false), jcsmpTopic);
+			jcsmpProducer.send(xmlMessageMapper.map(message, new XMLMessageMappingOptions()), jcsmpTopic);
 		}
 
 		assertTrue(latch.await(1, TimeUnit.MINUTES));
@@ -346,7 +346,7 @@ public class JmsCompatibilityIT {
 				public void onReceive(BytesXMLMessage bytesXMLMessage) {
 					logger.info("Got message " + bytesXMLMessage);
 					try {
-						Message<?> msg = xmlMessageMapper.map(bytesXMLMessage, null);
+						Message<?> msg = xmlMessageMapper.map(bytesXMLMessage, null, new XMLMessageMappingOptions());
 						if (msg.getPayload() instanceof byte[]) {
 							softly.assertThat(msg.getPayload()).isEqualTo("test".getBytes());
 							processedMessageTypes.add(BytesMessage.class);
@@ -411,7 +411,7 @@ public class JmsCompatibilityIT {
 
 		jmsConnection.start();
 		jcsmpProducer.send(xmlMessageMapper.map(new DefaultMessageBuilderFactory().withPayload(payload).build(),
-				null, false),
+				new XMLMessageMappingOptions()),
 				jcsmpTopic);
 
 		assertTrue(latch.await(1, TimeUnit.MINUTES));
@@ -434,7 +434,8 @@ public class JmsCompatibilityIT {
 				public void onReceive(BytesXMLMessage bytesXMLMessage) {
 					logger.info("Got message " + bytesXMLMessage);
 					try {
-						softly.assertThat(xmlMessageMapper.map(bytesXMLMessage, null).getPayload())
+						softly.assertThat(xmlMessageMapper.map(bytesXMLMessage, null, new XMLMessageMappingOptions())
+										.getPayload())
 								.isEqualTo(payload);
 					} catch (Exception e) {
 						exceptionAtomicReference.set(e);
@@ -0,0 +1,79 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.SerializationUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LazyMessageHeadersTest {
+	@Test
+	public void testDecodeOnAccess() {
+		List<String> decoded = new ArrayList<>();
+		Function<String, Object> decoder = h -> {
+			decoded.add(h);
+			return h.equals("null-header") ? null : h + "-value";
+		};
+		LazyMessageHeaders headers = new LazyMessageHeaders(
+				Collections.singletonMap("eager-header", "eager-value"),
+				new HashSet<>(Arrays.asList("lazy-header-1", "lazy-header-2", "null-header")),
+				decoder,
+				Collections.singletonMap("null-header", "fallback-value"),
+				null,
+				null);
+
+		assertThat(headers.getId()).isNotNull();
+		assertThat(headers.getTimestamp()).isNotNull();
+		assertThat(headers.get("eager-header")).isEqualTo("eager-value");
+		assertThat(decoded).isEmpty();
+
+		assertThat(headers.get("lazy-header-1", String.class)).isEqualTo("lazy-header-1-value");
+		assertThat(headers.get("lazy-header-1")).isEqualTo("lazy-header-1-value");
+		assertThat(headers.containsKey("lazy-header-1")).isTrue();
+		assertThat(decoded).containsExactly("lazy-header-1");
+		assertThrows(IllegalArgumentException.class, () -> headers.get("lazy-header-1", Integer.class));
+
+		assertThat(headers.get("null-header")).isEqualTo("fallback-value");
+		assertThat(headers.containsKey("unknown-header")).isFalse();
+		assertThat(decoded).containsExactly("lazy-header-1", "null-header");
+
+		assertThat(headers.keySet()).containsExactlyInAnyOrder(MessageHeaders.ID, MessageHeaders.TIMESTAMP,
+				"eager-header", "lazy-header-1", "lazy-header-2", "null-header");
+		assertThat(headers).containsEntry("lazy-header-2", "lazy-header-2-value")
+				.containsEntry("null-header", "fallback-value")
+				.containsEntry("eager-header", "eager-value")
+				.hasSize(6);
+		assertThat(decoded).containsExactly("lazy-header-1", "null-header", "lazy-header-2");
+	}
+
+	@Test
+	public void testNoIdOrTimestamp() {
+		LazyMessageHeaders headers = new LazyMessageHeaders(Collections.emptyMap(),
+				Collections.singleton("lazy-header"), h -> "value", Collections.emptyMap(),
+				MessageHeaders.ID_VALUE_NONE, -1L);
+		assertThat(headers.getId()).isNull();
+		assertThat(headers.getTimestamp()).isNull();
+		assertThat(headers).containsOnlyKeys("lazy-header");
+	}
+
+	@Test
+	public void testSerialize() {
+		LazyMessageHeaders headers = new LazyMessageHeaders(Collections.singletonMap("eager-header", "eager-value"),
+				Collections.singleton("lazy-header"), h -> "lazy-value", Collections.emptyMap(), null, null);
+		@SuppressWarnings("unchecked")
+		Map<String, Object> deserialized = (Map<String, Object>) SerializationUtils.deserialize(
+				SerializationUtils.serialize(headers));
+		assertThat(deserialized).isInstanceOf(MessageHeaders.class).containsOnlyKeys(headers.keySet());
+		assertThat(headers).isEqualTo(deserialized);
+		assertThat(headers.hashCode()).isEqualTo(deserialized.hashCode());
+	}
+}
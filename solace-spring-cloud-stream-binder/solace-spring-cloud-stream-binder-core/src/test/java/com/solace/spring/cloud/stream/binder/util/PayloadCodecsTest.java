@@ -0,0 +1,53 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import com.solace.spring.cloud.stream.binder.test.util.SerializableFoo;
+import com.solacesystems.jcsmp.BytesMessage;
+import com.solacesystems.jcsmp.JCSMPFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.SerializationUtils;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PayloadCodecsTest {
+	@Test
+	public void testGetEncoder() {
+		assertThat(PayloadCodecs.getEncoder(SerializableFoo.class, null)).isSameAs(PayloadCodecs.JAVA);
+		assertThat(PayloadCodecs.getEncoder(SerializableFoo.class, MimeTypeUtils.APPLICATION_JSON))
+				.isSameAs(PayloadCodecs.JAVA);
+		assertThat(PayloadCodecs.getEncoder(Object.class, null)).isNull();
+	}
+
+	@Test
+	public void testGetByName() {
+		assertThat(PayloadCodecs.getByName(PayloadCodecs.JAVA_NAME)).isSameAs(PayloadCodecs.JAVA);
+		assertThat(PayloadCodecs.getByName("abc")).isNull();
+		assertThat(PayloadCodecs.getByName(null)).isNull();
+	}
+
+	@Test
+	public void testJavaEncode() throws Exception {
+		SerializableFoo payload = new SerializableFoo("abc123", "HOOPLA!");
+		BytesMessage message = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+		PayloadCodecs.JAVA.encode(payload, message);
+		assertThat(SerializationUtils.deserialize(message.getData())).isEqualTo(payload);
+	}
+
+	@Test
+	public void testJavaDecodeFromReusedBuffer() throws Exception {
+		SerializableFoo payload = new SerializableFoo("abc123", "HOOPLA!");
+		byte[] serialized = SerializationUtils.serialize(payload);
+
+		byte[] buffer = new byte[serialized.length + 20];
+		System.arraycopy(serialized, 0, buffer, 10, serialized.length);
+		ByteBuffer data = ByteBuffer.wrap(buffer, 10, serialized.length);
+		assertThat(PayloadCodecs.JAVA.decode(data, null)).isEqualTo(payload);
+
+		ByteBuffer directData = ByteBuffer.allocateDirect(serialized.length);
+		directData.put(serialized).flip();
+		assertThat(PayloadCodecs.JAVA.decode(directData, null)).isEqualTo(payload);
+		assertThat(directData.remaining()).isEqualTo(serialized.length);
+	}
+}
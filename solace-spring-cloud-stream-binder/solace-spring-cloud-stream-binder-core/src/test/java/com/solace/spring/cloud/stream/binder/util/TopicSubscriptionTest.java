@@ -0,0 +1,34 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TopicSubscriptionTest {
+	@ParameterizedTest(name = "[{index}] subscription={0} topic={1} matches={2}")
+	@CsvSource({
+			"a/b/c, a/b/c, true",
+			"a/b/c, a/b, false",
+			"a/b/c, a/b/c/d, false",
+			"a/b/c, a/b/cd, false",
+			"a/*/c, a/b/c, true",
+			"a/*/c, a/b/d, false",
+			"a/*/c, a/b/x/c, false",
+			"a/b*/c, a/bcd/c, true",
+			"a/b*/c, a/b/c, true",
+			"a/b*/c, a/cb/c, false",
+			"a/>, a/b, true",
+			"a/>, a/b/c, true",
+			"a/>, a, false",
+			"a/*/>, a/b/c, true",
+			"a/*/>, a/b, false",
+			">, a, true",
+			"a*b/c, a*b/c, true",
+			"a>/c, a>/c, true",
+			"a/>/c, a/b/c, false",
+	})
+	public void testMatches(String subscription, String topic, boolean matches) {
+		assertThat(new TopicSubscription(subscription).matches(TopicSubscription.split(topic))).isEqualTo(matches);
+	}
+}
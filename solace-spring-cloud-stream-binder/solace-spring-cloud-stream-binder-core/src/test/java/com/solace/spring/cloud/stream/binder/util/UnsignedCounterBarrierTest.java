@@ -82,6 +82,83 @@ public class UnsignedCounterBarrierTest {
 		assertEquals(0, unsignedCounterBarrier.getCount());
 	}
 
+	@Test
+	public void testConcurrentIncrementDecrement(@ExecSvc(poolSize = 8) ExecutorService executorService)
+			throws Exception {
+		UnsignedCounterBarrier unsignedCounterBarrier = new UnsignedCounterBarrier();
+		int concurrency = 8;
+		int numOps = 10000;
+
+		ArrayList<Future<?>> futures = new ArrayList<>(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			futures.add(executorService.submit(() -> {
+				for (int j = 0; j < numOps; j++) {
+					unsignedCounterBarrier.increment();
+				}
+				for (int j = 0; j < numOps - 1; j++) {
+					unsignedCounterBarrier.decrement();
+				}
+			}));
+		}
+		executorService.shutdown();
+
+		for (Future<?> future : futures) {
+			future.get(1, TimeUnit.MINUTES);
+		}
+		assertEquals(concurrency, unsignedCounterBarrier.getCount());
+	}
+
+	@Test
+	public void testDecrementOnOtherThreads(@ExecSvc(poolSize = 8) ExecutorService executorService)
+			throws Exception {
+		UnsignedCounterBarrier unsignedCounterBarrier = new UnsignedCounterBarrier();
+		int concurrency = 8;
+		int numOps = 10000;
+		for (int i = 0; i < concurrency * numOps; i++) {
+			unsignedCounterBarrier.increment();
+		}
+
+		ArrayList<Future<?>> futures = new ArrayList<>(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			futures.add(executorService.submit(() -> {
+				for (int j = 0; j < numOps; j++) {
+					unsignedCounterBarrier.decrement();
+				}
+			}));
+		}
+		executorService.shutdown();
+
+		assertTrue(unsignedCounterBarrier.awaitEmpty(1, TimeUnit.MINUTES));
+		for (Future<?> future : futures) {
+			future.get(1, TimeUnit.MINUTES);
+		}
+		assertEquals(0, unsignedCounterBarrier.getCount());
+	}
+
+	@Test
+	public void testConcurrentDecrementUnsignedLimit(@ExecSvc(poolSize = 8) ExecutorService executorService)
+			throws Exception {
+		UnsignedCounterBarrier unsignedCounterBarrier = new UnsignedCounterBarrier(100);
+		int concurrency = 8;
+
+		ArrayList<Future<?>> futures = new ArrayList<>(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			futures.add(executorService.submit(() -> {
+				for (int j = 0; j < 100; j++) {
+					unsignedCounterBarrier.decrement();
+				}
+			}));
+		}
+		executorService.shutdown();
+
+		for (Future<?> future : futures) {
+			future.get(1, TimeUnit.MINUTES);
+		}
+		assertEquals(0, unsignedCounterBarrier.getCount());
+		unsignedCounterBarrier.increment();
+		assertEquals(1, unsignedCounterBarrier.getCount());
+	}
+
 	@Test
 	public void testReset() {
 		UnsignedCounterBarrier unsignedCounterBarrier = new UnsignedCounterBarrier(2);
@@ -13,6 +13,7 @@ import com.solace.spring.cloud.stream.binder.messaging.SolaceHeaders;
 import com.solace.spring.cloud.stream.binder.properties.SolaceConsumerProperties;
 import com.solace.spring.cloud.stream.binder.test.util.SerializableFoo;
 import com.solace.spring.cloud.stream.binder.test.util.ThrowingFunction;
+import com.solacesystems.common.util.ByteArray;
 import com.solacesystems.jcsmp.BytesMessage;
 import com.solacesystems.jcsmp.DeliveryMode;
 import com.solacesystems.jcsmp.JCSMPFactory;
@@ -53,6 +54,7 @@ import org.springframework.cloud.stream.binder.BinderHeaders;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.StaticMessageHeaderAccessor;
 import org.springframework.integration.acks.AcknowledgmentCallback;
+import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
 import org.springframework.integration.support.DefaultMessageBuilderFactory;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
@@ -62,11 +64,17 @@ import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.SerializationUtils;
 import org.testcontainers.shaded.org.apache.commons.lang.math.RandomUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Array;
 import java.lang.reflect.Parameter;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -74,6 +82,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
@@ -89,6 +99,7 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -129,7 +140,7 @@ public class XMLMessageMapperTest {
 				.setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_OCTET_STREAM_VALUE)
 				.build();
 
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, null, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
 
 		assertThat(xmlMessage, CoreMatchers.instanceOf(BytesMessage.class));
 		assertEquals(testSpringMessage.getPayload(), ((BytesMessage) xmlMessage).getData());
@@ -145,13 +156,76 @@ public class XMLMessageMapperTest {
 				.setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.TEXT_PLAIN_VALUE)
 				.build();
 
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, null, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
 
 		assertThat(xmlMessage, CoreMatchers.instanceOf(TextMessage.class));
 		assertEquals(testSpringMessage.getPayload(), ((TextMessage) xmlMessage).getText());
 		validateXMLProperties(xmlMessage, testSpringMessage);
 	}
 
+	@ParameterizedTest(name = "[{index}] bufferType={0}")
+	@ValueSource(strings = {"heap", "heap-slice", "read-only", "direct"})
+	public void testMapSpringMessageToXMLMessage_ByteBuffer(String bufferType) throws Exception {
+		byte[] expectedPayload = "testPayload".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer payload;
+		switch (bufferType) {
+			case "heap":
+				payload = ByteBuffer.wrap(expectedPayload);
+				break;
+			case "heap-slice":
+				payload = ByteBuffer.wrap(("abc" + "testPayload" + "def").getBytes(StandardCharsets.UTF_8), 3,
+						expectedPayload.length);
+				break;
+			case "read-only":
+				payload = ByteBuffer.wrap(expectedPayload).asReadOnlyBuffer();
+				break;
+			case "direct":
+				payload = ByteBuffer.allocateDirect(expectedPayload.length).put(expectedPayload);
+				payload.flip();
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown buffer type " + bufferType);
+		}
+		int position = payload.position();
+		Message<?> testSpringMessage = new DefaultMessageBuilderFactory()
+				.withPayload(payload)
+				.setHeader("test-header-1", "test-header-val-1")
+				.setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_OCTET_STREAM_VALUE)
+				.build();
+
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
+
+		assertThat(xmlMessage, CoreMatchers.instanceOf(BytesMessage.class));
+		assertArrayEquals(expectedPayload, ((BytesMessage) xmlMessage).getData());
+		assertEquals(position, payload.position(), "The payload's position must not change");
+		validateXMLProperties(xmlMessage, testSpringMessage);
+	}
+
+	@Test
+	public void testMapSpringMessageToXMLMessage_InputStream() throws Exception {
+		byte[] expectedPayload = "testPayload".getBytes(StandardCharsets.UTF_8);
+		AtomicBoolean closed = new AtomicBoolean(false);
+		InputStream payload = new ByteArrayInputStream(expectedPayload) {
+			@Override
+			public void close() throws IOException {
+				closed.set(true);
+				super.close();
+			}
+		};
+		Message<?> testSpringMessage = new DefaultMessageBuilderFactory()
+				.withPayload(payload)
+				.setHeader("test-header-1", "test-header-val-1")
+				.setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_OCTET_STREAM_VALUE)
+				.build();
+
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
+
+		assertThat(xmlMessage, CoreMatchers.instanceOf(BytesMessage.class));
+		assertArrayEquals(expectedPayload, ((BytesMessage) xmlMessage).getData());
+		assertTrue(closed.get(), "The payload stream must be closed");
+		validateXMLProperties(xmlMessage, testSpringMessage);
+	}
+
 	@Test
 	public void testMapSpringMessageToXMLMessage_Serializable() throws Exception {
 		Message<?> testSpringMessage = new DefaultMessageBuilderFactory()
@@ -161,7 +235,7 @@ public class XMLMessageMapperTest {
 				.setHeader(MessageHeaders.CONTENT_TYPE, "application/x-java-serialized-object")
 				.build();
 
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, null, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
 
 		assertThat(xmlMessage, CoreMatchers.instanceOf(BytesMessage.class));
 		assertEquals(testSpringMessage.getPayload(),
@@ -186,7 +260,7 @@ public class XMLMessageMapperTest {
 				.setHeader(MessageHeaders.CONTENT_TYPE, "application/x-java-serialized-object")
 				.build();
 
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, null, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
 
 		assertThat(xmlMessage, CoreMatchers.instanceOf(StreamMessage.class));
 		assertEquals(testSpringMessage.getPayload(), ((StreamMessage) xmlMessage).getStream());
@@ -207,7 +281,7 @@ public class XMLMessageMapperTest {
 				.setHeader(MessageHeaders.CONTENT_TYPE, "application/x-java-serialized-object")
 				.build();
 
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, null, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
 
 		assertThat(xmlMessage, CoreMatchers.instanceOf(MapMessage.class));
 		assertEquals(testSpringMessage.getPayload(), ((MapMessage) xmlMessage).getMap());
@@ -268,7 +342,7 @@ public class XMLMessageMapperTest {
 		}
 
 		Message<?> testSpringMessage = messageBuilder.build();
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, null, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
 
 		for (Map.Entry<String, ? extends HeaderMeta<?>> header : writeableHeaders) {
 			Object expectedValue = testSpringMessage.getHeaders().get(header.getKey());
@@ -343,7 +417,7 @@ public class XMLMessageMapperTest {
 		}
 
 		Message<?> testSpringMessage = messageBuilder.build();
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, null, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
 
 		for (Map.Entry<String, ? extends HeaderMeta<?>> header : nonWriteableHeaders) {
 			switch (header.getKey()) {
@@ -379,8 +453,15 @@ public class XMLMessageMapperTest {
 					assertEquals("base64", xmlMessage.getProperties().getString(header.getKey()));
 					break;
 				case SolaceBinderHeaders.SERIALIZED_PAYLOAD:
+				case SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING:
+				case SolaceBinderHeaders.CHUNK_ID:
+				case SolaceBinderHeaders.CHUNK_INDEX:
+				case SolaceBinderHeaders.CHUNK_COUNT:
+				case SolaceBinderHeaders.COMPRESSION:
+				case SolaceBinderHeaders.TEXT_PAYLOAD:
 				case SolaceBinderHeaders.BATCHED_HEADERS:
 				case SolaceBinderHeaders.CONFIRM_CORRELATION:
+				case SolaceBinderHeaders.DELIVERY_MODE:
 				case SolaceBinderHeaders.NULL_PAYLOAD:
 					assertNull(xmlMessage.getProperties().get(header.getKey()));
 					break;
@@ -413,7 +494,7 @@ public class XMLMessageMapperTest {
 				.setHeader("solace_foo2", undefinedSolaceHeader2)
 				.build();
 
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, null, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
 
 		assertEquals(undefinedSolaceHeader1, xmlMessage.getProperties().getString("solace_foo1"));
 		assertEquals(undefinedSolaceHeader2, SerializationUtils.deserialize(Base64.getDecoder()
@@ -444,7 +525,7 @@ public class XMLMessageMapperTest {
 				.withPayload("")
 				.setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.TEXT_PLAIN_VALUE)
 				.build();
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, null, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
 
 		for (Map.Entry<String, ? extends HeaderMeta<?>> header : overriddenWriteableHeaders) {
 			switch (header.getKey()) {
@@ -463,7 +544,7 @@ public class XMLMessageMapperTest {
 	public void testFailMapSpringMessageToXMLMessage_InvalidPayload() {
 		Message<?> testSpringMessage = new DefaultMessageBuilderFactory().withPayload(new Object()).build();
 		assertThrows(SolaceMessageConversionException.class, () -> xmlMessageMapper.map(testSpringMessage,
-				null, false));
+				new XMLMessageMappingOptions()));
 	}
 
 	@Test
@@ -481,7 +562,7 @@ public class XMLMessageMapperTest {
 					.setHeader(header.getKey(), new Object())
 					.build();
 			try {
-				xmlMessageMapper.map(testSpringMessage, null, false);
+				xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
 				fail(String.format("Expected message mapping to fail for header %s", header.getKey()));
 			} catch (SolaceMessageConversionException e) {
 				assertEquals(e.getMessage(), String.format(
@@ -538,8 +619,7 @@ public class XMLMessageMapperTest {
 						"any")
 				.build();
 
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, excludedHeaders, false);
-		Mockito.verify(xmlMessageMapper).map(testSpringMessage, excludedHeaders, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, headerExclusionOptions(excludedHeaders));
 
 		assertNull(xmlMessage.getProperties()
 				.getMap("io.opentracing.contrib.spring.integration.messaging.OpenTracingChannelInterceptor.SCOPE"));
@@ -555,8 +635,7 @@ public class XMLMessageMapperTest {
 						"any")
 				.build();
 
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, excludedHeaders, false);
-		Mockito.verify(xmlMessageMapper).map(testSpringMessage, excludedHeaders, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, headerExclusionOptions(excludedHeaders));
 		assertEquals("any", xmlMessage.getProperties()
 				.get("io.opentracing.contrib.spring.integration.messaging.OpenTracingChannelInterceptor"));
 	}
@@ -620,7 +699,7 @@ public class XMLMessageMapperTest {
 				.collect(Collectors.toList());
 
 		Message<?> testSpringMessage = messageBuilder.build();
-		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, excludedHeaders, false);
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, headerExclusionOptions(excludedHeaders));
 
 		for (Map.Entry<String, ? extends HeaderMeta<?>> header : writeableHeaders) {
 			Object expectedValue = testSpringMessage.getHeaders().get(header.getKey());
@@ -672,13 +751,21 @@ public class XMLMessageMapperTest {
 			}
 		}
 
+		// Only set for payloads encoded by a custom payload codec, compressed payloads, or payloads split into chunks
+		Set<String> inapplicableBinderHeaders = new HashSet<>(Arrays.asList(
+				SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING,
+				SolaceBinderHeaders.COMPRESSION,
+				SolaceBinderHeaders.TEXT_PAYLOAD,
+				SolaceBinderHeaders.CHUNK_ID,
+				SolaceBinderHeaders.CHUNK_INDEX,
+				SolaceBinderHeaders.CHUNK_COUNT));
 		for (Map.Entry<String, SolaceBinderHeaderMeta<?>> binderHeaderMetaEntry : SolaceBinderHeaderMeta.META.entrySet()) {
-			if (SolaceHeaderMeta.Scope.WIRE.equals(binderHeaderMetaEntry.getValue().getScope())) {
+			if (SolaceHeaderMeta.Scope.WIRE.equals(binderHeaderMetaEntry.getValue().getScope()) &&
+					!inapplicableBinderHeaders.contains(binderHeaderMetaEntry.getKey())) {
 				assertNotNull(xmlMessage.getProperties().get(binderHeaderMetaEntry.getKey()));
 			}
 		}
 
-		Mockito.verify(xmlMessageMapper).map(testSpringMessage, excludedHeaders, false);
 	}
 
 	@ParameterizedTest
@@ -697,8 +784,8 @@ public class XMLMessageMapperTest {
 		xmlMessage.setProperties(metadata);
 
 		AcknowledgmentCallback acknowledgmentCallback = Mockito.mock(AcknowledgmentCallback.class);
-		Message<?> springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback);
-		Mockito.verify(xmlMessageMapper).map(xmlMessage, acknowledgmentCallback, false);
+		Message<?> springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback,
+				new XMLMessageMappingOptions());
 
 		validateSpringPayload(springMessage.getPayload(), expectedPayload);
 		validateSpringHeaders(springMessage.getHeaders(), xmlMessage);
@@ -727,8 +814,8 @@ public class XMLMessageMapperTest {
 				.collect(Collectors.toList());
 
 		AcknowledgmentCallback acknowledgmentCallback = Mockito.mock(AcknowledgmentCallback.class);
-		Message<List<?>> springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback);
-		Mockito.verify(xmlMessageMapper).mapBatchMessage(xmlMessages, acknowledgmentCallback, false);
+		Message<List<?>> springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback,
+				new XMLMessageMappingOptions());
 
 		validateSpringBatchPayload(springMessage.getPayload(), expectedPayloads);
 		validateSpringBatchHeaders(springMessage.getHeaders(), xmlMessages);
@@ -751,7 +838,9 @@ public class XMLMessageMapperTest {
 		xmlMessage.setProperties(metadata);
 
 		AcknowledgmentCallback acknowledgmentCallback = Mockito.mock(AcknowledgmentCallback.class);
-		Message<?> springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, true);
+		XMLMessageMappingOptions mappingOptions = new XMLMessageMappingOptions();
+		mappingOptions.setRawMessageHeader(true);
+		Message<?> springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, mappingOptions);
 
 		validateSpringPayload(springMessage.getPayload(), expectedPayload);
 		validateSpringHeaders(springMessage.getHeaders(), xmlMessage);
@@ -780,7 +869,10 @@ public class XMLMessageMapperTest {
 				.collect(Collectors.toList());
 
 		AcknowledgmentCallback acknowledgmentCallback = Mockito.mock(AcknowledgmentCallback.class);
-		Message<List<?>> springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback, true);
+		XMLMessageMappingOptions mappingOptions = new XMLMessageMappingOptions();
+		mappingOptions.setRawMessageHeader(true);
+		Message<List<?>> springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback,
+				mappingOptions);
 
 		validateSpringBatchPayload(springMessage.getPayload(), expectedPayloads);
 		validateSpringBatchHeaders(springMessage.getHeaders(), xmlMessages);
@@ -814,15 +906,14 @@ public class XMLMessageMapperTest {
 		MessageHeaders springMessageHeaders;
 		if (batchMode) {
 			List<MT> xmlMessages = Collections.singletonList(xmlMessage);
-			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback);
-			Mockito.verify(xmlMessageMapper).mapBatchMessage(xmlMessages, acknowledgmentCallback, false);
+			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback,
+					new XMLMessageMappingOptions());
 			@SuppressWarnings("unchecked")
 			Map<String, Object> messageHeaders = (Map<String, Object>) Objects.requireNonNull(springMessage.getHeaders()
 					.get(SolaceBinderHeaders.BATCHED_HEADERS, List.class)).get(0);
 			springMessageHeaders = new MessageHeaders(messageHeaders);
 		} else {
-			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback);
-			Mockito.verify(xmlMessageMapper).map(xmlMessage, acknowledgmentCallback, false);
+			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, new XMLMessageMappingOptions());
 			springMessageHeaders = springMessage.getHeaders();
 		}
 
@@ -934,16 +1025,15 @@ public class XMLMessageMapperTest {
 		MessageHeaders springMessageHeaders;
 		if (batchMode) {
 			List<TextMessage> xmlMessages = Collections.singletonList(xmlMessage);
-			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback);
-			Mockito.verify(xmlMessageMapper).mapBatchMessage(xmlMessages, acknowledgmentCallback, false);
+			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback,
+					new XMLMessageMappingOptions());
 
 			@SuppressWarnings("unchecked")
 			Map<String, Object> messageHeaders = (Map<String, Object>) Objects.requireNonNull(springMessage.getHeaders()
 							.get(SolaceBinderHeaders.BATCHED_HEADERS, List.class)).get(0);
 			springMessageHeaders = new MessageHeaders(messageHeaders);
 		} else {
-			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback);
-			Mockito.verify(xmlMessageMapper).map(xmlMessage, acknowledgmentCallback, false);
+			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, new XMLMessageMappingOptions());
 			springMessageHeaders = springMessage.getHeaders();
 		}
 
@@ -1055,7 +1145,24 @@ public class XMLMessageMapperTest {
 				case SolaceBinderHeaders.SERIALIZED_PAYLOAD:
 					metadata.putBoolean(header.getKey(), false);
 					break;
+				case SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING:
+					metadata.putString(header.getKey(), PayloadCodecs.JAVA_NAME);
+					break;
+				case SolaceBinderHeaders.CHUNK_ID:
+					metadata.putString(header.getKey(), UUID.randomUUID().toString());
+					break;
+				case SolaceBinderHeaders.CHUNK_INDEX:
+				case SolaceBinderHeaders.CHUNK_COUNT:
+					metadata.putInteger(header.getKey(), 1);
+					break;
+				case SolaceBinderHeaders.COMPRESSION:
+					metadata.putString(header.getKey(), CompressionCodecs.GZIP_NAME);
+					break;
+				case SolaceBinderHeaders.TEXT_PAYLOAD:
+					metadata.putBoolean(header.getKey(), false);
+					break;
 				case SolaceBinderHeaders.CONFIRM_CORRELATION:
+				case SolaceBinderHeaders.DELIVERY_MODE:
 					metadata.putString(header.getKey(), "random_string");
 					break;
 				default:
@@ -1074,16 +1181,15 @@ public class XMLMessageMapperTest {
 		MessageHeaders springMessageHeaders;
 		if (batchMode) {
 			List<TextMessage> xmlMessages = Collections.singletonList(xmlMessage);
-			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback);
-			Mockito.verify(xmlMessageMapper).mapBatchMessage(xmlMessages, acknowledgmentCallback, false);
+			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback,
+					new XMLMessageMappingOptions());
 
 			@SuppressWarnings("unchecked")
 			Map<String, Object> messageHeaders = (Map<String, Object>) Objects.requireNonNull(springMessage.getHeaders()
 					.get(SolaceBinderHeaders.BATCHED_HEADERS, List.class)).get(0);
 			springMessageHeaders = new MessageHeaders(messageHeaders);
 		} else {
-			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback);
-			Mockito.verify(xmlMessageMapper).map(xmlMessage, acknowledgmentCallback, false);
+			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, new XMLMessageMappingOptions());
 			springMessageHeaders = springMessage.getHeaders();
 		}
 
@@ -1137,16 +1243,15 @@ public class XMLMessageMapperTest {
 		MessageHeaders springMessageHeaders;
 		if (batchMode) {
 			List<TextMessage> xmlMessages = Collections.singletonList(xmlMessage);
-			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback);
-			Mockito.verify(xmlMessageMapper).mapBatchMessage(xmlMessages, acknowledgmentCallback, false);
+			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback,
+					new XMLMessageMappingOptions());
 
 			@SuppressWarnings("unchecked")
 			Map<String, Object> messageHeaders = (Map<String, Object>) Objects.requireNonNull(springMessage.getHeaders()
 					.get(SolaceBinderHeaders.BATCHED_HEADERS, List.class)).get(0);
 			springMessageHeaders = new MessageHeaders(messageHeaders);
 		} else {
-			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback);
-			Mockito.verify(xmlMessageMapper).map(xmlMessage, acknowledgmentCallback, false);
+			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, new XMLMessageMappingOptions());
 			springMessageHeaders = springMessage.getHeaders();
 		}
 
@@ -1177,6 +1282,146 @@ public class XMLMessageMapperTest {
 		}
 	}
 
+	@Test
+	public void testMapBatchMessage_SameHeadersAsSingleMessage() throws Exception {
+		TextMessage xmlMessage = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+		xmlMessage.setText(null);
+		xmlMessage.setHTTPContentType(MimeTypeUtils.TEXT_PLAIN_VALUE);
+		xmlMessage.setCorrelationId("test-correlation-id");
+		SDTMap metadata = JCSMPFactory.onlyInstance().createMap();
+		metadata.putString("test-header", "test-value");
+		metadata.putObject("test-null-header", null);
+		metadata.putString(MessageHeaders.ID, UUID.randomUUID().toString());
+		xmlMessage.setProperties(metadata);
+
+		AcknowledgmentCallback acknowledgmentCallback = Mockito.mock(AcknowledgmentCallback.class);
+		Map<String, Object> expectedHeaders = new HashMap<>(xmlMessageMapper.map(xmlMessage, acknowledgmentCallback,
+				new XMLMessageMappingOptions()).getHeaders());
+		expectedHeaders.remove(MessageHeaders.ID);
+		expectedHeaders.remove(MessageHeaders.TIMESTAMP);
+		expectedHeaders.remove(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK);
+		expectedHeaders.remove(IntegrationMessageHeaderAccessor.DELIVERY_ATTEMPT);
+
+		Message<List<?>> batchMessage = xmlMessageMapper.mapBatchMessage(Collections.singletonList(xmlMessage),
+				acknowledgmentCallback, new XMLMessageMappingOptions());
+		Assertions.assertThat(batchMessage.getPayload()).hasSize(1).first().isEqualTo("");
+		Assertions.assertThat(batchMessage.getHeaders())
+				.extractingByKey(SolaceBinderHeaders.BATCHED_HEADERS)
+				.asInstanceOf(InstanceOfAssertFactories.list(Map.class))
+				.singleElement()
+				.isEqualTo(expectedHeaders);
+	}
+
+	@ParameterizedTest(name = "[{index}] batchMode={0}")
+	@ValueSource(booleans = {false, true})
+	public void testMapXMLMessageToSpringMessage_LazyHeaders(boolean batchMode) throws Exception {
+		SerializableFoo serializedValue = new SerializableFoo("abc123", "HOOPLA!");
+		Message<?> testSpringMessage = new DefaultMessageBuilderFactory().withPayload("testPayload")
+				.setHeader("test-header", "test-value")
+				.setHeader("test-serialized-header", serializedValue)
+				.setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.TEXT_PLAIN_VALUE)
+				.setHeader(SolaceHeaders.CORRELATION_ID, "test-correlation-id")
+				.build();
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, new XMLMessageMappingOptions());
+
+		AcknowledgmentCallback acknowledgmentCallback = Mockito.mock(AcknowledgmentCallback.class);
+		XMLMessageMappingOptions lazyMappingOptions = new XMLMessageMappingOptions();
+		lazyMappingOptions.setLazyHeaders(true);
+		Map<String, Object> expectedHeaders;
+		Map<String, Object> lazyHeaders;
+		if (batchMode) {
+			expectedHeaders = getSingleBatchedHeaders(xmlMessageMapper.mapBatchMessage(
+					Collections.singletonList(xmlMessage), acknowledgmentCallback, new XMLMessageMappingOptions()));
+			lazyHeaders = getSingleBatchedHeaders(xmlMessageMapper.mapBatchMessage(
+					Collections.singletonList(xmlMessage), acknowledgmentCallback, lazyMappingOptions));
+		} else {
+			expectedHeaders = new HashMap<>(xmlMessageMapper.map(xmlMessage, acknowledgmentCallback,
+					new XMLMessageMappingOptions()).getHeaders());
+			lazyHeaders = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, lazyMappingOptions).getHeaders();
+			expectedHeaders.remove(MessageHeaders.ID);
+			expectedHeaders.remove(MessageHeaders.TIMESTAMP);
+			expectedHeaders.remove(IntegrationMessageHeaderAccessor.DELIVERY_ATTEMPT); // AtomicIntegers aren't equal
+			Assertions.assertThat(((MessageHeaders) lazyHeaders).getId()).isNotNull();
+			Assertions.assertThat(((MessageHeaders) lazyHeaders).getTimestamp()).isNotNull();
+			Assertions.assertThat(lazyHeaders)
+					.extractingByKey(IntegrationMessageHeaderAccessor.DELIVERY_ATTEMPT)
+					.asInstanceOf(InstanceOfAssertFactories.ATOMIC_INTEGER)
+					.hasValue(0);
+		}
+
+		Assertions.assertThat(lazyHeaders)
+				.isInstanceOf(LazyMessageHeaders.class)
+				.containsEntry("test-serialized-header", serializedValue)
+				.containsEntry("test-header", "test-value");
+		Map<String, Object> materializedHeaders = new HashMap<>(lazyHeaders);
+		materializedHeaders.remove(MessageHeaders.ID);
+		materializedHeaders.remove(MessageHeaders.TIMESTAMP);
+		materializedHeaders.remove(IntegrationMessageHeaderAccessor.DELIVERY_ATTEMPT);
+		Assertions.assertThat(materializedHeaders).isEqualTo(expectedHeaders);
+	}
+
+	@Test
+	public void testMapXMLMessageToSpringMessage_ColumnarBatchHeaders() throws Exception {
+		List<XMLMessage> xmlMessages = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			AbstractIntegrationMessageBuilder<String> builder = new DefaultMessageBuilderFactory()
+					.withPayload("testPayload-" + i)
+					.setHeader("test-constant-header", "test-value")
+					.setHeader("test-header", "test-value-" + i)
+					.setHeader("test-serialized-header", new SerializableFoo("abc123", "HOOPLA-" + i))
+					.setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.TEXT_PLAIN_VALUE);
+			if (i % 2 == 0) {
+				builder.setHeader("test-sparse-header", i);
+			}
+			XMLMessage xmlMessage = xmlMessageMapper.map(builder.build(), new XMLMessageMappingOptions());
+			if (i == 3) {
+				// A message without any content is received as a null payload
+				BytesMessage nullPayloadMessage = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+				nullPayloadMessage.setProperties(xmlMessage.getProperties());
+				nullPayloadMessage.setHTTPContentType(xmlMessage.getHTTPContentType());
+				xmlMessage = nullPayloadMessage;
+			}
+			xmlMessages.add(xmlMessage);
+		}
+		AcknowledgmentCallback acknowledgmentCallback = Mockito.mock(AcknowledgmentCallback.class);
+
+		Message<List<?>> expectedMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback,
+				new XMLMessageMappingOptions());
+		XMLMessageMappingOptions columnarMappingOptions = new XMLMessageMappingOptions();
+		columnarMappingOptions.setColumnarBatchHeaders(true);
+		Message<List<?>> columnarMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback,
+				columnarMappingOptions);
+
+		Assertions.<Object>assertThat(columnarMessage.getPayload())
+				.containsExactlyElementsOf(expectedMessage.getPayload());
+		@SuppressWarnings("unchecked")
+		List<Map<String, Object>> expectedHeaders = expectedMessage.getHeaders()
+				.get(SolaceBinderHeaders.BATCHED_HEADERS, List.class);
+		Assertions.assertThat(columnarMessage.getHeaders().get(SolaceBinderHeaders.BATCHED_HEADERS))
+				.asInstanceOf(InstanceOfAssertFactories.type(ColumnarBatchHeaders.class))
+				.satisfies(
+						headers -> Assertions.assertThat(headers).containsExactlyElementsOf(expectedHeaders),
+						headers -> Assertions.assertThat(headers.getColumn("test-sparse-header"))
+								.containsExactly(0, null, 2, null, 4),
+						headers -> Assertions.assertThat(headers.getColumn(SolaceBinderHeaders.NULL_PAYLOAD))
+								.containsExactly(null, null, null, true, null),
+						headers -> Assertions.assertThat(headers.getHeader(1, "test-serialized-header"))
+								.isEqualTo(new SerializableFoo("abc123", "HOOPLA-1")));
+	}
+
+	private Map<String, Object> getSingleBatchedHeaders(Message<List<?>> batchMessage) {
+		@SuppressWarnings("unchecked")
+		Map<String, Object> headers = (Map<String, Object>) Objects.requireNonNull(batchMessage.getHeaders()
+				.get(SolaceBinderHeaders.BATCHED_HEADERS, List.class)).get(0);
+		return headers;
+	}
+
+	private XMLMessageMappingOptions headerExclusionOptions(Collection<String> excludedHeaders) {
+		XMLMessageMappingOptions mappingOptions = new XMLMessageMappingOptions();
+		mappingOptions.setHeaderExclusions(excludedHeaders);
+		return mappingOptions;
+	}
+
 	@ParameterizedTest(name = "[{index}] batchMode={0}")
 	@ValueSource(booleans = {false, true})
 	public void testMapXMLMessageToSpringMessage_deliveryCountFeatureEnabled(boolean batchMode) {
@@ -1189,14 +1434,15 @@ public class XMLMessageMapperTest {
 		MapAssert<String, Object> headersAssert;
 		if (batchMode) {
 			headersAssert = Assertions.assertThat(Objects.requireNonNull(xmlMessageMapper
-									.mapBatchMessage(Collections.singletonList(xmlMessage), acknowledgmentCallback)
+									.mapBatchMessage(Collections.singletonList(xmlMessage), acknowledgmentCallback,
+											new XMLMessageMappingOptions())
 									.getHeaders()
 					.get(SolaceBinderHeaders.BATCHED_HEADERS, List.class))
 					.get(0))
 					.asInstanceOf(InstanceOfAssertFactories.map(String.class, Object.class));
 		} else {
-			headersAssert = Assertions.assertThat(xmlMessageMapper.map(xmlMessage, acknowledgmentCallback)
-					.getHeaders());
+			headersAssert = Assertions.assertThat(xmlMessageMapper.map(xmlMessage, acknowledgmentCallback,
+					new XMLMessageMappingOptions()).getHeaders());
 		}
 		headersAssert.extractingByKey(SolaceHeaders.DELIVERY_COUNT).isEqualTo(deliveryCount);
 	}
@@ -1222,13 +1468,14 @@ public class XMLMessageMapperTest {
 		MessageHeaders springMessageHeaders;
 		if (batchMode) {
 			List<TextMessage> xmlMessages = Collections.singletonList(xmlMessage);
-			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback);
+			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback,
+					new XMLMessageMappingOptions());
 			@SuppressWarnings("unchecked")
 			Map<String, Object> messageHeaders = (Map<String, Object>) Objects.requireNonNull(springMessage.getHeaders()
 					.get(SolaceBinderHeaders.BATCHED_HEADERS, List.class)).get(0);
 			springMessageHeaders = new MessageHeaders(messageHeaders);
 		} else {
-			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback);
+			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, new XMLMessageMappingOptions());
 			springMessageHeaders = springMessage.getHeaders();
 		}
 
@@ -1252,13 +1499,14 @@ public class XMLMessageMapperTest {
 		MessageHeaders springMessageHeaders;
 		if (batchMode) {
 			List<BytesMessage> xmlMessages = Collections.singletonList(xmlMessage);
-			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback);
+			springMessage = xmlMessageMapper.mapBatchMessage(xmlMessages, acknowledgmentCallback,
+					new XMLMessageMappingOptions());
 			@SuppressWarnings("unchecked")
 			Map<String, Object> messageHeaders = (Map<String, Object>) Objects.requireNonNull(springMessage.getHeaders()
 					.get(SolaceBinderHeaders.BATCHED_HEADERS, List.class)).get(0);
 			springMessageHeaders = new MessageHeaders(messageHeaders);
 		} else {
-			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback);
+			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, new XMLMessageMappingOptions());
 			springMessageHeaders = springMessage.getHeaders();
 		}
 
@@ -1284,9 +1532,9 @@ public class XMLMessageMapperTest {
 		Message<?> springMessage;
 		if (batchMode) {
 			springMessage = xmlMessageMapper.mapBatchMessage(Collections.singletonList(xmlMessage),
-					acknowledgmentCallback);
+					acknowledgmentCallback, new XMLMessageMappingOptions());
 		} else {
-			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback);
+			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, new XMLMessageMappingOptions());
 		}
 
 		if (batchMode) {
@@ -1299,6 +1547,153 @@ public class XMLMessageMapperTest {
 		}
 	}
 
+	@Test
+	public void testMapXMLMessageToSpringMessage_WithPayloadEncoding() throws Exception {
+		BytesMessage xmlMessage = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+		SerializableFoo expectedPayload = new SerializableFoo("abc123", "HOOPLA!");
+		xmlMessage.setData(SerializationUtils.serialize(expectedPayload));
+		SDTMap metadata = JCSMPFactory.onlyInstance().createMap();
+		metadata.putString(SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING, PayloadCodecs.JAVA_NAME);
+		xmlMessage.setProperties(metadata);
+
+		Message<?> springMessage = xmlMessageMapper.map(xmlMessage, Mockito.mock(AcknowledgmentCallback.class),
+				new XMLMessageMappingOptions());
+		assertEquals(expectedPayload, springMessage.getPayload());
+		assertThat(springMessage.getHeaders(), not(hasKey(SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING)));
+	}
+
+	@ParameterizedTest(name = "[{index}] batchMode={0}")
+	@ValueSource(booleans = {false, true})
+	public void testMapXMLMessageToSpringMessage_ByteBufferPayload(boolean batchMode) throws Exception {
+		byte[] expectedPayload = "testPayload".getBytes(StandardCharsets.UTF_8);
+		BytesMessage xmlMessage = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+		xmlMessage.setData(expectedPayload);
+		AcknowledgmentCallback acknowledgmentCallback = Mockito.mock(AcknowledgmentCallback.class);
+		XMLMessageMappingOptions mappingOptions = new XMLMessageMappingOptions();
+		mappingOptions.setByteBufferPayload(true);
+
+		Object payload;
+		if (batchMode) {
+			payload = xmlMessageMapper.mapBatchMessage(Collections.singletonList(xmlMessage), acknowledgmentCallback,
+					mappingOptions).getPayload().get(0);
+		} else {
+			payload = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, mappingOptions).getPayload();
+		}
+
+		Assertions.assertThat(payload).isInstanceOf(ByteBuffer.class);
+		ByteBuffer buffer = (ByteBuffer) payload;
+		Assertions.assertThat(buffer.isReadOnly()).isTrue();
+		byte[] data = new byte[buffer.remaining()];
+		buffer.get(data);
+		Assertions.assertThat(data).isEqualTo(expectedPayload);
+	}
+
+	@Test
+	public void testMapXMLMessageToSpringMessage_ByteBufferPayloadEmpty() throws Exception {
+		BytesMessage xmlMessage = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+		XMLMessageMappingOptions mappingOptions = new XMLMessageMappingOptions();
+		mappingOptions.setByteBufferPayload(true);
+		Message<?> springMessage = xmlMessageMapper.map(xmlMessage, Mockito.mock(AcknowledgmentCallback.class),
+				mappingOptions);
+		Assertions.assertThat(springMessage.getPayload())
+				.asInstanceOf(InstanceOfAssertFactories.type(ByteBuffer.class))
+				.satisfies(buffer -> Assertions.assertThat(buffer.hasRemaining()).isFalse());
+		assertEquals(true, springMessage.getHeaders().get(SolaceBinderHeaders.NULL_PAYLOAD));
+	}
+
+	@Test
+	public void testMapXMLMessageToSpringMessage_ByteBufferPayloadWithPayloadEncoding() throws Exception {
+		BytesMessage xmlMessage = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+		SerializableFoo expectedPayload = new SerializableFoo("abc123", "HOOPLA!");
+		xmlMessage.setData(SerializationUtils.serialize(expectedPayload));
+		SDTMap metadata = JCSMPFactory.onlyInstance().createMap();
+		metadata.putString(SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING, PayloadCodecs.JAVA_NAME);
+		xmlMessage.setProperties(metadata);
+
+		XMLMessageMappingOptions mappingOptions = new XMLMessageMappingOptions();
+		mappingOptions.setByteBufferPayload(true);
+		Message<?> springMessage = xmlMessageMapper.map(xmlMessage, Mockito.mock(AcknowledgmentCallback.class),
+				mappingOptions);
+		assertEquals(expectedPayload, springMessage.getPayload());
+	}
+
+	@Test
+	public void testFailMapXMLMessageToSpringMessage_InvalidPayloadEncoding() throws Exception {
+		BytesMessage xmlMessage = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+		xmlMessage.setData(SerializationUtils.serialize(new SerializableFoo("abc123", "HOOPLA!")));
+		SDTMap metadata = JCSMPFactory.onlyInstance().createMap();
+		metadata.putString(SolaceBinderHeaders.SERIALIZED_PAYLOAD_ENCODING, "abc");
+		metadata.putBoolean(SolaceBinderHeaders.SERIALIZED_PAYLOAD, true);
+		xmlMessage.setProperties(metadata);
+
+		SolaceMessageConversionException exception = assertThrows(SolaceMessageConversionException.class,
+				() -> xmlMessageMapper.map(xmlMessage, Mockito.mock(AcknowledgmentCallback.class),
+						new XMLMessageMappingOptions()));
+		assertThat(exception.getMessage(), containsString("payload encoding is not supported"));
+	}
+
+	@ParameterizedTest(name = "[{index}] payloadType={0}")
+	@ValueSource(strings = {"bytes", "text", "serializable"})
+	public void testMapSpringMessageToXMLMessage_Compressed(String payloadType) throws Exception {
+		String text = String.join(",", Collections.nCopies(100, "{\"abc\": 123}"));
+		Object payload;
+		switch (payloadType) {
+			case "bytes":
+				payload = text.getBytes(StandardCharsets.UTF_8);
+				break;
+			case "text":
+				payload = text;
+				break;
+			default:
+				payload = new SerializableFoo(text, text);
+		}
+		Message<?> testSpringMessage = new DefaultMessageBuilderFactory().withPayload(payload).build();
+		XMLMessageMappingOptions mappingOptions = new XMLMessageMappingOptions();
+		mappingOptions.setPayloadCompressor(new PayloadCompressor(CompressionCodecs.GZIP, 100, null));
+
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, mappingOptions);
+		assertThat(xmlMessage, instanceOf(BytesMessage.class));
+		assertEquals(CompressionCodecs.GZIP_NAME,
+				xmlMessage.getProperties().getString(SolaceBinderHeaders.COMPRESSION));
+		assertThat(xmlMessage.getAttachmentContentLength(), lessThan(text.length()));
+
+		Message<?> springMessage = xmlMessageMapper.map(xmlMessage, Mockito.mock(AcknowledgmentCallback.class),
+				new XMLMessageMappingOptions());
+		if (payload instanceof byte[]) {
+			assertArrayEquals((byte[]) payload, (byte[]) springMessage.getPayload());
+		} else {
+			assertEquals(payload, springMessage.getPayload());
+		}
+		assertThat(springMessage.getHeaders(), not(hasKey(SolaceBinderHeaders.COMPRESSION)));
+		assertThat(springMessage.getHeaders(), not(hasKey(SolaceBinderHeaders.TEXT_PAYLOAD)));
+	}
+
+	@Test
+	public void testMapSpringMessageToXMLMessage_BelowCompressionThreshold() throws Exception {
+		Message<?> testSpringMessage = new DefaultMessageBuilderFactory().withPayload("testPayload").build();
+		XMLMessageMappingOptions mappingOptions = new XMLMessageMappingOptions();
+		mappingOptions.setPayloadCompressor(new PayloadCompressor(CompressionCodecs.GZIP, 100, null));
+
+		XMLMessage xmlMessage = xmlMessageMapper.map(testSpringMessage, mappingOptions);
+		assertThat(xmlMessage, instanceOf(TextMessage.class));
+		assertEquals("testPayload", ((TextMessage) xmlMessage).getText());
+		assertFalse(xmlMessage.getProperties().containsKey(SolaceBinderHeaders.COMPRESSION));
+	}
+
+	@Test
+	public void testFailMapXMLMessageToSpringMessage_InvalidCompression() throws Exception {
+		BytesMessage xmlMessage = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+		xmlMessage.setData(CompressionCodecs.GZIP.compress("testPayload".getBytes(StandardCharsets.UTF_8)));
+		SDTMap metadata = JCSMPFactory.onlyInstance().createMap();
+		metadata.putString(SolaceBinderHeaders.COMPRESSION, "abc");
+		xmlMessage.setProperties(metadata);
+
+		SolaceMessageConversionException exception = assertThrows(SolaceMessageConversionException.class,
+				() -> xmlMessageMapper.map(xmlMessage, Mockito.mock(AcknowledgmentCallback.class),
+						new XMLMessageMappingOptions()));
+		assertThat(exception.getMessage(), containsString("payload compression is not supported"));
+	}
+
 	@Test
 	public void testMapMessageHeadersToSDTMap_Serializable() throws Exception {
 		String key = "a";
@@ -1324,6 +1719,31 @@ public class XMLMessageMapperTest {
 		assertThat(serializedHeaders, hasItem(MessageHeaders.ID));
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = {HeaderCodecs.BASE64_NAME, HeaderCodecs.BINARY_NAME, HeaderCodecs.COMPACT_NAME})
+	public void testMapMessageHeadersToSDTMap_HeaderCodec(String headerCodecName) throws Exception {
+		HeaderCodec headerCodec = HeaderCodecs.getRequiredByName(headerCodecName);
+		Map<String,Object> headers = new HashMap<>();
+		headers.put("foo", new SerializableFoo("abc123", "HOOPLA!"));
+		headers.put("uuid", UUID.randomUUID());
+		headers.put("mimeType", MimeTypeUtils.APPLICATION_JSON);
+
+		SDTMap sdtMap = xmlMessageMapper.map(new MessageHeaders(headers), Collections.emptyList(), false,
+				headerCodec);
+
+		assertEquals(headerCodecName, sdtMap.getString(SolaceBinderHeaders.SERIALIZED_HEADERS_ENCODING));
+		Set<String> serializedHeaders = objectReader.forType(new TypeReference<Set<String>>() {})
+				.readValue(sdtMap.getString(SolaceBinderHeaders.SERIALIZED_HEADERS));
+		assertThat(serializedHeaders, hasItem("foo"));
+		assertThat(serializedHeaders, hasItem("uuid"));
+		assertThat(serializedHeaders, hasItem("mimeType"));
+
+		MessageHeaders messageHeaders = xmlMessageMapper.map(sdtMap);
+		for (Map.Entry<String, Object> header : headers.entrySet()) {
+			assertEquals(header.getValue(), messageHeaders.get(header.getKey()));
+		}
+	}
+
 	@Test
 	public void testMapMessageHeadersToSDTMap_NonSerializable() {
 		SolaceMessageConversionException thrown = assertThrows(SolaceMessageConversionException.class,
@@ -1495,12 +1915,12 @@ public class XMLMessageMapperTest {
 		int i = 0;
 		do {
 			logger.info(String.format("Iteration %s - Message<?> to XMLMessage:\n%s", i, springMessage));
-			xmlMessage = xmlMessageMapper.map(springMessage, null, false);
+			xmlMessage = xmlMessageMapper.map(springMessage, new XMLMessageMappingOptions());
 			validateXMLProperties(xmlMessage, expectedSpringMessage, springHeaders);
 
 			logger.info(String.format("Iteration %s - XMLMessage to Message<?>:\n%s", i, xmlMessage));
 			AcknowledgmentCallback acknowledgmentCallback = Mockito.mock(AcknowledgmentCallback.class);
-			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback);
+			springMessage = xmlMessageMapper.map(xmlMessage, acknowledgmentCallback, new XMLMessageMappingOptions());
 			validateSpringHeaders(springMessage.getHeaders(), expectedXmlMessage);
 
 			// Update the expected default spring headers
@@ -1530,7 +1950,7 @@ public class XMLMessageMapperTest {
 		Set<String> serializedHeaders = new HashSet<>();
 
 		if (metadata.containsKey(SolaceBinderHeaders.SERIALIZED_HEADERS)) {
-			XMLMessageMapper.Encoder encoder = XMLMessageMapper.Encoder
+			HeaderCodec headerCodec = HeaderCodecs
 					.getByName(metadata.getString(SolaceBinderHeaders.SERIALIZED_HEADERS_ENCODING));
 			Set<String> serializedHeadersSet = objectReader.forType(new TypeReference<Set<String>>(){})
 					.readValue(metadata.getString(SolaceBinderHeaders.SERIALIZED_HEADERS));
@@ -1538,8 +1958,10 @@ public class XMLMessageMapperTest {
 			for (String serializedHeader : serializedHeadersSet) {
 				serializedHeaders.add(serializedHeader);
 				assertThat(metadata.keySet(), hasItem(serializedHeader));
-				Object headerValue = SerializationUtils.deserialize(encoder != null ?
-						encoder.decode(metadata.getString(serializedHeader)) : metadata.getBytes(serializedHeader));
+				Object encodedValue = metadata.get(serializedHeader);
+				Object headerValue = headerCodec != null ?
+						headerCodec.decode(encodedValue instanceof ByteArray ? ((ByteArray) encodedValue).getBuffer() : encodedValue) :
+						SerializationUtils.deserialize(metadata.getBytes(serializedHeader));
 				if (expectedHeaders.containsKey(serializedHeader)) {
 					assertEquals(expectedHeaders.get(serializedHeader), headerValue);
 				} else {
@@ -0,0 +1,54 @@
+package com.solace.spring.cloud.stream.binder.util;
+
+import com.solacesystems.jcsmp.BytesMessage;
+import com.solacesystems.jcsmp.DeliveryMode;
+import com.solacesystems.jcsmp.MapMessage;
+import com.solacesystems.jcsmp.StreamMessage;
+import com.solacesystems.jcsmp.TextMessage;
+import com.solacesystems.jcsmp.XMLMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class XMLMessagePoolTest {
+	@ParameterizedTest
+	@ValueSource(classes = {BytesMessage.class, TextMessage.class, StreamMessage.class, MapMessage.class})
+	public void testReuse(Class<? extends XMLMessage> type) {
+		XMLMessagePool messagePool = new XMLMessagePool(2);
+		XMLMessage message = messagePool.acquire(type);
+		assertThat(message).isInstanceOf(type);
+		message.setDeliveryMode(DeliveryMode.PERSISTENT);
+		message.setCorrelationKey(new Object());
+		message.setHTTPContentType("text/plain");
+
+		messagePool.release(message);
+		assertThat(messagePool.size(type)).isEqualTo(1);
+
+		XMLMessage reusedMessage = messagePool.acquire(type);
+		assertThat(reusedMessage).isSameAs(message);
+		assertThat(reusedMessage.getCorrelationKey()).isNull();
+		assertThat(reusedMessage.getHTTPContentType()).isNull();
+		assertThat(messagePool.size(type)).isEqualTo(0);
+		assertThat(messagePool.acquire(type)).isNotSameAs(message);
+	}
+
+	@Test
+	public void testPoolIsBounded() {
+		XMLMessagePool messagePool = new XMLMessagePool(1);
+		TextMessage message1 = messagePool.acquire(TextMessage.class);
+		TextMessage message2 = messagePool.acquire(TextMessage.class);
+		messagePool.release(message1);
+		messagePool.release(message2);
+		assertThat(messagePool.size(TextMessage.class)).isEqualTo(1);
+		assertThat(messagePool.size(BytesMessage.class)).isEqualTo(0);
+		assertThat(messagePool.acquire(TextMessage.class)).isSameAs(message1);
+	}
+
+	@Test
+	public void testFailInvalidMaxSize() {
+		assertThatThrownBy(() -> new XMLMessagePool(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -1,6 +1,8 @@
 package com.solace.spring.cloud.stream.binder;
 
 import com.solace.spring.cloud.stream.binder.inbound.BatchCollector;
+import com.solace.spring.cloud.stream.binder.inbound.ConsumerWorkerExecutorProvider;
+import com.solace.spring.cloud.stream.binder.inbound.JCSMPDirectInboundChannelAdapter;
 import com.solace.spring.cloud.stream.binder.inbound.JCSMPInboundChannelAdapter;
 import com.solace.spring.cloud.stream.binder.inbound.JCSMPMessageSource;
 import com.solace.spring.cloud.stream.binder.meter.SolaceMeterAccessor;
@@ -12,6 +14,7 @@ import com.solace.spring.cloud.stream.binder.provisioning.SolaceConsumerDestinat
 import com.solace.spring.cloud.stream.binder.provisioning.SolaceProvisioningUtil;
 import com.solace.spring.cloud.stream.binder.provisioning.SolaceQueueProvisioner;
 import com.solace.spring.cloud.stream.binder.util.ErrorQueueInfrastructure;
+import com.solace.spring.cloud.stream.binder.util.JCSMPSessionConsumerManager;
 import com.solace.spring.cloud.stream.binder.util.JCSMPSessionProducerManager;
 import com.solace.spring.cloud.stream.binder.util.RetryableTaskService;
 import com.solace.spring.cloud.stream.binder.util.SolaceErrorMessageHandler;
@@ -33,11 +36,14 @@ import org.springframework.cloud.stream.provisioning.ProducerDestination;
 import org.springframework.integration.StaticMessageHeaderAccessor;
 import org.springframework.integration.core.MessageProducer;
 import org.springframework.integration.support.ErrorMessageStrategy;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
@@ -52,12 +58,17 @@ public class SolaceMessageChannelBinder
 	private final JCSMPSession jcsmpSession;
 	private final Context jcsmpContext;
 	private final JCSMPSessionProducerManager sessionProducerManager;
+	private final JCSMPSessionConsumerManager sessionConsumerManager;
+	private final List<JCSMPSessionProducerManager> publisherProducerManagers = new ArrayList<>();
+	private final List<JCSMPSession> additionalPublisherSessions = new ArrayList<>();
+	private final List<Context> additionalPublisherContexts = new ArrayList<>();
 	private final AtomicBoolean consumersRemoteStopFlag = new AtomicBoolean(false);
 	private final String errorHandlerProducerKey = UUID.randomUUID().toString();
 	private SolaceMeterAccessor solaceMeterAccessor;
 	private SolaceExtendedBindingProperties extendedBindingProperties = new SolaceExtendedBindingProperties();
 
 	private final RetryableTaskService taskService = new RetryableTaskService();
+	private ConsumerWorkerExecutorProvider consumerWorkerExecutorProvider;
 
 	private static final SolaceMessageHeaderErrorMessageStrategy errorMessageStrategy = new SolaceMessageHeaderErrorMessageStrategy();
 
@@ -69,18 +80,47 @@ public class SolaceMessageChannelBinder
 		this.jcsmpSession = jcsmpSession;
 		this.jcsmpContext = jcsmpContext;
 		this.sessionProducerManager = new JCSMPSessionProducerManager(jcsmpSession);
+		this.publisherProducerManagers.add(sessionProducerManager);
+		this.sessionConsumerManager = new JCSMPSessionConsumerManager(jcsmpSession);
+	}
+
+	/**
+	 * Add a session to the pool of publisher sessions. The binder's main session is always the first publisher
+	 * session.
+	 * <p>The binder takes ownership of the session and its context, and closes them when destroyed.</p>
+	 * @param publisherSession a connected session
+	 * @param publisherContext the session's dedicated context, or {@code null} if it uses the default context
+	 */
+	public void addPublisherSession(JCSMPSession publisherSession, @Nullable Context publisherContext) {
+		additionalPublisherSessions.add(publisherSession);
+		if (publisherContext != null) {
+			additionalPublisherContexts.add(publisherContext);
+		}
+		JCSMPSessionProducerManager producerManager = new JCSMPSessionProducerManager(publisherSession);
+		publisherProducerManagers.add(producerManager);
+		if (solaceMeterAccessor != null) {
+			solaceMeterAccessor.registerPublisherSession(producerManager);
+		}
 	}
 
 	@Override
 	public void destroy() {
 		logger.info(String.format("Closing JCSMP session %s", jcsmpSession.getSessionName()));
 		if (taskService != null) taskService.close();
+		synchronized (this) {
+			if (consumerWorkerExecutorProvider != null) consumerWorkerExecutorProvider.shutdownNow();
+		}
 		sessionProducerManager.release(errorHandlerProducerKey);
 		consumersRemoteStopFlag.set(true);
 		jcsmpSession.closeSession();
 		if (jcsmpContext != null) {
 			jcsmpContext.destroy();
 		}
+		for (JCSMPSession publisherSession : additionalPublisherSessions) {
+			logger.info(String.format("Closing JCSMP publisher session %s", publisherSession.getSessionName()));
+			publisherSession.closeSession();
+		}
+		additionalPublisherContexts.forEach(Context::destroy);
 	}
 
 	@Override
@@ -89,9 +129,8 @@ public class SolaceMessageChannelBinder
 														  MessageChannel errorChannel) {
 		JCSMPOutboundMessageHandler handler = new JCSMPOutboundMessageHandler(
 				destination,
-				jcsmpSession,
 				errorChannel,
-				sessionProducerManager,
+				publisherProducerManagers,
 				producerProperties,
 				solaceMeterAccessor);
 
@@ -107,6 +146,10 @@ public class SolaceMessageChannelBinder
 													 ExtendedConsumerProperties<SolaceConsumerProperties> properties) {
 		SolaceConsumerDestination solaceDestination = (SolaceConsumerDestination) destination;
 
+		if (properties.getExtension().isDirectSubscription()) {
+			return createDirectConsumerEndpoint(solaceDestination, group, properties);
+		}
+
 		JCSMPInboundChannelAdapter adapter = new JCSMPInboundChannelAdapter(
 				solaceDestination,
 				jcsmpSession,
@@ -116,6 +159,7 @@ public class SolaceMessageChannelBinder
 				solaceMeterAccessor);
 
 		adapter.setRemoteStopFlag(consumersRemoteStopFlag);
+		adapter.setWorkerExecutor(getConsumerWorkerExecutor(properties.getExtension()));
 		adapter.setPostStart(getConsumerPostStart(solaceDestination, properties));
 
 		if (properties.getExtension().isAutoBindErrorQueue()) {
@@ -139,10 +183,36 @@ public class SolaceMessageChannelBinder
 		return adapter;
 	}
 
+	private MessageProducer createDirectConsumerEndpoint(SolaceConsumerDestination destination, String group,
+														 ExtendedConsumerProperties<SolaceConsumerProperties> properties) {
+		JCSMPDirectInboundChannelAdapter adapter = new JCSMPDirectInboundChannelAdapter(
+				destination,
+				sessionConsumerManager,
+				properties,
+				solaceMeterAccessor);
+
+		adapter.setWorkerExecutor(getConsumerWorkerExecutor(properties.getExtension()));
+
+		ErrorInfrastructure errorInfra = registerErrorInfrastructure(destination, group, properties);
+		if (properties.getMaxAttempts() > 1) {
+			adapter.setRetryTemplate(buildRetryTemplate(properties));
+			adapter.setRecoveryCallback(errorInfra.getRecoverer());
+		} else {
+			adapter.setErrorChannel(errorInfra.getErrorChannel());
+		}
+
+		adapter.setErrorMessageStrategy(errorMessageStrategy);
+		return adapter;
+	}
+
 	@Override
 	protected PolledConsumerResources createPolledConsumerResources(String name, String group,
 																	ConsumerDestination destination,
 																	ExtendedConsumerProperties<SolaceConsumerProperties> consumerProperties) {
+		if (consumerProperties.getExtension().isDirectSubscription()) {
+			throw new IllegalArgumentException("Polled consumers do not support direct subscriptions");
+		}
+
 		if (consumerProperties.getConcurrency() > 1) {
 			logger.warn("Polled consumers do not support concurrency > 1, it will be ignored...");
 		}
@@ -242,6 +312,24 @@ public class SolaceMessageChannelBinder
 
 	public void setSolaceMeterAccessor(SolaceMeterAccessor solaceMeterAccessor) {
 		this.solaceMeterAccessor = solaceMeterAccessor;
+		if (solaceMeterAccessor != null) {
+			publisherProducerManagers.forEach(solaceMeterAccessor::registerPublisherSession);
+		}
+	}
+
+	/**
+	 * Get the executor on which a consumer binding's workers should run.
+	 * @param properties the consumer properties
+	 * @return the executor, or {@code null} if the consumer should create its own dedicated thread pool.
+	 */
+	@Nullable
+	private synchronized Executor getConsumerWorkerExecutor(SolaceConsumerProperties properties) {
+		if (consumerWorkerExecutorProvider == null) {
+			consumerWorkerExecutorProvider = new ConsumerWorkerExecutorProvider(
+					extendedBindingProperties.getSharedConsumerWorkerPoolSize(),
+					beanName -> getApplicationContext().getBean(beanName, Executor.class));
+		}
+		return consumerWorkerExecutorProvider.getExecutor(properties);
 	}
 
 	/**
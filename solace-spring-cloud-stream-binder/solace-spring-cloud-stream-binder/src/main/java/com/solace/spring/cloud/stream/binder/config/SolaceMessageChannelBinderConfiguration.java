@@ -20,6 +20,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.lang.Nullable;
 
 import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 @Import(SolaceBinderHealthIndicatorConfiguration.class)
@@ -31,6 +33,8 @@ public class SolaceMessageChannelBinderConfiguration {
 
 	private JCSMPSession jcsmpSession;
 	private Context context;
+	private final List<JCSMPSession> publisherSessions = new ArrayList<>();
+	private final List<Context> publisherContexts = new ArrayList<>();
 
 	private static final Log logger = LogFactory.getLog(SolaceMessageChannelBinderConfiguration.class);
 
@@ -67,6 +71,45 @@ public class SolaceMessageChannelBinderConfiguration {
 			}
 			throw e;
 		}
+
+		try {
+			initPublisherSessions(jcsmpProperties);
+		} catch (Exception e) {
+			jcsmpSession.closeSession();
+			if (context != null) {
+				context.destroy();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Create the additional sessions of the publisher session pool. Each one gets its own context, and therefore
+	 * its own I/O thread.
+	 */
+	private void initPublisherSessions(JCSMPProperties jcsmpProperties) throws JCSMPException {
+		String clientName = jcsmpProperties.getStringProperty(JCSMPProperties.CLIENT_NAME);
+		for (int i = 1; i < solaceExtendedBindingProperties.getPublisherSessionPoolSize(); i++) {
+			JCSMPProperties publisherProperties = (JCSMPProperties) jcsmpProperties.clone();
+			if (clientName != null && !clientName.isEmpty()) {
+				// Client names must be unique per broker
+				publisherProperties.setProperty(JCSMPProperties.CLIENT_NAME, clientName + "/publisher-" + i);
+			}
+			Context publisherContext = JCSMPFactory.onlyInstance().createContext(new ContextProperties());
+			try {
+				JCSMPSession publisherSession = JCSMPFactory.onlyInstance()
+						.createSession(publisherProperties, publisherContext, null);
+				logger.info(String.format("Connecting JCSMP publisher session %s", publisherSession.getSessionName()));
+				publisherSession.connect();
+				publisherSessions.add(publisherSession);
+				publisherContexts.add(publisherContext);
+			} catch (Exception e) {
+				publisherContext.destroy();
+				publisherSessions.forEach(JCSMPSession::closeSession);
+				publisherContexts.forEach(Context::destroy);
+				throw e;
+			}
+		}
 	}
 
 	@Bean
@@ -75,6 +118,9 @@ public class SolaceMessageChannelBinderConfiguration {
 		SolaceMessageChannelBinder binder = new SolaceMessageChannelBinder(jcsmpSession, context, solaceQueueProvisioner);
 		binder.setExtendedBindingProperties(solaceExtendedBindingProperties);
 		binder.setSolaceMeterAccessor(solaceMeterAccessor);
+		for (int i = 0; i < publisherSessions.size(); i++) {
+			binder.addPublisherSession(publisherSessions.get(i), publisherContexts.get(i));
+		}
 		return binder;
 	}
 